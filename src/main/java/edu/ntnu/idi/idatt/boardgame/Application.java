@@ -1,6 +1,9 @@
 package edu.ntnu.idi.idatt.boardgame;
 
+import edu.ntnu.idi.idatt.boardgame.core.filesystem.CachingFileProvider;
 import edu.ntnu.idi.idatt.boardgame.core.filesystem.FileProvider;
+import edu.ntnu.idi.idatt.boardgame.core.filesystem.FileWatchException;
+import edu.ntnu.idi.idatt.boardgame.core.filesystem.FileWatcher;
 import edu.ntnu.idi.idatt.boardgame.core.filesystem.LocalFileProvider;
 import edu.ntnu.idi.idatt.boardgame.core.router.Router;
 import edu.ntnu.idi.idatt.boardgame.javafx.IView;
@@ -11,6 +14,7 @@ import edu.ntnu.idi.idatt.boardgame.model.managers.GameManager;
 import edu.ntnu.idi.idatt.boardgame.model.managers.PlayerManager;
 import edu.ntnu.idi.idatt.boardgame.model.managers.QuizManager;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.logging.Logger;
 import javafx.scene.Scene;
 import javafx.scene.layout.StackPane;
@@ -23,6 +27,8 @@ import lombok.Getter;
 public class Application extends javafx.application.Application {
 
   private static final Logger logger = Logger.getLogger(Application.class.getName());
+  private static final Duration RELOAD_DEBOUNCE = Duration.ofMillis(250);
+  private static final long FILE_CACHE_BYTES = 32L * 1024 * 1024;
 
   private static Scene primaryScene;
   @Getter
@@ -31,6 +37,7 @@ public class Application extends javafx.application.Application {
   private static boolean isDarkTheme = true;
 
   private FileProvider fileProvider;
+  private FileWatcher fileWatcher;
 
   public static void main(String[] args) {
     launch();
@@ -78,15 +85,26 @@ public class Application extends javafx.application.Application {
    */
   @Override
   public void start(Stage stage) throws IOException {
-    fileProvider = new LocalFileProvider();
+    LocalFileProvider localFileProvider = new LocalFileProvider.Builder()
+        .atomic(true)
+        .syncMode(LocalFileProvider.SyncMode.BATCHED)
+        .build();
+    // files the local provider maps into memory are read through it rather than copied and cached
+    fileProvider = new CachingFileProvider(localFileProvider, FILE_CACHE_BYTES,
+        localFileProvider.getMmapThreshold());
     GameManager.init(() -> fileProvider);
-    GameManager.getInstance().loadGamesFromDefaultPath();
+    GameManager.getInstance().loadGamesFromDefaultPathAsync().exceptionally(e -> {
+      logger.severe("Failed to load games: " + e.getMessage());
+      return null;
+    });
 
+    // questions are loaded by category when a game is opened
     QuizManager.init(() -> fileProvider);
-    QuizManager.getInstance().loadQuestions("data/questions.json");
 
     PlayerManager.init(() -> fileProvider);
-    PlayerManager.getInstance().loadPlayers("data/players.csv");
+    PlayerManager.getInstance().loadPlayersAsync("data/players.csv");
+
+    watchDataFiles();
 
     primaryStage = stage;
     StackPane root = new StackPane();
@@ -105,6 +123,33 @@ public class Application extends javafx.application.Application {
     stage.show();
   }
 
+  /**
+   * Stops watching the data files when the application exits.
+   */
+  @Override
+  public void stop() {
+    if (fileWatcher != null) {
+      fileWatcher.close();
+    }
+  }
+
+  /**
+   * Watches the game directories and the question directory, reloading changed files while the
+   * application runs. The application still starts if the files can not be watched.
+   */
+  private void watchDataFiles() {
+    try {
+      fileWatcher = new FileWatcher(RELOAD_DEBOUNCE);
+      for (String directory : GameManager.getInstance().getGameDirectories()) {
+        fileWatcher.watch(directory, GameManager.getInstance()::reloadGame);
+      }
+      fileWatcher.watch(QuizManager.getInstance().getQuestionDirectory(),
+          QuizManager.getInstance()::reloadQuestions);
+    } catch (FileWatchException e) {
+      logger.warning("Data files will not be reloaded: " + e.getMessage());
+    }
+  }
+
   /**
    * The router used for navigating between JavaFX views
    */
@@ -2,8 +2,8 @@ package edu.ntnu.idi.idatt.boardgame;
 
 import edu.ntnu.idi.idatt.boardgame.model.entities.Color;
 import java.util.List;
-import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import javafx.scene.Node;
@@ -12,12 +12,16 @@ public class Utils {
 
   /**
    * Simulates throwing a given amount of six-sided dice.
+   * <p>
+   * Games roll through a {@link edu.ntnu.idi.idatt.boardgame.model.dice.DiceRoller} instead, which
+   * is seeded and does not box the values.
+   * </p>
    *
    * @param amount The amount of dice to throw.
    * @return A list of integers representing the dice rolls.
    */
   public static List<Integer> throwDice(int amount) {
-    Random rand = new Random();
+    ThreadLocalRandom rand = ThreadLocalRandom.current();
 
     return IntStream.range(0, amount)
         .map(i -> rand.nextInt(6) + 1)
@@ -33,8 +37,10 @@ public class Utils {
    * @return A random integer between min and max.
    */
   public static Integer getRandomNumber(int min, int max) {
-    Random rand = new Random();
-    return rand.nextInt(max - min + 1) + min;
+    if (min > max) {
+      throw new IllegalArgumentException("min cannot be greater than max");
+    }
+    return ThreadLocalRandom.current().nextInt(min, max + 1);
   }
 
   // Java Doesnt support import aliasing so the two methods below look a bit uggly
@@ -69,7 +75,7 @@ public class Utils {
   }
 
   public static Color getRandomColor() {
-    Random rand = new Random();
+    ThreadLocalRandom rand = ThreadLocalRandom.current();
     return new Color(rand.nextInt(256), rand.nextInt(256), rand.nextInt(256));
   }
 }
@@ -0,0 +1,137 @@
+package edu.ntnu.idi.idatt.boardgame.core.filesystem;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Non-blocking access to a {@link FileProvider}.
+ * <p>
+ * Every call runs the matching blocking method of the wrapped file provider on its own virtual
+ * thread and returns a {@link CompletableFuture} of the result, so the calling thread, typically
+ * the JavaFX application thread, never waits for the file system. A failing call completes the
+ * future exceptionally with the exception thrown by the wrapped provider.
+ * </p>
+ * <p>
+ * A dependent stage added with a non-async method, such as {@link CompletableFuture#thenApply},
+ * runs on the calling thread if the future has already completed. Work that must stay off the
+ * calling thread, such as parsing the loaded data, should be passed to
+ * {@link #supply(Supplier)} together with the blocking call instead.
+ * </p>
+ *
+ * @see FileProvider
+ * @since v3.1.0
+ */
+public class AsyncFileProvider {
+
+  @Getter
+  private final FileProvider fileProvider;
+  private final Executor executor;
+
+  /**
+   * Constructs an asynchronous file provider running each call on a new virtual thread.
+   *
+   * @param fileProvider the file provider to wrap
+   */
+  public AsyncFileProvider(@NonNull FileProvider fileProvider) {
+    this(fileProvider, Executors.newVirtualThreadPerTaskExecutor());
+  }
+
+  /**
+   * Constructs an asynchronous file provider running calls on the given executor.
+   *
+   * @param fileProvider the file provider to wrap
+   * @param executor     the executor to run the blocking calls on
+   */
+  public AsyncFileProvider(@NonNull FileProvider fileProvider, @NonNull Executor executor) {
+    this.fileProvider = fileProvider;
+    this.executor = executor;
+  }
+
+  /**
+   * Deletes the file at the specified path.
+   *
+   * @param path The file path to delete.
+   * @return A future of whether a file was deleted.
+   * @see FileProvider#delete(String)
+   */
+  public CompletableFuture<Boolean> delete(String path) {
+    return supply(() -> fileProvider.delete(path));
+  }
+
+  /**
+   * Saves the data to the specified path.
+   *
+   * @param path The file path to save the data to.
+   * @param data The byte array representing the file/data to be saved.
+   * @return A future completing when the data has been saved.
+   * @see FileProvider#save(String, byte[])
+   */
+  public CompletableFuture<Void> save(String path, byte[] data) {
+    return CompletableFuture.runAsync(() -> fileProvider.save(path, data), executor);
+  }
+
+  /**
+   * Checks if a file exists at the specified path.
+   *
+   * @param path The file path to check.
+   * @return A future of whether the file exists.
+   * @see FileProvider#exists(String)
+   */
+  public CompletableFuture<Boolean> exists(String path) {
+    return supply(() -> fileProvider.exists(path));
+  }
+
+  /**
+   * Retrieves the data from the specified path.
+   *
+   * @param path The file path to read.
+   * @return A future of the file/data.
+   * @see FileProvider#get(String)
+   */
+  public CompletableFuture<byte[]> get(String path) {
+    return supply(() -> fileProvider.get(path));
+  }
+
+  /**
+   * Retrieves the data from the specified path as a read-only buffer.
+   *
+   * @param path The file path to read.
+   * @return A future of the buffer with the file/data.
+   * @see FileProvider#getBuffer(String)
+   */
+  public CompletableFuture<ByteBuffer> getBuffer(String path) {
+    return supply(() -> fileProvider.getBuffer(path));
+  }
+
+  /**
+   * Lists all files in the specified directory.
+   *
+   * @param path The directory path to list files from.
+   * @return A future of the file names.
+   * @see FileProvider#listFiles(String)
+   */
+  public CompletableFuture<List<String>> listFiles(String path) {
+    return supply(() -> fileProvider.listFiles(path));
+  }
+
+  /**
+   * Runs a task on the executor of this provider.
+   * <p>
+   * Used for work combining calls to the wrapped file provider with processing of the data, such as
+   * reading and parsing a file.
+   * </p>
+   *
+   * @param task the task
+   * @param <T>  the type of the result
+   * @return a future of the result of the task
+   */
+  public <T> CompletableFuture<T> supply(@NonNull Supplier<T> task) {
+    return CompletableFuture.supplyAsync(task, executor);
+  }
+}
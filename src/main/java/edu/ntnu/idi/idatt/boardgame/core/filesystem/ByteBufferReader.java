@@ -0,0 +1,108 @@
+package edu.ntnu.idi.idatt.boardgame.core.filesystem;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import lombok.NonNull;
+
+/**
+ * Reader decoding characters directly from a {@link ByteBuffer}.
+ * <p>
+ * Characters are decoded into the array passed to each read, so a file read with
+ * {@link FileProvider#getBuffer(String)} can be parsed without first copying it into a byte array
+ * and a string. Malformed input is replaced, like {@link String#String(byte[],
+ * java.nio.charset.Charset)} does. The reader works on a duplicate of the buffer and leaves the
+ * position of the given buffer unchanged.
+ * </p>
+ *
+ * @since v3.1.0
+ */
+public class ByteBufferReader extends Reader {
+
+  private final ByteBuffer buffer;
+  private final CharsetDecoder decoder;
+  private final CharBuffer pending = CharBuffer.allocate(2).flip();
+  private boolean flushed;
+  private boolean closed;
+
+  /**
+   * Constructs a reader decoding UTF-8.
+   *
+   * @param buffer the buffer to read from its position to its limit
+   */
+  public ByteBufferReader(@NonNull ByteBuffer buffer) {
+    this(buffer, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Constructs a reader decoding the given charset.
+   *
+   * @param buffer  the buffer to read from its position to its limit
+   * @param charset the charset of the buffer
+   */
+  public ByteBufferReader(@NonNull ByteBuffer buffer, @NonNull Charset charset) {
+    this.buffer = buffer.duplicate();
+    this.decoder = charset.newDecoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+  }
+
+  @Override
+  public int read(char[] chars, int offset, int length) throws IOException {
+    Objects.checkFromIndexSize(offset, length, chars.length);
+    if (closed) {
+      throw new IOException("Reader is closed");
+    }
+    if (length == 0) {
+      return 0;
+    }
+    CharBuffer out = CharBuffer.wrap(chars, offset, length);
+    while (pending.hasRemaining() && out.hasRemaining()) {
+      out.put(pending.get());
+    }
+    decode(out);
+    if (out.position() == offset && !flushed) {
+      // the next character is a surrogate pair which does not fit, decode it aside
+      pending.clear();
+      decode(pending);
+      pending.flip();
+      while (pending.hasRemaining() && out.hasRemaining()) {
+        out.put(pending.get());
+      }
+    }
+    int read = out.position() - offset;
+    return read == 0 ? -1 : read;
+  }
+
+  @Override
+  public boolean ready() {
+    return !closed && (pending.hasRemaining() || buffer.hasRemaining());
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+  }
+
+  /**
+   * Decodes as many characters as fit into the output.
+   *
+   * @param out the output
+   */
+  private void decode(CharBuffer out) {
+    if (flushed) {
+      return;
+    }
+    CoderResult result = decoder.decode(buffer, out, true);
+    if (result.isUnderflow() && decoder.flush(out).isUnderflow()) {
+      flushed = true;
+    }
+  }
+}
@@ -0,0 +1,328 @@
+package edu.ntnu.idi.idatt.boardgame.core.filesystem;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Read-through cache of file contents in front of another {@link FileProvider}.
+ * <p>
+ * Files read with {@link #get(String)} or {@link #getBuffer(String)} are kept in memory, least
+ * recently used first out once their total size exceeds the limit of the cache. Each file is held
+ * by a soft reference, so the garbage collector may also drop it when memory runs low. A cached
+ * file is only served while the {@linkplain FileProvider#getVersion(String) version} reported by
+ * the wrapped provider matches the version it was read at, so a file changed on disk is read
+ * again. For providers which do not track versions, files are only refreshed when saved or deleted
+ * through this cache.
+ * </p>
+ *
+ * @see FileProvider
+ * @since v3.1.0
+ */
+public class CachingFileProvider implements FileProvider {
+
+  @Getter
+  private final FileProvider fileProvider;
+  private final long maxBytes;
+  private final long bufferThreshold;
+  private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final ReferenceQueue<byte[]> cleared = new ReferenceQueue<>();
+  private long cachedBytes;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Statistics of a cache.
+   *
+   * @param hits        the number of reads served from the cache
+   * @param misses      the number of reads passed to the wrapped provider
+   * @param evictions   the number of files dropped to stay within the limit or by the garbage
+   *                    collector
+   * @param cachedBytes the total size of the files currently in the cache
+   */
+  public record CacheStats(long hits, long misses, long evictions, long cachedBytes) {
+
+    /**
+     * Returns the share of reads served from the cache.
+     *
+     * @return the hit rate between 0 and 1, or 0 if nothing has been read
+     */
+    public double hitRate() {
+      long reads = hits + misses;
+      return reads == 0 ? 0 : (double) hits / reads;
+    }
+  }
+
+  /**
+   * A cached file, cleared by the garbage collector when memory runs low.
+   */
+  private static class Entry extends SoftReference<byte[]> {
+
+    private final String path;
+    private final FileVersion version;
+    private final int size;
+
+    Entry(String path, FileVersion version, byte[] data, ReferenceQueue<byte[]> queue) {
+      super(data, queue);
+      this.path = path;
+      this.version = version;
+      this.size = data.length;
+    }
+  }
+
+  /**
+   * Constructs a cache in front of a file provider.
+   *
+   * @param fileProvider the file provider to read files from
+   * @param maxBytes     the highest total size of the cached files, files larger than this are
+   *                     never cached
+   * @throws IllegalArgumentException if the size limit is negative
+   */
+  public CachingFileProvider(@NonNull FileProvider fileProvider, long maxBytes) {
+    this(fileProvider, maxBytes, Long.MAX_VALUE);
+  }
+
+  /**
+   * Constructs a cache in front of a file provider which reads large files into buffers without
+   * copying them onto the heap, such as a {@link LocalFileProvider} mapping them into memory.
+   *
+   * @param fileProvider    the file provider to read files from
+   * @param maxBytes        the highest total size of the cached files, files larger than this are
+   *                        never cached
+   * @param bufferThreshold the size from which {@link #getBuffer(String)} reads files with the
+   *                        wrapped provider instead of caching them, such as
+   *                        {@link LocalFileProvider#getMmapThreshold()}
+   * @throws IllegalArgumentException if the size limit or threshold is negative
+   * @since v3.1.0
+   */
+  public CachingFileProvider(@NonNull FileProvider fileProvider, long maxBytes,
+      long bufferThreshold) {
+    if (maxBytes < 0) {
+      throw new IllegalArgumentException("Cache size must not be negative");
+    }
+    if (bufferThreshold < 0) {
+      throw new IllegalArgumentException("Buffer threshold must not be negative");
+    }
+    this.fileProvider = fileProvider;
+    this.maxBytes = maxBytes;
+    this.bufferThreshold = bufferThreshold;
+  }
+
+  /**
+   * Deletes the file at the specified path and drops it from the cache.
+   *
+   * @param path The file path to delete.
+   * @return true if the file was deleted, false if no file existed at that path.
+   * @throws FileDeleteException if an error occurs while deleting the file.
+   */
+  @Override
+  public boolean delete(String path) {
+    try {
+      return fileProvider.delete(path);
+    } finally {
+      invalidate(path);
+    }
+  }
+
+  /**
+   * Saves the data to the specified path and drops the old contents from the cache.
+   *
+   * @param path The file path to save the data to.
+   * @param data The byte array representing the file/data to be saved.
+   * @throws FileSaveException if an error occurs while saving the file.
+   */
+  @Override
+  public void save(String path, byte[] data) {
+    try {
+      fileProvider.save(path, data);
+    } finally {
+      invalidate(path);
+    }
+  }
+
+  @Override
+  public boolean exists(String path) {
+    return fileProvider.exists(path);
+  }
+
+  /**
+   * Retrieves the data from the specified path, from the cache if it holds the current version.
+   *
+   * @param path The file path to read.
+   * @return A copy of the file/data, which the caller may modify.
+   * @throws FileReadException if an error occurs while reading the file.
+   */
+  @Override
+  public byte[] get(String path) {
+    byte[] cached = lookup(path);
+    if (cached != null) {
+      hits.increment();
+      return cached.clone();
+    }
+    misses.increment();
+    // the version is read first, so a change while reading makes the entry stale instead of
+    // hiding the change
+    FileVersion version = fileProvider.getVersion(path);
+    byte[] data = fileProvider.get(path);
+    store(path, version, data);
+    return data.clone();
+  }
+
+  /**
+   * Retrieves the data from the specified path as a read-only buffer.
+   * <p>
+   * A cached file is wrapped without copying it. A file which is not cached is read and added to
+   * the cache if it fits and is smaller than the buffer threshold, and otherwise read with
+   * {@link FileProvider#getBuffer(String)} of the wrapped provider, which may map it into memory.
+   * </p>
+   *
+   * @param path The file path to read.
+   * @return A read-only buffer with the file/data.
+   * @throws FileReadException if an error occurs while reading the file.
+   */
+  @Override
+  public ByteBuffer getBuffer(String path) {
+    byte[] cached = lookup(path);
+    if (cached != null) {
+      hits.increment();
+      return ByteBuffer.wrap(cached).asReadOnlyBuffer();
+    }
+    misses.increment();
+    FileVersion version = fileProvider.getVersion(path);
+    if (version != null && (version.size() > maxBytes || version.size() >= bufferThreshold)) {
+      return fileProvider.getBuffer(path);
+    }
+    byte[] data = fileProvider.get(path);
+    store(path, version, data);
+    return ByteBuffer.wrap(data).asReadOnlyBuffer();
+  }
+
+  @Override
+  public FileVersion getVersion(String path) {
+    return fileProvider.getVersion(path);
+  }
+
+  @Override
+  public List<String> listFiles(String path) {
+    return fileProvider.listFiles(path);
+  }
+
+  /**
+   * Drops a file from the cache.
+   *
+   * @param path the file path
+   */
+  public synchronized void invalidate(String path) {
+    Entry entry = entries.remove(path);
+    if (entry != null) {
+      cachedBytes -= entry.size;
+    }
+  }
+
+  /**
+   * Drops all files from the cache.
+   */
+  public synchronized void invalidateAll() {
+    entries.clear();
+    cachedBytes = 0;
+  }
+
+  /**
+   * Returns the statistics of this cache.
+   *
+   * @return the statistics
+   */
+  public synchronized CacheStats getStats() {
+    purge();
+    return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), cachedBytes);
+  }
+
+  /**
+   * Returns the cached contents of a file if they are still current.
+   *
+   * @param path the file path
+   * @return the cached contents, or null if the file is not cached or has changed
+   */
+  private byte[] lookup(String path) {
+    Entry entry;
+    synchronized (this) {
+      purge();
+      entry = entries.get(path);
+    }
+    if (entry == null) {
+      return null;
+    }
+    byte[] data = entry.get();
+    if (data == null || entry.version == null) {
+      return data;
+    }
+    FileVersion current;
+    try {
+      current = fileProvider.getVersion(path);
+    } catch (FileReadException e) {
+      current = null;
+    }
+    if (!entry.version.equals(current)) {
+      remove(entry);
+      return null;
+    }
+    return data;
+  }
+
+  /**
+   * Adds a file to the cache, evicting the least recently used files to stay within the limit.
+   *
+   * @param path    the file path
+   * @param version the version of the file
+   * @param data    the contents of the file
+   */
+  private synchronized void store(String path, FileVersion version, byte[] data) {
+    invalidate(path);
+    if (data.length > maxBytes) {
+      return;
+    }
+    entries.put(path, new Entry(path, version, data, cleared));
+    cachedBytes += data.length;
+    Iterator<Entry> eldest = entries.values().iterator();
+    while (cachedBytes > maxBytes && eldest.hasNext()) {
+      cachedBytes -= eldest.next().size;
+      eldest.remove();
+      evictions.increment();
+    }
+  }
+
+  /**
+   * Removes an entry if it is still the one cached for its path.
+   *
+   * @param entry the entry
+   * @return whether the entry was removed
+   */
+  private synchronized boolean remove(Entry entry) {
+    if (entries.get(entry.path) != entry) {
+      return false;
+    }
+    entries.remove(entry.path);
+    cachedBytes -= entry.size;
+    return true;
+  }
+
+  /**
+   * Removes the entries cleared by the garbage collector.
+   */
+  private synchronized void purge() {
+    Entry entry;
+    while ((entry = (Entry) cleared.poll()) != null) {
+      if (remove(entry)) {
+        evictions.increment();
+      }
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package edu.ntnu.idi.idatt.boardgame.core.filesystem;
+
+/**
+ * The kind of change to a file reported by a {@link FileWatcher}.
+ *
+ * @since v3.1.0
+ */
+public enum FileChange {
+  /// The file was created
+  CREATED,
+  /// The file was modified
+  MODIFIED,
+  /// The file was deleted
+  DELETED
+}
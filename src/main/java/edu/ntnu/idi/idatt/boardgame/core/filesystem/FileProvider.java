@@ -1,5 +1,6 @@
 package edu.ntnu.idi.idatt.boardgame.core.filesystem;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 
 /**
@@ -40,6 +41,39 @@ public interface FileProvider {
    */
   byte[] get(String path);
 
+  /**
+   * Retrieves the data from the specified path as a read-only buffer.
+   * <p>
+   * The default implementation wraps the result of {@link #get(String)}. Providers backed by files
+   * may map the file into memory instead, so large files are not copied onto the heap.
+   * </p>
+   *
+   * @param path The file path to read.
+   * @return A read-only buffer with the file/data.
+   * @throws FileReadException if an error occurs while reading the file.
+   * @since v3.1.0
+   */
+  default ByteBuffer getBuffer(String path) {
+    return ByteBuffer.wrap(get(path)).asReadOnlyBuffer();
+  }
+
+  /**
+   * Retrieves the version of the file at the specified path.
+   * <p>
+   * Used to detect that a file has been changed by something other than this provider. The
+   * default implementation returns null, meaning the provider does not track versions and its
+   * files only change through the provider itself.
+   * </p>
+   *
+   * @param path The file path to check.
+   * @return The version of the file, or null if versions are not tracked.
+   * @throws FileReadException if the file does not exist or its version can not be read.
+   * @since v3.1.0
+   */
+  default FileVersion getVersion(String path) {
+    return null;
+  }
+
   /**
    * Lists all files in the specified directory.
    *
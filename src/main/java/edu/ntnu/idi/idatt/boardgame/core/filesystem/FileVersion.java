@@ -0,0 +1,13 @@
+package edu.ntnu.idi.idatt.boardgame.core.filesystem;
+
+/**
+ * The version of a file, used to detect that a file has changed since it was read.
+ *
+ * @param lastModified the time the file was last modified, in nanoseconds since the epoch
+ * @param size         the size of the file in bytes
+ * @see FileProvider#getVersion(String)
+ * @since v3.1.0
+ */
+public record FileVersion(long lastModified, long size) {
+
+}
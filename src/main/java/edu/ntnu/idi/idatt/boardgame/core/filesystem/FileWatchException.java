@@ -0,0 +1,11 @@
+package edu.ntnu.idi.idatt.boardgame.core.filesystem;
+
+import lombok.experimental.StandardException;
+
+/**
+ * An exception that is thrown when a directory cannot be watched for changes.
+ */
+@StandardException
+public class FileWatchException extends RuntimeException {
+
+}
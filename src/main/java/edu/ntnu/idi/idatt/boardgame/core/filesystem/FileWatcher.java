@@ -0,0 +1,216 @@
+package edu.ntnu.idi.idatt.boardgame.core.filesystem;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import lombok.NonNull;
+
+/**
+ * Watches directories for created, modified and deleted files.
+ * <p>
+ * Changes are detected with a {@link WatchService} and debounced per file: a listener is called
+ * once a file has seen no new events for the debounce delay, so a burst of writes to a file causes
+ * a single call. Listeners are called on a background thread, one at a time, and may block while
+ * reloading the file.
+ * </p>
+ *
+ * @since v3.1.0
+ */
+public class FileWatcher implements AutoCloseable {
+
+  private final Logger logger = Logger.getLogger(FileWatcher.class.getName());
+  private final WatchService watchService;
+  private final Map<WatchKey, Watch> watches = new ConcurrentHashMap<>();
+  private final Map<String, Pending> pending = new HashMap<>();
+  private final ScheduledExecutorService scheduler;
+  private final long debounceMillis;
+
+  /**
+   * Listener for changes to the files of a watched directory.
+   */
+  @FunctionalInterface
+  public interface Listener {
+
+    /**
+     * Called when a file has changed.
+     *
+     * @param path   the path of the file, the watched directory followed by the file name
+     * @param change the kind of change
+     */
+    void onChange(String path, FileChange change);
+  }
+
+  /**
+   * A watched directory and its listener.
+   *
+   * @param directory the directory, as given to {@link #watch(String, Listener)}
+   * @param listener  the listener
+   */
+  private record Watch(String directory, Listener listener) {
+
+  }
+
+  /**
+   * A debounced change waiting to be reported.
+   */
+  private static class Pending {
+
+    private final Listener listener;
+    private final boolean created;
+    private ScheduledFuture<?> future;
+    private long generation;
+
+    Pending(Listener listener, boolean created) {
+      this.listener = listener;
+      this.created = created;
+    }
+  }
+
+  /**
+   * Constructs a file watcher and starts its background threads.
+   *
+   * @param debounce the time a file must be left unchanged before its listener is called
+   * @throws FileWatchException if the file system can not be watched
+   */
+  public FileWatcher(@NonNull Duration debounce) {
+    if (debounce.isNegative()) {
+      throw new IllegalArgumentException("Debounce delay must not be negative");
+    }
+    try {
+      this.watchService = FileSystems.getDefault().newWatchService();
+    } catch (IOException e) {
+      throw new FileWatchException("Failed to create watch service", e);
+    }
+    this.debounceMillis = debounce.toMillis();
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "file-watcher-reload");
+      thread.setDaemon(true);
+      return thread;
+    });
+    Thread pollThread = new Thread(this::poll, "file-watcher");
+    pollThread.setDaemon(true);
+    pollThread.start();
+  }
+
+  /**
+   * Starts watching the files directly inside a directory.
+   *
+   * @param directory the directory to watch
+   * @param listener  the listener to call when a file in the directory changes
+   * @throws FileWatchException if the directory can not be watched
+   */
+  public void watch(@NonNull String directory, @NonNull Listener listener) {
+    try {
+      WatchKey key = Path.of(directory).register(watchService,
+          StandardWatchEventKinds.ENTRY_CREATE,
+          StandardWatchEventKinds.ENTRY_MODIFY,
+          StandardWatchEventKinds.ENTRY_DELETE);
+      watches.put(key, new Watch(directory, listener));
+      logger.info("Watching directory: " + directory);
+    } catch (IOException | ClosedWatchServiceException e) {
+      throw new FileWatchException("Failed to watch directory: " + directory, e);
+    }
+  }
+
+  /**
+   * Stops watching all directories and stops the background threads. Pending changes are dropped.
+   */
+  @Override
+  public void close() {
+    try {
+      watchService.close();
+    } catch (IOException e) {
+      logger.warning("Failed to close watch service: " + e.getMessage());
+    }
+    scheduler.shutdownNow();
+  }
+
+  /**
+   * Takes events from the watch service until it is closed.
+   */
+  private void poll() {
+    try {
+      while (true) {
+        WatchKey key = watchService.take();
+        Watch watch = watches.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+          if (watch == null || event.kind() == StandardWatchEventKinds.OVERFLOW) {
+            continue;
+          }
+          String path = watch.directory() + "/" + event.context();
+          schedule(path, watch.listener(), event.kind() == StandardWatchEventKinds.ENTRY_CREATE);
+        }
+        if (!key.reset()) {
+          watches.remove(key);
+        }
+      }
+    } catch (ClosedWatchServiceException | RejectedExecutionException | InterruptedException e) {
+      logger.fine("File watcher stopped");
+    }
+  }
+
+  /**
+   * Schedules the listener for a changed file, postponing any change already pending for it.
+   *
+   * @param path     the path of the file
+   * @param listener the listener
+   * @param created  whether the event was the creation of the file
+   */
+  private synchronized void schedule(String path, Listener listener, boolean created) {
+    Pending change = pending.get(path);
+    if (change == null) {
+      change = new Pending(listener, created);
+      pending.put(path, change);
+    } else {
+      change.future.cancel(false);
+    }
+    long generation = ++change.generation;
+    change.future = scheduler.schedule(() -> report(path, generation), debounceMillis,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Calls the listener of a file whose changes have settled.
+   *
+   * @param path       the path of the file
+   * @param generation the generation of the pending change this report was scheduled for
+   */
+  private void report(String path, long generation) {
+    Pending change;
+    synchronized (this) {
+      change = pending.get(path);
+      // a newer event postponed the change after this report had already started
+      if (change == null || change.generation != generation) {
+        return;
+      }
+      pending.remove(path);
+    }
+    FileChange kind;
+    if (!Files.exists(Path.of(path))) {
+      kind = FileChange.DELETED;
+    } else {
+      kind = change.created ? FileChange.CREATED : FileChange.MODIFIED;
+    }
+    try {
+      change.listener.onChange(path, kind);
+    } catch (RuntimeException e) {
+      logger.warning("Failed to handle change to " + path + ": " + e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,129 @@
+package edu.ntnu.idi.idatt.boardgame.core.filesystem;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import lombok.NonNull;
+
+/**
+ * Thread safe {@link FileProvider} keeping all files in memory.
+ * <p>
+ * Directories exist implicitly while they contain a file. Paths are compared after normalizing
+ * separators and removing leading {@code ./} and slashes, so {@code data/games/a.json} and
+ * {@code ./data/games/a.json} are the same file. Data is copied when saved and when read, so
+ * callers can not change the stored files.
+ * </p>
+ *
+ * @see FileProvider
+ * @since v3.1.0
+ */
+public class InMemoryFileProvider implements FileProvider {
+
+  private final ConcurrentSkipListMap<String, byte[]> files = new ConcurrentSkipListMap<>();
+
+  /**
+   * Constructs an empty file provider.
+   */
+  public InMemoryFileProvider() {
+  }
+
+  /**
+   * Constructs a file provider holding the given files.
+   *
+   * @param files the contents of the files by path
+   */
+  public InMemoryFileProvider(@NonNull Map<String, byte[]> files) {
+    files.forEach(this::save);
+  }
+
+  @Override
+  public boolean delete(String path) {
+    return files.remove(normalize(path)) != null;
+  }
+
+  @Override
+  public void save(String path, @NonNull byte[] data) {
+    files.put(normalize(path), data.clone());
+  }
+
+  /**
+   * Checks if a file, or a directory containing files, exists at the specified path.
+   *
+   * @param path The file path to check.
+   * @return true if the file or directory exists, false otherwise.
+   */
+  @Override
+  public boolean exists(String path) {
+    String normalized = normalize(path);
+    return files.containsKey(normalized) || isDirectory(normalized);
+  }
+
+  /**
+   * Retrieves a copy of the file at the specified path.
+   *
+   * @param path The file path to read.
+   * @return The byte array representing the file/data.
+   * @throws FileReadException if no file exists at the path.
+   */
+  @Override
+  public byte[] get(String path) {
+    byte[] data = files.get(normalize(path));
+    if (data == null) {
+      throw new FileReadException("Failed to read file at path: " + path);
+    }
+    return data.clone();
+  }
+
+  /**
+   * Lists the names of the files and directories directly inside a directory.
+   *
+   * @param path The directory path to list files from.
+   * @return The names of the entries in the directory.
+   * @throws DirectoryListException if no directory exists at the path.
+   */
+  @Override
+  public List<String> listFiles(String path) {
+    String normalized = normalize(path);
+    if (!isDirectory(normalized)) {
+      throw new DirectoryListException("Directory does not exist: " + path);
+    }
+    String prefix = normalized.isEmpty() ? "" : normalized + "/";
+    return files.tailMap(prefix).keySet().stream()
+        .takeWhile(file -> file.startsWith(prefix))
+        .map(file -> {
+          int end = file.indexOf('/', prefix.length());
+          return file.substring(prefix.length(), end < 0 ? file.length() : end);
+        })
+        .distinct()
+        .toList();
+  }
+
+  /**
+   * Checks if any file is stored below a directory.
+   *
+   * @param directory the normalized directory path
+   * @return whether the directory contains a file
+   */
+  private boolean isDirectory(String directory) {
+    String prefix = directory.isEmpty() ? "" : directory + "/";
+    String next = files.ceilingKey(prefix);
+    return next != null && next.startsWith(prefix);
+  }
+
+  /**
+   * Normalizes a path to the form used as key.
+   *
+   * @param path the path
+   * @return the path with forward slashes and without leading {@code ./}, slashes or a trailing
+   *     slash
+   */
+  private static String normalize(@NonNull String path) {
+    String normalized = path.replace('\\', '/');
+    while (normalized.startsWith("./")) {
+      normalized = normalized.substring(2);
+    }
+    normalized = normalized.replaceFirst("^/+", "");
+    return normalized.endsWith("/") ? normalized.substring(0, normalized.length() - 1)
+        : normalized;
+  }
+}
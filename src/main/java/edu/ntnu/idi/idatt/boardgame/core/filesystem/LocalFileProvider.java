@@ -5,13 +5,32 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
+import lombok.Getter;
+import lombok.NonNull;
 
 /**
  * A FileProvider implementation for storing and retrieving files on the local disk using the
@@ -19,6 +38,12 @@ import java.util.logging.Logger;
  * <p>
  * This class provides methods to save, delete, check existence, and retrieve files.
  * </p>
+ * <p>
+ * By default a file is saved by overwriting it in place. A provider created with
+ * {@link Builder#atomic(boolean)} instead writes a temporary file next to the target and renames
+ * it over the target, so a crash while saving leaves either the old or the new file, never a
+ * partial one. How the data is forced to the storage device is controlled by {@link SyncMode}.
+ * </p>
  *
  * @see edu.ntnu.idi.idatt.boardgame.core.filesystem.FileProvider
  * @since v1.0.0
@@ -27,10 +52,79 @@ public class LocalFileProvider implements FileProvider {
 
   Logger logger = Logger.getLogger(LocalFileProvider.class.getName());
 
+  private final boolean atomic;
+  private final SyncMode syncMode;
+  private final long batchWindowNanos;
+  /// The size from which files are mapped into memory by getBuffer
+  @Getter
+  private final long mmapThreshold;
+  @Getter
+  private final WriteMetrics writeMetrics = new WriteMetrics();
+  private final ScheduledExecutorService committer;
+  private Map<Path, PendingSave> batch = new LinkedHashMap<>();
+
+  /**
+   * How saved files are forced to the storage device.
+   *
+   * @since v3.1.0
+   */
+  public enum SyncMode {
+    /// Saved data is left to the operating system to write
+    NONE,
+    /// Every save forces the file, and for atomic saves its directory, before returning
+    ALWAYS,
+    /// Saves are collected for the batch window before they return. Java has no portable way to
+    /// force several files at once, so each file of a batch is still forced on its own; what a
+    /// batch saves is that repeated saves of the same file are written and forced once, and each
+    /// directory is forced once for all its files.
+    BATCHED
+  }
+
+  /**
+   * A save waiting for the next batch to be committed.
+   */
+  private static class PendingSave {
+
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+    private byte[] bytes;
+
+    PendingSave(byte[] bytes) {
+      this.bytes = bytes;
+    }
+  }
+
+  /**
+   * Constructs a provider which overwrites files in place without forcing them to the storage
+   * device.
+   */
+  public LocalFileProvider() {
+    this(new Builder());
+  }
+
+  /**
+   * Constructs a provider from a builder.
+   *
+   * @param builder the builder
+   */
+  private LocalFileProvider(Builder builder) {
+    this.atomic = builder.atomic;
+    this.syncMode = builder.syncMode;
+    this.batchWindowNanos = builder.batchWindow.toNanos();
+    this.mmapThreshold = builder.mmapThreshold;
+    this.committer = syncMode != SyncMode.BATCHED ? null
+        : Executors.newSingleThreadScheduledExecutor(runnable -> {
+          Thread thread = new Thread(runnable, "local-file-provider-commit");
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
   /**
    * Saves the given data to the specified path.
    * <p>
-   * Creates directories if they do not exist and replaces existing files.
+   * Creates directories if they do not exist and replaces existing files. Depending on how the
+   * provider was built, the file is replaced atomically and forced to the storage device before
+   * this method returns, either right away or when the batch of the save is committed.
    * </p>
    *
    * @param path  The file path or identifier where data should be saved.
@@ -39,22 +133,198 @@ public class LocalFileProvider implements FileProvider {
    * @see edu.ntnu.idi.idatt.boardgame.core.filesystem.FileSaveException
    */
   @Override
-  public void save(String path, byte[] bytes) {
-    Path filePath = Paths.get(path);
+  public void save(String path, @NonNull byte[] bytes) {
+    long start = System.nanoTime();
+    Path filePath = Paths.get(path).toAbsolutePath();
     if (Files.notExists(filePath.getParent())) {
       try {
         Files.createDirectories(filePath.getParent());
       } catch (IOException e) {
         logger.warning("Failed to create directories for path: " + path);
-        throw new FileSaveException("Failed to create directories for path: " + path);
+        throw new FileSaveException("Failed to create directories for path: " + path, e);
       }
     }
 
-    try (OutputStream writer = Files.newOutputStream(filePath, StandardOpenOption.CREATE)) {
-      writer.write(bytes);
-    } catch (IOException e) {
+    try {
+      if (syncMode == SyncMode.BATCHED) {
+        enqueue(filePath, bytes).join();
+      } else {
+        write(filePath, bytes, syncMode == SyncMode.ALWAYS);
+        if (atomic && syncMode == SyncMode.ALWAYS) {
+          syncDirectory(filePath.getParent());
+        }
+      }
+    } catch (IOException | CompletionException e) {
+      Throwable cause = e instanceof CompletionException ? e.getCause() : e;
       logger.warning("Failed to save file at path: " + path);
-      throw new FileSaveException("Failed to save file at path: " + path);
+      throw new FileSaveException("Failed to save file at path: " + path, cause);
+    }
+    writeMetrics.recordWrite(System.nanoTime() - start, bytes.length);
+  }
+
+  /**
+   * Writes data to a file, through a temporary file if saves are atomic.
+   *
+   * @param filePath the file to write
+   * @param bytes    the data
+   * @param force    whether to force the data to the storage device before returning
+   * @throws IOException if writing fails
+   */
+  private void write(Path filePath, byte[] bytes, boolean force) throws IOException {
+    if (!atomic) {
+      writeFile(filePath, bytes, force, StandardOpenOption.CREATE,
+          StandardOpenOption.TRUNCATE_EXISTING);
+      return;
+    }
+    Path temp = createTempFile(filePath);
+    try {
+      writeFile(temp, bytes, force, StandardOpenOption.TRUNCATE_EXISTING);
+      try {
+        Files.move(temp, filePath, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        logger.warning("Atomic move not supported, replacing file non-atomically: " + filePath);
+        Files.move(temp, filePath, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  /**
+   * Creates an empty temporary file next to a file, with the permissions the file has.
+   * <p>
+   * {@link Files#createTempFile} only lets the owner read the file it creates, which would narrow
+   * the permissions of every file saved atomically. The temporary file is instead created like any
+   * other new file, and given the permissions of the file it replaces where the file system has
+   * POSIX permissions.
+   * </p>
+   *
+   * @param filePath the file the temporary file will replace
+   * @return the temporary file
+   * @throws IOException if the file could not be created
+   */
+  private static Path createTempFile(Path filePath) throws IOException {
+    Path temp;
+    while (true) {
+      temp = filePath.resolveSibling("." + filePath.getFileName() + "."
+          + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+      try {
+        Files.createFile(temp);
+        break;
+      } catch (FileAlreadyExistsException e) {
+        // another save picked the same name, try a new one
+      }
+    }
+    try {
+      if (Files.exists(filePath)
+          && filePath.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+        Files.setPosixFilePermissions(temp, Files.getPosixFilePermissions(filePath));
+      }
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(temp);
+      throw e;
+    }
+    return temp;
+  }
+
+  /**
+   * Writes data to a file with a file channel.
+   *
+   * @param filePath the file to write
+   * @param bytes    the data
+   * @param force    whether to force the data to the storage device
+   * @param options  the options to open the file with, in addition to write
+   * @throws IOException if writing fails
+   */
+  private void writeFile(Path filePath, byte[] bytes, boolean force, StandardOpenOption... options)
+      throws IOException {
+    Set<StandardOpenOption> openOptions = new LinkedHashSet<>(List.of(options));
+    openOptions.add(StandardOpenOption.WRITE);
+    try (FileChannel channel = FileChannel.open(filePath, openOptions)) {
+      ByteBuffer buffer = ByteBuffer.wrap(bytes);
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      if (force) {
+        channel.force(false);
+        writeMetrics.recordSync();
+      }
+    }
+  }
+
+  /**
+   * Forces a directory to the storage device, making renames within it durable.
+   * <p>
+   * Not all platforms allow opening a directory, in which case this does nothing.
+   * </p>
+   *
+   * @param directory the directory
+   */
+  private void syncDirectory(Path directory) {
+    try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+      channel.force(true);
+      writeMetrics.recordSync();
+    } catch (IOException e) {
+      logger.fine("Could not sync directory " + directory + ": " + e.getMessage());
+    }
+  }
+
+  /**
+   * Adds a save to the current batch, starting a new batch if there is none.
+   *
+   * @param filePath the file to save
+   * @param bytes    the data
+   * @return a future completing when the batch containing the save has been committed
+   */
+  private CompletableFuture<Void> enqueue(Path filePath, byte[] bytes) {
+    synchronized (this) {
+      PendingSave pending = batch.get(filePath);
+      if (pending != null) {
+        pending.bytes = bytes;
+        return pending.future;
+      }
+      pending = new PendingSave(bytes);
+      if (batch.isEmpty()) {
+        committer.schedule(this::commit, batchWindowNanos, TimeUnit.NANOSECONDS);
+      }
+      batch.put(filePath, pending);
+      return pending.future;
+    }
+  }
+
+  /**
+   * Writes and forces all files of the current batch, then forces their directories once each.
+   * <p>
+   * Every save of the batch is completed, exceptionally if the commit fails, so no caller waits
+   * forever for its save.
+   * </p>
+   */
+  private void commit() {
+    Map<Path, PendingSave> committing;
+    synchronized (this) {
+      committing = batch;
+      batch = new LinkedHashMap<>();
+    }
+    try {
+      Set<Path> directories = new LinkedHashSet<>();
+      List<PendingSave> written = new ArrayList<>();
+      committing.forEach((filePath, pending) -> {
+        try {
+          write(filePath, pending.bytes, true);
+          directories.add(filePath.toAbsolutePath().getParent());
+          written.add(pending);
+        } catch (IOException | RuntimeException e) {
+          pending.future.completeExceptionally(e);
+        }
+      });
+      if (atomic) {
+        directories.forEach(this::syncDirectory);
+      }
+      written.forEach(pending -> pending.future.complete(null));
+    } finally {
+      // only has an effect on the saves left incomplete by an unexpected failure above
+      committing.values().forEach(pending -> pending.future.completeExceptionally(
+          new IOException("The batch of saves failed to commit")));
     }
   }
 
@@ -111,6 +381,62 @@ public class LocalFileProvider implements FileProvider {
     }
   }
 
+  /**
+   * Retrieves the modification time and size of the file at the specified path.
+   *
+   * @param path The file path to check.
+   * @return The version of the file.
+   * @throws FileReadException if the attributes of the file can not be read.
+   */
+  @Override
+  public FileVersion getVersion(String path) {
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(Path.of(path),
+          BasicFileAttributes.class);
+      long lastModified = attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+      return new FileVersion(lastModified, attributes.size());
+    } catch (IOException e) {
+      throw new FileReadException("Failed to read attributes of file at path: " + path, e);
+    }
+  }
+
+  /**
+   * Retrieves the file at the specified path as a read-only buffer.
+   * <p>
+   * Files of at least the {@linkplain Builder#mmapThreshold(long) mmap threshold} are mapped into
+   * memory, so the buffer reads directly from the file through the page cache and no copy of the
+   * file is made on the heap. The mapping stays valid after the channel is closed. Smaller files,
+   * for which mapping costs more than copying, are read into a heap buffer.
+   * </p>
+   *
+   * @param path The file path to read.
+   * @return A read-only buffer with the whole file.
+   * @throws FileReadException if an error occurs while reading the file, or the file is larger
+   *                           than the 2 GiB a buffer can hold.
+   */
+  @Override
+  public ByteBuffer getBuffer(String path) {
+    try (FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new FileReadException("File is too large for a buffer (over 2 GiB) at path: " + path);
+      }
+      if (size >= mmapThreshold) {
+        return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      }
+      ByteBuffer buffer = ByteBuffer.allocate((int) size);
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer) < 0) {
+          break;
+        }
+      }
+      return buffer.flip().asReadOnlyBuffer();
+    } catch (IOException e) {
+      logger.warning("Failed to map file from path: " + path);
+      throw new FileReadException("Failed to map file at path: " + path, e);
+    }
+  }
+
   /**
    * Lists all files in the specified directory.
    *
@@ -141,4 +467,81 @@ public class LocalFileProvider implements FileProvider {
       throw new DirectoryListException("Failed to list files in directory: " + path, e);
     }
   }
+
+  /**
+   * Builder for local file providers.
+   *
+   * @since v3.1.0
+   */
+  public static class Builder {
+
+    private boolean atomic = false;
+    private SyncMode syncMode = SyncMode.NONE;
+    private Duration batchWindow = Duration.ofMillis(5);
+    private long mmapThreshold = 64 * 1024;
+
+    /**
+     * Sets whether files are saved through a temporary file and an atomic rename. Defaults to
+     * false.
+     *
+     * @param atomic whether saves are atomic
+     * @return this builder
+     */
+    public Builder atomic(boolean atomic) {
+      this.atomic = atomic;
+      return this;
+    }
+
+    /**
+     * Sets how saved files are forced to the storage device. Defaults to {@link SyncMode#NONE}.
+     *
+     * @param syncMode the sync mode
+     * @return this builder
+     */
+    public Builder syncMode(@NonNull SyncMode syncMode) {
+      this.syncMode = syncMode;
+      return this;
+    }
+
+    /**
+     * Sets how long saves are collected before a batch is committed with
+     * {@link SyncMode#BATCHED}. Defaults to 5 milliseconds.
+     *
+     * @param batchWindow the batch window
+     * @return this builder
+     * @throws IllegalArgumentException if the batch window is negative
+     */
+    public Builder batchWindow(@NonNull Duration batchWindow) {
+      if (batchWindow.isNegative()) {
+        throw new IllegalArgumentException("Batch window must not be negative");
+      }
+      this.batchWindow = batchWindow;
+      return this;
+    }
+
+    /**
+     * Sets the size from which {@link LocalFileProvider#getBuffer(String)} maps files into memory
+     * instead of reading them into a heap buffer. Defaults to 64 KiB.
+     *
+     * @param mmapThreshold the size in bytes
+     * @return this builder
+     * @throws IllegalArgumentException if the threshold is negative
+     */
+    public Builder mmapThreshold(long mmapThreshold) {
+      if (mmapThreshold < 0) {
+        throw new IllegalArgumentException("Mmap threshold must not be negative");
+      }
+      this.mmapThreshold = mmapThreshold;
+      return this;
+    }
+
+    /**
+     * Builds the file provider.
+     *
+     * @return the file provider
+     */
+    public LocalFileProvider build() {
+      return new LocalFileProvider(this);
+    }
+  }
 }
@@ -0,0 +1,157 @@
+package edu.ntnu.idi.idatt.boardgame.core.filesystem;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread safe counters for the writes of a file provider.
+ * <p>
+ * Records the number of writes, bytes written and fsync calls, and the latency of each write.
+ * Latencies are kept in a histogram with one bucket per power of two nanoseconds, so percentiles
+ * are reported as the upper bound of their bucket, accurate to within a factor of two.
+ * </p>
+ *
+ * @see LocalFileProvider
+ * @since v3.1.0
+ */
+public class WriteMetrics {
+
+  private static final int BUCKETS = Long.SIZE;
+
+  private final LongAdder writes = new LongAdder();
+  private final LongAdder bytes = new LongAdder();
+  private final LongAdder syncs = new LongAdder();
+  private final LongAdder totalNanos = new LongAdder();
+  private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+  private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+  /**
+   * Records a completed write.
+   *
+   * @param latencyNanos the time the write took, in nanoseconds
+   * @param byteCount    the number of bytes written
+   */
+  public void recordWrite(long latencyNanos, int byteCount) {
+    long latency = Math.max(0, latencyNanos);
+    writes.increment();
+    bytes.add(byteCount);
+    totalNanos.add(latency);
+    maxNanos.accumulate(latency);
+    histogram.incrementAndGet(bucket(latency));
+  }
+
+  /**
+   * Records a call forcing a file or directory to the storage device.
+   */
+  public void recordSync() {
+    syncs.increment();
+  }
+
+  /**
+   * Returns the number of recorded writes.
+   *
+   * @return the number of writes
+   */
+  public long getWriteCount() {
+    return writes.sum();
+  }
+
+  /**
+   * Returns the number of bytes written.
+   *
+   * @return the number of bytes
+   */
+  public long getByteCount() {
+    return bytes.sum();
+  }
+
+  /**
+   * Returns the number of fsync calls.
+   *
+   * @return the number of fsync calls
+   */
+  public long getSyncCount() {
+    return syncs.sum();
+  }
+
+  /**
+   * Returns the mean latency of the recorded writes.
+   *
+   * @return the mean latency, or zero if nothing has been written
+   */
+  public Duration getMeanLatency() {
+    long count = writes.sum();
+    return count == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos.sum() / count);
+  }
+
+  /**
+   * Returns the highest latency of the recorded writes.
+   *
+   * @return the highest latency, or zero if nothing has been written
+   */
+  public Duration getMaxLatency() {
+    return Duration.ofNanos(maxNanos.get());
+  }
+
+  /**
+   * Returns an upper bound of the given latency percentile.
+   *
+   * @param percentile the percentile, between 0 and 100
+   * @return the upper bound of the histogram bucket containing the percentile, or zero if nothing
+   *     has been written
+   * @throws IllegalArgumentException if the percentile is outside 0 to 100
+   */
+  public Duration getLatencyPercentile(double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100");
+    }
+    long[] counts = new long[BUCKETS];
+    long total = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      counts[i] = histogram.get(i);
+      total += counts[i];
+    }
+    if (total == 0) {
+      return Duration.ZERO;
+    }
+    long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return Duration.ofNanos(Math.min(upperBound(i), maxNanos.get()));
+      }
+    }
+    return getMaxLatency();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%d writes, %d bytes, %d syncs, latency mean %.3f ms, p99 %.3f ms,"
+            + " max %.3f ms", getWriteCount(), getByteCount(), getSyncCount(),
+        getMeanLatency().toNanos() / 1e6, getLatencyPercentile(99).toNanos() / 1e6,
+        getMaxLatency().toNanos() / 1e6);
+  }
+
+  /**
+   * Returns the histogram bucket of a latency, the number of bits needed to represent it.
+   *
+   * @param nanos the latency in nanoseconds
+   * @return the bucket index
+   */
+  private static int bucket(long nanos) {
+    return Math.min(BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(nanos));
+  }
+
+  /**
+   * Returns the highest latency in a histogram bucket.
+   *
+   * @param bucket the bucket index
+   * @return the highest latency in nanoseconds
+   */
+  private static long upperBound(int bucket) {
+    return bucket >= BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+  }
+}
@@ -0,0 +1,161 @@
+package edu.ntnu.idi.idatt.boardgame.core.filesystem;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Read-only {@link FileProvider} serving files from a zip or jar archive.
+ * <p>
+ * The archive is opened once as a zip {@link FileSystem}, which reads its central directory up
+ * front, so each file is then read directly from its offset in the archive without scanning it.
+ * Paths are resolved from the root of the archive, so an archive of the {@code data} directory
+ * serves the same paths as the directory itself. Saving and deleting files is not supported.
+ * </p>
+ *
+ * @see FileProvider
+ * @since v3.1.0
+ */
+public class ZipFileProvider implements FileProvider, AutoCloseable {
+
+  private final Logger logger = Logger.getLogger(ZipFileProvider.class.getName());
+  @Getter
+  private final Path archive;
+  private final FileSystem fileSystem;
+
+  /**
+   * Opens an archive.
+   *
+   * @param archive the path of the zip or jar archive
+   * @throws FileReadException if the archive can not be opened
+   */
+  public ZipFileProvider(@NonNull Path archive) {
+    this.archive = archive;
+    try {
+      this.fileSystem = FileSystems.newFileSystem(archive);
+    } catch (IOException | RuntimeException e) {
+      throw new FileReadException("Failed to open archive: " + archive, e);
+    }
+  }
+
+  /**
+   * Not supported, the archive is read-only.
+   *
+   * @param path The file path to delete.
+   * @return never returns
+   * @throws FileDeleteException always
+   */
+  @Override
+  public boolean delete(String path) {
+    throw new FileDeleteException("Archive is read-only, can not delete: " + path);
+  }
+
+  /**
+   * Not supported, the archive is read-only.
+   *
+   * @param path The file path to save the data to.
+   * @param data The byte array representing the file/data to be saved.
+   * @throws FileSaveException always
+   */
+  @Override
+  public void save(String path, byte[] data) {
+    throw new FileSaveException("Archive is read-only, can not save: " + path);
+  }
+
+  /**
+   * Checks if a file or directory exists at the specified path in the archive.
+   *
+   * @param path The file path to check.
+   * @return true if the file exists, false otherwise.
+   */
+  @Override
+  public boolean exists(String path) {
+    return Files.exists(resolve(path));
+  }
+
+  /**
+   * Reads a file from the archive.
+   *
+   * @param path The file path to read.
+   * @return The byte array representing the file/data.
+   * @throws FileReadException if the file does not exist or can not be read.
+   */
+  @Override
+  public byte[] get(String path) {
+    try {
+      return Files.readAllBytes(resolve(path));
+    } catch (IOException e) {
+      logger.warning("Failed to read file from archive: " + path);
+      throw new FileReadException("Failed to read file at path: " + path, e);
+    }
+  }
+
+  /**
+   * Reads a file from the archive into a read-only buffer.
+   *
+   * @param path The file path to read.
+   * @return A read-only buffer with the file/data.
+   * @throws FileReadException if the file does not exist or can not be read.
+   */
+  @Override
+  public ByteBuffer getBuffer(String path) {
+    return ByteBuffer.wrap(get(path)).asReadOnlyBuffer();
+  }
+
+  /**
+   * Lists the names of the files and directories in a directory of the archive.
+   *
+   * @param path The directory path to list files from.
+   * @return The names of the entries in the directory.
+   * @throws DirectoryListException if the directory does not exist or can not be listed.
+   */
+  @Override
+  public List<String> listFiles(String path) {
+    Path directory = resolve(path);
+    if (!Files.isDirectory(directory)) {
+      throw new DirectoryListException("Directory does not exist in archive: " + path);
+    }
+    try (Stream<Path> entries = Files.list(directory)) {
+      return entries.map(entry -> entry.getFileName().toString())
+          .map(name -> name.endsWith("/") ? name.substring(0, name.length() - 1) : name)
+          .toList();
+    } catch (IOException e) {
+      logger.warning("Failed to list files in archive directory: " + path);
+      throw new DirectoryListException("Failed to list files in directory: " + path, e);
+    }
+  }
+
+  /**
+   * Closes the archive. Files can not be read after the provider has been closed.
+   */
+  @Override
+  public void close() {
+    try {
+      fileSystem.close();
+    } catch (IOException e) {
+      logger.warning("Failed to close archive " + archive + ": " + e.getMessage());
+    }
+  }
+
+  /**
+   * Resolves a path against the root of the archive.
+   *
+   * @param path the path, relative to the root or starting with a slash
+   * @return the path in the archive
+   */
+  private Path resolve(String path) {
+    String normalized = path.replace('\\', '/');
+    while (normalized.startsWith("./")) {
+      normalized = normalized.substring(2);
+    }
+    return fileSystem.getPath("/").resolve(normalized.replaceFirst("^/+", "")).normalize();
+  }
+}
@@ -0,0 +1,255 @@
+package edu.ntnu.idi.idatt.boardgame.core.reactivity;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import lombok.NonNull;
+
+/**
+ * An event bus passing the values published to it on to its subscribers, each through its own
+ * executor.
+ * <p>
+ * Every subscription has a bounded {@link MpscRingBuffer} the publishers add events to, and a
+ * drain task run by the executor of the subscription which delivers the events in the order they
+ * were published. A drain task is only scheduled when none is pending, and delivers every event
+ * queued by the time it runs, up to {@link #MAX_BATCH} at a time. With
+ * {@code Platform::runLater} as the executor, a JavaFX subscriber thereby gets one runnable per
+ * batch of events on the JavaFX thread, while a {@link #DIRECT} subscriber is called by the
+ * publishing thread before {@link #publish(Object)} returns, as with a plain observer, unless
+ * another publishing thread is already delivering events to it.
+ * </p>
+ * <p>
+ * What a publisher does when the queue of a subscriber is full is decided by the
+ * {@link BackpressurePolicy} of the subscription, so a game can run ahead of a slow subscriber
+ * such as its animations by up to the capacity of the queue, and then either wait or drop events.
+ * </p>
+ * <p>
+ * The bus is an {@link Observer} itself, so it can be added as the listener of an
+ * {@link Observable} to put an event bus between the observable and its subscribers.
+ * </p>
+ *
+ * @param <T> the type of the observable value.
+ * @param <K> the type of the events.
+ * @since v3.1.0
+ */
+public class EventBus<T, K> implements Observer<T, K> {
+
+  /// The capacity of a subscription created without a capacity
+  public static final int DEFAULT_CAPACITY = 1024;
+  /// The largest number of events delivered by one run of a drain task
+  public static final int MAX_BATCH = 256;
+  /// Runs the drain task on the publishing thread, delivering events directly
+  public static final Executor DIRECT = Runnable::run;
+
+  private static final Logger logger = Logger.getLogger(EventBus.class.getName());
+  private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+  private final Object lock = new Object();
+  @SuppressWarnings("unchecked")
+  private volatile Subscription<T, K>[] subscriptions = new Subscription[0];
+
+  /**
+   * What a publisher does when the queue of a subscriber is full.
+   */
+  public enum BackpressurePolicy {
+    /// Waits until the subscriber has taken an event from the queue. Must not be used when the
+    /// publisher runs on the thread of the executor of the subscriber, which would never drain.
+    BLOCK,
+    /// Drops the event being published
+    DROP_NEWEST,
+    /// Drops the oldest event in the queue to make room for the event being published
+    DROP_OLDEST
+  }
+
+  /**
+   * A subscriber with its queue of events not yet delivered.
+   *
+   * @param <T> the type of the observable value.
+   * @param <K> the type of the events.
+   */
+  public static final class Subscription<T, K> implements AutoCloseable {
+
+    private final EventBus<T, K> bus;
+    private final Observer<T, K> subscriber;
+    private final Executor executor;
+    private final BackpressurePolicy policy;
+    private final MpscRingBuffer<K> queue;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean closed;
+
+    private Subscription(EventBus<T, K> bus, Observer<T, K> subscriber, Executor executor,
+        int capacity, BackpressurePolicy policy) {
+      this.bus = bus;
+      this.subscriber = subscriber;
+      this.executor = executor;
+      this.policy = policy;
+      this.queue = new MpscRingBuffer<>(capacity);
+    }
+
+    /**
+     * Returns the number of events dropped because the queue was full.
+     *
+     * @return the number of dropped events.
+     */
+    public long getDroppedCount() {
+      return dropped.sum();
+    }
+
+    /**
+     * Returns the number of events waiting to be delivered.
+     *
+     * @return the number of queued events.
+     */
+    public int getQueuedCount() {
+      return queue.size();
+    }
+
+    /**
+     * Unsubscribes the subscriber. Queued events which have not been delivered are discarded.
+     */
+    @Override
+    public void close() {
+      closed = true;
+      bus.remove(this);
+    }
+
+    private void enqueue(K event) {
+      while (!closed && !queue.offer(event)) {
+        switch (policy) {
+          case BLOCK -> LockSupport.parkNanos(BLOCK_PARK_NANOS);
+          case DROP_NEWEST -> {
+            dropped.increment();
+            return;
+          }
+          case DROP_OLDEST -> {
+            if (queue.poll() != null) {
+              dropped.increment();
+            }
+          }
+          default -> throw new IllegalStateException("Unknown policy: " + policy);
+        }
+      }
+      schedule();
+    }
+
+    private void schedule() {
+      if (scheduled.compareAndSet(false, true)) {
+        try {
+          executor.execute(this::drain);
+        } catch (RuntimeException e) {
+          scheduled.set(false);
+          throw e;
+        }
+      }
+    }
+
+    private void drain() {
+      for (int delivered = 0; delivered < MAX_BATCH && !closed; delivered++) {
+        K event = queue.poll();
+        if (event == null) {
+          break;
+        }
+        try {
+          subscriber.update(event);
+        } catch (RuntimeException e) {
+          logger.log(Level.WARNING, "Subscriber failed to handle " + event, e);
+        }
+      }
+      scheduled.set(false);
+      // events left by a full batch, or published before the flag was cleared, need another run,
+      // while a producer still adding an event schedules the run itself once it has added it
+      if (!closed && queue.isReady()) {
+        schedule();
+      }
+    }
+  }
+
+  /**
+   * Publishes an event to all subscribers.
+   *
+   * @param event the event, not null.
+   */
+  public void publish(@NonNull K event) {
+    for (Subscription<T, K> subscription : subscriptions) {
+      subscription.enqueue(event);
+    }
+  }
+
+  /**
+   * Publishes an event received from an observable.
+   *
+   * @param value the event.
+   */
+  @Override
+  public void update(K value) {
+    publish(value);
+  }
+
+  /**
+   * Subscribes to the events, delivered directly on the publishing thread. Events published while
+   * {@link #DEFAULT_CAPACITY} events are waiting to be delivered, such as by the subscriber itself,
+   * are dropped.
+   *
+   * @param subscriber the subscriber.
+   * @return the subscription, closed to unsubscribe.
+   */
+  public Subscription<T, K> subscribe(Observer<T, K> subscriber) {
+    return subscribe(subscriber, DIRECT, DEFAULT_CAPACITY, BackpressurePolicy.DROP_NEWEST);
+  }
+
+  /**
+   * Subscribes to the events, delivered by an executor.
+   *
+   * @param subscriber the subscriber.
+   * @param executor   the executor running the tasks delivering the events, such as
+   *                   {@code Platform::runLater} for a JavaFX subscriber or {@link #DIRECT}.
+   * @param capacity   the number of events which may wait to be delivered.
+   * @param policy     what a publisher does when that many events are waiting.
+   * @return the subscription, closed to unsubscribe.
+   * @throws IllegalArgumentException if the capacity is not positive, or the policy is
+   *                                  {@link BackpressurePolicy#BLOCK} with the {@link #DIRECT}
+   *                                  executor, whose publishers could wait for themselves.
+   */
+  public Subscription<T, K> subscribe(@NonNull Observer<T, K> subscriber,
+      @NonNull Executor executor, int capacity, @NonNull BackpressurePolicy policy) {
+    if (executor == DIRECT && policy == BackpressurePolicy.BLOCK) {
+      throw new IllegalArgumentException("A direct subscription must not block its publishers");
+    }
+    Subscription<T, K> subscription =
+        new Subscription<>(this, subscriber, executor, capacity, policy);
+    synchronized (lock) {
+      Subscription<T, K>[] updated = Arrays.copyOf(subscriptions, subscriptions.length + 1);
+      updated[subscriptions.length] = subscription;
+      subscriptions = updated;
+    }
+    return subscription;
+  }
+
+  /**
+   * Returns the number of subscribers.
+   *
+   * @return the number of subscribers.
+   */
+  public int getSubscriberCount() {
+    return subscriptions.length;
+  }
+
+  private void remove(Subscription<T, K> subscription) {
+    synchronized (lock) {
+      Subscription<T, K>[] current = subscriptions;
+      int index = Arrays.asList(current).indexOf(subscription);
+      if (index < 0) {
+        return;
+      }
+      Subscription<T, K>[] updated = Arrays.copyOf(current, current.length - 1);
+      System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+      subscriptions = updated;
+    }
+  }
+}
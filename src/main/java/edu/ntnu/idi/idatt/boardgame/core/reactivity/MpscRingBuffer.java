@@ -0,0 +1,131 @@
+package edu.ntnu.idi.idatt.boardgame.core.reactivity;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded lock-free queue for many producers and one consumer, backed by a ring buffer.
+ * <p>
+ * Each slot has a sequence number telling whether it is free for the producer of a position or
+ * filled for the consumer of it, so producers only contend on the tail and the consumer never
+ * waits for a producer. Offering and polling allocate nothing. Polling claims the head with a
+ * compare and set, so a producer may also poll to evict the oldest element when the queue is full.
+ * </p>
+ *
+ * @param <E> the type of the elements.
+ * @see EventBus
+ * @since v3.1.0
+ */
+final class MpscRingBuffer<E> {
+
+  private final Object[] elements;
+  private final AtomicLongArray sequences;
+  private final int mask;
+  private final AtomicLong tail = new AtomicLong();
+  private final AtomicLong head = new AtomicLong();
+
+  /**
+   * Constructs a ring buffer holding at least the given number of elements.
+   *
+   * @param capacity the minimum capacity, rounded up to a power of two.
+   * @throws IllegalArgumentException if the capacity is not positive or too large.
+   */
+  MpscRingBuffer(int capacity) {
+    if (capacity < 1 || capacity > 1 << 30) {
+      throw new IllegalArgumentException("Capacity must be between 1 and 2^30");
+    }
+    int size = Integer.highestOneBit(capacity);
+    if (size < capacity) {
+      size <<= 1;
+    }
+    this.elements = new Object[size];
+    this.sequences = new AtomicLongArray(size);
+    this.mask = size - 1;
+    for (int i = 0; i < size; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  /**
+   * Adds an element to the tail of the queue.
+   *
+   * @param element the element, not null.
+   * @return true if the element was added, false if the queue is full.
+   */
+  boolean offer(E element) {
+    long position = tail.get();
+    while (true) {
+      int index = (int) position & mask;
+      long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          elements[index] = element;
+          // the volatile write publishes the element to the consumer reading the sequence
+          sequences.set(index, position + 1);
+          return true;
+        }
+        position = tail.get();
+      } else if (difference < 0) {
+        return false;
+      } else {
+        position = tail.get();
+      }
+    }
+  }
+
+  /**
+   * Removes the element at the head of the queue.
+   *
+   * @return the element, or null if the queue is empty.
+   */
+  @SuppressWarnings("unchecked")
+  E poll() {
+    long position = head.get();
+    while (true) {
+      int index = (int) position & mask;
+      long difference = sequences.get(index) - (position + 1);
+      if (difference == 0) {
+        if (head.compareAndSet(position, position + 1)) {
+          E element = (E) elements[index];
+          elements[index] = null;
+          sequences.set(index, position + elements.length);
+          return element;
+        }
+        position = head.get();
+      } else if (difference < 0) {
+        return null;
+      } else {
+        position = head.get();
+      }
+    }
+  }
+
+  /**
+   * Returns whether the element at the head of the queue has been added and can be polled. An
+   * element still being added by a producer is not ready.
+   *
+   * @return true if the queue has an element ready to be polled.
+   */
+  boolean isReady() {
+    long position = head.get();
+    return sequences.get((int) position & mask) == position + 1;
+  }
+
+  /**
+   * Returns the number of elements in the queue, which may change concurrently.
+   *
+   * @return the number of elements.
+   */
+  int size() {
+    return (int) Math.max(0, Math.min(tail.get() - head.get(), elements.length));
+  }
+
+  /**
+   * Returns the number of elements the queue can hold.
+   *
+   * @return the capacity.
+   */
+  int capacity() {
+    return elements.length;
+  }
+}
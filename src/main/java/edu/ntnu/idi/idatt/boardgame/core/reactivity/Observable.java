@@ -1,31 +1,123 @@
 package edu.ntnu.idi.idatt.boardgame.core.reactivity;
 
-import java.util.HashSet;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Set;
-import lombok.Getter;
+import lombok.NonNull;
 
 /**
  * An observable class for the observer pattern.
+ * <p>
+ * Observers are kept in a copy-on-write array ordered by priority, with observers of equal
+ * priority notified in the order they were added. Adding and removing observers copies the array,
+ * while notifying only reads the current array, so notifications allocate nothing and observers
+ * may be added and removed from any thread, also by an observer while it is being notified. An
+ * observer removed during a notification is not notified by the rest of it, and an observer added
+ * during a notification is first notified of the next value.
+ * </p>
+ * <p>
+ * An observer may be added weakly, in which case the observable does not keep it from being
+ * garbage collected, and it is removed once it has been collected. The owner of a weak observer,
+ * such as a view controller, must keep a reference to it for as long as it should be notified.
+ * </p>
  *
  * @param <T> the type of the observable value.
  * @param <K> the type of the value that is passed to the observer.
  */
 public abstract class Observable<T, K> {
 
-  @Getter
-  Set<Observer<T, K>> observers;
+  /// The priority of observers added without a priority
+  public static final int DEFAULT_PRIORITY = 0;
 
-  public Observable() {
-    observers = new HashSet<>();
+  @SuppressWarnings("rawtypes")
+  private static final Registration[] EMPTY = new Registration[0];
+
+  private final Object lock = new Object();
+  @SuppressWarnings("unchecked")
+  private volatile Registration<T, K>[] registrations = EMPTY;
+
+  /**
+   * An observer with its priority, held strongly or weakly.
+   *
+   * @param <T> the type of the observable value.
+   * @param <K> the type of the value that is passed to the observer.
+   */
+  private static final class Registration<T, K> {
+
+    private final Observer<T, K> observer;
+    private final WeakReference<Observer<T, K>> weakObserver;
+    private final int priority;
+    private volatile boolean removed;
+
+    private Registration(Observer<T, K> observer, WeakReference<Observer<T, K>> weakObserver,
+        int priority) {
+      this.observer = observer;
+      this.weakObserver = weakObserver;
+      this.priority = priority;
+    }
+
+    private Observer<T, K> get() {
+      return observer != null ? observer : weakObserver.get();
+    }
   }
 
   /**
-   * Adds an observer to the observable.
+   * Adds an observer to the observable with the default priority. Adding an observer which has
+   * already been added does nothing.
    *
    * @param observer the observer to add.
    */
   public void addListener(Observer<T, K> observer) {
-    observers.add(observer);
+    addListener(observer, DEFAULT_PRIORITY);
+  }
+
+  /**
+   * Adds an observer to the observable, notified before the observers of lower priority. Adding an
+   * observer which has already been added does nothing.
+   *
+   * @param observer the observer to add.
+   * @param priority the priority of the observer.
+   * @since v3.1.0
+   */
+  public void addListener(@NonNull Observer<T, K> observer, int priority) {
+    add(new Registration<>(observer, null, priority));
+  }
+
+  /**
+   * Adds an observer to the observable with the default priority, without keeping it from being
+   * garbage collected.
+   *
+   * @param observer the observer to add, which the caller must keep a reference to.
+   * @see #addWeakListener(Observer, int)
+   * @since v3.1.0
+   */
+  public void addWeakListener(Observer<T, K> observer) {
+    addWeakListener(observer, DEFAULT_PRIORITY);
+  }
+
+  /**
+   * Adds an observer to the observable, notified before the observers of lower priority, without
+   * keeping it from being garbage collected. The observer is removed once it has been collected.
+   *
+   * @param observer the observer to add, which the caller must keep a reference to.
+   * @param priority the priority of the observer.
+   * @since v3.1.0
+   */
+  public void addWeakListener(@NonNull Observer<T, K> observer, int priority) {
+    addWeakReference(new WeakReference<>(observer), priority);
+  }
+
+  /**
+   * Adds an observer held by a weak reference. Package-private so tests can add a reference which
+   * has already been cleared, as if its observer had been garbage collected.
+   *
+   * @param reference the reference to the observer.
+   * @param priority  the priority of the observer.
+   */
+  void addWeakReference(@NonNull WeakReference<Observer<T, K>> reference, int priority) {
+    add(new Registration<>(null, reference, priority));
   }
 
   /**
@@ -34,23 +126,54 @@ public abstract class Observable<T, K> {
    * @param observer the observer to remove.
    */
   public void removeListener(Observer<T, K> observer) {
-    observers.remove(observer);
+    if (observer == null) {
+      return;
+    }
+    synchronized (lock) {
+      Registration<T, K>[] current = registrations;
+      int index = indexOf(current, observer);
+      if (index < 0) {
+        return;
+      }
+      current[index].removed = true;
+      Registration<T, K>[] updated = Arrays.copyOf(current, current.length - 1);
+      System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+      registrations = updated;
+    }
   }
 
   /**
-   * Notifies all observers of a change in the observable.
+   * Notifies all observers of a change in the observable, in order of priority.
    *
    * @param value the value to pass to the observers.
    */
   public void notifyObservers(K value) {
-    observers.forEach(observer -> observer.update(value));
+    Registration<T, K>[] current = registrations;
+    boolean collected = false;
+    for (Registration<T, K> registration : current) {
+      Observer<T, K> observer = registration.get();
+      if (observer == null) {
+        collected = true;
+      } else if (!registration.removed) {
+        observer.update(value);
+      }
+    }
+    if (collected) {
+      removeCollected();
+    }
   }
 
   /**
    * Clears all observers from the observable.
    */
+  @SuppressWarnings("unchecked")
   public void clearObservers() {
-    observers.clear();
+    synchronized (lock) {
+      for (Registration<T, K> registration : registrations) {
+        registration.removed = true;
+      }
+      registrations = EMPTY;
+    }
   }
 
   /**
@@ -59,7 +182,93 @@ public abstract class Observable<T, K> {
    * @return the number of observers.
    */
   public int getObserverCount() {
-    return observers.size();
+    int count = 0;
+    for (Registration<T, K> registration : registrations) {
+      if (registration.get() != null) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Returns whether any observers have been added and not removed. Unlike
+   * {@link #getObserverCount()}, this only reads the current array, so it is cheap enough to
+   * check before creating a value which would otherwise be passed to no one.
+   *
+   * @return true if there are observers, also when a weak observer has been collected but not yet
+   *     removed.
+   * @since v3.1.0
+   */
+  public boolean hasObservers() {
+    return registrations.length != 0;
+  }
+
+  /**
+   * Returns a snapshot of the observers, in the order they are notified.
+   *
+   * @return the observers.
+   */
+  public Set<Observer<T, K>> getObservers() {
+    Set<Observer<T, K>> observers = new LinkedHashSet<>();
+    for (Registration<T, K> registration : registrations) {
+      Observer<T, K> observer = registration.get();
+      if (observer != null) {
+        observers.add(observer);
+      }
+    }
+    return Collections.unmodifiableSet(observers);
   }
 
+  /**
+   * Adds an observer after the observers of the same or higher priority, unless it has already
+   * been added.
+   *
+   * @param registration the observer with its priority.
+   */
+  private void add(Registration<T, K> registration) {
+    Observer<T, K> observer = registration.get();
+    synchronized (lock) {
+      Registration<T, K>[] current = registrations;
+      if (observer != null && indexOf(current, observer) >= 0) {
+        return;
+      }
+      int index = current.length;
+      while (index > 0 && current[index - 1].priority < registration.priority) {
+        index--;
+      }
+      Registration<T, K>[] updated = Arrays.copyOf(current, current.length + 1);
+      System.arraycopy(current, index, updated, index + 1, current.length - index);
+      updated[index] = registration;
+      registrations = updated;
+    }
+  }
+
+  /**
+   * Removes the weak observers which have been garbage collected.
+   */
+  @SuppressWarnings("unchecked")
+  private void removeCollected() {
+    synchronized (lock) {
+      registrations = Arrays.stream(registrations)
+          .filter(registration -> registration.get() != null)
+          .toArray(Registration[]::new);
+    }
+  }
+
+  /**
+   * Finds an observer in an array of registrations.
+   *
+   * @param current  the registrations.
+   * @param observer the observer.
+   * @return the index of the observer, or -1 if it is not registered.
+   */
+  private static <T, K> int indexOf(Registration<T, K>[] current, Observer<T, K> observer) {
+    for (int i = 0; i < current.length; i++) {
+      if (observer.equals(current[i].get())) {
+        return i;
+      }
+    }
+    return -1;
+  }
 }
@@ -1,6 +1,7 @@
 package edu.ntnu.idi.idatt.boardgame.javafx.controllers;
 
 import edu.ntnu.idi.idatt.boardgame.Application;
+import edu.ntnu.idi.idatt.boardgame.core.reactivity.EventBus;
 import edu.ntnu.idi.idatt.boardgame.core.reactivity.Observer;
 import edu.ntnu.idi.idatt.boardgame.javafx.animation.AnimationQueue;
 import edu.ntnu.idi.idatt.boardgame.javafx.animation.DieComponentAnimator;
@@ -35,12 +36,14 @@ import edu.ntnu.idi.idatt.boardgame.model.events.GameStartedEvent;
 import edu.ntnu.idi.idatt.boardgame.model.events.PlayerMovedEvent;
 import edu.ntnu.idi.idatt.boardgame.model.events.PlayerSkippedTurnEvent;
 import edu.ntnu.idi.idatt.boardgame.model.events.PlayerTurnChangedEvent;
+import edu.ntnu.idi.idatt.boardgame.model.events.QuestionAnsweredEvent;
 import edu.ntnu.idi.idatt.boardgame.model.events.QuestionAskedEvent;
 import edu.ntnu.idi.idatt.boardgame.model.events.TileActionEvent;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.IntStream;
 import javafx.animation.Animation;
+import javafx.application.Platform;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
@@ -64,6 +67,10 @@ import lombok.Getter;
  * This class observes game events and updates the game board UI accordingly, particularly handling
  * player movement animations.
  * </p>
+ * <p>
+ * The events are received through the event bus of the engine, delivered in batches on the JavaFX
+ * thread after the engine has finished the action which caused them.
+ * </p>
  *
  * @version v1.0.1
  * @since v3.0.0
@@ -71,6 +78,8 @@ import lombok.Getter;
 public class GameLobbyController implements Observer<GameEngine, GameEvent> {
 
   private static final Logger logger = Logger.getLogger(GameLobbyController.class.getName());
+  /// The number of turns which can be undone
+  private static final int UNDO_TURNS = 50;
 
   private final GameLobbyView gameLobbyView;
   private final GameEngine gameEngine;
@@ -79,6 +88,7 @@ public class GameLobbyController implements Observer<GameEngine, GameEvent> {
   private final ObservableList<Player> players;
 
   private final AnimationQueue animationQueue;
+  private final EventBus.Subscription<GameEngine, GameEvent> subscription;
 
   @Getter
   private final ObjectProperty<Player> currentPlayerProperty = new SimpleObjectProperty<>();
@@ -86,8 +96,13 @@ public class GameLobbyController implements Observer<GameEngine, GameEvent> {
   private final IntegerProperty currentRoundProperty = new SimpleIntegerProperty(1);
   @Getter
   private final IntegerProperty lastRollProperty = new SimpleIntegerProperty(0);
+  /// Disabled until the game has started
+  @Getter
+  private final BooleanProperty rollButtonDisabledProperty = new SimpleBooleanProperty(true);
   @Getter
-  private final BooleanProperty rollButtonDisabledProperty = new SimpleBooleanProperty(false);
+  private final BooleanProperty undoAvailableProperty = new SimpleBooleanProperty(false);
+  @Getter
+  private final BooleanProperty redoAvailableProperty = new SimpleBooleanProperty(false);
 
   /**
    * Creates a new GameLobbyController.
@@ -101,8 +116,11 @@ public class GameLobbyController implements Observer<GameEngine, GameEvent> {
     this.animationQueue = new AnimationQueue();
 
     this.players = FXCollections.observableArrayList(gameEngine.getPlayers());
+    gameEngine.getHistory().setCapacity(UNDO_TURNS);
 
-    gameEngine.addListener(this);
+    // the engine runs on the JavaFX thread, so it must never wait for this subscriber to drain
+    this.subscription = gameEngine.getEventBus().subscribe(this, Platform::runLater,
+        EventBus.DEFAULT_CAPACITY, EventBus.BackpressurePolicy.DROP_OLDEST);
     this.currentPlayerProperty.set(gameEngine.getCurrentPlayer());
 
     logger.info("GameLobbyController initialized");
@@ -127,14 +145,54 @@ public class GameLobbyController implements Observer<GameEngine, GameEvent> {
           handlePlayerSkippedTurn(playerSkippedTurnEvent);
       case QuestionAskedEvent questionAskedEvent -> handleQuestionAsked(questionAskedEvent);
       case GameEndedEvent gameEndedEvent -> handleGameEnded(gameEndedEvent);
+      case QuestionAnsweredEvent questionAnsweredEvent ->
+          handleQuestionAnswered(questionAnsweredEvent);
       default -> logger.warning("Unhandled event type: " + event.getClass().getSimpleName());
     }
+    undoAvailableProperty.set(gameEngine.getHistory().canUndo());
+    redoAvailableProperty.set(gameEngine.getHistory().canRedo());
+  }
+
+  /**
+   * Undoes the latest turn, moving the players back to where they were before it. The turns of
+   * computer opponents are undone as well, back to the latest turn of a player at the table.
+   */
+  public void undoTurn() {
+    do {
+      if (!gameEngine.getHistory().canUndo()) {
+        return;
+      }
+      gameEngine.getHistory().undo();
+    } while (!isHumanTurn());
+  }
+
+  /**
+   * Redoes the latest undone turn, moving the players to where they were before it was undone. The
+   * turns of computer opponents are redone as well, up to the next turn of a player at the table.
+   */
+  public void redoTurn() {
+    do {
+      if (!gameEngine.getHistory().canRedo()) {
+        return;
+      }
+      gameEngine.getHistory().redo();
+    } while (!isHumanTurn());
+  }
+
+  /**
+   * Returns whether the current player is played at the table rather than by the computer.
+   *
+   * @return true if the views should let the current player roll and answer
+   */
+  private boolean isHumanTurn() {
+    return gameEngine.getController(gameEngine.getCurrentPlayer()).isHuman();
   }
 
   /**
    * Exits the game and stops all animations.
    */
   public void exitGame() {
+    subscription.close();
     animationQueue.stopAndClear();
     gameLobbyView.getGameBoard().setVisible(false);
     gameLobbyView.getGameBoard().setDisable(true);
@@ -147,10 +205,16 @@ public class GameLobbyController implements Observer<GameEngine, GameEvent> {
    * @param event the game started event
    */
   private void handleGameStarted(GameStartedEvent event) {
-    logger.info("Game started with " + event.players().size() + " players");
+    logger.info("Game started with " + event.players().size() + " players (seed "
+        + event.seed() + ")");
     animationQueue.stopAndClear();
     currentPlayerProperty.set(gameEngine.getCurrentPlayer());
     currentRoundProperty.set(gameEngine.getRoundCount());
+    rollButtonDisabledProperty.set(!isHumanTurn());
+    // the board may have been shown before the players were placed on the start tile
+    if (gameLobbyView.getGameBoard() != null) {
+      gameLobbyView.getGameBoard().recenterPlayerBlips();
+    }
   }
 
   /**
@@ -163,7 +227,7 @@ public class GameLobbyController implements Observer<GameEngine, GameEvent> {
       logger.info("Player turn changed to " + event.currentPlayer().getName());
       currentPlayerProperty.set(event.currentPlayer());
       currentRoundProperty.set(gameEngine.getRoundCount());
-      rollButtonDisabledProperty.set(false);
+      rollButtonDisabledProperty.set(!gameEngine.getController(event.currentPlayer()).isHuman());
       this.players.setAll(gameEngine.getPlayers());
     }).build();
 
@@ -180,8 +244,8 @@ public class GameLobbyController implements Observer<GameEngine, GameEvent> {
         "Player " + event.player().getName() + " moved from tile " + (event.fromTile() != null
             ? event.fromTile().getTileId() : "null") + " to tile " + event.toTile().getTileId());
     animatePlayerMovement(event.player(), event.fromTile(), event.toTile());
-    QueueableAction action =
-        QueueableAction.builder().action(() -> rollButtonDisabledProperty.set(false)).build();
+    QueueableAction action = QueueableAction.builder()
+        .action(() -> rollButtonDisabledProperty.set(!isHumanTurn())).build();
     animationQueue.queue(action.timeline(), "Enabling roll button", 0);
   }
 
@@ -258,6 +322,11 @@ public class GameLobbyController implements Observer<GameEngine, GameEvent> {
    */
   private void handleQuestionAsked(QuestionAskedEvent event) {
     logger.info("Question asked: " + event.question());
+    rollButtonDisabledProperty.set(true);
+    if (!gameEngine.getController(event.player()).isHuman()) {
+      // computer opponents answer by themselves, which is shown once they have
+      return;
+    }
     QueueableAction action = QueueableAction.builder().action(() -> {
       QuestionDialog dialog =
           new QuestionDialog(gameLobbyView.getRoot(), event.question(), (answer) -> {
@@ -276,7 +345,23 @@ public class GameLobbyController implements Observer<GameEngine, GameEvent> {
       dialog.show();
     }).build();
     animationQueue.queue(action.timeline(), "Question asked", 0);
-    rollButtonDisabledProperty.set(true);
+  }
+
+  /**
+   * Handles question answered events, showing the answers of computer opponents. The question
+   * dialog shows the result of the answers of the players at the table itself.
+   *
+   * @param event the question answered event
+   */
+  private void handleQuestionAnswered(QuestionAnsweredEvent event) {
+    if (gameEngine.getController(event.player()).isHuman()) {
+      return;
+    }
+    QueueableAction action = QueueableAction.builder().action(() -> ToastProvider.show(
+        String.format("%s answered \"%s\", which is %s", event.player().getName(),
+            event.answer(), event.correct() ? "correct" : "wrong"), Duration.seconds(5),
+        event.correct() ? ToastStyle.SUCCESS : ToastStyle.ERROR)).build();
+    animationQueue.queue(action.timeline(), "Question answered", 0);
   }
 
   /**
@@ -2,6 +2,7 @@ package edu.ntnu.idi.idatt.boardgame.javafx.controllers;
 
 import edu.ntnu.idi.idatt.boardgame.Application;
 import edu.ntnu.idi.idatt.boardgame.Utils;
+import edu.ntnu.idi.idatt.boardgame.core.reactivity.Observer;
 import edu.ntnu.idi.idatt.boardgame.javafx.components.enums.ToastStyle;
 import edu.ntnu.idi.idatt.boardgame.javafx.providers.ToastProvider;
 import edu.ntnu.idi.idatt.boardgame.model.entities.Color;
@@ -10,7 +11,10 @@ import edu.ntnu.idi.idatt.boardgame.model.entities.Player;
 import edu.ntnu.idi.idatt.boardgame.model.managers.GameManager;
 import edu.ntnu.idi.idatt.boardgame.model.managers.PlayerManager;
 import java.io.File;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
@@ -39,16 +43,40 @@ public class MainMenuController {
   @Getter
   private final ObservableMap<String, Game> games;
 
+  /// Held by the controller, as the managers only hold their listeners weakly
+  private final Observer<PlayerManager, List<Player>> playerListener;
+  private final Observer<GameManager, Map<String, Game>> gameListener;
 
   /**
-   * Constructs a MainMenuController and registers it as an observer to the PlayerManager.
+   * Constructs a MainMenuController and registers it as an observer to the PlayerManager and the
+   * GameManager.
+   * <p>
+   * The listeners are added weakly, so the managers do not keep a controller which is no longer
+   * used from being garbage collected.
+   * </p>
    */
   public MainMenuController() {
     this.players = FXCollections.observableArrayList();
     this.games = FXCollections.observableHashMap();
 
-    PlayerManager.getInstance().addListener(this.players::setAll);
-    GameManager.getInstance().addListener(this.games::putAll);
+    this.playerListener = players -> Platform.runLater(() -> this.players.setAll(players));
+    this.gameListener = games -> Platform.runLater(() -> this.updateGames(games));
+    PlayerManager.getInstance().addWeakListener(playerListener);
+    GameManager.getInstance().addWeakListener(gameListener);
+  }
+
+  /**
+   * Replaces the games shown in the main menu, removing games that no longer exist.
+   * <p>
+   * Must be called on the JavaFX thread. Game changes may be reported from the thread reloading
+   * game files, so the listener hands them over with {@link Platform#runLater(Runnable)}.
+   * </p>
+   *
+   * @param games the current games
+   */
+  private void updateGames(Map<String, Game> games) {
+    this.games.keySet().retainAll(games.keySet());
+    this.games.putAll(games);
   }
 
   /**
@@ -92,6 +120,9 @@ public class MainMenuController {
 
   /**
    * Loads a game from a file.
+   * <p>
+   * The game is read on a background thread, and appears in the main menu once it has loaded.
+   * </p>
    */
   public void loadGameFromFile() {
     try {
@@ -109,7 +140,12 @@ public class MainMenuController {
       }
       logger.info("Loading game from file: " + file.getPath());
 
-      GameManager.getInstance().loadGame(file.getPath());
+      GameManager.getInstance().loadGameAsync(file.getPath()).whenComplete((game, e) -> {
+        if (e != null) {
+          Platform.runLater(() -> ToastProvider.show("Failed to load game from file",
+              Duration.seconds(5), ToastStyle.ERROR));
+        }
+      });
     } catch (Exception e) {
       logger.severe(e.getMessage());
       ToastProvider.show(e.getMessage());
@@ -175,7 +211,12 @@ public class MainMenuController {
    * </p>
    */
   public void savePlayersToFile() {
-    PlayerManager.getInstance().savePlayers("data/players.csv");
+    PlayerManager.getInstance().savePlayersAsync("data/players.csv").whenComplete((ignored, e) -> {
+      if (e != null) {
+        Platform.runLater(() -> ToastProvider.show("Failed to save players",
+            Duration.seconds(5), ToastStyle.ERROR));
+      }
+    });
   }
 
   /**
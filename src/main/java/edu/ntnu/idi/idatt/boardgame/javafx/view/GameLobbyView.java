@@ -23,7 +23,10 @@ import edu.ntnu.idi.idatt.boardgame.model.style.FreezeStyle;
 import edu.ntnu.idi.idatt.boardgame.model.style.ImmunityStyle;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.IntStream;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.ListCell;
@@ -36,6 +39,7 @@ import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Paint;
 import lombok.Getter;
+import org.kordamp.ikonli.fontawesome5.FontAwesomeSolid;
 import org.kordamp.ikonli.javafx.FontIcon;
 
 /**
@@ -43,6 +47,8 @@ import org.kordamp.ikonli.javafx.FontIcon;
  */
 public class GameLobbyView implements IView {
 
+  private static final Logger logger = Logger.getLogger(GameLobbyView.class.getName());
+
   @Getter
   private StackPane root;
   private GameEngine gameEngine;
@@ -60,10 +66,22 @@ public class GameLobbyView implements IView {
   public void load(NavigationContext<?> ctx) {
     String gameId = ctx.getParamOrThrow("gameId");
     Game game = GameManager.getInstance().getGame(gameId);
-    this.gameEngine = new GameEngine(game, QuizManager.getInstance(),
+    GameEngine engine = new GameEngine(game, QuizManager.getInstance(),
         PlayerManager.getInstance().getPlayers());
-    gameLobbyController = new GameLobbyController(this, gameEngine);
-    gameEngine.startGame();
+    this.gameEngine = engine;
+    gameLobbyController = new GameLobbyController(this, engine);
+    // a quiz tile can not ask questions of a category before they have loaded, so the game only
+    // starts, and the roll button is only enabled, once the board's questions are loaded
+    QuizManager.getInstance().loadQuestionsForBoardAsync(game.getBoard())
+        .handleAsync((ignored, e) -> {
+          if (e != null) {
+            logger.log(Level.WARNING, "Failed to load the questions of the board", e);
+          }
+          if (gameEngine == engine) {
+            engine.startGame();
+          }
+          return null;
+        }, Platform::runLater);
     animationQueue = new AnimationQueue();
     gameBoard = gameLobbyController.createGameBoard();
   }
@@ -200,6 +218,20 @@ public class GameLobbyView implements IView {
 
     diceControlPanel.getChildren().add(rollButton);
 
+    Button undoButton = new Button("Undo", FontAwesomeSolid.UNDO);
+    undoButton.setOnAction(e -> gameLobbyController.undoTurn());
+    undoButton.disableProperty().bind(gameLobbyController.getRollButtonDisabledProperty()
+        .or(gameLobbyController.getUndoAvailableProperty().not()));
+
+    Button redoButton = new Button("Redo", FontAwesomeSolid.REDO);
+    redoButton.setOnAction(e -> gameLobbyController.redoTurn());
+    redoButton.disableProperty().bind(gameLobbyController.getRollButtonDisabledProperty()
+        .or(gameLobbyController.getRedoAvailableProperty().not()));
+
+    HBox historyContainer = new HBox(10, undoButton, redoButton);
+    historyContainer.setAlignment(Pos.CENTER);
+    diceControlPanel.getChildren().add(historyContainer);
+
     Card diceCard = new Card();
     diceCard.setPadding(new Insets(15));
     diceCard.setTop(diceHeader);
@@ -1,28 +1,40 @@
 package edu.ntnu.idi.idatt.boardgame.model;
 
-import edu.ntnu.idi.idatt.boardgame.Utils;
+import edu.ntnu.idi.idatt.boardgame.core.reactivity.EventBus;
 import edu.ntnu.idi.idatt.boardgame.core.reactivity.Observable;
 import edu.ntnu.idi.idatt.boardgame.model.actions.TileAction;
 import edu.ntnu.idi.idatt.boardgame.model.actions.goal.GoalTileAction;
 import edu.ntnu.idi.idatt.boardgame.model.actions.quiz.QuizTileAction;
+import edu.ntnu.idi.idatt.boardgame.model.dice.DiceRoller;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Board;
 import edu.ntnu.idi.idatt.boardgame.model.entities.Game;
 import edu.ntnu.idi.idatt.boardgame.model.entities.Player;
 import edu.ntnu.idi.idatt.boardgame.model.entities.Question;
 import edu.ntnu.idi.idatt.boardgame.model.entities.QuestionCategory;
+import edu.ntnu.idi.idatt.boardgame.model.entities.QuestionDeck;
 import edu.ntnu.idi.idatt.boardgame.model.entities.Tile;
 import edu.ntnu.idi.idatt.boardgame.model.events.DiceRolledEvent;
 import edu.ntnu.idi.idatt.boardgame.model.events.GameEndedEvent;
 import edu.ntnu.idi.idatt.boardgame.model.events.GameEvent;
+import edu.ntnu.idi.idatt.boardgame.model.events.GameEventKind;
 import edu.ntnu.idi.idatt.boardgame.model.events.GameStartedEvent;
+import edu.ntnu.idi.idatt.boardgame.model.events.PackedGameEvent;
+import edu.ntnu.idi.idatt.boardgame.model.events.PackedGameEventListener;
 import edu.ntnu.idi.idatt.boardgame.model.events.PlayerMovedEvent;
 import edu.ntnu.idi.idatt.boardgame.model.events.PlayerSkippedTurnEvent;
 import edu.ntnu.idi.idatt.boardgame.model.events.PlayerTurnChangedEvent;
+import edu.ntnu.idi.idatt.boardgame.model.events.QuestionAnsweredEvent;
 import edu.ntnu.idi.idatt.boardgame.model.events.QuestionAskedEvent;
 import edu.ntnu.idi.idatt.boardgame.model.events.TileActionEvent;
 import edu.ntnu.idi.idatt.boardgame.model.managers.QuizManager;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
 import lombok.Getter;
 import lombok.NonNull;
 
@@ -42,6 +54,28 @@ import lombok.NonNull;
  * and react to game
  * events without tight coupling.
  * </p>
+ * <p>
+ * Observers which should not run on the call stack of the engine, such as the JavaFX views,
+ * subscribe to the {@link #getEventBus() event bus} of the engine instead, which delivers the
+ * events through an executor of their choice.
+ * </p>
+ * <p>
+ * Event objects are only created when there is an observer or subscriber to receive them. A
+ * simulation playing millions of turns can instead add a {@link PackedGameEventListener}, which
+ * receives every event encoded in a {@code long} as described by {@link PackedGameEvent}, so
+ * playing a turn creates no garbage.
+ * </p>
+ * <p>
+ * The state of a game can be saved with {@link #snapshot()} and restored with
+ * {@link #restore(GameSnapshot)}, for instance to undo a turn or to explore different moves from
+ * the same position. Turns are undone and redone through the {@link #getHistory() history} of the
+ * engine, which takes a snapshot before every roll once it has been given a capacity.
+ * </p>
+ * <p>
+ * Every player has a {@link PlayerController}, which the engine prompts whenever the player is to
+ * roll the dice or answer a question. Players are played through the views of the game unless
+ * given another controller, such as a computer opponent.
+ * </p>
  *
  * @see edu.ntnu.idi.idatt.boardgame.core.reactivity.Observable
  * @see GameEvent
@@ -55,8 +89,25 @@ public class GameEngine extends Observable<GameEngine, GameEvent> {
   private final Logger logger = Logger.getLogger(GameEngine.class.getName());
   private final QuizManager quizManager;
   @Getter
+  private final DiceRoller diceRoller;
+  private final int[] dice;
+  @Getter
   private final Game game;
   private final List<Player> players;
+  /// The controller of each player in turn order
+  private final PlayerController[] controllers;
+  /// Passes every event of the engine on to its subscribers, each through its own executor
+  @Getter
+  private final EventBus<GameEngine, GameEvent> eventBus = new EventBus<>();
+  /// The undo and redo history of the turns, which keeps no turns until given a capacity
+  @Getter
+  private final GameHistory history = new GameHistory(this);
+  private final Object packedLock = new Object();
+  private volatile PackedGameEventListener[] packedListeners = new PackedGameEventListener[0];
+  /// The question decks of this game, created from the quiz manager the first time a category is
+  /// asked
+  private final Map<QuestionCategory, QuestionDeck> questionDecks =
+      new EnumMap<>(QuestionCategory.class);
   private int currentPlayerIndex;
   @Getter
   private boolean gameStarted;
@@ -69,7 +120,8 @@ public class GameEngine extends Observable<GameEngine, GameEvent> {
   private int roundCount = 0;
 
   /**
-   * Constructs a GameEngine with the specified game, quiz manager, and players.
+   * Constructs a GameEngine with the specified game, quiz manager, and players, rolling the dice
+   * with a randomly seeded {@link DiceRoller}.
    *
    * @param game        the game to be played
    * @param quizManager the quiz manager for handling quiz questions
@@ -79,8 +131,25 @@ public class GameEngine extends Observable<GameEngine, GameEvent> {
    */
   public GameEngine(@NonNull Game game, @NonNull QuizManager quizManager,
       @NonNull List<Player> players) {
+    this(game, quizManager, players, DiceRoller.random());
+  }
+
+  /**
+   * Constructs a GameEngine with the specified game, quiz manager, players and dice roller.
+   *
+   * @param game        the game to be played
+   * @param quizManager the quiz manager for handling quiz questions
+   * @param players     the list of players participating in the game
+   * @param diceRoller  the source of all randomness in the game
+   * @throws IllegalArgumentException if game or players are null
+   * @throws IllegalStateException    if the number of players is not within the valid range
+   */
+  public GameEngine(@NonNull Game game, @NonNull QuizManager quizManager,
+      @NonNull List<Player> players, @NonNull DiceRoller diceRoller) {
     super();
     this.game = game;
+    this.diceRoller = diceRoller;
+    this.dice = new int[game.getNumberOfDice()];
     this.players = new ArrayList<>();
     this.currentPlayerIndex = 0;
     this.gameStarted = false;
@@ -95,6 +164,67 @@ public class GameEngine extends Observable<GameEngine, GameEvent> {
     /// this will prevent updating the global player list
     /// and makes sure the player state is internal within the game
     addPlayers(players);
+    this.controllers = new PlayerController[players.size()];
+    Arrays.fill(controllers, PlayerController.HUMAN);
+  }
+
+  /**
+   * Notifies the observers of the engine and publishes the event to the subscribers of its
+   * {@link #getEventBus() event bus}.
+   *
+   * @param event the event
+   */
+  @Override
+  public void notifyObservers(GameEvent event) {
+    super.notifyObservers(event);
+    eventBus.publish(event);
+  }
+
+  /**
+   * Adds a listener receiving every event of the engine encoded as a {@link PackedGameEvent}.
+   *
+   * <p>
+   * The tile ids of the board are checked here rather than when an event is emitted, so a board
+   * which cannot be encoded is rejected before the game state changes.
+   * </p>
+   *
+   * @param listener the listener
+   * @throws IllegalArgumentException if a tile id of the board is negative or greater than
+   *                                  {@link PackedGameEvent#MAX_TILE_ID}
+   * @since v3.1.0
+   */
+  public void addPackedListener(@NonNull PackedGameEventListener listener) {
+    for (int tileId : game.getBoard().getTiles().keySet()) {
+      if (tileId < 0 || tileId > PackedGameEvent.MAX_TILE_ID) {
+        throw new IllegalArgumentException(
+            "Tile id " + tileId + " cannot be encoded as a packed game event");
+      }
+    }
+    synchronized (packedLock) {
+      PackedGameEventListener[] updated =
+          Arrays.copyOf(packedListeners, packedListeners.length + 1);
+      updated[packedListeners.length] = listener;
+      packedListeners = updated;
+    }
+  }
+
+  /**
+   * Removes a listener added with {@link #addPackedListener(PackedGameEventListener)}.
+   *
+   * @param listener the listener
+   * @since v3.1.0
+   */
+  public void removePackedListener(PackedGameEventListener listener) {
+    synchronized (packedLock) {
+      PackedGameEventListener[] current = packedListeners;
+      int index = Arrays.asList(current).indexOf(listener);
+      if (index < 0) {
+        return;
+      }
+      PackedGameEventListener[] updated = Arrays.copyOf(current, current.length - 1);
+      System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+      packedListeners = updated;
+    }
   }
 
   /**
@@ -105,6 +235,7 @@ public class GameEngine extends Observable<GameEngine, GameEvent> {
     this.gameStarted = true;
     this.gameEnded = false;
     this.roundCount = 1;
+    history.clear();
 
     Tile startTile = game.getBoard().getTile(0);
     if (startTile == null) {
@@ -115,7 +246,37 @@ public class GameEngine extends Observable<GameEngine, GameEvent> {
       player.placeOnTile(startTile);
     }
 
-    notifyObservers(new GameStartedEvent(game, this.players));
+    logger.info("Starting game '" + game.getId() + "' with seed " + diceRoller.getSeed());
+    emitPacked(GameEventKind.GAME_STARTED, 0, PackedGameEvent.NONE, startTile.getTileId(), 0);
+    if (isObserved()) {
+      notifyObservers(new GameStartedEvent(game, this.players, diceRoller.getSeed()));
+    }
+    promptCurrentPlayer();
+  }
+
+  /**
+   * Sets the controller deciding the moves of a player. If it is the turn of the player, the
+   * controller is prompted the next time the engine passes the turn on or asks a question.
+   *
+   * @param player     the player
+   * @param controller the controller, or {@link PlayerController#HUMAN} to play through the views
+   * @throws IllegalArgumentException if the player is not in the game
+   * @since v3.1.0
+   */
+  public void setController(@NonNull Player player, @NonNull PlayerController controller) {
+    controllers[indexOf(player)] = controller;
+  }
+
+  /**
+   * Returns the controller deciding the moves of a player.
+   *
+   * @param player the player
+   * @return the controller
+   * @throws IllegalArgumentException if the player is not in the game
+   * @since v3.1.0
+   */
+  public PlayerController getController(@NonNull Player player) {
+    return controllers[indexOf(player)];
   }
 
   /**
@@ -128,36 +289,53 @@ public class GameEngine extends Observable<GameEngine, GameEvent> {
       throw new IllegalStateException("Game is not in progress");
     }
 
+    history.record();
     Player currentPlayer = getCurrentPlayer();
 
-    List<Integer> diceRolls = rollDice();
-    int diceValue = diceRolls.stream().mapToInt(Integer::intValue).sum();
-
-    notifyObservers(new DiceRolledEvent(currentPlayer, diceValue, diceRolls));
-
+    int diceValue = diceRoller.roll(dice);
     Tile startTile = currentPlayer.getCurrentTile();
 
+    emitPacked(GameEventKind.DICE_ROLLED, currentPlayerIndex, PackedGameEvent.NONE,
+        tileId(startTile), diceValue);
+    if (isObserved()) {
+      notifyObservers(new DiceRolledEvent(currentPlayer, diceValue,
+          IntStream.of(dice).boxed().toList()));
+    }
+
     int actualStepsMoved = currentPlayer.move(diceValue);
     Tile endTile = currentPlayer.getCurrentTile();
 
-    notifyObservers(
-        new PlayerMovedEvent(currentPlayer, startTile, endTile, diceValue, actualStepsMoved));
+    emitPacked(GameEventKind.PLAYER_MOVED, currentPlayerIndex, tileId(startTile),
+        tileId(endTile), actualStepsMoved);
+    if (isObserved()) {
+      notifyObservers(
+          new PlayerMovedEvent(currentPlayer, startTile, endTile, diceValue, actualStepsMoved));
+    }
 
     if (endTile.getAction().isPresent()) {
       TileAction action = endTile.getAction().get();
       switch (action) {
         case GoalTileAction goalAction -> {
           gameEnded = true;
-          notifyObservers(new GameEndedEvent(game, currentPlayer));
+          emitPacked(GameEventKind.GAME_ENDED, currentPlayerIndex, PackedGameEvent.NONE,
+              endTile.getTileId(), roundCount);
+          if (isObserved()) {
+            notifyObservers(new GameEndedEvent(game, currentPlayer));
+          }
         }
         case QuizTileAction quizAction -> {
           initiateQuizQuestion(quizAction, startTile);
+          promptCurrentPlayer();
           return;
         }
         default -> {
           boolean triggered = action.perform(currentPlayer);
           if (triggered) {
-            notifyObservers(new TileActionEvent(currentPlayer, endTile, action));
+            emitPacked(GameEventKind.TILE_ACTION, currentPlayerIndex, endTile.getTileId(),
+                tileId(currentPlayer.getCurrentTile()), 0);
+            if (isObserved()) {
+              notifyObservers(new TileActionEvent(currentPlayer, endTile, action));
+            }
           }
         }
       }
@@ -165,16 +343,7 @@ public class GameEngine extends Observable<GameEngine, GameEvent> {
     if (!gameEnded) {
       advanceToNextPlayer();
     }
-  }
-
-  /**
-   * Rolls the dice based on the game's number of dice.
-   *
-   * @return a list of individual dice values
-   */
-  private List<Integer> rollDice() {
-    int diceCount = game.getNumberOfDice();
-    return Utils.throwDice(diceCount);
+    promptCurrentPlayer();
   }
 
   /**
@@ -198,7 +367,11 @@ public class GameEngine extends Observable<GameEngine, GameEvent> {
     int actualStepsMoved = player.move(steps);
     Tile endTile = player.getCurrentTile();
 
-    notifyObservers(new PlayerMovedEvent(player, startTile, endTile, steps, actualStepsMoved));
+    emitPacked(GameEventKind.PLAYER_MOVED, players.indexOf(player), tileId(startTile),
+        tileId(endTile), actualStepsMoved);
+    if (isObserved()) {
+      notifyObservers(new PlayerMovedEvent(player, startTile, endTile, steps, actualStepsMoved));
+    }
 
     return actualStepsMoved;
   }
@@ -228,7 +401,11 @@ public class GameEngine extends Observable<GameEngine, GameEvent> {
     Tile oldTile = player.getCurrentTile();
     player.placeOnTile(tile);
 
-    notifyObservers(new PlayerMovedEvent(player, oldTile, tile, 0, 0));
+    emitPacked(GameEventKind.PLAYER_MOVED, players.indexOf(player), tileId(oldTile), tileId,
+        0);
+    if (isObserved()) {
+      notifyObservers(new PlayerMovedEvent(player, oldTile, tile, 0, 0));
+    }
   }
 
   /**
@@ -244,10 +421,17 @@ public class GameEngine extends Observable<GameEngine, GameEvent> {
       throw new IllegalStateException("No question is being asked");
     }
 
-    boolean isCorrect = currentQuestion.getCorrectAnswer().equals(answer);
+    Question question = currentQuestion;
+    boolean isCorrect = question.getCorrectAnswer().equals(answer);
     Player currentPlayer = getCurrentPlayer();
     currentQuestion = null;
 
+    emitPacked(GameEventKind.QUESTION_ANSWERED, currentPlayerIndex, PackedGameEvent.NONE,
+        tileId(currentPlayer.getCurrentTile()), question.getAnswers().indexOf(answer));
+    if (isObserved()) {
+      notifyObservers(new QuestionAnsweredEvent(question, currentPlayer, answer, isCorrect));
+    }
+
     if (!isCorrect && !currentPlayer.isImmune()) {
       placePlayerOnTile(currentPlayer, checkpointTile.getTileId());
     }
@@ -256,6 +440,7 @@ public class GameEngine extends Observable<GameEngine, GameEvent> {
     if (!gameEnded) {
       advanceToNextPlayer();
     }
+    promptCurrentPlayer();
 
     return isCorrect;
   }
@@ -266,20 +451,29 @@ public class GameEngine extends Observable<GameEngine, GameEvent> {
    * @param tileAction the tile action that triggered the quiz
    */
   private void initiateQuizQuestion(QuizTileAction tileAction, Tile checkpointTile) {
-    QuestionCategory category = tileAction.getCategory();
-    Question question;
-    if (category == QuestionCategory.RANDOM) {
-      question = quizManager.getRandomQuestion();
-    } else {
-      question = quizManager.getRandomQuestionFromCategory(category);
+    // a quiz tile without a category asks questions of any category, as the quiz manager loads
+    QuestionCategory category = tileAction.getCategory() == null ? QuestionCategory.RANDOM
+        : tileAction.getCategory();
+    QuestionDeck deck = questionDecks.get(category);
+    if (deck == null || category == QuestionCategory.RANDOM
+        && deck.size() != quizManager.getStats().questions()) {
+      // a random deck is rebuilt once more question files have loaded, or it would never ask them
+      deck = quizManager.createDeck(category, diceRoller.getRandom());
+      questionDecks.put(category, deck);
     }
+    Question question = deck.draw();
     if (question == null) {
+      // the questions of the category may still be loading, so try a new deck next time
+      questionDecks.remove(category);
       throw new IllegalStateException("No questions available in the selected category");
     }
     this.currentQuestion = question;
     this.checkpointTile = checkpointTile;
-    notifyObservers(new QuestionAskedEvent(question, getCurrentPlayer()));
-
+    emitPacked(GameEventKind.QUESTION_ASKED, currentPlayerIndex, tileId(checkpointTile),
+        tileId(getCurrentPlayer().getCurrentTile()), 0);
+    if (isObserved()) {
+      notifyObservers(new QuestionAskedEvent(question, getCurrentPlayer()));
+    }
   }
 
   private void addPlayers(List<Player> players) {
@@ -302,17 +496,276 @@ public class GameEngine extends Observable<GameEngine, GameEvent> {
     }
     currentPlayerIndex = nextPlayerIndex;
     Player nextPlayer = players.get(currentPlayerIndex);
-    notifyObservers(new PlayerTurnChangedEvent(nextPlayer));
+    emitPacked(GameEventKind.PLAYER_TURN_CHANGED, currentPlayerIndex, PackedGameEvent.NONE,
+        tileId(nextPlayer.getCurrentTile()), roundCount);
+    if (isObserved()) {
+      notifyObservers(new PlayerTurnChangedEvent(nextPlayer));
+    }
 
     Player currentPlayer = getCurrentPlayer();
 
     if (currentPlayer.isFrozen()) {
       currentPlayer.setFrozenTurns(currentPlayer.getFrozenTurns() - 1);
-      notifyObservers(new PlayerSkippedTurnEvent(currentPlayer, "Player is frozen"));
+      emitPacked(GameEventKind.PLAYER_SKIPPED_TURN, currentPlayerIndex, PackedGameEvent.NONE,
+          tileId(currentPlayer.getCurrentTile()), currentPlayer.getFrozenTurns());
+      if (isObserved()) {
+        notifyObservers(new PlayerSkippedTurnEvent(currentPlayer, "Player is frozen"));
+      }
       advanceToNextPlayer();
     }
   }
 
+  /**
+   * Takes a snapshot of the state of the game, which {@link #restore(GameSnapshot)} returns the
+   * game to.
+   *
+   * @return the snapshot
+   * @throws UnsupportedOperationException if the dice roller cannot save its state
+   * @since v3.1.0
+   */
+  public GameSnapshot snapshot() {
+    int[] playerStates = new int[players.size() * GameSnapshot.PLAYER_FIELDS];
+    for (int i = 0; i < players.size(); i++) {
+      Player player = players.get(i);
+      int offset = i * GameSnapshot.PLAYER_FIELDS;
+      playerStates[offset] = tileId(player.getCurrentTile());
+      playerStates[offset + 1] = player.getFrozenTurns();
+      playerStates[offset + 2] = player.getImmunityTurns();
+    }
+    Map<QuestionCategory, QuestionDeck.State> decks = new EnumMap<>(QuestionCategory.class);
+    questionDecks.forEach((category, deck) -> decks.put(category, deck.saveState()));
+    return new GameSnapshot(gameStarted, gameEnded, currentPlayerIndex, roundCount,
+        diceRoller.getState(), playerStates, currentQuestion, tileId(checkpointTile), decks);
+  }
+
+  /**
+   * Returns the game to the state of a snapshot taken of this engine, or of an engine of the same
+   * game with the same players.
+   * <p>
+   * The following dice rolls and questions are the same as those following the moment the
+   * snapshot was taken. Observers are not notified of the restored state, so views of the game
+   * must be refreshed, and a {@link edu.ntnu.idi.idatt.boardgame.model.journal.GameJournal}
+   * recording the game no longer replays it.
+   * </p>
+   *
+   * @param snapshot the snapshot
+   * @throws IllegalArgumentException      if the snapshot has another number of players or refers
+   *                                       to tiles which are not on the board
+   * @throws UnsupportedOperationException if the dice roller cannot restore its state
+   * @since v3.1.0
+   */
+  public void restore(@NonNull GameSnapshot snapshot) {
+    restore(snapshot, false);
+  }
+
+  /**
+   * Returns the game to the state of a snapshot, optionally notifying the observers of the change.
+   * <p>
+   * When notifying, a {@link PlayerMovedEvent} without steps is sent for every player on another
+   * tile than before, in turn order, followed by a {@link QuestionAskedEvent} if a question is
+   * being asked in the restored state, or else a {@link PlayerTurnChangedEvent}, so a view of the
+   * game can move the players back to where they were. The controller of the current player is
+   * then prompted to play on. Nothing is sent if the game had not been started in the snapshot.
+   * </p>
+   *
+   * @param snapshot the snapshot
+   * @param notify   whether to notify the observers
+   * @throws IllegalArgumentException      if the snapshot has another number of players or refers
+   *                                       to tiles which are not on the board
+   * @throws UnsupportedOperationException if the dice roller cannot restore its state
+   * @since v3.1.0
+   */
+  public void restore(@NonNull GameSnapshot snapshot, boolean notify) {
+    if (snapshot.playerCount() != players.size()) {
+      throw new IllegalArgumentException("Snapshot has " + snapshot.playerCount()
+          + " players, the game has " + players.size());
+    }
+    // look up the tiles first, so an invalid snapshot leaves the game unchanged
+    Board board = game.getBoard();
+    Tile[] tiles = new Tile[players.size()];
+    for (int i = 0; i < tiles.length; i++) {
+      tiles[i] = tile(board, snapshot.playerTileId(i));
+    }
+    Tile checkpoint = tile(board, snapshot.checkpointTileId());
+    diceRoller.setState(snapshot.diceState());
+
+    Tile[] previousTiles = new Tile[players.size()];
+    for (int i = 0; i < tiles.length; i++) {
+      Player player = players.get(i);
+      previousTiles[i] = player.getCurrentTile();
+      player.placeOnTile(tiles[i]);
+      player.setFrozenTurns(snapshot.playerFrozenTurns(i));
+      player.setImmunityTurns(snapshot.playerImmunityTurns(i));
+    }
+    gameStarted = snapshot.gameStarted();
+    gameEnded = snapshot.gameEnded();
+    currentPlayerIndex = snapshot.currentPlayerIndex();
+    roundCount = snapshot.roundCount();
+    currentQuestion = snapshot.currentQuestion();
+    checkpointTile = checkpoint;
+
+    Map<QuestionCategory, QuestionDeck.State> decks = snapshot.decks();
+    questionDecks.keySet().retainAll(decks.keySet());
+    decks.forEach((category, state) -> {
+      QuestionDeck deck = questionDecks.get(category);
+      if (deck == null || !deck.isInState(state)) {
+        questionDecks.put(category, new QuestionDeck(state, diceRoller.getRandom()));
+      }
+    });
+
+    if (notify && gameStarted) {
+      notifyRestored(previousTiles);
+      promptCurrentPlayer();
+    }
+  }
+
+  /**
+   * Creates an engine of the same game, quiz manager and players in the state of a snapshot, for
+   * instance to try out a move without changing this game.
+   * <p>
+   * The branch has no observers and leaves every player to {@link PlayerController#HUMAN}. Since
+   * only what never changes after this engine was constructed is read, a branch may be created on
+   * any thread.
+   * </p>
+   *
+   * @param snapshot the snapshot
+   * @return the branch
+   * @throws IllegalArgumentException if the snapshot is not of this game
+   * @since v3.1.0
+   */
+  public GameEngine branch(@NonNull GameSnapshot snapshot) {
+    GameEngine branch =
+        new GameEngine(game, quizManager, players, DiceRoller.seeded(diceRoller.getSeed()));
+    branch.restore(snapshot);
+    return branch;
+  }
+
+  /**
+   * Prompts the controller of the current player to roll the dice or answer the question being
+   * asked, unless the game is over.
+   */
+  private void promptCurrentPlayer() {
+    if (!gameStarted || gameEnded) {
+      return;
+    }
+    Player player = players.get(currentPlayerIndex);
+    PlayerController controller = controllers[currentPlayerIndex];
+    if (currentQuestion != null) {
+      controller.onQuestion(this, player, currentQuestion);
+    } else {
+      controller.onTurn(this, player);
+    }
+  }
+
+  /**
+   * Returns the index of a player in turn order.
+   *
+   * @param player the player
+   * @return the index
+   * @throws IllegalArgumentException if the player is not in the game
+   */
+  private int indexOf(Player player) {
+    int index = players.indexOf(player);
+    if (index < 0) {
+      throw new IllegalArgumentException("Player is not in this game");
+    }
+    return index;
+  }
+
+  /**
+   * Notifies the observers of the players moved by restoring a snapshot and of the restored turn.
+   *
+   * @param previousTiles the tiles of the players before the snapshot was restored
+   */
+  private void notifyRestored(Tile[] previousTiles) {
+    for (int i = 0; i < previousTiles.length; i++) {
+      Player player = players.get(i);
+      Tile tile = player.getCurrentTile();
+      if (tile == previousTiles[i] || tile == null) {
+        continue;
+      }
+      emitPacked(GameEventKind.PLAYER_MOVED, i, tileId(previousTiles[i]), tile.getTileId(), 0);
+      if (isObserved()) {
+        notifyObservers(new PlayerMovedEvent(player, previousTiles[i], tile, 0, 0));
+      }
+    }
+
+    Player currentPlayer = getCurrentPlayer();
+    if (currentQuestion != null) {
+      emitPacked(GameEventKind.QUESTION_ASKED, currentPlayerIndex, tileId(checkpointTile),
+          tileId(currentPlayer.getCurrentTile()), 0);
+      if (isObserved()) {
+        notifyObservers(new QuestionAskedEvent(currentQuestion, currentPlayer));
+      }
+    } else {
+      emitPacked(GameEventKind.PLAYER_TURN_CHANGED, currentPlayerIndex, PackedGameEvent.NONE,
+          tileId(currentPlayer.getCurrentTile()), roundCount);
+      if (isObserved()) {
+        notifyObservers(new PlayerTurnChangedEvent(currentPlayer));
+      }
+    }
+  }
+
+  /**
+   * Returns whether anyone receives the event objects of the engine, so events need not be created
+   * when no one does.
+   *
+   * @return true if the engine has an observer or its event bus has a subscriber
+   */
+  private boolean isObserved() {
+    return hasObservers() || eventBus.getSubscriberCount() > 0;
+  }
+
+  /**
+   * Passes an event encoded as a {@link PackedGameEvent} to the packed listeners.
+   *
+   * @param kind        the kind of the event
+   * @param playerIndex the index of the player
+   * @param fromTileId  the id of the tile moved from, or {@link PackedGameEvent#NONE}
+   * @param toTileId    the id of the tile moved to or of the event
+   * @param value       the value of the event
+   */
+  private void emitPacked(GameEventKind kind, int playerIndex, int fromTileId, int toTileId,
+      int value) {
+    PackedGameEventListener[] listeners = packedListeners;
+    if (listeners.length == 0) {
+      return;
+    }
+    long event = PackedGameEvent.pack(kind, playerIndex, fromTileId, toTileId, value);
+    for (PackedGameEventListener listener : listeners) {
+      listener.onEvent(event);
+    }
+  }
+
+  /**
+   * Returns the id of a tile which may be missing.
+   *
+   * @param tile the tile, or null
+   * @return the id of the tile, or {@link PackedGameEvent#NONE} if it is null
+   */
+  private static int tileId(Tile tile) {
+    return tile == null ? PackedGameEvent.NONE : tile.getTileId();
+  }
+
+  /**
+   * Looks up a tile of a snapshot.
+   *
+   * @param board  the board
+   * @param tileId the ID of the tile, or {@link PackedGameEvent#NONE}
+   * @return the tile, or null if the ID is {@link PackedGameEvent#NONE}
+   * @throws IllegalArgumentException if the tile is not on the board
+   */
+  private static Tile tile(Board board, int tileId) {
+    if (tileId == PackedGameEvent.NONE) {
+      return null;
+    }
+    Tile tile = board.getTile(tileId);
+    if (tile == null) {
+      throw new IllegalArgumentException("Tile with ID " + tileId + " doesn't exist");
+    }
+    return tile;
+  }
+
   /**
    * Checks if a question is currently being asked.
    *
@@ -322,6 +775,16 @@ public class GameEngine extends Observable<GameEngine, GameEvent> {
     return currentQuestion != null;
   }
 
+  /**
+   * Returns the question the current player is being asked.
+   *
+   * @return the question, or an empty optional if no question is being asked
+   * @since v3.1.0
+   */
+  public Optional<Question> getCurrentQuestion() {
+    return Optional.ofNullable(currentQuestion);
+  }
+
   /**
    * Gets the current player whose turn it is.
    *
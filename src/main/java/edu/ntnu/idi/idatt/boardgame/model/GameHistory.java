@@ -0,0 +1,156 @@
+package edu.ntnu.idi.idatt.boardgame.model;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import lombok.Getter;
+
+/**
+ * The undo and redo history of the turns of a {@link GameEngine}.
+ * <p>
+ * The engine takes a {@link GameSnapshot} before every roll of the dice while its history has a
+ * capacity, and the history keeps the snapshots of the last turns up to its capacity. A snapshot
+ * holds the state of each player in a few ints and shares the questions with the snapshots before
+ * it. A turn which asked a question also saves the state of its deck, which shares the order of
+ * the deck in chunks of 1024 questions with earlier states, so it costs one reference per 1024
+ * questions of the deck and a copy of the at most two chunks changed by the draw. A turn thereby
+ * costs memory in proportion to the number of players, plus about 10 KiB when drawing from a deck
+ * of 100 000 questions. The history has no capacity by default, so a game nobody undoes takes no
+ * snapshots at all.
+ * </p>
+ * <p>
+ * Undoing and redoing a turn restores the state of the game and notifies the observers of the
+ * engine of every player moving back or forth, and of whose turn it is, so the views of the game
+ * show the move. Since the state of the dice is restored as well, rolling again after undoing a
+ * turn rolls the same values as before. A game journal recording the game records the moves of
+ * undoing and redoing as well, which its replay does not support, so a game in which turns were
+ * undone or redone can not be replayed.
+ * </p>
+ *
+ * @see GameEngine#getHistory()
+ * @see edu.ntnu.idi.idatt.boardgame.model.journal.GameJournal
+ * @see GameSnapshot
+ * @since v3.1.0
+ */
+public class GameHistory {
+
+  private final GameEngine engine;
+  /// The snapshots of the turns which may be undone, with the latest turn last
+  private final Deque<GameSnapshot> undoSnapshots = new ArrayDeque<>();
+  /// The snapshots of the turns which may be redone, with the next turn last
+  private final Deque<GameSnapshot> redoSnapshots = new ArrayDeque<>();
+  /// The number of turns kept, where 0 disables the history
+  @Getter
+  private int capacity;
+
+  /**
+   * Constructs an empty history without capacity.
+   *
+   * @param engine the engine whose turns are kept
+   */
+  GameHistory(GameEngine engine) {
+    this.engine = engine;
+  }
+
+  /**
+   * Sets the number of turns kept, forgetting the oldest turns beyond it.
+   *
+   * @param capacity the number of turns, or 0 to keep none
+   * @throws IllegalArgumentException if the capacity is negative
+   */
+  public void setCapacity(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Capacity must not be negative");
+    }
+    this.capacity = capacity;
+    while (undoSnapshots.size() > capacity) {
+      undoSnapshots.removeFirst();
+    }
+    while (redoSnapshots.size() > capacity) {
+      redoSnapshots.removeFirst();
+    }
+  }
+
+  /**
+   * Returns whether a turn can be undone, which it cannot while a question is being asked.
+   *
+   * @return true if there is a turn to undo
+   */
+  public boolean canUndo() {
+    return !undoSnapshots.isEmpty() && !engine.isQuestionBeingAsked();
+  }
+
+  /**
+   * Returns whether an undone turn can be redone, which it cannot while a question is being asked.
+   *
+   * @return true if there is a turn to redo
+   */
+  public boolean canRedo() {
+    return !redoSnapshots.isEmpty() && !engine.isQuestionBeingAsked();
+  }
+
+  /**
+   * Returns the number of turns which can be undone.
+   *
+   * @return the number of turns
+   */
+  public int getUndoCount() {
+    return undoSnapshots.size();
+  }
+
+  /**
+   * Returns the number of undone turns which can be redone.
+   *
+   * @return the number of turns
+   */
+  public int getRedoCount() {
+    return redoSnapshots.size();
+  }
+
+  /**
+   * Undoes the latest turn, returning the game to the state before its roll.
+   *
+   * @throws IllegalStateException if there is no turn to undo
+   */
+  public void undo() {
+    if (!canUndo()) {
+      throw new IllegalStateException("There is no turn to undo");
+    }
+    redoSnapshots.addLast(engine.snapshot());
+    engine.restore(undoSnapshots.removeLast(), true);
+  }
+
+  /**
+   * Redoes the latest undone turn, returning the game to the state before it was undone.
+   *
+   * @throws IllegalStateException if there is no turn to redo
+   */
+  public void redo() {
+    if (!canRedo()) {
+      throw new IllegalStateException("There is no turn to redo");
+    }
+    undoSnapshots.addLast(engine.snapshot());
+    engine.restore(redoSnapshots.removeLast(), true);
+  }
+
+  /**
+   * Forgets every turn.
+   */
+  public void clear() {
+    undoSnapshots.clear();
+    redoSnapshots.clear();
+  }
+
+  /**
+   * Records the state before a turn, forgetting the undone turns, which can no longer be redone.
+   */
+  void record() {
+    if (capacity == 0) {
+      return;
+    }
+    if (undoSnapshots.size() == capacity) {
+      undoSnapshots.removeFirst();
+    }
+    undoSnapshots.addLast(engine.snapshot());
+    redoSnapshots.clear();
+  }
+}
@@ -0,0 +1,139 @@
+package edu.ntnu.idi.idatt.boardgame.model;
+
+import edu.ntnu.idi.idatt.boardgame.model.entities.Question;
+import edu.ntnu.idi.idatt.boardgame.model.entities.QuestionCategory;
+import edu.ntnu.idi.idatt.boardgame.model.entities.QuestionDeck;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An immutable snapshot of the state of a {@link GameEngine}, taken with
+ * {@link GameEngine#snapshot()} and restored with {@link GameEngine#restore(GameSnapshot)}.
+ * <p>
+ * The snapshot refers to tiles by their ID and to the current question by reference, so taking one
+ * copies neither the board nor the questions. The state of each player is stored as
+ * {@link #PLAYER_FIELDS} ints: the ID of their tile, or -1 if they are on no tile, the number of
+ * turns they remain frozen and the number of turns they remain immune. The state of the question
+ * decks is only copied when they have been drawn from since the last snapshot, so a snapshot
+ * usually costs a few small allocations and can be taken every turn.
+ * </p>
+ *
+ * @param gameStarted        whether the game has started
+ * @param gameEnded          whether the game has ended
+ * @param currentPlayerIndex the index of the player whose turn it is
+ * @param roundCount         the current round
+ * @param diceState          the state of the dice roller
+ * @param playerStates       the state of each player in turn order
+ * @param currentQuestion    the question being asked, or null
+ * @param checkpointTileId   the tile the current player returns to on a wrong answer, or -1
+ * @param decks              the state of the question deck of each category dealt from
+ * @see GameEngine
+ * @since v3.1.0
+ */
+public record GameSnapshot(
+    boolean gameStarted,
+    boolean gameEnded,
+    int currentPlayerIndex,
+    int roundCount,
+    long diceState,
+    int[] playerStates,
+    Question currentQuestion,
+    int checkpointTileId,
+    Map<QuestionCategory, QuestionDeck.State> decks
+) {
+
+  /// The number of ints holding the state of each player
+  public static final int PLAYER_FIELDS = 3;
+
+  /**
+   * Constructs a snapshot, copying the player states and decks.
+   *
+   * @throws IllegalArgumentException if the player states are not a whole number of players
+   */
+  public GameSnapshot {
+    if (playerStates.length % PLAYER_FIELDS != 0) {
+      throw new IllegalArgumentException("Player states must have " + PLAYER_FIELDS
+          + " fields per player");
+    }
+    playerStates = playerStates.clone();
+    decks = Map.copyOf(decks);
+  }
+
+  /**
+   * Returns a copy of the state of each player in turn order.
+   *
+   * @return the player states
+   */
+  @Override
+  public int[] playerStates() {
+    return playerStates.clone();
+  }
+
+  /**
+   * Returns the number of players.
+   *
+   * @return the number of players
+   */
+  public int playerCount() {
+    return playerStates.length / PLAYER_FIELDS;
+  }
+
+  /**
+   * Returns the ID of the tile a player is on.
+   *
+   * @param player the index of the player in turn order
+   * @return the tile ID, or -1 if the player is on no tile
+   */
+  public int playerTileId(int player) {
+    return playerStates[player * PLAYER_FIELDS];
+  }
+
+  /**
+   * Returns the number of turns a player remains frozen.
+   *
+   * @param player the index of the player in turn order
+   * @return the number of frozen turns
+   */
+  public int playerFrozenTurns(int player) {
+    return playerStates[player * PLAYER_FIELDS + 1];
+  }
+
+  /**
+   * Returns the number of turns a player remains immune.
+   *
+   * @param player the index of the player in turn order
+   * @return the number of immune turns
+   */
+  public int playerImmunityTurns(int player) {
+    return playerStates[player * PLAYER_FIELDS + 2];
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof GameSnapshot other)) {
+      return false;
+    }
+    return gameStarted == other.gameStarted && gameEnded == other.gameEnded
+        && currentPlayerIndex == other.currentPlayerIndex && roundCount == other.roundCount
+        && diceState == other.diceState && Arrays.equals(playerStates, other.playerStates)
+        && currentQuestion == other.currentQuestion
+        && checkpointTileId == other.checkpointTileId && decks.equals(other.decks);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(gameStarted, gameEnded, currentPlayerIndex, roundCount, diceState,
+        Arrays.hashCode(playerStates), System.identityHashCode(currentQuestion),
+        checkpointTileId, decks);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("GameSnapshot{round=%d, currentPlayer=%d, players=%s, question=%s}",
+        roundCount, currentPlayerIndex, Arrays.toString(playerStates), currentQuestion != null);
+  }
+}
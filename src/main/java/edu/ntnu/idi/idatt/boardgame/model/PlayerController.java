@@ -0,0 +1,62 @@
+package edu.ntnu.idi.idatt.boardgame.model;
+
+import edu.ntnu.idi.idatt.boardgame.model.entities.Player;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Question;
+
+/**
+ * Decides the moves of a player of a {@link GameEngine}.
+ * <p>
+ * The engine prompts the controller of the current player whenever the player is to roll the dice
+ * or to answer a question, once the engine has finished the action before. The controller is
+ * prompted on the thread driving the engine and must not act on the engine before returning, but
+ * act later on the same thread, by calling {@link GameEngine#rollDiceAndMoveCurrentPlayer()} or
+ * {@link GameEngine#answerQuestion(String)}, so a game between controllers does not grow the call
+ * stack with every turn.
+ * </p>
+ * <p>
+ * Players are controlled by {@link #HUMAN} unless given another controller, which leaves their
+ * moves to the people at the table using the views of the game.
+ * </p>
+ *
+ * @see GameEngine#setController(Player, PlayerController)
+ * @see edu.ntnu.idi.idatt.boardgame.model.bot.BotController
+ * @since v3.1.0
+ */
+public interface PlayerController {
+
+  /// Leaves the moves of the player to the views of the game
+  PlayerController HUMAN = new PlayerController() {
+    @Override
+    public boolean isHuman() {
+      return true;
+    }
+  };
+
+  /**
+   * Returns whether the player is played by a person through the views of the game.
+   *
+   * @return true if the views should let the player roll the dice and answer questions
+   */
+  default boolean isHuman() {
+    return false;
+  }
+
+  /**
+   * Prompts the controller to roll the dice for the player.
+   *
+   * @param engine the engine
+   * @param player the player whose turn it is
+   */
+  default void onTurn(GameEngine engine, Player player) {
+  }
+
+  /**
+   * Prompts the controller to answer the question the player is being asked.
+   *
+   * @param engine   the engine
+   * @param player   the player whose turn it is
+   * @param question the question
+   */
+  default void onQuestion(GameEngine engine, Player player, Question question) {
+  }
+}
@@ -25,6 +25,22 @@ public class QuizTileAction implements TileAction {
   @Getter
   private QuestionCategory category;
 
+  /**
+   * Constructs a quiz action without a category.
+   */
+  public QuizTileAction() {
+  }
+
+  /**
+   * Constructs a quiz action asking questions from the given category.
+   *
+   * @param category the question category
+   * @since v3.1.0
+   */
+  public QuizTileAction(QuestionCategory category) {
+    this.category = category;
+  }
+
   /**
    * Performs the action on the specified player.
    *
@@ -0,0 +1,292 @@
+package edu.ntnu.idi.idatt.boardgame.model.bot;
+
+import edu.ntnu.idi.idatt.boardgame.model.GameEngine;
+import edu.ntnu.idi.idatt.boardgame.model.GameSnapshot;
+import edu.ntnu.idi.idatt.boardgame.model.PlayerController;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Player;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Question;
+import edu.ntnu.idi.idatt.boardgame.model.simulation.GameSimulator;
+import edu.ntnu.idi.idatt.boardgame.model.simulation.QuizAnswerPolicy;
+import edu.ntnu.idi.idatt.boardgame.model.simulation.RolloutEvaluator;
+import edu.ntnu.idi.idatt.boardgame.model.simulation.RolloutResult;
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * A computer opponent, controlling a player of a {@link GameEngine}.
+ * <p>
+ * The bot rolls the dice as soon as it is its turn. When it is asked a question, its
+ * {@link SkillModel} decides whether it knows the answer, and it otherwise guesses. The bot then
+ * weighs the answers by the chances of winning after a correct and a wrong answer, which a
+ * {@link RolloutEvaluator} estimates by playing thousands of games on from each outcome within the
+ * time budget of the bot, and gives the answer with the best expected chances. An answer the bot
+ * believes less likely to be correct is only preferred if it is better by more than the
+ * uncertainty of the estimates.
+ * </p>
+ * <p>
+ * The rollouts are played on the pool of the evaluator, so the thread driving the engine is never
+ * blocked. Every move is made through the engine executor of the bot, such as
+ * {@code Platform::runLater} for a game shown in the JavaFX views, which must run the moves on the
+ * thread driving the engine and must not run them before returning. A move is dropped if the game
+ * has changed since the bot was prompted, for instance because a turn was undone.
+ * </p>
+ *
+ * @see PlayerController
+ * @see SkillModel
+ * @since v3.1.0
+ */
+public class BotController implements PlayerController {
+
+  /// The time spent evaluating a move unless given another budget
+  public static final Duration DEFAULT_TIME_BUDGET = Duration.ofMillis(50);
+
+  private static final Logger logger = Logger.getLogger(BotController.class.getName());
+
+  @Getter
+  private final SkillModel skill;
+  @Getter
+  private final Duration timeBudget;
+  private final RolloutEvaluator evaluator;
+  private final Executor engineExecutor;
+  /// Only used on the thread driving the engine
+  private final RandomGenerator random;
+
+  /**
+   * Private constructor used by the Builder.
+   *
+   * @param builder the builder with configuration
+   */
+  private BotController(Builder builder) {
+    this.skill = builder.skill;
+    this.timeBudget = builder.timeBudget;
+    this.engineExecutor = builder.engineExecutor;
+    this.random = new SplittableRandom(builder.seed);
+    GameSimulator template = new GameSimulator.Builder(builder.engine.getGame())
+        .playerCount(builder.engine.getPlayers().size())
+        .quizAnswerPolicy(QuizAnswerPolicy.correctWithProbability(builder.rolloutAccuracy))
+        .seed(builder.seed)
+        .build();
+    this.evaluator = new RolloutEvaluator(template, builder.pool);
+  }
+
+  /**
+   * Rolls the dice for the player.
+   *
+   * @param engine the engine
+   * @param player the player whose turn it is
+   */
+  @Override
+  public void onTurn(GameEngine engine, Player player) {
+    GameSnapshot snapshot = engine.snapshot();
+    engineExecutor.execute(() -> {
+      if (isUnchanged(engine, snapshot)) {
+        engine.rollDiceAndMoveCurrentPlayer();
+      }
+    });
+  }
+
+  /**
+   * Evaluates the answers to a question and gives the best one.
+   *
+   * @param engine   the engine
+   * @param player   the player whose turn it is
+   * @param question the question
+   */
+  @Override
+  public void onQuestion(GameEngine engine, Player player, Question question) {
+    GameSnapshot snapshot = engine.snapshot();
+    List<String> answers = question.getAnswers();
+    int correctIndex = answers.indexOf(question.getCorrectAnswer());
+    boolean knows = correctIndex >= 0 && random.nextDouble() < skill.probabilityOfKnowing(question);
+    int guess = answers.isEmpty() ? -1 : random.nextInt(answers.size());
+    int believed = knows ? correctIndex : guess;
+
+    CompletableFuture.supplyAsync(() -> outcomes(engine, snapshot, question), evaluator.getPool())
+        .thenCompose(outcomes -> evaluator.evaluate(outcomes, snapshot.currentPlayerIndex(),
+            timeBudget))
+        .thenApply(result -> choose(answers.size(), correctIndex, knows, believed, result))
+        .exceptionally(e -> {
+          logger.log(Level.WARNING, "Failed to evaluate the answers, answering without", e);
+          return believed;
+        })
+        .thenAccept(choice -> engineExecutor.execute(() -> {
+          if (isUnchanged(engine, snapshot)) {
+            engine.answerQuestion(choice < 0 ? "" : answers.get(choice));
+          }
+        }));
+  }
+
+  /**
+   * Returns the states following a correct and a wrong answer to the question being asked, or only
+   * one state if the answer makes no difference.
+   *
+   * @param engine   the engine
+   * @param snapshot the state while the question is asked
+   * @param question the question
+   * @return the state after a correct answer, followed by the state after a wrong answer if
+   *     different
+   */
+  private static List<GameSnapshot> outcomes(GameEngine engine, GameSnapshot snapshot,
+      Question question) {
+    String correctAnswer = question.getCorrectAnswer();
+    String wrongAnswer = question.getAnswers().stream()
+        .filter(answer -> !answer.equals(correctAnswer))
+        .findFirst()
+        .orElse("");
+
+    GameEngine branch = engine.branch(snapshot);
+    branch.answerQuestion(correctAnswer);
+    GameSnapshot ifCorrect = branch.snapshot();
+    branch.restore(snapshot);
+    branch.answerQuestion(wrongAnswer);
+    GameSnapshot ifWrong = branch.snapshot();
+    return ifCorrect.equals(ifWrong) ? List.of(ifCorrect) : List.of(ifCorrect, ifWrong);
+  }
+
+  /**
+   * Chooses the answer with the best expected chances of winning, keeping the answer believed most
+   * likely to be correct unless another is better by more than the uncertainty of the estimates.
+   *
+   * @param answerCount  the number of answers
+   * @param correctIndex the index of the correct answer
+   * @param knows        whether the bot knows the correct answer
+   * @param believed     the index of the answer believed most likely to be correct
+   * @param result       the chances after a correct answer, followed by those after a wrong answer
+   * @return the index of the answer, or -1 if there are no answers
+   */
+  private static int choose(int answerCount, int correctIndex, boolean knows, int believed,
+      RolloutResult result) {
+    if (believed < 0) {
+      return -1;
+    }
+    int wrong = result.getOptionCount() - 1;
+    double ifCorrect = result.getWinRate(0);
+    double ifWrong = result.getWinRate(wrong);
+    double margin = 2 * Math.hypot(result.getStandardError(0), result.getStandardError(wrong));
+
+    double[] values = new double[answerCount];
+    for (int answer = 0; answer < answerCount; answer++) {
+      double belief = knows ? (answer == correctIndex ? 1.0 : 0.0) : 1.0 / answerCount;
+      values[answer] = belief * ifCorrect + (1.0 - belief) * ifWrong;
+    }
+    int best = believed;
+    for (int answer = 0; answer < answerCount; answer++) {
+      if (values[answer] > values[best] + margin) {
+        best = answer;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Returns whether a game is still in the state the bot was prompted in.
+   *
+   * @param engine   the engine
+   * @param snapshot the state when the bot was prompted
+   * @return true if the bot may make its move
+   */
+  private static boolean isUnchanged(GameEngine engine, GameSnapshot snapshot) {
+    return snapshot.equals(engine.snapshot());
+  }
+
+  /**
+   * Builder class for constructing BotController objects.
+   */
+  public static class Builder {
+
+    private final GameEngine engine;
+    private final Executor engineExecutor;
+    private SkillModel skill = SkillModel.withSkill(0.5);
+    private Duration timeBudget = DEFAULT_TIME_BUDGET;
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private double rolloutAccuracy = 0.5;
+    private long seed = new SplittableRandom().nextLong();
+
+    /**
+     * Constructor with the required engine and executor.
+     *
+     * @param engine         the engine of the game the bot plays (required)
+     * @param engineExecutor runs the moves of the bot on the thread driving the engine, after the
+     *                       calling task has returned (required)
+     */
+    public Builder(@NonNull GameEngine engine, @NonNull Executor engineExecutor) {
+      this.engine = engine;
+      this.engineExecutor = engineExecutor;
+    }
+
+    /**
+     * Sets how likely the bot is to know the answers to questions.
+     *
+     * @param skill the skill model, defaults to a skill of 0.5
+     * @return this builder for method chaining
+     */
+    public Builder skill(@NonNull SkillModel skill) {
+      this.skill = skill;
+      return this;
+    }
+
+    /**
+     * Sets the time spent evaluating a move.
+     *
+     * @param timeBudget the time budget, defaults to {@link #DEFAULT_TIME_BUDGET}
+     * @return this builder for method chaining
+     */
+    public Builder timeBudget(@NonNull Duration timeBudget) {
+      this.timeBudget = timeBudget;
+      return this;
+    }
+
+    /**
+     * Sets the pool the rollouts are played on.
+     *
+     * @param pool the pool, defaults to the common fork/join pool
+     * @return this builder for method chaining
+     */
+    public Builder pool(@NonNull ForkJoinPool pool) {
+      this.pool = pool;
+      return this;
+    }
+
+    /**
+     * Sets how often the players answer questions correctly in the rollouts.
+     *
+     * @param rolloutAccuracy the probability of a correct answer (0.0 - 1.0), defaults to 0.5
+     * @return this builder for method chaining
+     */
+    public Builder rolloutAccuracy(double rolloutAccuracy) {
+      this.rolloutAccuracy = rolloutAccuracy;
+      return this;
+    }
+
+    /**
+     * Seeds the random choices and rollouts of the bot.
+     *
+     * @param seed the seed
+     * @return this builder for method chaining
+     */
+    public Builder seed(long seed) {
+      this.seed = seed;
+      return this;
+    }
+
+    /**
+     * Builds and returns a new BotController instance with the configured properties.
+     *
+     * @return a new BotController instance
+     * @throws IllegalArgumentException if the rollout accuracy is outside the range 0.0 - 1.0 or
+     *                                  the board cannot be compiled for the rollouts
+     */
+    public BotController build() {
+      return new BotController(this);
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package edu.ntnu.idi.idatt.boardgame.model.bot;
+
+import edu.ntnu.idi.idatt.boardgame.model.entities.Question;
+
+/**
+ * Models how likely a computer opponent is to know the answer to a question.
+ * <p>
+ * A {@link BotController} which does not know the answer guesses among the possible answers, so
+ * the chance of a correct answer is somewhat higher than the chance of knowing it.
+ * </p>
+ *
+ * @see BotController
+ * @since v3.1.0
+ */
+@FunctionalInterface
+public interface SkillModel {
+
+  /**
+   * Returns the probability of knowing the answer to a question.
+   *
+   * @param question the question
+   * @return the probability between 0.0 and 1.0
+   */
+  double probabilityOfKnowing(Question question);
+
+  /**
+   * Returns a model where every level of difficulty is a further test of the skill, so a question
+   * of difficulty {@code d} is known with probability {@code skill^d}. A bot of skill 0.8 knows 80%
+   * of the easiest questions and about half of those of difficulty 3.
+   *
+   * @param skill the probability of knowing the answer to a question of difficulty 1
+   * @return the model
+   * @throws IllegalArgumentException if the skill is outside the range 0.0 - 1.0
+   */
+  static SkillModel withSkill(double skill) {
+    if (skill < 0.0 || skill > 1.0) {
+      throw new IllegalArgumentException("Skill must be between 0.0 and 1.0");
+    }
+    return question -> Math.pow(skill, question.getDifficulty());
+  }
+}
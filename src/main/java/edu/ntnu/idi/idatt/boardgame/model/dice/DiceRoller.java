@@ -0,0 +1,90 @@
+package edu.ntnu.idi.idatt.boardgame.model.dice;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Source of all randomness in a game, from dice rolls to picking quiz questions.
+ * <p>
+ * Implementations fill a caller owned {@code int[]} with the rolled values, so a game can reuse
+ * the same array for every turn instead of allocating a new list of dice. Every roller is backed by
+ * a seed, which can be recorded to replay a game with the exact same rolls.
+ * </p>
+ *
+ * @see SeededDiceRoller
+ * @see edu.ntnu.idi.idatt.boardgame.model.GameEngine
+ * @since v3.1.0
+ */
+public interface DiceRoller {
+
+  /**
+   * The number of sides on each die.
+   */
+  int SIDES = 6;
+
+  /**
+   * Rolls one die for every element of the given array and stores the values in it.
+   *
+   * @param dice the array to fill, its length is the number of dice to roll
+   * @return the sum of all rolled dice
+   */
+  int roll(int[] dice);
+
+  /**
+   * Returns the random generator backing this roller, used for other random choices in the same
+   * game so that they are reproduced by the same seed.
+   *
+   * @return the random generator
+   */
+  RandomGenerator getRandom();
+
+  /**
+   * Returns the seed this roller was created with.
+   *
+   * @return the seed
+   */
+  long getSeed();
+
+  /**
+   * Returns the current state of the random generator, from which {@link #setState(long)}
+   * continues the same sequence of random values.
+   *
+   * @return the state
+   * @throws UnsupportedOperationException if the roller cannot save its state
+   * @since v3.1.0
+   */
+  default long getState() {
+    throw new UnsupportedOperationException(getClass().getSimpleName() + " has no state to save");
+  }
+
+  /**
+   * Restores a state returned by {@link #getState()}, so the following random values are the same
+   * as those following the moment the state was saved.
+   *
+   * @param state the state
+   * @throws UnsupportedOperationException if the roller cannot restore its state
+   * @since v3.1.0
+   */
+  default void setState(long state) {
+    throw new UnsupportedOperationException(
+        getClass().getSimpleName() + " has no state to restore");
+  }
+
+  /**
+   * Creates a roller with the given seed.
+   *
+   * @param seed the seed
+   * @return a new roller
+   */
+  static DiceRoller seeded(long seed) {
+    return new SeededDiceRoller(seed);
+  }
+
+  /**
+   * Creates a roller with a randomly chosen seed.
+   *
+   * @return a new roller
+   */
+  static DiceRoller random() {
+    return new SeededDiceRoller();
+  }
+}
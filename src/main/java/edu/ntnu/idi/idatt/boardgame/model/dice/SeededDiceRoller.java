@@ -0,0 +1,81 @@
+package edu.ntnu.idi.idatt.boardgame.model.dice;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import lombok.Getter;
+
+/**
+ * A {@link DiceRoller} backed by a seeded SplitMix64 generator, producing the same values as a
+ * {@link java.util.SplittableRandom} with the same seed.
+ * <p>
+ * Two rollers created with the same seed produce the same sequence of rolls. The state of the
+ * generator is a single {@code long}, so it can be saved and restored with every snapshot of a
+ * game. A roller is meant to be owned by a single game and is not thread-safe.
+ * </p>
+ *
+ * @see DiceRoller
+ * @since v3.1.0
+ */
+public class SeededDiceRoller implements DiceRoller {
+
+  @Getter
+  private final long seed;
+  private final SplitMixRandom random;
+
+  /**
+   * Constructs a roller with the given seed.
+   *
+   * @param seed the seed
+   */
+  public SeededDiceRoller(long seed) {
+    this.seed = seed;
+    this.random = new SplitMixRandom(seed);
+  }
+
+  /**
+   * Constructs a roller with a randomly chosen seed.
+   */
+  public SeededDiceRoller() {
+    this(ThreadLocalRandom.current().nextLong());
+  }
+
+  /**
+   * Rolls one die for every element of the given array and stores the values in it.
+   *
+   * @param dice the array to fill, its length is the number of dice to roll
+   * @return the sum of all rolled dice
+   * @throws IllegalArgumentException if the array is null
+   */
+  @Override
+  public int roll(int[] dice) {
+    if (dice == null) {
+      throw new IllegalArgumentException("Dice array cannot be null");
+    }
+    int sum = 0;
+    for (int i = 0; i < dice.length; i++) {
+      dice[i] = random.nextInt(SIDES) + 1;
+      sum += dice[i];
+    }
+    return sum;
+  }
+
+  @Override
+  public RandomGenerator getRandom() {
+    return random;
+  }
+
+  @Override
+  public long getState() {
+    return random.getState();
+  }
+
+  @Override
+  public void setState(long state) {
+    random.setState(state);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("SeededDiceRoller{seed=%d}", seed);
+  }
+}
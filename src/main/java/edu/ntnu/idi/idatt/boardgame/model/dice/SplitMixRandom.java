@@ -0,0 +1,65 @@
+package edu.ntnu.idi.idatt.boardgame.model.dice;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The SplitMix64 generator of {@link java.util.SplittableRandom}, with its state in a single
+ * {@code long} which can be read and restored.
+ * <p>
+ * A generator created with a seed produces the same values as a {@code SplittableRandom} created
+ * with the same seed, so games recorded with either replay the same way. Unlike
+ * {@code SplittableRandom}, the state of the generator can be saved with {@link #getState()} and
+ * restored with {@link #setState(long)} to continue the same sequence from that point.
+ * </p>
+ *
+ * @see SeededDiceRoller
+ * @since v3.1.0
+ */
+final class SplitMixRandom implements RandomGenerator {
+
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+  private long state;
+
+  /**
+   * Constructs a generator with the given seed.
+   *
+   * @param seed the seed
+   */
+  SplitMixRandom(long seed) {
+    this.state = seed;
+  }
+
+  /**
+   * Returns the state of the generator.
+   *
+   * @return the state
+   */
+  long getState() {
+    return state;
+  }
+
+  /**
+   * Sets the state of the generator, continuing the sequence it had when the state was read.
+   *
+   * @param state the state
+   */
+  void setState(long state) {
+    this.state = state;
+  }
+
+  @Override
+  public long nextLong() {
+    long z = state += GOLDEN_GAMMA;
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+
+  @Override
+  public int nextInt() {
+    long z = state += GOLDEN_GAMMA;
+    z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+    return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+  }
+}
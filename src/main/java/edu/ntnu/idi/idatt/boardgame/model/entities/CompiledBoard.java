@@ -0,0 +1,324 @@
+package edu.ntnu.idi.idatt.boardgame.model.entities;
+
+import edu.ntnu.idi.idatt.boardgame.model.actions.TileAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.freeze.FreezeAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.goal.GoalTileAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.immunity.ImmunityAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.ladder.LadderAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.quiz.QuizTileAction;
+import java.util.Arrays;
+import lombok.Getter;
+
+/**
+ * An immutable, array based snapshot of a {@link Board} for simulations and lookahead.
+ * <p>
+ * Every tile is addressed by its tile ID, which is used as the index into primitive arrays holding
+ * the next and previous tile, the kind of action on the tile and the ladder destination. The
+ * {@link Tile} object graph is left untouched and can still be used by the UI.
+ * </p>
+ * <p>
+ * The next links are laid out as tracks in a single array, so moving a number of steps forward is
+ * resolved in constant time by an index lookup instead of following one link per step. This
+ * requires that no two tiles point to the same next tile and that the links do not form a cycle.
+ * </p>
+ *
+ * @see Board
+ * @since v3.1.0
+ */
+public final class CompiledBoard {
+
+  /// No action on the tile
+  public static final byte NONE = 0;
+  /// {@link LadderAction}
+  public static final byte LADDER = 1;
+  /// {@link FreezeAction}
+  public static final byte FREEZE = 2;
+  /// {@link ImmunityAction}
+  public static final byte IMMUNITY = 3;
+  /// {@link QuizTileAction}
+  public static final byte QUIZ = 4;
+  /// {@link GoalTileAction}
+  public static final byte GOAL = 5;
+  /// Any other action, which compiled boards cannot simulate
+  public static final byte UNKNOWN = 6;
+
+  @Getter
+  private final int tileCount;
+  private final boolean[] present;
+  private final int[] next;
+  private final int[] prev;
+  private final byte[] actionKind;
+  private final int[] ladderDestination;
+  private final QuestionCategory[] quizCategory;
+
+  /// Tile IDs ordered track by track along their next links
+  private final int[] order;
+  /// The index of each tile in {@link #order}
+  private final int[] position;
+  /// The index in {@link #order} of the last tile on each tile's track
+  private final int[] trackEnd;
+
+  /**
+   * Private constructor used by {@link #compile(Board)}.
+   *
+   * @param tileCount the number of tile IDs, one more than the highest tile ID
+   */
+  private CompiledBoard(int tileCount) {
+    this.tileCount = tileCount;
+    this.present = new boolean[tileCount];
+    this.next = new int[tileCount];
+    this.prev = new int[tileCount];
+    this.actionKind = new byte[tileCount];
+    this.ladderDestination = new int[tileCount];
+    this.quizCategory = new QuestionCategory[tileCount];
+    this.order = new int[tileCount];
+    this.position = new int[tileCount];
+    this.trackEnd = new int[tileCount];
+    Arrays.fill(next, -1);
+    Arrays.fill(prev, -1);
+    Arrays.fill(ladderDestination, -1);
+    Arrays.fill(position, -1);
+  }
+
+  /**
+   * Compiles a board with resolved tile references into its array representation.
+   *
+   * @param board the board to compile
+   * @return the compiled board
+   * @throws IllegalArgumentException if a tile ID is negative, a ladder points to a missing tile or
+   *                                  the next links branch or form a cycle
+   */
+  public static CompiledBoard compile(Board board) {
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null");
+    }
+    if (board instanceof MappedBoard mappedBoard && !mappedBoard.isMaterialized()) {
+      return compileTables(mappedBoard);
+    }
+    int maxTileId = -1;
+    for (int tileId : board.getTiles().keySet()) {
+      if (tileId < 0) {
+        throw new IllegalArgumentException("Tile IDs cannot be negative, got: " + tileId);
+      }
+      maxTileId = Math.max(maxTileId, tileId);
+    }
+    CompiledBoard compiled = new CompiledBoard(maxTileId + 1);
+
+    for (Tile tile : board.getTiles().values()) {
+      int id = tile.getTileId();
+      compiled.present[id] = true;
+      tile.getNextTile().ifPresent(nextTile -> compiled.next[id] = nextTile.getTileId());
+      tile.getPreviousTile().ifPresent(previous -> compiled.prev[id] = previous.getTileId());
+      compiled.actionKind[id] = tile.getAction().map(action -> compiled.compileAction(id, action))
+          .orElse(NONE);
+    }
+    compiled.layoutTracks();
+    return compiled;
+  }
+
+  /**
+   * Compiles a mapped board directly from its tables, without creating its tiles.
+   *
+   * @param board the board to compile
+   * @return the compiled board
+   * @throws IllegalArgumentException if a tile ID is negative, a ladder points to a missing tile or
+   *                                  the next links branch or form a cycle
+   */
+  private static CompiledBoard compileTables(MappedBoard board) {
+    int maxTileId = -1;
+    for (int index = 0; index < board.getTileCount(); index++) {
+      int tileId = board.getTileId(index);
+      if (tileId < 0) {
+        throw new IllegalArgumentException("Tile IDs cannot be negative, got: " + tileId);
+      }
+      maxTileId = Math.max(maxTileId, tileId);
+    }
+    CompiledBoard compiled = new CompiledBoard(maxTileId + 1);
+    for (int index = 0; index < board.getTileCount(); index++) {
+      compiled.present[board.getTileId(index)] = true;
+    }
+
+    for (int index = 0; index < board.getTileCount(); index++) {
+      int id = board.getTileId(index);
+      // links to missing tiles are dropped, the same way resolving tile references does
+      if (compiled.contains(board.getNextTileId(index))) {
+        compiled.next[id] = board.getNextTileId(index);
+      }
+      if (compiled.contains(board.getPreviousTileId(index))) {
+        compiled.prev[id] = board.getPreviousTileId(index);
+      }
+      byte kind = board.getActionKind(index);
+      switch (kind) {
+        case NONE, FREEZE, IMMUNITY, GOAL -> compiled.actionKind[id] = kind;
+        case LADDER -> {
+          int destination = board.getActionArgument(index);
+          if (!compiled.contains(destination)) {
+            throw new IllegalArgumentException(
+                "Ladder on tile " + id + " points to missing tile " + destination);
+          }
+          compiled.ladderDestination[id] = destination;
+          compiled.actionKind[id] = LADDER;
+        }
+        case QUIZ -> {
+          compiled.quizCategory[id] = board.getQuizCategory(index);
+          compiled.actionKind[id] = QUIZ;
+        }
+        default -> compiled.actionKind[id] = UNKNOWN;
+      }
+    }
+    compiled.layoutTracks();
+    return compiled;
+  }
+
+  /**
+   * Stores the data of a tile action and returns its kind.
+   *
+   * @param tileId the ID of the tile the action is on
+   * @param action the action
+   * @return the action kind
+   */
+  private byte compileAction(int tileId, TileAction action) {
+    return switch (action) {
+      case LadderAction ladderAction -> {
+        int destination = ladderAction.getDestinationTileId();
+        if (ladderAction.getDestinationTile() == null || destination < 0
+            || destination >= tileCount) {
+          throw new IllegalArgumentException(
+              "Ladder on tile " + tileId + " points to missing tile " + destination);
+        }
+        ladderDestination[tileId] = destination;
+        yield LADDER;
+      }
+      case FreezeAction freezeAction -> FREEZE;
+      case ImmunityAction immunityAction -> IMMUNITY;
+      case QuizTileAction quizAction -> {
+        quizCategory[tileId] = quizAction.getCategory();
+        yield QUIZ;
+      }
+      case GoalTileAction goalAction -> GOAL;
+      default -> UNKNOWN;
+    };
+  }
+
+  /**
+   * Lays out the tiles track by track in {@link #order}, starting a new track at every tile that
+   * no other tile points to.
+   *
+   * @throws IllegalArgumentException if the next links branch or form a cycle
+   */
+  private void layoutTracks() {
+    boolean[] hasPredecessor = new boolean[tileCount];
+    for (int id = 0; id < tileCount; id++) {
+      if (present[id] && next[id] >= 0) {
+        if (hasPredecessor[next[id]]) {
+          throw new IllegalArgumentException(
+              "More than one tile leads to tile " + next[id] + ", boards must not merge paths");
+        }
+        hasPredecessor[next[id]] = true;
+      }
+    }
+
+    int index = 0;
+    for (int head = 0; head < tileCount; head++) {
+      if (!present[head] || hasPredecessor[head]) {
+        continue;
+      }
+      int trackStart = index;
+      for (int id = head; id >= 0; id = next[id]) {
+        position[id] = index;
+        order[index++] = id;
+      }
+      for (int i = trackStart; i < index; i++) {
+        trackEnd[order[i]] = index - 1;
+      }
+    }
+
+    for (int id = 0; id < tileCount; id++) {
+      if (present[id] && position[id] < 0) {
+        throw new IllegalArgumentException("Tile " + id + " is part of a cycle of next tiles");
+      }
+    }
+  }
+
+  /**
+   * Resolves the tile reached by moving forward the given number of steps, stopping at the last
+   * tile of the path.
+   *
+   * @param tileId the ID of the tile to move from
+   * @param steps  the number of steps to move
+   * @return the ID of the tile reached
+   */
+  public int move(int tileId, int steps) {
+    return order[Math.min(position[tileId] + steps, trackEnd[tileId])];
+  }
+
+  /**
+   * Returns the number of steps that can be moved forward from a tile before the path ends.
+   *
+   * @param tileId the tile ID
+   * @return the number of remaining steps
+   */
+  public int stepsToEnd(int tileId) {
+    return trackEnd[tileId] - position[tileId];
+  }
+
+  /**
+   * Returns whether a tile with the given ID exists on the board.
+   *
+   * @param tileId the tile ID
+   * @return true if the tile exists, false otherwise
+   */
+  public boolean contains(int tileId) {
+    return tileId >= 0 && tileId < tileCount && present[tileId];
+  }
+
+  /**
+   * Returns the ID of the next tile.
+   *
+   * @param tileId the tile ID
+   * @return the ID of the next tile, or -1 if there is none
+   */
+  public int getNext(int tileId) {
+    return next[tileId];
+  }
+
+  /**
+   * Returns the ID of the previous tile.
+   *
+   * @param tileId the tile ID
+   * @return the ID of the previous tile, or -1 if there is none
+   */
+  public int getPrevious(int tileId) {
+    return prev[tileId];
+  }
+
+  /**
+   * Returns the kind of action on a tile, one of the constants defined in this class.
+   *
+   * @param tileId the tile ID
+   * @return the action kind
+   */
+  public byte getActionKind(int tileId) {
+    return actionKind[tileId];
+  }
+
+  /**
+   * Returns the destination of the ladder on a tile.
+   *
+   * @param tileId the tile ID
+   * @return the ID of the destination tile, or -1 if the tile has no ladder
+   */
+  public int getLadderDestination(int tileId) {
+    return ladderDestination[tileId];
+  }
+
+  /**
+   * Returns the question category of the quiz on a tile.
+   *
+   * @param tileId the tile ID
+   * @return the category, or null if the tile has no quiz
+   */
+  public QuestionCategory getQuizCategory(int tileId) {
+    return quizCategory[tileId];
+  }
+}
@@ -0,0 +1,77 @@
+package edu.ntnu.idi.idatt.boardgame.model.entities;
+
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * A board whose tiles are loaded the first time they are accessed.
+ * <p>
+ * Used for games in the game catalogue, where only the name, description and other details of a
+ * game are shown until the game is opened. The row and column count are known up front, while the
+ * tiles are taken from the board returned by the loader once they are needed.
+ * </p>
+ *
+ * @see edu.ntnu.idi.idatt.boardgame.model.managers.GameManager
+ * @since v3.1.0
+ */
+public class LazyBoard extends Board {
+
+  private Supplier<Board> loader;
+  @Getter
+  private volatile boolean loaded;
+
+  /**
+   * Constructs a board that loads its tiles with the given loader.
+   *
+   * @param rowCount the total number of rows
+   * @param colCount the total number of columns
+   * @param loader   supplies the fully loaded board, with its tile references resolved
+   */
+  public LazyBoard(int rowCount, int colCount, @NonNull Supplier<Board> loader) {
+    super(rowCount, colCount);
+    this.loader = loader;
+  }
+
+  @Override
+  public Map<Integer, Tile> getTiles() {
+    load();
+    return super.getTiles();
+  }
+
+  @Override
+  public Tile getTile(int tileId) {
+    load();
+    return super.getTile(tileId);
+  }
+
+  @Override
+  public void addTile(Tile tile) {
+    load();
+    super.addTile(tile);
+  }
+
+  @Override
+  public void resolveReferences(Board board) {
+    load();
+  }
+
+  /**
+   * Loads the tiles with the loader, unless this has already been done.
+   */
+  private void load() {
+    if (loaded) {
+      return;
+    }
+    synchronized (this) {
+      if (loaded) {
+        return;
+      }
+      Board board = loader.get();
+      super.getTiles().putAll(board.getTiles());
+      loader = null;
+      loaded = true;
+    }
+  }
+}
@@ -0,0 +1,223 @@
+package edu.ntnu.idi.idatt.boardgame.model.entities;
+
+import edu.ntnu.idi.idatt.boardgame.model.actions.TileAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.freeze.FreezeAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.goal.GoalTileAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.immunity.ImmunityAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.ladder.LadderAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.quiz.QuizTileAction;
+import java.nio.IntBuffer;
+import java.util.Map;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * A board backed by the tile and action tables of a binary game file.
+ * <p>
+ * The tables are read through {@link IntBuffer} views of the loaded or memory mapped file, so
+ * loading a board copies no tile data and creates no objects per tile. The {@link Tile} objects are
+ * created and linked the first time the tiles are accessed through the {@link Board} methods,
+ * which is when the UI needs them. A {@link CompiledBoard} is built directly from the tables
+ * without creating any tiles.
+ * </p>
+ * <p>
+ * Every tile is a row of {@link #TILE_FIELDS} ints: tile ID, row, column, next tile ID, previous
+ * tile ID and the index of its action, or -1 for no action. Every action is a row of
+ * {@link #ACTION_FIELDS} ints: the kind, using the constants of {@link CompiledBoard}, and an
+ * argument, which is the destination tile ID of a ladder or the string index of a quiz category.
+ * </p>
+ *
+ * @see edu.ntnu.idi.idatt.boardgame.model.factories.BinaryGameFactory
+ * @since v3.1.0
+ */
+public class MappedBoard extends Board {
+
+  /// The number of ints per tile in the tile table
+  public static final int TILE_FIELDS = 6;
+  /// The number of ints per action in the action table
+  public static final int ACTION_FIELDS = 2;
+
+  private final IntBuffer tileTable;
+  private final IntBuffer actionTable;
+  private final String[] strings;
+  @Getter
+  private final int tileCount;
+  @Getter
+  private volatile boolean materialized;
+
+  /**
+   * Constructs a board over the given tables.
+   *
+   * @param rowCount    the total number of rows
+   * @param colCount    the total number of columns
+   * @param tileTable   the tile table, {@link #TILE_FIELDS} ints per tile
+   * @param actionTable the action table, {@link #ACTION_FIELDS} ints per action
+   * @param strings     the string pool referenced by the actions
+   * @throws IllegalArgumentException if a table's length is not a multiple of its row size
+   */
+  public MappedBoard(int rowCount, int colCount, @NonNull IntBuffer tileTable,
+      @NonNull IntBuffer actionTable, @NonNull String[] strings) {
+    super(rowCount, colCount);
+    if (tileTable.limit() % TILE_FIELDS != 0 || actionTable.limit() % ACTION_FIELDS != 0) {
+      throw new IllegalArgumentException("Tile or action table has an incomplete row");
+    }
+    this.tileTable = tileTable;
+    this.actionTable = actionTable;
+    this.strings = strings;
+    this.tileCount = tileTable.limit() / TILE_FIELDS;
+  }
+
+  /**
+   * Returns the ID of the tile at the given index of the tile table.
+   *
+   * @param index the index in the tile table
+   * @return the tile ID
+   */
+  public int getTileId(int index) {
+    return tileTable.get(index * TILE_FIELDS);
+  }
+
+  /**
+   * Returns the row of the tile at the given index of the tile table.
+   *
+   * @param index the index in the tile table
+   * @return the row
+   */
+  public int getRow(int index) {
+    return tileTable.get(index * TILE_FIELDS + 1);
+  }
+
+  /**
+   * Returns the column of the tile at the given index of the tile table.
+   *
+   * @param index the index in the tile table
+   * @return the column
+   */
+  public int getCol(int index) {
+    return tileTable.get(index * TILE_FIELDS + 2);
+  }
+
+  /**
+   * Returns the next tile ID of the tile at the given index of the tile table.
+   *
+   * @param index the index in the tile table
+   * @return the next tile ID, or -1 if there is none
+   */
+  public int getNextTileId(int index) {
+    return tileTable.get(index * TILE_FIELDS + 3);
+  }
+
+  /**
+   * Returns the previous tile ID of the tile at the given index of the tile table.
+   *
+   * @param index the index in the tile table
+   * @return the previous tile ID, or -1 if there is none
+   */
+  public int getPreviousTileId(int index) {
+    return tileTable.get(index * TILE_FIELDS + 4);
+  }
+
+  /**
+   * Returns the kind of action on the tile at the given index of the tile table.
+   *
+   * @param index the index in the tile table
+   * @return the action kind, one of the constants of {@link CompiledBoard}
+   */
+  public byte getActionKind(int index) {
+    int action = tileTable.get(index * TILE_FIELDS + 5);
+    return action < 0 ? CompiledBoard.NONE : (byte) actionTable.get(action * ACTION_FIELDS);
+  }
+
+  /**
+   * Returns the argument of the action on the tile at the given index of the tile table.
+   *
+   * @param index the index in the tile table
+   * @return the ladder destination or category string index, or -1 if the tile has no action
+   */
+  public int getActionArgument(int index) {
+    int action = tileTable.get(index * TILE_FIELDS + 5);
+    return action < 0 ? -1 : actionTable.get(action * ACTION_FIELDS + 1);
+  }
+
+  /**
+   * Returns the question category of the quiz on the tile at the given index of the tile table.
+   *
+   * @param index the index in the tile table
+   * @return the category, or null if the tile has no quiz or the quiz has no category
+   */
+  public QuestionCategory getQuizCategory(int index) {
+    int category = getActionArgument(index);
+    if (getActionKind(index) != CompiledBoard.QUIZ || category < 0) {
+      return null;
+    }
+    return QuestionCategory.valueOf(strings[category]);
+  }
+
+  @Override
+  public Map<Integer, Tile> getTiles() {
+    materialize();
+    return super.getTiles();
+  }
+
+  @Override
+  public Tile getTile(int tileId) {
+    materialize();
+    return super.getTile(tileId);
+  }
+
+  @Override
+  public void addTile(Tile tile) {
+    materialize();
+    super.addTile(tile);
+  }
+
+  @Override
+  public void resolveReferences(Board board) {
+    materialize();
+  }
+
+  /**
+   * Creates the tiles from the tables and links them, unless this has already been done.
+   */
+  private void materialize() {
+    if (materialized) {
+      return;
+    }
+    synchronized (this) {
+      if (materialized) {
+        return;
+      }
+      // link the tiles on a plain board, since resolving through this board would materialize again
+      Board linked = new Board(getRowCount(), getColCount());
+      for (int index = 0; index < tileCount; index++) {
+        Tile tile = new Tile.Builder(getTileId(index))
+            .position(getRow(index), getCol(index))
+            .nextTileId(getNextTileId(index))
+            .previousTileId(getPreviousTileId(index))
+            .action(createAction(index))
+            .build();
+        linked.getTiles().put(tile.getTileId(), tile);
+      }
+      linked.resolveReferences(linked);
+      super.getTiles().putAll(linked.getTiles());
+      materialized = true;
+    }
+  }
+
+  /**
+   * Creates the action of the tile at the given index of the tile table.
+   *
+   * @param index the index in the tile table
+   * @return the action, or null if the tile has no action
+   */
+  private TileAction createAction(int index) {
+    return switch (getActionKind(index)) {
+      case CompiledBoard.LADDER -> new LadderAction(getActionArgument(index));
+      case CompiledBoard.FREEZE -> new FreezeAction();
+      case CompiledBoard.IMMUNITY -> new ImmunityAction();
+      case CompiledBoard.QUIZ -> new QuizTileAction(getQuizCategory(index));
+      case CompiledBoard.GOAL -> new GoalTileAction();
+      default -> null;
+    };
+  }
+}
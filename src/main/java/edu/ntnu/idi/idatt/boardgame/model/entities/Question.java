@@ -1,15 +1,19 @@
 package edu.ntnu.idi.idatt.boardgame.model.entities;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
 import lombok.Getter;
+import lombok.NonNull;
 
 /**
  * Represents a quiz question with its category, possible answers, and the correct answer index.
  * <p>
  * This class encapsulates the details of a quiz question, including its text, category, possible
- * answers, and the index of the correct answer.
+ * answers, and the index of the correct answer. The answers are stored in an array ordered by
+ * their index, which takes far less memory than a map when many questions are loaded.
  * </p>
  *
  * @version 1.0.0
@@ -18,8 +22,16 @@ import lombok.Getter;
  */
 public class Question {
 
+  /// The difficulty of questions which do not specify one
+  public static final int DEFAULT_DIFFICULTY = 1;
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
 
-  private final Map<Integer, String> answers;
+  /// The answers ordered by index, starting at firstAnswerIndex, with null for unused indexes
+  private final String[] answers;
+  private final int firstAnswerIndex;
+  /// Immutable view of the answers, created when first requested
+  private List<String> answerList;
 
   @Getter
   private final int correctAnswerIndex;
@@ -30,30 +42,157 @@ public class Question {
   @Getter
   private final QuestionCategory category;
 
+  /// The difficulty of the question, from 1 for the easiest questions and up
+  @Getter
+  private final int difficulty;
+
   public Question(String question, QuestionCategory category, HashMap<Integer, String> answers,
       int correctAnswerIndex) {
+    this(question, category, answers, correctAnswerIndex, DEFAULT_DIFFICULTY);
+  }
+
+  /**
+   * Constructs a question with a difficulty.
+   *
+   * @param question           the question text
+   * @param category           the category of the question
+   * @param answers            the possible answers by index
+   * @param correctAnswerIndex the index of the correct answer
+   * @param difficulty         the difficulty, at least 1
+   * @throws IllegalArgumentException if the difficulty is less than 1
+   * @since v3.1.0
+   */
+  public Question(String question, QuestionCategory category, HashMap<Integer, String> answers,
+      int correctAnswerIndex, int difficulty) {
+    this(question, category, firstIndex(answers), toArray(answers), correctAnswerIndex,
+        difficulty);
+  }
+
+  /**
+   * Constructs a question from an array of answers.
+   *
+   * @param question           the question text
+   * @param category           the category of the question
+   * @param firstAnswerIndex   the index of the first answer in the array
+   * @param answers            the possible answers ordered by index, null for unused indexes
+   * @param correctAnswerIndex the index of the correct answer
+   * @param difficulty         the difficulty, at least 1
+   * @throws IllegalArgumentException if the difficulty is less than 1
+   * @since v3.1.0
+   */
+  public Question(String question, QuestionCategory category, int firstAnswerIndex,
+      @NonNull String[] answers, int correctAnswerIndex, int difficulty) {
+    if (difficulty < 1) {
+      throw new IllegalArgumentException("Difficulty must be at least 1");
+    }
     this.question = question;
     this.category = category;
-    this.answers = answers;
+    this.firstAnswerIndex = firstAnswerIndex;
+    this.answers = answers.clone();
     this.correctAnswerIndex = correctAnswerIndex;
+    this.difficulty = difficulty;
   }
 
   /**
-   * Returns the question text.
+   * Returns the possible answers ordered by index.
+   * <p>
+   * The list is an immutable view created on the first call and returned by every later call.
+   * </p>
    *
-   * @return the question text
+   * @return the answers
    */
   public List<String> getAnswers() {
-    return answers.values().stream().toList();
+    List<String> list = answerList;
+    if (list == null) {
+      // racing threads create equal views, and the views are safely published by final fields
+      list = Arrays.stream(answers).allMatch(Objects::nonNull)
+          ? Collections.unmodifiableList(Arrays.asList(answers))
+          : Arrays.stream(answers).filter(Objects::nonNull).toList();
+      answerList = list;
+    }
+    return list;
+  }
+
+  /**
+   * Returns a hash of the content of the question, used to find duplicate questions.
+   * <p>
+   * The hash covers the category, the question text, the answers in order and the correct answer.
+   * Letter case and runs of whitespace are ignored, so questions differing only in those have the
+   * same hash. The 64 bit hash makes collisions between different questions unlikely even for
+   * banks of millions of questions.
+   * </p>
+   *
+   * @return the content hash
+   * @since v3.1.0
+   */
+  public long contentHash() {
+    long hash = FNV_OFFSET_BASIS;
+    hash = hashString(hash, category == null ? "" : category.name());
+    hash = hashString(hash, question);
+    for (String answer : answers) {
+      hash = hashString(hash, answer == null ? "" : answer);
+    }
+    return hashString(hash, String.valueOf(correctAnswerIndex - firstAnswerIndex));
   }
 
   /**
    * Returns the correct answer.
    *
-   * @return the correct answer
+   * @return the correct answer, or null if there is no answer with the correct answer index
    */
   public String getCorrectAnswer() {
-    return answers.get(correctAnswerIndex);
+    int position = correctAnswerIndex - firstAnswerIndex;
+    return position >= 0 && position < answers.length ? answers[position] : null;
+  }
+
+  /**
+   * Adds a string to an FNV-1a hash, ignoring letter case and repeated or surrounding whitespace.
+   *
+   * @param hash   the hash so far
+   * @param string the string to add
+   * @return the new hash
+   */
+  private static long hashString(long hash, String string) {
+    boolean space = false;
+    boolean started = false;
+    for (int i = 0; i < string.length(); i++) {
+      char c = string.charAt(i);
+      if (Character.isWhitespace(c)) {
+        space = started;
+        continue;
+      }
+      if (space) {
+        hash = (hash ^ ' ') * FNV_PRIME;
+        space = false;
+      }
+      started = true;
+      hash = (hash ^ Character.toLowerCase(c)) * FNV_PRIME;
+    }
+    // separates the strings, so moving text between them changes the hash
+    return (hash ^ 0xFFFF) * FNV_PRIME;
+  }
+
+  /**
+   * Returns the lowest index of the answers of a map.
+   *
+   * @param answers the answers by index
+   * @return the lowest index, or 0 if there are no answers
+   */
+  private static int firstIndex(HashMap<Integer, String> answers) {
+    return answers.keySet().stream().mapToInt(Integer::intValue).min().orElse(0);
   }
 
+  /**
+   * Converts answers by index to an array ordered by index.
+   *
+   * @param answers the answers by index
+   * @return the answers ordered by index, starting at the lowest index
+   */
+  private static String[] toArray(HashMap<Integer, String> answers) {
+    int first = firstIndex(answers);
+    int last = answers.keySet().stream().mapToInt(Integer::intValue).max().orElse(first - 1);
+    String[] array = new String[last - first + 1];
+    answers.forEach((index, answer) -> array[index - first] = answer);
+    return array;
+  }
 }
@@ -0,0 +1,284 @@
+package edu.ntnu.idi.idatt.boardgame.model.entities;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.random.RandomGenerator;
+import lombok.NonNull;
+
+/**
+ * A deck dealing questions in random order without repeating any question until all have been
+ * dealt.
+ * <p>
+ * The deck keeps a permutation of the question indices and shuffles it one position per draw, in
+ * the manner of a Fisher–Yates shuffle, so each draw takes constant time and no up front shuffle
+ * is needed. Once every question has been dealt, a new round starts with the same questions, and
+ * the question which ended a round is never the first of the next.
+ * </p>
+ * <p>
+ * A deck may be weighted, in which case questions with higher weight tend to be dealt earlier in
+ * each round, for example {@code question -> 1.0 / question.getDifficulty()} to start with the
+ * easier questions. Every question is still dealt exactly once per round. The order of a weighted
+ * round is decided when the round starts, by sorting exponentially distributed keys with the rate
+ * of each weight. The sort takes O(n log n) time for a deck of n questions, so the first draw of a
+ * round is slower and weighted draws take O(log n) amortized time, while the draws of an unweighted
+ * deck take constant time.
+ * </p>
+ * <p>
+ * A deck is not thread safe, each game should deal from its own decks.
+ * </p>
+ *
+ * @since v3.1.0
+ */
+public class QuestionDeck {
+
+  /// The order is kept in chunks of 2^10 positions, which saved states share until written to
+  private static final int CHUNK_BITS = 10;
+  private static final int CHUNK_MASK = (1 << CHUNK_BITS) - 1;
+
+  private final List<Question> questions;
+  private final RandomGenerator random;
+  private final double[] weights;
+  private final int size;
+  /// The permutation of the question indices, in chunks
+  private final int[][] order;
+  /// Whether each chunk of the order is shared with a saved state, and must be copied before it is
+  /// written to
+  private final boolean[] shared;
+  private int next;
+  private boolean dealtRound;
+  /// The state returned by the last call to saveState, reused until the next draw
+  private State savedState;
+
+  /**
+   * The dealing state of a deck, from which a deck can be created dealing the same questions in
+   * the same order as the deck the state was saved from.
+   * <p>
+   * A state is immutable and only meaningful to a deck, so it has no accessors. It shares the
+   * questions and weights of the deck it was saved from, and the order of the current round in
+   * chunks of 1024 questions, which the deck copies the first time it changes them after saving.
+   * Saving a deck of n questions thereby takes O(n / 1024) time and memory, and each draw after
+   * saving copies at most two chunks.
+   * </p>
+   *
+   * @since v3.1.0
+   */
+  public static final class State {
+
+    private final List<Question> questions;
+    private final double[] weights;
+    private final int[][] order;
+    private final int next;
+    private final boolean dealtRound;
+
+    private State(QuestionDeck deck) {
+      this.questions = deck.questions;
+      this.weights = deck.weights;
+      this.order = deck.order.clone();
+      this.next = deck.next;
+      this.dealtRound = deck.dealtRound;
+      Arrays.fill(deck.shared, true);
+    }
+  }
+
+  /**
+   * Constructs a deck dealing the questions in uniformly random order.
+   *
+   * @param questions the questions of the deck
+   * @param random    the random generator to shuffle with
+   */
+  public QuestionDeck(@NonNull List<Question> questions, @NonNull RandomGenerator random) {
+    this(questions, random, null);
+  }
+
+  /**
+   * Constructs a deck dealing questions with higher weight earlier in each round.
+   *
+   * @param questions the questions of the deck
+   * @param random    the random generator to shuffle with
+   * @param weight    the weight of each question, or null to deal in uniformly random order
+   * @throws IllegalArgumentException if a weight is not a finite positive number
+   */
+  public QuestionDeck(@NonNull List<Question> questions, @NonNull RandomGenerator random,
+      ToDoubleFunction<Question> weight) {
+    this.questions = List.copyOf(questions);
+    this.random = random;
+    this.size = this.questions.size();
+    int chunks = (size + CHUNK_MASK) >>> CHUNK_BITS;
+    this.order = new int[chunks][];
+    this.shared = new boolean[chunks];
+    for (int chunk = 0; chunk < chunks; chunk++) {
+      order[chunk] = new int[Math.min(CHUNK_MASK + 1, size - (chunk << CHUNK_BITS))];
+    }
+    for (int i = 0; i < size; i++) {
+      set(i, i);
+    }
+    if (weight == null) {
+      this.weights = null;
+      return;
+    }
+    this.weights = new double[size];
+    for (int i = 0; i < weights.length; i++) {
+      double value = weight.applyAsDouble(this.questions.get(i));
+      if (!(value > 0) || Double.isInfinite(value)) {
+        throw new IllegalArgumentException("Question weights must be finite and positive");
+      }
+      weights[i] = value;
+    }
+    shuffleWeighted(-1);
+  }
+
+  /**
+   * Constructs a deck dealing on from a saved state.
+   *
+   * @param state  the state, saved from a deck with {@link #saveState()}
+   * @param random the random generator to shuffle with
+   * @since v3.1.0
+   */
+  public QuestionDeck(@NonNull State state, @NonNull RandomGenerator random) {
+    this.questions = state.questions;
+    this.random = random;
+    this.weights = state.weights;
+    this.size = state.questions.size();
+    this.order = state.order.clone();
+    this.shared = new boolean[order.length];
+    Arrays.fill(shared, true);
+    this.next = state.next;
+    this.dealtRound = state.dealtRound;
+    this.savedState = state;
+  }
+
+  /**
+   * Saves the dealing state of the deck. Saving a deck again without drawing from it in between
+   * returns the same state, without copying the deck again.
+   *
+   * @return the state
+   * @since v3.1.0
+   */
+  public State saveState() {
+    State state = savedState;
+    if (state == null) {
+      state = new State(this);
+      savedState = state;
+    }
+    return state;
+  }
+
+  /**
+   * Returns whether the deck is in a saved state, having not been drawn from since the state was
+   * saved from it or it was created from the state.
+   *
+   * @param state the state
+   * @return true if the deck is in the state
+   * @since v3.1.0
+   */
+  public boolean isInState(State state) {
+    return state != null && savedState == state;
+  }
+
+  /**
+   * Deals the next question, starting a new round if all questions have been dealt.
+   *
+   * @return the question, or null if the deck has no questions
+   */
+  public Question draw() {
+    if (size == 0) {
+      return null;
+    }
+    savedState = null;
+    if (next == size) {
+      next = 0;
+      dealtRound = true;
+      if (weights != null) {
+        shuffleWeighted(get(size - 1));
+      }
+    }
+    if (weights == null) {
+      // the question ending the previous round is at the last position, skip it for the first draw
+      int end = next == 0 && dealtRound && size > 1 ? size - 1 : size;
+      swap(next, next + random.nextInt(end - next));
+    }
+    return questions.get(get(next++));
+  }
+
+  /**
+   * Returns the number of questions in the deck.
+   *
+   * @return the number of questions
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the number of questions left to deal in the current round.
+   *
+   * @return the number of questions left
+   */
+  public int remaining() {
+    return size - next;
+  }
+
+  /**
+   * Orders the next round by weight.
+   *
+   * @param last the index of the question which ended the previous round, or -1 if none
+   */
+  private void shuffleWeighted(int last) {
+    // the index of a question takes the low bits of its key, which leaves the key all but log2(n)
+    // bits of a double, so the keys of two questions hardly ever tie and favour the lower index
+    int indexBits = Math.max(1, 32 - Integer.numberOfLeadingZeros(size - 1));
+    long indexMask = (1L << indexBits) - 1;
+    long[] keys = new long[size];
+    for (int i = 0; i < keys.length; i++) {
+      // exponentially distributed with rate equal to the weight, non-negative doubles sort as longs
+      double key = -Math.log1p(-random.nextDouble()) / weights[i];
+      keys[i] = Double.doubleToLongBits(key) & ~indexMask | i;
+    }
+    Arrays.sort(keys);
+    for (int i = 0; i < keys.length; i++) {
+      set(i, (int) (keys[i] & indexMask));
+    }
+    if (size > 1 && get(0) == last) {
+      swap(0, 1);
+    }
+  }
+
+  /**
+   * Swaps two positions of the order.
+   *
+   * @param i the first position
+   * @param j the second position
+   */
+  private void swap(int i, int j) {
+    int index = get(i);
+    set(i, get(j));
+    set(j, index);
+  }
+
+  /**
+   * Returns the index of the question at a position of the order.
+   *
+   * @param position the position
+   * @return the index of the question
+   */
+  private int get(int position) {
+    return order[position >>> CHUNK_BITS][position & CHUNK_MASK];
+  }
+
+  /**
+   * Sets the index of the question at a position of the order, first copying the chunk of the
+   * position if it is shared with a saved state.
+   *
+   * @param position the position
+   * @param index    the index of the question
+   */
+  private void set(int position, int index) {
+    int chunk = position >>> CHUNK_BITS;
+    if (shared[chunk]) {
+      order[chunk] = order[chunk].clone();
+      shared[chunk] = false;
+    }
+    order[chunk][position & CHUNK_MASK] = index;
+  }
+}
@@ -24,9 +24,11 @@ public class Tile implements Serializable, HasTileReferenceResolver {
   private final int tileId;
 
   /// The ID of the tile that comes before this one defaults to -1, indicating no previous tile
+  @Getter
   private final int previousTileId;
 
   /// The ID of the tile that comes after this one defaults to -1, indicating no next tile
+  @Getter
   private final int nextTileId;
 
   @Getter
@@ -40,11 +42,11 @@ public class Tile implements Serializable, HasTileReferenceResolver {
   @Setter
   private TileAction action;
 
-  @Setter
-  private transient Tile previousTile;
+  /// The neighbouring tiles are wrapped once when set, so moving along the board creates no
+  /// garbage
+  private transient Optional<Tile> previousTile = Optional.empty();
 
-  @Setter
-  private transient Tile nextTile;
+  private transient Optional<Tile> nextTile = Optional.empty();
 
   /**
    * Private constructor used by the Builder.
@@ -66,7 +68,16 @@ public class Tile implements Serializable, HasTileReferenceResolver {
    * @return an Optional containing the next tile if not null
    */
   public Optional<Tile> getNextTile() {
-    return Optional.ofNullable(nextTile);
+    return nextTile;
+  }
+
+  /**
+   * Sets the next tile.
+   *
+   * @param nextTile the next tile, or null if there is none
+   */
+  public void setNextTile(Tile nextTile) {
+    this.nextTile = Optional.ofNullable(nextTile);
   }
 
   /**
@@ -75,7 +86,16 @@ public class Tile implements Serializable, HasTileReferenceResolver {
    * @return an Optional containing the previous tile if not null
    */
   public Optional<Tile> getPreviousTile() {
-    return Optional.ofNullable(previousTile);
+    return previousTile;
+  }
+
+  /**
+   * Sets the previous tile.
+   *
+   * @param previousTile the previous tile, or null if there is none
+   */
+  public void setPreviousTile(Tile previousTile) {
+    this.previousTile = Optional.ofNullable(previousTile);
   }
 
   /**
@@ -96,12 +116,8 @@ public class Tile implements Serializable, HasTileReferenceResolver {
    */
   @Override
   public void resolveReferences(Board board) {
-    if (nextTileId > -1) {
-      nextTile = board.getTile(nextTileId);
-    }
-    if (previousTileId > -1) {
-      previousTile = board.getTile(previousTileId);
-    }
+    setNextTile(nextTileId > -1 ? board.getTile(nextTileId) : null);
+    setPreviousTile(previousTileId > -1 ? board.getTile(previousTileId) : null);
     if (action instanceof HasTileReferenceResolver) {
       ((HasTileReferenceResolver) action).resolveReferences(board);
     }
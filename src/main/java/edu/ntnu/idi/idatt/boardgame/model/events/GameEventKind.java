@@ -0,0 +1,50 @@
+package edu.ntnu.idi.idatt.boardgame.model.events;
+
+/**
+ * The kinds of game events, as encoded in a {@link PackedGameEvent}.
+ * <p>
+ * Each kind corresponds to one of the {@link GameEvent} records. The order of the constants is
+ * part of the encoding, so new kinds must be added at the end.
+ * </p>
+ *
+ * @see PackedGameEvent
+ * @since v3.1.0
+ */
+public enum GameEventKind {
+  /// {@link GameStartedEvent}, with the first player and the start tile
+  GAME_STARTED,
+  /// {@link DiceRolledEvent}, with the player, their tile and the total value rolled
+  DICE_ROLLED,
+  /// {@link PlayerMovedEvent}, with the player, both tiles and the number of steps moved
+  PLAYER_MOVED,
+  /// {@link TileActionEvent}, with the player, the tile of the action and the tile it
+  /// moved the player to
+  TILE_ACTION,
+  /// {@link QuestionAskedEvent}, with the player, the tile they return to on a wrong
+  /// answer and the tile of the quiz
+  QUESTION_ASKED,
+  /// {@link PlayerTurnChangedEvent}, with the player whose turn it is, their tile and
+  /// the round
+  PLAYER_TURN_CHANGED,
+  /// {@link PlayerSkippedTurnEvent}, with the player whose turn is skipped, their
+  /// tile and the number of turns they remain frozen
+  PLAYER_SKIPPED_TURN,
+  /// {@link GameEndedEvent}, with the winner, the goal tile and the round
+  GAME_ENDED,
+  /// {@link QuestionAnsweredEvent}, with the player, their tile and the position of their answer
+  /// among the answers of the question, or -1 if it is not one of them
+  QUESTION_ANSWERED;
+
+  private static final GameEventKind[] VALUES = values();
+
+  /**
+   * Returns the kind with the given ordinal, without copying the array of constants.
+   *
+   * @param ordinal the ordinal
+   * @return the kind
+   * @throws ArrayIndexOutOfBoundsException if no kind has the ordinal
+   */
+  static GameEventKind of(int ordinal) {
+    return VALUES[ordinal];
+  }
+}
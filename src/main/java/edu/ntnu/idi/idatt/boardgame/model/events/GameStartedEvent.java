@@ -11,6 +11,10 @@ import java.util.List;
  * This event provides information about the game that was started and the players participating. UI
  * components can observe this event to initialize the game view.
  * </p>
+ * <p>
+ * The seed of the game's dice roller is included so the game can be recorded and replayed with the
+ * same rolls.
+ * </p>
  *
  * @see GameEngine
  * @see Game
@@ -19,7 +23,8 @@ import java.util.List;
  */
 public record GameStartedEvent(
     Game game,
-    List<Player> players
+    List<Player> players,
+    long seed
 ) implements GameEvent {
 
 }
@@ -0,0 +1,112 @@
+package edu.ntnu.idi.idatt.boardgame.model.events;
+
+/**
+ * Encodes a game event in a single {@code long}, for listeners receiving events at a rate where
+ * creating a {@link GameEvent} object for each would be too costly, such as statistics collected
+ * over millions of simulated turns.
+ * <p>
+ * From the most significant bits, an event holds its {@link GameEventKind} in 8 bits, the index
+ * of the player in turn order in 8 bits, the ids of the tile moved from and the tile moved to or
+ * the tile of the event in 16 bits each, and a value such as the dice total or the number of steps
+ * moved as a signed 16 bit number. A missing player or tile is encoded as -1.
+ * </p>
+ * <p>
+ * Values outside the 16 bit range, such as the round count of a very long game, are saturated to
+ * -32768 or 32767 rather than rejected, so an event can always be encoded once the game state it
+ * describes has changed.
+ * </p>
+ *
+ * @see PackedGameEventListener
+ * @since v3.1.0
+ */
+public final class PackedGameEvent {
+
+  /// The player or tile id of an event without a player or tile
+  public static final int NONE = -1;
+  /// The largest tile id which can be encoded
+  public static final int MAX_TILE_ID = 0xFFFE;
+
+  private PackedGameEvent() {
+  }
+
+  /**
+   * Encodes an event.
+   *
+   * @param kind        the kind of the event
+   * @param playerIndex the index of the player in turn order, or {@link #NONE}
+   * @param fromTileId  the id of the tile moved from, or {@link #NONE}
+   * @param toTileId    the id of the tile moved to or of the event, or {@link #NONE}
+   * @param value       the value of the event, saturated to the range -32768 to 32767
+   * @return the encoded event
+   * @throws IllegalArgumentException if the player index or a tile id is out of range
+   */
+  public static long pack(GameEventKind kind, int playerIndex, int fromTileId, int toTileId,
+      int value) {
+    if (playerIndex < NONE || playerIndex > 0xFE) {
+      throw new IllegalArgumentException("Player index out of range: " + playerIndex);
+    }
+    if (fromTileId < NONE || fromTileId > MAX_TILE_ID || toTileId < NONE
+        || toTileId > MAX_TILE_ID) {
+      throw new IllegalArgumentException("Tile id out of range: " + fromTileId + ", " + toTileId);
+    }
+    int saturated = Math.clamp(value, Short.MIN_VALUE, Short.MAX_VALUE);
+    return (long) kind.ordinal() << 56
+        | (long) (playerIndex & 0xFF) << 48
+        | (long) (fromTileId & 0xFFFF) << 32
+        | (long) (toTileId & 0xFFFF) << 16
+        | (saturated & 0xFFFF);
+  }
+
+  /**
+   * Returns the kind of an event.
+   *
+   * @param event the encoded event
+   * @return the kind
+   */
+  public static GameEventKind kind(long event) {
+    return GameEventKind.of((int) (event >>> 56));
+  }
+
+  /**
+   * Returns the index of the player of an event.
+   *
+   * @param event the encoded event
+   * @return the index of the player in turn order, or {@link #NONE}
+   */
+  public static int playerIndex(long event) {
+    int index = (int) (event >>> 48) & 0xFF;
+    return index == 0xFF ? NONE : index;
+  }
+
+  /**
+   * Returns the id of the tile moved from.
+   *
+   * @param event the encoded event
+   * @return the tile id, or {@link #NONE}
+   */
+  public static int fromTileId(long event) {
+    int id = (int) (event >>> 32) & 0xFFFF;
+    return id == 0xFFFF ? NONE : id;
+  }
+
+  /**
+   * Returns the id of the tile moved to, or of the tile of the event.
+   *
+   * @param event the encoded event
+   * @return the tile id, or {@link #NONE}
+   */
+  public static int toTileId(long event) {
+    int id = (int) (event >>> 16) & 0xFFFF;
+    return id == 0xFFFF ? NONE : id;
+  }
+
+  /**
+   * Returns the value of an event.
+   *
+   * @param event the encoded event
+   * @return the value
+   */
+  public static int value(long event) {
+    return (short) event;
+  }
+}
@@ -0,0 +1,21 @@
+package edu.ntnu.idi.idatt.boardgame.model.events;
+
+/**
+ * A listener receiving game events encoded as a {@link PackedGameEvent}.
+ * <p>
+ * Events are passed as primitive values, so delivering them creates no objects.
+ * </p>
+ *
+ * @see edu.ntnu.idi.idatt.boardgame.model.GameEngine#addPackedListener(PackedGameEventListener)
+ * @since v3.1.0
+ */
+@FunctionalInterface
+public interface PackedGameEventListener {
+
+  /**
+   * Receives an event.
+   *
+   * @param event the event, decoded with the methods of {@link PackedGameEvent}
+   */
+  void onEvent(long event);
+}
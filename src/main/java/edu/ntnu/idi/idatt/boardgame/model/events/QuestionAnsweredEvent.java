@@ -0,0 +1,20 @@
+package edu.ntnu.idi.idatt.boardgame.model.events;
+
+import edu.ntnu.idi.idatt.boardgame.model.entities.Player;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Question;
+
+/**
+ * Represents an event that occurs when a player answers the question they were asked.
+ * <p>
+ * This event contains the question, the player answering it, their answer and whether it was
+ * correct. It is fired before the player is moved back for a wrong answer.
+ * </p>
+ *
+ * @see QuestionAskedEvent
+ * @since v3.1.0
+ */
+public record QuestionAnsweredEvent(
+    Question question, Player player, String answer, boolean correct
+) implements GameEvent {
+
+}
@@ -0,0 +1,321 @@
+package edu.ntnu.idi.idatt.boardgame.model.factories;
+
+import edu.ntnu.idi.idatt.boardgame.model.actions.TileAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.freeze.FreezeAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.goal.GoalTileAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.immunity.ImmunityAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.ladder.LadderAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.quiz.QuizTileAction;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Board;
+import edu.ntnu.idi.idatt.boardgame.model.entities.CompiledBoard;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Game;
+import edu.ntnu.idi.idatt.boardgame.model.entities.MappedBoard;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Tile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Factory for creating games from the binary game format and creating the binary format from
+ * games.
+ * <p>
+ * All values are little endian ints. The file starts with a header of {@link #HEADER_INTS} ints:
+ * </p>
+ * <ol start="0">
+ *   <li>magic number {@code "BGBD"}</li>
+ *   <li>format version</li>
+ *   <li>tile count</li>
+ *   <li>action count</li>
+ *   <li>row count</li>
+ *   <li>column count</li>
+ *   <li>minimum players</li>
+ *   <li>maximum players</li>
+ *   <li>number of dice</li>
+ *   <li>string index of the ID</li>
+ *   <li>string index of the name</li>
+ *   <li>string index of the description</li>
+ *   <li>string index of the image path, or -1 for no image</li>
+ *   <li>byte offset of the tile table</li>
+ *   <li>byte offset of the action table</li>
+ *   <li>byte offset of the string pool</li>
+ *   <li>string count</li>
+ * </ol>
+ * <p>
+ * The tile and action tables follow the layout described in {@link MappedBoard}. The string pool
+ * holds every string once, each as its UTF-8 byte length followed by the bytes.
+ * </p>
+ *
+ * @see MappedBoard
+ * @see GameFactory
+ * @since v3.1.0
+ */
+public class BinaryGameFactory {
+
+  /// The file extension of binary game files
+  public static final String FILE_EXTENSION = ".bgb";
+  /// The number of ints in the header
+  public static final int HEADER_INTS = 17;
+
+  private static final int MAGIC = 0x44424742;
+  private static final int VERSION = 1;
+
+  /**
+   * Create a game from the binary format.
+   * <p>
+   * The tile and action tables of the returned game's board are views of the given buffer, so the
+   * buffer must not be modified while the game is in use.
+   * </p>
+   *
+   * @param buffer the binary representation of the game.
+   * @return the game, with a {@link MappedBoard}.
+   * @throws IllegalArgumentException if the data is not a supported binary game.
+   */
+  public static Game createGame(ByteBuffer buffer) {
+    ByteBuffer data = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    int base = data.position();
+    int size = data.remaining();
+    if (size < HEADER_INTS * Integer.BYTES || data.getInt(base) != MAGIC) {
+      throw new IllegalArgumentException("Data is not a binary game");
+    }
+    int version = data.getInt(base + 4);
+    if (version != VERSION) {
+      throw new IllegalArgumentException("Unsupported binary game version: " + version);
+    }
+    int[] header = new int[HEADER_INTS];
+    for (int i = 0; i < HEADER_INTS; i++) {
+      header[i] = data.getInt(base + i * Integer.BYTES);
+    }
+    int tileCount = header[2];
+    int actionCount = header[3];
+
+    String[] strings = readStrings(data, base, size, header[15], header[16]);
+    IntBuffer tileTable = table(data, base, size, header[13],
+        (long) tileCount * MappedBoard.TILE_FIELDS);
+    IntBuffer actionTable = table(data, base, size, header[14],
+        (long) actionCount * MappedBoard.ACTION_FIELDS);
+
+    Board board = new MappedBoard(header[4], header[5], tileTable, actionTable, strings);
+    return new Game(board, string(strings, header[10]), string(strings, header[11]),
+        string(strings, header[9]), header[6], header[7], header[8], string(strings, header[12]));
+  }
+
+  /**
+   * Create the binary representation of a game.
+   *
+   * @param game the game.
+   * @return the binary representation of the game.
+   * @throws IllegalArgumentException if the board has an action without a binary representation.
+   */
+  public static byte[] toBinary(Game game) {
+    Board board = game.getBoard();
+    List<Tile> tiles = board.getTiles().values().stream()
+        .sorted((a, b) -> Integer.compare(a.getTileId(), b.getTileId()))
+        .toList();
+    StringTable strings = new StringTable();
+    int[] header = new int[HEADER_INTS];
+    header[0] = MAGIC;
+    header[1] = VERSION;
+    header[2] = tiles.size();
+    header[4] = board.getRowCount();
+    header[5] = board.getColCount();
+    header[6] = game.getMinPlayers();
+    header[7] = game.getMaxPlayers();
+    header[8] = game.getNumberOfDice();
+    header[9] = strings.add(game.getId());
+    header[10] = strings.add(game.getName());
+    header[11] = strings.add(game.getDescription());
+    header[12] = strings.add(game.getImagePath().orElse(null));
+
+    int[] tileTable = new int[tiles.size() * MappedBoard.TILE_FIELDS];
+    int[] actionTable = new int[tiles.size() * MappedBoard.ACTION_FIELDS];
+    int actionCount = 0;
+    for (int index = 0; index < tiles.size(); index++) {
+      Tile tile = tiles.get(index);
+      int row = index * MappedBoard.TILE_FIELDS;
+      tileTable[row] = tile.getTileId();
+      tileTable[row + 1] = tile.getRow();
+      tileTable[row + 2] = tile.getCol();
+      tileTable[row + 3] = tile.getNextTileId();
+      tileTable[row + 4] = tile.getPreviousTileId();
+      tileTable[row + 5] = -1;
+      if (tile.getAction().isPresent()) {
+        writeAction(tile.getAction().get(), actionTable, actionCount, strings);
+        tileTable[row + 5] = actionCount++;
+      }
+    }
+    header[3] = actionCount;
+
+    byte[][] encoded = strings.encode();
+    int stringBytes = 0;
+    for (byte[] string : encoded) {
+      stringBytes += Integer.BYTES + string.length;
+    }
+    header[13] = HEADER_INTS * Integer.BYTES;
+    header[14] = header[13] + tileTable.length * Integer.BYTES;
+    header[15] = header[14] + actionCount * MappedBoard.ACTION_FIELDS * Integer.BYTES;
+    header[16] = encoded.length;
+
+    ByteBuffer out = ByteBuffer.allocate(header[15] + stringBytes).order(ByteOrder.LITTLE_ENDIAN);
+    out.asIntBuffer().put(header).put(tileTable)
+        .put(actionTable, 0, actionCount * MappedBoard.ACTION_FIELDS);
+    out.position(header[15]);
+    for (byte[] string : encoded) {
+      out.putInt(string.length).put(string);
+    }
+    return out.array();
+  }
+
+  /**
+   * Create the binary representation of a game from its JSON representation.
+   *
+   * @param json the JSON representation of the game.
+   * @return the binary representation of the game.
+   */
+  public static byte[] fromJson(String json) {
+    return toBinary(GameFactory.createGame(json));
+  }
+
+  /**
+   * Writes an action into the action table.
+   *
+   * @param action      the action
+   * @param actionTable the action table
+   * @param index       the index of the action in the table
+   * @param strings     the string table for quiz categories
+   */
+  private static void writeAction(TileAction action, int[] actionTable, int index,
+      StringTable strings) {
+    int row = index * MappedBoard.ACTION_FIELDS;
+    actionTable[row + 1] = -1;
+    switch (action) {
+      case LadderAction ladderAction -> {
+        actionTable[row] = CompiledBoard.LADDER;
+        actionTable[row + 1] = ladderAction.getDestinationTileId();
+      }
+      case FreezeAction freezeAction -> actionTable[row] = CompiledBoard.FREEZE;
+      case ImmunityAction immunityAction -> actionTable[row] = CompiledBoard.IMMUNITY;
+      case QuizTileAction quizAction -> {
+        actionTable[row] = CompiledBoard.QUIZ;
+        if (quizAction.getCategory() != null) {
+          actionTable[row + 1] = strings.add(quizAction.getCategory().name());
+        }
+      }
+      case GoalTileAction goalAction -> actionTable[row] = CompiledBoard.GOAL;
+      default -> throw new IllegalArgumentException(
+          "Unsupported tile action: " + action.getClass().getName());
+    }
+  }
+
+  /**
+   * Creates an int view of a table in the data, checking that it lies within the data.
+   *
+   * @param data   the data
+   * @param base   the position of the start of the game in the data
+   * @param size   the size of the game in bytes
+   * @param offset the byte offset of the table from the start of the game
+   * @param ints   the number of ints in the table
+   * @return the view of the table
+   * @throws IllegalArgumentException if the table is outside the data
+   */
+  private static IntBuffer table(ByteBuffer data, int base, int size, int offset, long ints) {
+    long bytes = ints * Integer.BYTES;
+    if (offset < 0 || ints < 0 || offset + bytes > size) {
+      throw new IllegalArgumentException("Binary game table is outside the data");
+    }
+    return data.slice(base + offset, (int) bytes).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+  }
+
+  /**
+   * Reads all strings of the string pool.
+   *
+   * @param data   the data
+   * @param base   the position of the start of the game in the data
+   * @param size   the size of the game in bytes
+   * @param offset the byte offset of the string pool from the start of the game
+   * @param count  the number of strings
+   * @return the strings
+   * @throws IllegalArgumentException if a string is outside the data
+   */
+  private static String[] readStrings(ByteBuffer data, int base, int size, int offset,
+      int count) {
+    if (count < 0 || offset < 0) {
+      throw new IllegalArgumentException("Binary game string pool is invalid");
+    }
+    String[] strings = new String[count];
+    long position = offset;
+    for (int i = 0; i < count; i++) {
+      if (position + Integer.BYTES > size) {
+        throw new IllegalArgumentException("Binary game string pool is outside the data");
+      }
+      int length = data.getInt(base + (int) position);
+      position += Integer.BYTES;
+      if (length < 0 || position + length > size) {
+        throw new IllegalArgumentException("Binary game string pool is outside the data");
+      }
+      byte[] bytes = new byte[length];
+      data.get(base + (int) position, bytes);
+      strings[i] = new String(bytes, StandardCharsets.UTF_8);
+      position += length;
+    }
+    return strings;
+  }
+
+  /**
+   * Looks up a string in the string pool.
+   *
+   * @param strings the string pool
+   * @param index   the string index, or -1 for null
+   * @return the string, or null if the index is -1
+   * @throws IllegalArgumentException if the index is outside the string pool
+   */
+  private static String string(String[] strings, int index) {
+    if (index == -1) {
+      return null;
+    }
+    if (index < 0 || index >= strings.length) {
+      throw new IllegalArgumentException("Binary game string index is invalid: " + index);
+    }
+    return strings[index];
+  }
+
+  /**
+   * Collects the strings of a game for its string pool section, storing every distinct string once.
+   */
+  private static class StringTable {
+
+    private final Map<String, Integer> indices = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+
+    /**
+     * Adds a string to the table.
+     *
+     * @param string the string, may be null
+     * @return the index of the string, or -1 for null
+     */
+    int add(String string) {
+      if (string == null) {
+        return -1;
+      }
+      return indices.computeIfAbsent(string, key -> {
+        strings.add(key);
+        return strings.size() - 1;
+      });
+    }
+
+    /**
+     * Encodes the strings of the table as UTF-8.
+     *
+     * @return the encoded strings, in index order
+     */
+    byte[][] encode() {
+      return strings.stream()
+          .map(string -> string.getBytes(StandardCharsets.UTF_8))
+          .toArray(byte[][]::new);
+    }
+  }
+}
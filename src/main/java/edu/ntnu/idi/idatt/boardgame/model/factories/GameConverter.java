@@ -0,0 +1,50 @@
+package edu.ntnu.idi.idatt.boardgame.model.factories;
+
+import edu.ntnu.idi.idatt.boardgame.core.filesystem.FileProvider;
+import edu.ntnu.idi.idatt.boardgame.core.filesystem.LocalFileProvider;
+
+/**
+ * Command line tool converting JSON game files to binary game files.
+ * <p>
+ * Usage: {@code GameConverter <input.json> [output.bgb]}. Without an output path, the binary file
+ * is written next to the input with the {@link BinaryGameFactory#FILE_EXTENSION} extension.
+ * </p>
+ *
+ * @see BinaryGameFactory
+ * @since v3.1.0
+ */
+public class GameConverter {
+
+  /**
+   * Converts a JSON game file to a binary game file.
+   *
+   * @param args the input path and an optional output path
+   */
+  public static void main(String[] args) {
+    if (args.length < 1 || args.length > 2) {
+      System.err.println("Usage: GameConverter <input.json> [output"
+          + BinaryGameFactory.FILE_EXTENSION + "]");
+      System.exit(1);
+    }
+    String input = args[0];
+    String output = args.length == 2 ? args[1] : outputPath(input);
+
+    FileProvider fileProvider = new LocalFileProvider();
+    byte[] json = fileProvider.get(input);
+    byte[] binary = BinaryGameFactory.fromJson(new String(json));
+    fileProvider.save(output, binary);
+    System.out.printf("Converted %s (%d bytes) to %s (%d bytes)%n", input, json.length, output,
+        binary.length);
+  }
+
+  /**
+   * Replaces the extension of a JSON path with the binary extension.
+   *
+   * @param input the JSON path
+   * @return the binary path
+   */
+  private static String outputPath(String input) {
+    String base = input.endsWith(".json") ? input.substring(0, input.length() - 5) : input;
+    return base + BinaryGameFactory.FILE_EXTENSION;
+  }
+}
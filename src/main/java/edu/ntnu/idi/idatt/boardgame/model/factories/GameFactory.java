@@ -2,16 +2,33 @@ package edu.ntnu.idi.idatt.boardgame.model.factories;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import edu.ntnu.idi.idatt.boardgame.model.actions.TileAction;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Board;
 import edu.ntnu.idi.idatt.boardgame.model.entities.Game;
-import edu.ntnu.idi.idatt.boardgame.model.factories.adapters.GameAdapter;
-import edu.ntnu.idi.idatt.boardgame.model.factories.adapters.TileActionAdapter;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Tile;
+import edu.ntnu.idi.idatt.boardgame.model.factories.adapters.BoardTypeAdapter;
+import edu.ntnu.idi.idatt.boardgame.model.factories.adapters.GameTypeAdapter;
+import edu.ntnu.idi.idatt.boardgame.model.factories.adapters.LazyBoardTypeAdapter;
+import edu.ntnu.idi.idatt.boardgame.model.factories.adapters.TileActionTypeAdapter;
+import edu.ntnu.idi.idatt.boardgame.model.factories.adapters.TileTypeAdapter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.function.Supplier;
 
 
 /**
  * Factory for creating games from JSON and creating JSON from games.
+ * <p>
+ * A single {@link Gson} instance with streaming type adapters is shared by all calls, which is
+ * safe since Gson and the adapters hold no state between calls.
+ * </p>
  */
 public class GameFactory {
 
+  private static final Gson GSON = createGson();
 
   /**
    * Create a game from a JSON representation.
@@ -20,19 +37,87 @@ public class GameFactory {
    * @return the game.
    */
   public static Game createGame(String json) {
-    Gson gson = getGson();
-    Game game = gson.fromJson(json, Game.class);
+    return createGame(new StringReader(json));
+  }
+
+  /**
+   * Create a game from a JSON representation read from a reader.
+   * <p>
+   * The game is parsed as it is read, so the JSON never needs to be held in memory as a whole.
+   * </p>
+   *
+   * @param json the reader of the JSON representation of the game.
+   * @return the game.
+   * @throws JsonParseException if the JSON is not a valid game.
+   * @since v3.1.0
+   */
+  public static Game createGame(Reader json) {
+    Game game = GSON.fromJson(json, Game.class);
     game.resolveReferences(game.getBoard());
     return game;
   }
 
   /**
-   * Create a game from a board.
+   * Create a game from a JSON representation without reading its tiles.
+   * <p>
+   * Only the details of the game and the size of its board are read. The board is a
+   * {@link edu.ntnu.idi.idatt.boardgame.model.entities.LazyBoard} which takes its tiles from the
+   * board returned by the loader once they are needed.
+   * </p>
+   *
+   * @param json        the JSON representation of the game.
+   * @param boardLoader supplies the fully loaded board of the game.
+   * @return the game.
+   * @throws JsonParseException if the JSON is not a valid game.
+   * @since v3.1.0
+   */
+  public static Game createGameHeader(String json, Supplier<Board> boardLoader) {
+    return createGameHeader(new StringReader(json), boardLoader);
+  }
+
+  /**
+   * Create a game from a JSON representation read from a reader, without reading its tiles.
+   *
+   * @param json        the reader of the JSON representation of the game.
+   * @param boardLoader supplies the fully loaded board of the game.
+   * @return the game.
+   * @throws JsonParseException if the JSON is not a valid game.
+   * @see #createGameHeader(String, Supplier)
+   * @since v3.1.0
+   */
+  public static Game createGameHeader(Reader json, Supplier<Board> boardLoader) {
+    GameTypeAdapter adapter = new GameTypeAdapter(new LazyBoardTypeAdapter(boardLoader));
+    try (JsonReader reader = new JsonReader(json)) {
+      reader.setLenient(true);
+      return adapter.read(reader);
+    } catch (IOException | IllegalStateException e) {
+      throw new JsonParseException("Failed to read game header", e);
+    }
+  }
+
+  /**
+   * Create a JSON representation of a game.
+   *
+   * @param game the game.
+   * @return the JSON representation of the game.
+   * @since v3.1.0
+   */
+  public static String toJson(Game game) {
+    return GSON.toJson(game, Game.class);
+  }
+
+  /**
+   * Create the Gson instance with the streaming adapters for games, boards, tiles and actions.
    */
-  private static Gson getGson() {
+  private static Gson createGson() {
+    TileActionTypeAdapter actionAdapter = new TileActionTypeAdapter();
+    TileTypeAdapter tileAdapter = new TileTypeAdapter(actionAdapter);
+    BoardTypeAdapter boardAdapter = new BoardTypeAdapter(tileAdapter);
     return new GsonBuilder()
-        .registerTypeAdapter(Game.class, new GameAdapter())
-        .registerTypeAdapterFactory(TileActionAdapter.getFactory())
+        .registerTypeAdapter(Game.class, new GameTypeAdapter(boardAdapter))
+        .registerTypeAdapter(Board.class, boardAdapter)
+        .registerTypeAdapter(Tile.class, tileAdapter)
+        .registerTypeHierarchyAdapter(TileAction.class, actionAdapter)
         .create();
   }
-}
\ No newline at end of file
+}
@@ -1,33 +1,127 @@
 package edu.ntnu.idi.idatt.boardgame.model.factories;
 
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import edu.ntnu.idi.idatt.boardgame.model.entities.Question;
-import edu.ntnu.idi.idatt.boardgame.model.entities.QuestionCategory;
-import java.util.HashMap;
+import edu.ntnu.idi.idatt.boardgame.model.factories.adapters.QuestionTypeAdapter;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import lombok.NonNull;
 
 /**
  * Factory class for creating Question objects.
  */
 public class QuestionFactory {
 
+  private static final QuestionTypeAdapter ADAPTER = new QuestionTypeAdapter();
+
   /**
    * Creates a Question object from a JSON object.
+   * <p>
+   * The difficulty is optional and defaults to {@link Question#DEFAULT_DIFFICULTY}.
+   * </p>
    *
    * @param jsonObject The JSON object containing question data.
    * @return A Question object.
+   * @throws JsonParseException if the JSON object is not a valid question.
    */
   public static Question createQuestion(JsonObject jsonObject) {
-    String questionText = jsonObject.get("question").getAsString();
-    QuestionCategory category = QuestionCategory.valueOf(jsonObject.get("category").getAsString());
+    return ADAPTER.fromJsonTree(jsonObject);
+  }
 
-    JsonObject answersJson = jsonObject.getAsJsonObject("answers");
-    HashMap<Integer, String> answers = new HashMap<>();
-    answersJson.entrySet().forEach(entry ->
-        answers.put(Integer.parseInt(entry.getKey()), entry.getValue().getAsString())
-    );
+  /**
+   * Reads a JSON array of questions, passing each question on as soon as it has been read.
+   * <p>
+   * Only one question is held in memory at a time, so a question bank of any size can be read
+   * from a stream. An entry which is not a valid question is skipped and reported, and reading
+   * continues with the next entry.
+   * </p>
+   *
+   * @param json       The reader of the JSON array.
+   * @param onQuestion Called with each valid question, in the order of the array.
+   * @param onInvalid  Called with the position in the array and the error of each skipped entry.
+   * @throws JsonParseException if the JSON is malformed or not an array, after the questions before
+   *                            the error have been passed on.
+   * @since v3.1.0
+   */
+  public static void readQuestions(Reader json, Consumer<Question> onQuestion,
+      BiConsumer<Integer, JsonParseException> onInvalid) {
+    readQuestions(json, ADAPTER, onQuestion, onInvalid);
+  }
 
-    int correctAnswerIndex = jsonObject.get("correctAnswerIndex").getAsInt();
+  /**
+   * Reads a JSON array of questions like {@link #readQuestions(Reader, Consumer, BiConsumer)},
+   * interning the answers of the questions in a pool.
+   *
+   * @param json       The reader of the JSON array.
+   * @param pool       The pool to intern answers in.
+   * @param onQuestion Called with each valid question, in the order of the array.
+   * @param onInvalid  Called with the position in the array and the error of each skipped entry.
+   * @throws JsonParseException if the JSON is malformed or not an array, after the questions before
+   *                            the error have been passed on.
+   * @since v3.1.0
+   */
+  public static void readQuestions(Reader json, @NonNull StringPool pool,
+      Consumer<Question> onQuestion, BiConsumer<Integer, JsonParseException> onInvalid) {
+    readQuestions(json, new QuestionTypeAdapter(pool), onQuestion, onInvalid);
+  }
+
+  private static void readQuestions(Reader json, QuestionTypeAdapter adapter,
+      Consumer<Question> onQuestion, BiConsumer<Integer, JsonParseException> onInvalid) {
+    try (JsonReader reader = new JsonReader(json)) {
+      reader.setLenient(true);
+      reader.beginArray();
+      for (int index = 0; reader.hasNext(); index++) {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+          reader.skipValue();
+          onInvalid.accept(index, new JsonParseException("Question is not a JSON object"));
+          continue;
+        }
+        Question question;
+        try {
+          question = adapter.read(reader);
+        } catch (JsonParseException e) {
+          onInvalid.accept(index, e);
+          continue;
+        } catch (IllegalStateException e) {
+          // the JSON itself is malformed, which ends the array
+          throw e;
+        } catch (RuntimeException e) {
+          skipRest(reader, index);
+          onInvalid.accept(index, new JsonParseException("Invalid question: " + e, e));
+          continue;
+        }
+        onQuestion.accept(question);
+      }
+      reader.endArray();
+    } catch (IOException | IllegalStateException e) {
+      throw new JsonParseException("Failed to read questions: " + e.getMessage(), e);
+    }
+  }
 
-    return new Question(questionText, category, answers, correctAnswerIndex);
+  /**
+   * Skips what is left of an entry of the array after reading it failed within the entry.
+   *
+   * @param reader the reader, within or after the entry
+   * @param index  the position of the entry in the array
+   * @throws IOException if reading fails
+   */
+  private static void skipRest(JsonReader reader, int index) throws IOException {
+    String next = "$[" + (index + 1) + "]";
+    while (!reader.getPath().equals(next)) {
+      switch (reader.peek()) {
+        case END_OBJECT -> reader.endObject();
+        case END_ARRAY -> reader.endArray();
+        case NAME -> reader.nextName();
+        case END_DOCUMENT -> {
+          return;
+        }
+        default -> reader.skipValue();
+      }
+    }
   }
-}
\ No newline at end of file
+}
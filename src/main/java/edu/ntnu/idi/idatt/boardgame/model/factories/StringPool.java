@@ -0,0 +1,81 @@
+package edu.ntnu.idi.idatt.boardgame.model.factories;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread safe pool of canonical string instances.
+ * <p>
+ * Used while loading data with many repeated strings, such as the answers of a question bank, so
+ * that every occurrence of a string shares one instance and the copies read from the file can be
+ * collected. Unlike {@link String#intern()} the pool is owned by its user and dropped with it.
+ * </p>
+ *
+ * @since v3.1.0
+ */
+public class StringPool {
+
+  private final Map<String, String> strings = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder savedBytes = new LongAdder();
+
+  /**
+   * Returns the canonical instance of a string, adding it to the pool if it is new.
+   *
+   * @param string the string, may be null
+   * @return the canonical instance equal to the string, or null if the string is null
+   */
+  public String intern(String string) {
+    if (string == null) {
+      return null;
+    }
+    String canonical = strings.putIfAbsent(string, string);
+    if (canonical == null) {
+      return string;
+    }
+    hits.increment();
+    savedBytes.add(estimateSize(string));
+    return canonical;
+  }
+
+  /**
+   * Returns the number of distinct strings in the pool.
+   *
+   * @return the number of strings
+   */
+  public int size() {
+    return strings.size();
+  }
+
+  /**
+   * Returns the number of strings replaced by an instance already in the pool.
+   *
+   * @return the number of replaced strings
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns the estimated heap size of the strings replaced by an instance already in the pool.
+   *
+   * @return the estimated number of bytes saved
+   */
+  public long getSavedBytes() {
+    return savedBytes.sum();
+  }
+
+  /**
+   * Estimates the heap size of a string with compressed object pointers and compact strings.
+   *
+   * @param string the string
+   * @return the estimated size in bytes of the string and its byte array
+   */
+  public static long estimateSize(String string) {
+    boolean latin1 = string.chars().allMatch(c -> c < 256);
+    long bytes = (long) string.length() * (latin1 ? 1 : 2);
+    // 24 bytes of string header, and the byte array header rounded up to 8 bytes with its data
+    return 24 + ((16 + bytes + 7) & ~7L);
+  }
+}
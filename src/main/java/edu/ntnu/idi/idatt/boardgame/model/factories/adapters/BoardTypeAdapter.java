@@ -0,0 +1,114 @@
+package edu.ntnu.idi.idatt.boardgame.model.factories.adapters;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Board;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Tile;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.NonNull;
+
+/**
+ * Streaming GSON adapter for a Board.
+ * <p>
+ * The tiles are stored as an object keyed by tile ID. Since {@code "rowCount"} and
+ * {@code "colCount"} may come after the tiles, the tiles are collected in a list and added to the
+ * board at the end of the object. Tiles are put directly into the tile map without the range check
+ * of {@link Board#addTile(Tile)}, so boards without a row and column count keep loading.
+ * </p>
+ *
+ * @see Board
+ * @since v3.1.0
+ */
+public class BoardTypeAdapter extends TypeAdapter<Board> {
+
+  private final TypeAdapter<Tile> tileAdapter;
+
+  /**
+   * Constructs a board adapter.
+   *
+   * @param tileAdapter the adapter used for the tiles of a board
+   */
+  public BoardTypeAdapter(@NonNull TypeAdapter<Tile> tileAdapter) {
+    this.tileAdapter = tileAdapter;
+  }
+
+  /**
+   * Writes a board as a JSON object, with the tiles ordered by tile ID.
+   *
+   * @param out   the writer to write to
+   * @param board the board to write, may be null
+   * @throws IOException if writing fails
+   */
+  @Override
+  public void write(JsonWriter out, Board board) throws IOException {
+    if (board == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("rowCount").value(board.getRowCount());
+    out.name("colCount").value(board.getColCount());
+    out.name("tiles");
+    out.beginObject();
+    for (int tileId : board.getTiles().keySet().stream().sorted().toList()) {
+      out.name(String.valueOf(tileId));
+      tileAdapter.write(out, board.getTile(tileId));
+    }
+    out.endObject();
+    out.endObject();
+  }
+
+  /**
+   * Reads a board from a JSON object.
+   *
+   * @param in the reader to read from
+   * @return the board, or null if the JSON value is null
+   * @throws IOException        if reading fails
+   * @throws JsonParseException if a tile key is not a number
+   */
+  @Override
+  public Board read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    int rowCount = 0;
+    int colCount = 0;
+    List<Integer> tileIds = new ArrayList<>();
+    List<Tile> tiles = new ArrayList<>();
+
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "rowCount" -> rowCount = in.nextInt();
+        case "colCount" -> colCount = in.nextInt();
+        case "tiles" -> {
+          in.beginObject();
+          while (in.hasNext()) {
+            String key = in.nextName();
+            try {
+              tileIds.add(Integer.parseInt(key));
+            } catch (NumberFormatException e) {
+              throw new JsonParseException("Tile key is not a number: " + key, e);
+            }
+            tiles.add(tileAdapter.read(in));
+          }
+          in.endObject();
+        }
+        default -> in.skipValue();
+      }
+    }
+    in.endObject();
+
+    Board board = new Board(rowCount, colCount);
+    for (int i = 0; i < tiles.size(); i++) {
+      board.getTiles().put(tileIds.get(i), tiles.get(i));
+    }
+    return board;
+  }
+}
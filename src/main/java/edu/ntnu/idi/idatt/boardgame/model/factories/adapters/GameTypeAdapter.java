@@ -0,0 +1,141 @@
+package edu.ntnu.idi.idatt.boardgame.model.factories.adapters;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Board;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Game;
+import java.io.IOException;
+import lombok.NonNull;
+
+/**
+ * Streaming GSON adapter for a Game.
+ * <p>
+ * The game is read in a single pass with a {@link JsonReader}, delegating the board to a board
+ * adapter, without building an intermediate JSON tree. Tile references are not resolved by this
+ * adapter.
+ * </p>
+ *
+ * @see Game
+ * @since v3.1.0
+ */
+public class GameTypeAdapter extends TypeAdapter<Game> {
+
+  private final TypeAdapter<Board> boardAdapter;
+
+  /**
+   * Constructs a game adapter.
+   *
+   * @param boardAdapter the adapter used for the board of a game
+   */
+  public GameTypeAdapter(@NonNull TypeAdapter<Board> boardAdapter) {
+    this.boardAdapter = boardAdapter;
+  }
+
+  /**
+   * Writes a game as a JSON object.
+   *
+   * @param out  the writer to write to
+   * @param game the game to write, may be null
+   * @throws IOException if writing fails
+   */
+  @Override
+  public void write(JsonWriter out, Game game) throws IOException {
+    if (game == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("id").value(game.getId());
+    out.name("name").value(game.getName());
+    out.name("description").value(game.getDescription());
+    out.name("minPlayers").value(game.getMinPlayers());
+    out.name("maxPlayers").value(game.getMaxPlayers());
+    out.name("numberOfDice").value(game.getNumberOfDice());
+    if (game.getImagePath().isPresent()) {
+      out.name("imagePath").value(game.getImagePath().get());
+    }
+    out.name("board");
+    boardAdapter.write(out, game.getBoard());
+    out.endObject();
+  }
+
+  /**
+   * Reads a game from a JSON object.
+   *
+   * @param in the reader to read from
+   * @return the game, or null if the JSON value is null
+   * @throws IOException        if reading fails
+   * @throws JsonParseException if a required property is missing
+   */
+  @Override
+  public Game read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    String id = null;
+    String name = null;
+    String description = null;
+    Integer minPlayers = null;
+    Integer maxPlayers = null;
+    Integer numberOfDice = null;
+    String imagePath = null;
+    Board board = null;
+
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "id" -> id = in.nextString();
+        case "name" -> name = in.nextString();
+        case "description" -> description = in.nextString();
+        case "minPlayers" -> minPlayers = in.nextInt();
+        case "maxPlayers" -> maxPlayers = in.nextInt();
+        case "numberOfDice" -> numberOfDice = in.nextInt();
+        case "imagePath" -> imagePath = readNullableString(in);
+        case "board" -> board = boardAdapter.read(in);
+        default -> in.skipValue();
+      }
+    }
+    in.endObject();
+
+    requireProperty(id, "id");
+    requireProperty(name, "name");
+    requireProperty(description, "description");
+    requireProperty(minPlayers, "minPlayers");
+    requireProperty(maxPlayers, "maxPlayers");
+    requireProperty(numberOfDice, "numberOfDice");
+    requireProperty(board, "board");
+    return new Game(board, name, description, id, minPlayers, maxPlayers, numberOfDice, imagePath);
+  }
+
+  /**
+   * Reads a string that may be null.
+   *
+   * @param in the reader to read from
+   * @return the string, or null if the JSON value is null
+   * @throws IOException if reading fails
+   */
+  private static String readNullableString(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    return in.nextString();
+  }
+
+  /**
+   * Checks that a required property was present in the JSON object.
+   *
+   * @param value    the value read for the property
+   * @param property the property name
+   * @throws JsonParseException if the value is null
+   */
+  private static void requireProperty(Object value, String property) {
+    if (value == null) {
+      throw new JsonParseException("Game is missing required property: " + property);
+    }
+  }
+}
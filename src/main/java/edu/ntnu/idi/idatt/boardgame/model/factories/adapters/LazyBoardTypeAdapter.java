@@ -0,0 +1,75 @@
+package edu.ntnu.idi.idatt.boardgame.model.factories.adapters;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Board;
+import edu.ntnu.idi.idatt.boardgame.model.entities.LazyBoard;
+import java.io.IOException;
+import java.util.function.Supplier;
+import lombok.NonNull;
+
+/**
+ * Streaming GSON adapter reading only the size of a Board.
+ * <p>
+ * The tiles are skipped without being deserialized, and a {@link LazyBoard} is returned which
+ * loads them with the given loader once they are needed. This adapter can not write boards.
+ * </p>
+ *
+ * @see LazyBoard
+ * @since v3.1.0
+ */
+public class LazyBoardTypeAdapter extends TypeAdapter<Board> {
+
+  private final Supplier<Board> loader;
+
+  /**
+   * Constructs a lazy board adapter.
+   *
+   * @param loader supplies the fully loaded board when the tiles of the read board are needed
+   */
+  public LazyBoardTypeAdapter(@NonNull Supplier<Board> loader) {
+    this.loader = loader;
+  }
+
+  /**
+   * Not supported, since the board read by this adapter has no tiles until loaded.
+   *
+   * @param out   the writer to write to
+   * @param board the board to write
+   * @throws UnsupportedOperationException always
+   */
+  @Override
+  public void write(JsonWriter out, Board board) {
+    throw new UnsupportedOperationException("LazyBoardTypeAdapter can only read boards");
+  }
+
+  /**
+   * Reads the size of a board from a JSON object, skipping its tiles.
+   *
+   * @param in the reader to read from
+   * @return the lazy board, or null if the JSON value is null
+   * @throws IOException if reading fails
+   */
+  @Override
+  public Board read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    int rowCount = 0;
+    int colCount = 0;
+
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "rowCount" -> rowCount = in.nextInt();
+        case "colCount" -> colCount = in.nextInt();
+        default -> in.skipValue();
+      }
+    }
+    in.endObject();
+    return new LazyBoard(rowCount, colCount, loader);
+  }
+}
@@ -0,0 +1,275 @@
+package edu.ntnu.idi.idatt.boardgame.model.factories.adapters;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Question;
+import edu.ntnu.idi.idatt.boardgame.model.entities.QuestionCategory;
+import edu.ntnu.idi.idatt.boardgame.model.factories.StringPool;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * Streaming GSON adapter for a Question.
+ * <p>
+ * The whole JSON object of a question is always consumed, also when the question is invalid, so
+ * a reader of a list of questions can skip an invalid question and continue with the next one.
+ * Values of the wrong type are skipped and treated as missing. Answers are collected straight into
+ * the array stored by the question, without an intermediate map.
+ * </p>
+ * <p>
+ * The question text and answers are normalised by trimming them and collapsing runs of whitespace
+ * into a single space. An adapter with a {@link StringPool} also interns the answers, so the many
+ * repeated answers of a large question bank share one instance each.
+ * </p>
+ *
+ * @see Question
+ * @since v3.1.0
+ */
+public class QuestionTypeAdapter extends TypeAdapter<Question> {
+
+  /// The highest number of answers a question may span from its lowest to its highest index
+  public static final int MAX_ANSWER_SPAN = 64;
+
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+  private final StringPool pool;
+
+  /**
+   * Constructs an adapter which does not intern answers.
+   */
+  public QuestionTypeAdapter() {
+    this(null);
+  }
+
+  /**
+   * Constructs an adapter interning the answers of the questions it reads.
+   *
+   * @param pool the pool to intern answers in, or null to not intern answers
+   */
+  public QuestionTypeAdapter(StringPool pool) {
+    this.pool = pool;
+  }
+
+  /**
+   * Not supported, questions are only read from question banks.
+   *
+   * @param out      the writer to write to
+   * @param question the question to write
+   * @throws UnsupportedOperationException always
+   */
+  @Override
+  public void write(JsonWriter out, Question question) {
+    throw new UnsupportedOperationException("QuestionTypeAdapter can only read questions");
+  }
+
+  /**
+   * Reads a question from a JSON object.
+   *
+   * @param in the reader to read from
+   * @return the question, or null if the JSON value is null
+   * @throws IOException        if reading fails or the JSON is malformed
+   * @throws JsonParseException if the object is not a valid question, after the whole object has
+   *                            been read
+   */
+  @Override
+  public Question read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    String text = null;
+    String category = null;
+    Integer correctAnswerIndex = null;
+    Integer difficulty = Question.DEFAULT_DIFFICULTY;
+    Answers answers = null;
+
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "question" -> text = normalize(readString(in));
+        case "category" -> category = readString(in);
+        case "answers" -> answers = readAnswers(in);
+        case "correctAnswerIndex" -> correctAnswerIndex = readInt(in);
+        case "difficulty" -> difficulty = readInt(in);
+        default -> in.skipValue();
+      }
+    }
+    in.endObject();
+
+    if (text == null) {
+      throw new JsonParseException("Question is missing its text");
+    }
+    if (category == null) {
+      throw new JsonParseException("Question is missing its category");
+    }
+    QuestionCategory questionCategory;
+    try {
+      questionCategory = QuestionCategory.valueOf(category);
+    } catch (IllegalArgumentException e) {
+      throw new JsonParseException("Unknown question category: " + category);
+    }
+    if (answers != null && answers.error != null) {
+      throw new JsonParseException(answers.error);
+    }
+    if (answers == null || answers.count == 0) {
+      throw new JsonParseException("Question has no answers");
+    }
+    if (correctAnswerIndex == null || answers.get(correctAnswerIndex) == null) {
+      throw new JsonParseException("Question has no answer at its correct answer index");
+    }
+    if (difficulty == null || difficulty < 1) {
+      throw new JsonParseException("Question difficulty must be a number of at least 1");
+    }
+    return new Question(text, questionCategory, answers.first, answers.toArray(),
+        correctAnswerIndex, difficulty);
+  }
+
+  /**
+   * Answers collected by index, growing in both directions as indexes are read, up to a span of
+   * {@link #MAX_ANSWER_SPAN} indexes.
+   */
+  private static final class Answers {
+
+    private String[] answers = new String[4];
+    private int first;
+    private int last;
+    private int count;
+    /// Why the answers are invalid, or null if they are valid
+    private String error;
+
+    String get(int index) {
+      long position = (long) index - first;
+      return count > 0 && position >= 0 && position <= last - first ? answers[(int) position]
+          : null;
+    }
+
+    void put(int index, String answer) {
+      if (count == 0) {
+        first = index;
+        last = index;
+      } else if (index < first) {
+        String[] grown = new String[Math.max(answers.length, last - index + 1)];
+        System.arraycopy(answers, 0, grown, first - index, last - first + 1);
+        answers = grown;
+        first = index;
+      } else if (index > last) {
+        if (index - first >= answers.length) {
+          answers = Arrays.copyOf(answers, Math.max(answers.length * 2, index - first + 1));
+        }
+        last = index;
+      }
+      if (answers[index - first] == null) {
+        count++;
+      }
+      answers[index - first] = answer;
+    }
+
+    String[] toArray() {
+      return Arrays.copyOf(answers, last - first + 1);
+    }
+  }
+
+  /**
+   * Reads the answers object of a question.
+   * <p>
+   * Answers whose index is not an integer are ignored. A negative index, or indexes spanning more
+   * than {@link #MAX_ANSWER_SPAN} answers, make the answers invalid, which is only reported once
+   * the whole object has been read, so the reader stays at the end of the object.
+   * </p>
+   *
+   * @param in the reader to read from
+   * @return the answers, or null if the value is not an object
+   * @throws IOException if reading fails
+   */
+  private Answers readAnswers(JsonReader in) throws IOException {
+    if (in.peek() != JsonToken.BEGIN_OBJECT) {
+      in.skipValue();
+      return null;
+    }
+    Answers answers = new Answers();
+    in.beginObject();
+    while (in.hasNext()) {
+      Integer index = parseInt(in.nextName());
+      String answer = normalize(readString(in));
+      if (index == null || answer == null || answers.error != null) {
+        continue;
+      }
+      if (index < 0) {
+        answers.error = "Answer index must not be negative: " + index;
+      } else if (answers.count > 0 && (long) Math.max(answers.last, index)
+          - Math.min(answers.first, index) + 1 > MAX_ANSWER_SPAN) {
+        answers.error = "Answer indexes must not span more than " + MAX_ANSWER_SPAN + " answers";
+      } else {
+        answers.put(index, pool == null ? answer : pool.intern(answer));
+      }
+    }
+    in.endObject();
+    return answers;
+  }
+
+  /**
+   * Trims a string and collapses runs of whitespace into a single space.
+   *
+   * @param value the string, may be null
+   * @return the normalised string, the same instance if it was already normalised
+   */
+  private static String normalize(String value) {
+    if (value == null) {
+      return null;
+    }
+    String trimmed = value.strip();
+    for (int i = 0; i < trimmed.length(); i++) {
+      char c = trimmed.charAt(i);
+      if (Character.isWhitespace(c)
+          && (c != ' ' || Character.isWhitespace(trimmed.charAt(i + 1)))) {
+        return WHITESPACE.matcher(trimmed).replaceAll(" ");
+      }
+    }
+    return trimmed;
+  }
+
+  /**
+   * Reads a string or number as a string.
+   *
+   * @param in the reader to read from
+   * @return the value, or null if the value is of another type
+   * @throws IOException if reading fails
+   */
+  private static String readString(JsonReader in) throws IOException {
+    JsonToken token = in.peek();
+    if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+      return in.nextString();
+    }
+    in.skipValue();
+    return null;
+  }
+
+  /**
+   * Reads an integer.
+   *
+   * @param in the reader to read from
+   * @return the value, or null if the value is not an integer
+   * @throws IOException if reading fails
+   */
+  private static Integer readInt(JsonReader in) throws IOException {
+    String value = readString(in);
+    return value == null ? null : parseInt(value);
+  }
+
+  /**
+   * Parses an integer.
+   *
+   * @param value the text
+   * @return the integer, or null if the text is not an integer
+   */
+  private static Integer parseInt(String value) {
+    try {
+      return Integer.parseInt(value.trim());
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package edu.ntnu.idi.idatt.boardgame.model.factories.adapters;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import edu.ntnu.idi.idatt.boardgame.model.actions.TileAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.freeze.FreezeAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.goal.GoalTileAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.immunity.ImmunityAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.ladder.LadderAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.quiz.QuizTileAction;
+import edu.ntnu.idi.idatt.boardgame.model.entities.QuestionCategory;
+import java.io.IOException;
+
+/**
+ * Streaming GSON adapter for all subtypes of TileAction.
+ * <p>
+ * An action is written as an object with a {@code "type"} property naming the subtype, followed by
+ * the properties of that subtype. When reading, the properties may come in any order, so the
+ * subtype properties are collected while reading and the action is created at the end of the
+ * object.
+ * </p>
+ *
+ * @see TileAction
+ * @since v3.1.0
+ */
+public class TileActionTypeAdapter extends TypeAdapter<TileAction> {
+
+  private static final String LADDER = "LADDER";
+  private static final String FREEZE = "FREEZE";
+  private static final String QUIZ = "QUIZ";
+  private static final String GOAL = "GOAL";
+  private static final String IMMUNITY = "IMMUNITY";
+
+  /**
+   * Writes a tile action as a JSON object.
+   *
+   * @param out    the writer to write to
+   * @param action the action to write, may be null
+   * @throws IOException              if writing fails
+   * @throws IllegalArgumentException if the action type is not supported
+   */
+  @Override
+  public void write(JsonWriter out, TileAction action) throws IOException {
+    if (action == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    switch (action) {
+      case LadderAction ladderAction -> {
+        out.name("type").value(LADDER);
+        out.name("destinationTileId").value(ladderAction.getDestinationTileId());
+      }
+      case FreezeAction freezeAction -> out.name("type").value(FREEZE);
+      case QuizTileAction quizAction -> {
+        out.name("type").value(QUIZ);
+        if (quizAction.getCategory() != null) {
+          out.name("category").value(quizAction.getCategory().name());
+        }
+      }
+      case GoalTileAction goalAction -> out.name("type").value(GOAL);
+      case ImmunityAction immunityAction -> out.name("type").value(IMMUNITY);
+      default -> throw new IllegalArgumentException(
+          "Unsupported tile action: " + action.getClass().getName());
+    }
+    out.endObject();
+  }
+
+  /**
+   * Reads a tile action from a JSON object.
+   *
+   * @param in the reader to read from
+   * @return the action, or null if the JSON value is null
+   * @throws IOException        if reading fails
+   * @throws JsonParseException if the type is missing or unknown, or a required property is missing
+   */
+  @Override
+  public TileAction read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    String type = null;
+    Integer destinationTileId = null;
+    QuestionCategory category = null;
+
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "type" -> type = in.nextString();
+        case "destinationTileId" -> destinationTileId = in.nextInt();
+        case "category" -> category = readCategory(in);
+        default -> in.skipValue();
+      }
+    }
+    in.endObject();
+
+    if (type == null) {
+      throw new JsonParseException("Tile action is missing its type");
+    }
+    return switch (type) {
+      case LADDER -> {
+        if (destinationTileId == null) {
+          throw new JsonParseException("Ladder action is missing destinationTileId");
+        }
+        yield new LadderAction(destinationTileId);
+      }
+      case FREEZE -> new FreezeAction();
+      case QUIZ -> new QuizTileAction(category);
+      case GOAL -> new GoalTileAction();
+      case IMMUNITY -> new ImmunityAction();
+      default -> throw new JsonParseException("Unknown tile action type: " + type);
+    };
+  }
+
+  /**
+   * Reads a question category by its constant name.
+   *
+   * @param in the reader to read from
+   * @return the category, or null if the JSON value is null
+   * @throws IOException        if reading fails
+   * @throws JsonParseException if the category is unknown
+   */
+  private static QuestionCategory readCategory(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    String name = in.nextString();
+    try {
+      return QuestionCategory.valueOf(name);
+    } catch (IllegalArgumentException e) {
+      throw new JsonParseException("Unknown question category: " + name, e);
+    }
+  }
+}
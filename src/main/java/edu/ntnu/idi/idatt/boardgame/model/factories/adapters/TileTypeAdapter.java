@@ -0,0 +1,123 @@
+package edu.ntnu.idi.idatt.boardgame.model.factories.adapters;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import edu.ntnu.idi.idatt.boardgame.model.actions.TileAction;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Tile;
+import java.io.IOException;
+import lombok.NonNull;
+
+/**
+ * Streaming GSON adapter for a Tile.
+ * <p>
+ * The tile is built through {@link Tile.Builder}, so a missing or null {@code nextTileId} or
+ * {@code previousTileId} means that there is no such tile. References to other tiles are not
+ * resolved by this adapter.
+ * </p>
+ *
+ * @see Tile
+ * @since v3.1.0
+ */
+public class TileTypeAdapter extends TypeAdapter<Tile> {
+
+  private final TypeAdapter<TileAction> actionAdapter;
+
+  /**
+   * Constructs a tile adapter.
+   *
+   * @param actionAdapter the adapter used for the action of a tile
+   */
+  public TileTypeAdapter(@NonNull TypeAdapter<TileAction> actionAdapter) {
+    this.actionAdapter = actionAdapter;
+  }
+
+  /**
+   * Writes a tile as a JSON object.
+   *
+   * @param out  the writer to write to
+   * @param tile the tile to write, may be null
+   * @throws IOException if writing fails
+   */
+  @Override
+  public void write(JsonWriter out, Tile tile) throws IOException {
+    if (tile == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("tileId").value(tile.getTileId());
+    out.name("row").value(tile.getRow());
+    out.name("col").value(tile.getCol());
+    out.name("nextTileId").value(tile.getNextTileId());
+    out.name("previousTileId").value(tile.getPreviousTileId());
+    if (tile.getAction().isPresent()) {
+      out.name("action");
+      actionAdapter.write(out, tile.getAction().get());
+    }
+    out.endObject();
+  }
+
+  /**
+   * Reads a tile from a JSON object.
+   *
+   * @param in the reader to read from
+   * @return the tile, or null if the JSON value is null
+   * @throws IOException        if reading fails
+   * @throws JsonParseException if the tile ID is missing
+   */
+  @Override
+  public Tile read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    Integer tileId = null;
+    int row = 0;
+    int col = 0;
+    int nextTileId = -1;
+    int previousTileId = -1;
+    TileAction action = null;
+
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "tileId" -> tileId = in.nextInt();
+        case "row" -> row = in.nextInt();
+        case "col" -> col = in.nextInt();
+        case "nextTileId" -> nextTileId = readTileId(in);
+        case "previousTileId" -> previousTileId = readTileId(in);
+        case "action" -> action = actionAdapter.read(in);
+        default -> in.skipValue();
+      }
+    }
+    in.endObject();
+
+    if (tileId == null) {
+      throw new JsonParseException("Tile is missing tileId");
+    }
+    return new Tile.Builder(tileId)
+        .position(row, col)
+        .nextTileId(nextTileId)
+        .previousTileId(previousTileId)
+        .action(action)
+        .build();
+  }
+
+  /**
+   * Reads a reference to another tile.
+   *
+   * @param in the reader to read from
+   * @return the tile ID, or -1 if the JSON value is null
+   * @throws IOException if reading fails
+   */
+  private static int readTileId(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return -1;
+    }
+    return in.nextInt();
+  }
+}
@@ -0,0 +1,203 @@
+package edu.ntnu.idi.idatt.boardgame.model.journal;
+
+import edu.ntnu.idi.idatt.boardgame.model.GameEngine;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Player;
+import edu.ntnu.idi.idatt.boardgame.model.events.GameEventKind;
+import edu.ntnu.idi.idatt.boardgame.model.events.PackedGameEvent;
+import edu.ntnu.idi.idatt.boardgame.model.events.PackedGameEventListener;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * An append-only binary log of a game, from which the game can be replayed.
+ * <p>
+ * The journal is a {@link PackedGameEventListener} of a {@link GameEngine}, recording every event
+ * of the engine, including the answers given to questions. Together with the seed of the dice
+ * roller and the players written in the header, the events are enough for a {@link GameReplay} to
+ * play the game again and check that it plays out the same way.
+ * </p>
+ * <p>
+ * The file starts with a header holding the magic number {@code "BGJL"} as a little endian int,
+ * the format version, the seed as a little endian long, the ID of the game, the number of players
+ * and the name and the red, green and blue components of the color of each player. Each event
+ * follows as one byte holding the {@link GameEventKind} and the player index, tile ids and value of
+ * the {@link PackedGameEvent}, where the player index and tile ids are incremented by one so a
+ * missing player or tile is 0. Numbers are {@link Varint varints}, strings are their UTF-8 byte
+ * length followed by the bytes, and an event usually takes five bytes.
+ * </p>
+ * <p>
+ * Events are collected in a buffer and written to the file when the buffer is full, when the game
+ * ends and when the journal is closed. A journal is used by the thread playing the game, and is
+ * not thread safe.
+ * </p>
+ *
+ * @see GameReplay
+ * @since v3.1.0
+ */
+public final class GameJournal implements PackedGameEventListener, AutoCloseable {
+
+  /// The file extension of game journals
+  public static final String FILE_EXTENSION = ".bgj";
+  /// The size of the buffer holding events not yet written to the file
+  public static final int BUFFER_SIZE = 64 * 1024;
+
+  static final int MAGIC = 0x4C4A4742;
+  static final int VERSION = 1;
+
+  private static final int MAX_EVENT_BYTES = 1 + 4 * Varint.MAX_INT_BYTES;
+
+  private final GameEngine engine;
+  private final FileChannel channel;
+  private final ByteBuffer buffer =
+      ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+  /// The number of events recorded
+  @Getter
+  private long eventCount;
+  /// The number of bytes written to the file
+  @Getter
+  private long bytesWritten;
+  private boolean closed;
+
+  private GameJournal(GameEngine engine, FileChannel channel) {
+    this.engine = engine;
+    this.channel = channel;
+  }
+
+  /**
+   * Starts recording a game to a new journal file, replacing any existing file.
+   *
+   * @param engine the engine of the game, which must not have been started
+   * @param path   the path of the journal file
+   * @return the journal, closed to stop recording
+   * @throws IOException              if the file could not be created
+   * @throws IllegalStateException    if the game has been started
+   * @throws IllegalArgumentException if the board has tile ids which cannot be recorded
+   */
+  public static GameJournal record(@NonNull GameEngine engine, @NonNull Path path)
+      throws IOException {
+    if (engine.isGameStarted()) {
+      throw new IllegalStateException("A game must be recorded from before it is started");
+    }
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    try {
+      GameJournal journal = new GameJournal(engine, channel);
+      journal.writeHeader();
+      engine.addPackedListener(journal);
+      return journal;
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Records an event of the engine.
+   *
+   * @param event the event
+   * @throws UncheckedIOException if the buffered events could not be written to the file
+   */
+  @Override
+  public void onEvent(long event) {
+    if (closed) {
+      return;
+    }
+    try {
+      if (buffer.remaining() < MAX_EVENT_BYTES) {
+        flush();
+      }
+      GameEventKind kind = PackedGameEvent.kind(event);
+      buffer.put((byte) kind.ordinal());
+      Varint.putUnsigned(buffer, PackedGameEvent.playerIndex(event) + 1);
+      Varint.putUnsigned(buffer, PackedGameEvent.fromTileId(event) + 1);
+      Varint.putUnsigned(buffer, PackedGameEvent.toTileId(event) + 1);
+      Varint.putSigned(buffer, PackedGameEvent.value(event));
+      eventCount++;
+      if (kind == GameEventKind.GAME_ENDED) {
+        flush();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write game journal", e);
+    }
+  }
+
+  /**
+   * Writes the buffered events to the file.
+   *
+   * @throws IOException if the events could not be written
+   */
+  public void flush() throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      bytesWritten += channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  /**
+   * Stops recording, writing the buffered events to the file and closing it.
+   *
+   * @throws IOException if the events could not be written or the file could not be closed
+   */
+  @Override
+  public void close() throws IOException {
+    engine.removePackedListener(this);
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      flush();
+    } finally {
+      channel.close();
+    }
+  }
+
+  /**
+   * Writes the header of the journal.
+   *
+   * @throws IOException if the header could not be written
+   */
+  private void writeHeader() throws IOException {
+    buffer.putInt(MAGIC);
+    Varint.putUnsigned(buffer, VERSION);
+    buffer.putLong(engine.getDiceRoller().getSeed());
+    putString(engine.getGame().getId());
+    List<Player> players = engine.getPlayers();
+    Varint.putUnsigned(buffer, players.size());
+    for (Player player : players) {
+      putString(player.getName());
+      buffer.put((byte) player.getColor().r);
+      buffer.put((byte) player.getColor().g);
+      buffer.put((byte) player.getColor().b);
+    }
+    flush();
+  }
+
+  /**
+   * Writes a string as its UTF-8 byte length followed by the bytes.
+   *
+   * @param string the string
+   * @throws IOException if the buffer had to be flushed and could not be
+   */
+  private void putString(String string) throws IOException {
+    byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+    if (bytes.length + Varint.MAX_INT_BYTES > BUFFER_SIZE) {
+      throw new IllegalArgumentException("String is too long for the journal: " + string);
+    }
+    if (buffer.remaining() < bytes.length + Varint.MAX_INT_BYTES) {
+      flush();
+    }
+    Varint.putUnsigned(buffer, bytes.length);
+    buffer.put(bytes);
+  }
+}
@@ -0,0 +1,293 @@
+package edu.ntnu.idi.idatt.boardgame.model.journal;
+
+import edu.ntnu.idi.idatt.boardgame.model.GameEngine;
+import edu.ntnu.idi.idatt.boardgame.model.dice.DiceRoller;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Color;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Game;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Player;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Question;
+import edu.ntnu.idi.idatt.boardgame.model.events.GameEventKind;
+import edu.ntnu.idi.idatt.boardgame.model.events.PackedGameEvent;
+import edu.ntnu.idi.idatt.boardgame.model.events.PackedGameEventListener;
+import edu.ntnu.idi.idatt.boardgame.model.managers.QuizManager;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * A game read from a {@link GameJournal}, which can be played again to any turn.
+ * <p>
+ * Replaying creates a new {@link GameEngine} with the players of the journal and a dice roller
+ * with its seed, and drives it with the actions recorded in the journal: starting the game,
+ * rolling the dice and answering questions. Every event of the replayed engine is checked against
+ * the journal, so a journal which does not play out the same way, because it has been tampered
+ * with or the game or its questions have changed, fails to replay instead of giving a different
+ * game. Replaying runs without any observers, as fast as the engine can play.
+ * </p>
+ * <p>
+ * The events of the last turn may be missing from the journal of a game which was not closed
+ * properly. Reading stops at the last complete event, and replaying plays the rest of the turn.
+ * </p>
+ *
+ * @see GameJournal
+ * @since v3.1.0
+ */
+public final class GameReplay {
+
+  /// The seed of the dice roller of the game
+  @Getter
+  private final long seed;
+  /// The ID of the game
+  @Getter
+  private final String gameId;
+  private final List<Player> players;
+  private final long[] events;
+  /// The number of turns in the journal, counted as rolls of the dice
+  @Getter
+  private final int turnCount;
+
+  private GameReplay(long seed, String gameId, List<Player> players, long[] events) {
+    this.seed = seed;
+    this.gameId = gameId;
+    this.players = players;
+    this.events = events;
+    this.turnCount = (int) Arrays.stream(events)
+        .filter(event -> PackedGameEvent.kind(event) == GameEventKind.DICE_ROLLED)
+        .count();
+  }
+
+  /**
+   * Reads a journal file.
+   *
+   * @param path the path of the journal
+   * @return the game of the journal
+   * @throws IOException              if the file could not be read
+   * @throws IllegalArgumentException if the file is not a supported journal
+   */
+  public static GameReplay read(@NonNull Path path) throws IOException {
+    return read(ByteBuffer.wrap(Files.readAllBytes(path)));
+  }
+
+  /**
+   * Reads a journal from a buffer, from its position to its limit.
+   *
+   * @param buffer the journal
+   * @return the game of the journal
+   * @throws IllegalArgumentException if the data is not a supported journal
+   */
+  public static GameReplay read(@NonNull ByteBuffer buffer) {
+    ByteBuffer data = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    long seed;
+    String gameId;
+    List<Player> players = new ArrayList<>();
+    try {
+      if (data.getInt() != GameJournal.MAGIC) {
+        throw new IllegalArgumentException("Data is not a game journal");
+      }
+      int version = Varint.getUnsigned(data);
+      if (version != GameJournal.VERSION) {
+        throw new IllegalArgumentException("Unsupported game journal version: " + version);
+      }
+      seed = data.getLong();
+      gameId = getString(data);
+      int playerCount = Varint.getUnsigned(data);
+      for (int i = 0; i < playerCount; i++) {
+        String name = getString(data);
+        players.add(new Player(name,
+            new Color(data.get() & 0xFF, data.get() & 0xFF, data.get() & 0xFF)));
+      }
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Game journal header is incomplete", e);
+    }
+
+    long[] events = new long[Math.max(16, data.remaining() / 5)];
+    int count = 0;
+    while (data.hasRemaining()) {
+      long event;
+      try {
+        event = getEvent(data);
+      } catch (BufferUnderflowException e) {
+        break;
+      }
+      if (count == events.length) {
+        events = Arrays.copyOf(events, count * 2);
+      }
+      events[count++] = event;
+    }
+    return new GameReplay(seed, gameId, List.copyOf(players), Arrays.copyOf(events, count));
+  }
+
+  /**
+   * Returns the players of the game, in turn order.
+   *
+   * @return the players
+   */
+  public List<Player> getPlayers() {
+    return players;
+  }
+
+  /**
+   * Returns the number of events in the journal.
+   *
+   * @return the number of events
+   */
+  public int getEventCount() {
+    return events.length;
+  }
+
+  /**
+   * Returns an event of the journal.
+   *
+   * @param index the index of the event
+   * @return the event, decoded with the methods of {@link PackedGameEvent}
+   * @throws IndexOutOfBoundsException if there is no event with the index
+   */
+  public long getEvent(int index) {
+    return events[index];
+  }
+
+  /**
+   * Plays the whole game of the journal.
+   *
+   * @param game        the game the journal was recorded from
+   * @param quizManager the quiz manager, with the questions the game was played with loaded
+   * @return the engine, in the state it was in when the journal ended
+   * @throws IllegalArgumentException if the game is not the game of the journal
+   * @throws IllegalStateException    if the game does not play out as recorded
+   * @see #replay(Game, QuizManager, int)
+   */
+  public GameEngine replay(Game game, QuizManager quizManager) {
+    return replay(game, quizManager, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Plays the game of the journal up to a turn.
+   *
+   * @param game        the game the journal was recorded from
+   * @param quizManager the quiz manager, with the questions the game was played with loaded
+   * @param turn        the number of turns to play, where turn 0 is the game as it was started
+   * @return the engine, in the state it was in before the dice were rolled for the next turn, or
+   *     when the journal ended if it has no more turns
+   * @throws IllegalArgumentException if the game is not the game of the journal, or the turn is
+   *                                  negative
+   * @throws IllegalStateException    if the game does not play out as recorded
+   */
+  public GameEngine replay(@NonNull Game game, @NonNull QuizManager quizManager, int turn) {
+    if (!gameId.equals(game.getId())) {
+      throw new IllegalArgumentException(
+          "Journal is of game '" + gameId + "', not '" + game.getId() + "'");
+    }
+    if (turn < 0) {
+      throw new IllegalArgumentException("Turn cannot be negative");
+    }
+    GameEngine engine = new GameEngine(game, quizManager, players, DiceRoller.seeded(seed));
+    Verifier verifier = new Verifier();
+    engine.addPackedListener(verifier);
+
+    int turnsPlayed = 0;
+    while (verifier.next < events.length) {
+      long event = events[verifier.next];
+      switch (PackedGameEvent.kind(event)) {
+        case GAME_STARTED -> engine.startGame();
+        case DICE_ROLLED -> {
+          if (turnsPlayed == turn) {
+            engine.removePackedListener(verifier);
+            return engine;
+          }
+          engine.rollDiceAndMoveCurrentPlayer();
+          turnsPlayed++;
+        }
+        case QUESTION_ANSWERED -> engine.answerQuestion(answer(engine, event));
+        default -> throw verifier.diverged();
+      }
+    }
+    engine.removePackedListener(verifier);
+    return engine;
+  }
+
+  /**
+   * Returns the answer of a recorded answer event to the question being asked.
+   *
+   * @param engine the engine asking the question
+   * @param event  the answer event
+   * @return the answer, or an empty string if the recorded answer was not one of the answers
+   */
+  private static String answer(GameEngine engine, long event) {
+    Question question = engine.getCurrentQuestion()
+        .orElseThrow(() -> new IllegalStateException("Journal answers a question never asked"));
+    int index = PackedGameEvent.value(event);
+    List<String> answers = question.getAnswers();
+    if (index >= answers.size()) {
+      throw new IllegalStateException("Journal answers a question with another number of answers");
+    }
+    return index < 0 ? "" : answers.get(index);
+  }
+
+  /**
+   * Reads an event.
+   *
+   * @param data the journal, positioned at the event
+   * @return the event
+   * @throws BufferUnderflowException if the journal ends within the event
+   * @throws IllegalArgumentException if the event is malformed
+   */
+  private static long getEvent(ByteBuffer data) {
+    int kind = data.get() & 0xFF;
+    GameEventKind[] kinds = GameEventKind.values();
+    if (kind >= kinds.length) {
+      throw new IllegalArgumentException("Unknown game event kind: " + kind);
+    }
+    int player = Varint.getUnsigned(data) - 1;
+    int from = Varint.getUnsigned(data) - 1;
+    int to = Varint.getUnsigned(data) - 1;
+    int value = Varint.getSigned(data);
+    return PackedGameEvent.pack(kinds[kind], player, from, to, value);
+  }
+
+  /**
+   * Reads a string written as its UTF-8 byte length followed by the bytes.
+   *
+   * @param data the journal, positioned at the string
+   * @return the string
+   */
+  private static String getString(ByteBuffer data) {
+    int length = Varint.getUnsigned(data);
+    if (length < 0 || length > data.remaining()) {
+      throw new BufferUnderflowException();
+    }
+    byte[] bytes = new byte[length];
+    data.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Checks the events of the replayed engine against the journal, in order.
+   */
+  private final class Verifier implements PackedGameEventListener {
+
+    /// The index of the next event the engine is expected to fire
+    private int next;
+
+    @Override
+    public void onEvent(long event) {
+      // the rest of a turn cut off at the end of the journal is played without being checked
+      if (next < events.length && events[next] != event) {
+        throw diverged();
+      }
+      next++;
+    }
+
+    private IllegalStateException diverged() {
+      return new IllegalStateException("Replay diverged from the journal at event " + next);
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package edu.ntnu.idi.idatt.boardgame.model.journal;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Variable length encoding of integers, as used by the game journal.
+ * <p>
+ * A value is written seven bits at a time starting with the lowest bits, with the highest bit of
+ * each byte set when more bytes follow, so small values take a single byte. Signed values are
+ * zigzag encoded first, mapping values near zero to small unsigned values.
+ * </p>
+ *
+ * @see GameJournal
+ * @since v3.1.0
+ */
+final class Varint {
+
+  /// The largest number of bytes an int is encoded in
+  static final int MAX_INT_BYTES = 5;
+
+  private Varint() {
+  }
+
+  /**
+   * Writes an unsigned value.
+   *
+   * @param buffer the buffer to write to
+   * @param value  the value, treated as unsigned
+   */
+  static void putUnsigned(ByteBuffer buffer, int value) {
+    while ((value & ~0x7F) != 0) {
+      buffer.put((byte) (value & 0x7F | 0x80));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  /**
+   * Writes a signed value.
+   *
+   * @param buffer the buffer to write to
+   * @param value  the value
+   */
+  static void putSigned(ByteBuffer buffer, int value) {
+    putUnsigned(buffer, value << 1 ^ value >> 31);
+  }
+
+  /**
+   * Reads an unsigned value.
+   *
+   * @param buffer the buffer to read from
+   * @return the value
+   * @throws java.nio.BufferUnderflowException if the buffer ends within the value
+   * @throws IllegalArgumentException          if the value is longer than an int
+   */
+  static int getUnsigned(ByteBuffer buffer) {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      byte b = buffer.get();
+      value |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed varint");
+  }
+
+  /**
+   * Reads a signed value.
+   *
+   * @param buffer the buffer to read from
+   * @return the value
+   * @throws java.nio.BufferUnderflowException if the buffer ends within the value
+   * @throws IllegalArgumentException          if the value is longer than an int
+   */
+  static int getSigned(ByteBuffer buffer) {
+    int value = getUnsigned(buffer);
+    return value >>> 1 ^ -(value & 1);
+  }
+}
@@ -1,15 +1,24 @@
 package edu.ntnu.idi.idatt.boardgame.model.managers;
 
+import edu.ntnu.idi.idatt.boardgame.core.filesystem.AsyncFileProvider;
+import edu.ntnu.idi.idatt.boardgame.core.filesystem.ByteBufferReader;
+import edu.ntnu.idi.idatt.boardgame.core.filesystem.FileChange;
 import edu.ntnu.idi.idatt.boardgame.core.filesystem.FileProvider;
 import edu.ntnu.idi.idatt.boardgame.core.reactivity.Observable;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Board;
 import edu.ntnu.idi.idatt.boardgame.model.entities.Game;
 import edu.ntnu.idi.idatt.boardgame.model.exceptions.GameLoadException;
+import edu.ntnu.idi.idatt.boardgame.model.factories.BinaryGameFactory;
 import edu.ntnu.idi.idatt.boardgame.model.factories.GameFactory;
+import edu.ntnu.idi.idatt.boardgame.model.simulation.MarkovAnalysis;
+import edu.ntnu.idi.idatt.boardgame.model.simulation.MarkovAnalyzer;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.logging.Logger;
 import lombok.NonNull;
@@ -17,8 +26,8 @@ import lombok.NonNull;
 /**
  * Manages the loading and retrieval of games.
  * <p>
- * This class is responsible for loading games from JSON files and providing access to loaded
- * games.
+ * This class is responsible for loading games from JSON files and binary game files, and providing
+ * access to loaded games.
  * </p>
  *
  * @see Game
@@ -27,11 +36,14 @@ import lombok.NonNull;
 public class GameManager extends Observable<GameManager, Map<String, Game>> {
 
   private static final String DEFAULT_GAME_PATH = "data/games";
+  private static final String CUSTOM_GAME_PATH = "custom-games";
   private static volatile Supplier<FileProvider> fileProviderSupplier;
   private static GameManager instance;
-  private final Map<String, Game> games = new HashMap<>();
+  private final Map<String, Game> games = new ConcurrentHashMap<>();
+  private final Map<String, String> gameIdsByPath = new ConcurrentHashMap<>();
   private final Logger logger = Logger.getLogger(GameManager.class.getName());
   private final FileProvider fileProvider;
+  private final AsyncFileProvider asyncFileProvider;
 
   /**
    * Constructs a GameManager.
@@ -40,6 +52,7 @@ public class GameManager extends Observable<GameManager, Map<String, Game>> {
    */
   private GameManager(@NonNull FileProvider fileProvider) {
     this.fileProvider = fileProvider;
+    this.asyncFileProvider = new AsyncFileProvider(fileProvider);
   }
 
   /**
@@ -77,17 +90,59 @@ public class GameManager extends Observable<GameManager, Map<String, Game>> {
   /**
    * Loads a game from the specified file path.
    * <p>
-   * The game is loaded from a JSON file and added to the games map.
+   * The game is loaded from a JSON file and added to the games map. The board is then analysed,
+   * and a warning is logged if its goal cannot be reached or a game might never finish.
+   * </p>
+   * <p>
+   * Files ending with {@link BinaryGameFactory#FILE_EXTENSION} are memory mapped and read as binary
+   * games instead. Their tiles are only created once the board is used, and they are not
+   * analysed, since binary files are meant for boards too large to load quickly as JSON.
    * </p>
    *
    * @param path the path to the game file
    */
   public void loadGame(String path) {
+    Game game = readGame(path);
+    putGame(path, game);
+    notifyGamesChanged();
+  }
+
+  /**
+   * Loads a game from the specified file path without blocking the calling thread.
+   * <p>
+   * The file is read and parsed on a background thread as described in {@link #loadGame(String)},
+   * and observers are notified on that thread.
+   * </p>
+   *
+   * @param path the path to the game file
+   * @return a future of the loaded game, completing exceptionally with a {@link GameLoadException}
+   *     if the game could not be loaded
+   * @since v3.1.0
+   */
+  public CompletableFuture<Game> loadGameAsync(String path) {
+    return asyncFileProvider.supply(() -> {
+      Game game = readGame(path);
+      putGame(path, game);
+      notifyGamesChanged();
+      return game;
+    });
+  }
+
+  /**
+   * Reads and analyses the game in a game file.
+   *
+   * @param path the path to the game file
+   * @return the game
+   * @throws GameLoadException if the game could not be loaded
+   */
+  private Game readGame(String path) {
     try {
-      String json = new String(fileProvider.get(path));
-      Game game = GameFactory.createGame(json);
-      games.put(game.getId(), game);
-      this.notifyObservers(Collections.unmodifiableMap(games));
+      if (path.endsWith(BinaryGameFactory.FILE_EXTENSION)) {
+        return BinaryGameFactory.createGame(fileProvider.getBuffer(path));
+      }
+      Game game = GameFactory.createGame(new ByteBufferReader(fileProvider.getBuffer(path)));
+      validateGame(game);
+      return game;
     } catch (Exception e) {
       logger.severe("Failed to load game from path: " + path);
       logger.severe("Error: " + e.getMessage());
@@ -95,6 +150,29 @@ public class GameManager extends Observable<GameManager, Map<String, Game>> {
     }
   }
 
+  /**
+   * Analyses the board of a game and logs the result.
+   *
+   * @param game the game to validate
+   */
+  private void validateGame(Game game) {
+    MarkovAnalysis analysis;
+    try {
+      analysis = new MarkovAnalyzer.Builder(game).build().analyze();
+    } catch (IllegalArgumentException | IllegalStateException e) {
+      logger.warning("Could not analyse board of game '" + game.getId() + "': " + e.getMessage());
+      return;
+    }
+    if (!analysis.isGoalReachable()) {
+      logger.warning("Game '" + game.getId() + "' has no reachable goal tile");
+    } else if (!analysis.isAlwaysFinishing()) {
+      logger.warning("Game '" + game.getId() + "' can reach a state where the goal is unreachable");
+    } else {
+      logger.info(String.format("Game '%s' takes %.1f turns on average for a single player",
+          game.getId(), analysis.getExpectedTurns()));
+    }
+  }
+
   /**
    * Retrieves a game by its ID.
    *
@@ -128,18 +206,178 @@ public class GameManager extends Observable<GameManager, Map<String, Game>> {
   /**
    * Loads games from the default path.
    * <p>
-   * This method loads all game files from the default path and adds them to the games map.
+   * This method loads the game catalogue from the bundled games and, if it exists, the
+   * {@code custom-games} directory. See {@link #loadGamesFromDirectories(List)}.
    * </p>
    */
   public void loadGamesFromDefaultPath() {
-    List<String> directoryFiles = fileProvider.listFiles(DEFAULT_GAME_PATH).stream()
-        .filter(fileName -> fileName.endsWith(".json")).toList();
+    loadGamesFromDirectories(getGameDirectories());
+  }
+
+  /**
+   * Loads games from the default path without blocking the calling thread.
+   * <p>
+   * The catalogue is loaded on a background thread as described in
+   * {@link #loadGamesFromDefaultPath()}, and observers are notified on that thread.
+   * </p>
+   *
+   * @return a future completing when the catalogue has been loaded
+   * @since v3.1.0
+   */
+  public CompletableFuture<Void> loadGamesFromDefaultPathAsync() {
+    return asyncFileProvider.supply(() -> {
+      loadGamesFromDefaultPath();
+      return null;
+    });
+  }
+
+  /**
+   * Returns the directories games are loaded from by {@link #loadGamesFromDefaultPath()}.
+   *
+   * @return the bundled game directory, and the custom game directory if it exists
+   * @since v3.1.0
+   */
+  public List<String> getGameDirectories() {
+    return fileProvider.exists(CUSTOM_GAME_PATH)
+        ? List.of(DEFAULT_GAME_PATH, CUSTOM_GAME_PATH)
+        : List.of(DEFAULT_GAME_PATH);
+  }
+
+  /**
+   * Loads the game catalogue from all game files in the given directories.
+   * <p>
+   * The files are read in parallel, and only the details of each game are parsed. The board of a
+   * JSON game is a {@link edu.ntnu.idi.idatt.boardgame.model.entities.LazyBoard}, which parses
+   * and analyses the tiles once the game is opened. Files that fail to load are logged and
+   * skipped. Observers are notified once, after all files have been read.
+   * </p>
+   *
+   * @param directories the directories to load game files from
+   * @since v3.1.0
+   */
+  public void loadGamesFromDirectories(List<String> directories) {
+    List<String> paths = directories.stream()
+        .flatMap(directory -> fileProvider.listFiles(directory).stream()
+            .filter(GameManager::isGameFile)
+            .map(fileName -> directory + "/" + fileName))
+        .toList();
+
+    List<Map.Entry<String, Game>> catalogue = paths.parallelStream()
+        .map(path -> loadCatalogueEntry(path).map(game -> Map.entry(path, game)))
+        .flatMap(Optional::stream)
+        .toList();
+
+    catalogue.forEach(entry -> putGame(entry.getKey(), entry.getValue()));
+    logger.info("Loaded " + catalogue.size() + " of " + paths.size() + " games");
+    notifyGamesChanged();
+  }
 
-    for (String fileName : directoryFiles) {
-      String filePath = DEFAULT_GAME_PATH + "/" + fileName;
-      loadGame(filePath);
+  /**
+   * Reloads a game file after it has changed on disk.
+   * <p>
+   * Only the changed file is read, and its game replaces the previous version in a single swap, so
+   * readers see either the old or the new game. A created or modified file that fails to load
+   * leaves the previous version in place, since it may still be in the middle of being written.
+   * Files that are not game files are ignored. Observers are notified on the calling thread.
+   * </p>
+   *
+   * @param path   the path to the game file
+   * @param change the kind of change to the file
+   * @see edu.ntnu.idi.idatt.boardgame.core.filesystem.FileWatcher
+   * @since v3.1.0
+   */
+  public void reloadGame(String path, FileChange change) {
+    if (!isGameFile(path)) {
+      return;
+    }
+    if (change == FileChange.DELETED) {
+      String gameId;
+      synchronized (this) {
+        gameId = gameIdsByPath.remove(path);
+        if (gameId != null) {
+          games.remove(gameId);
+        }
+      }
+      if (gameId == null) {
+        return;
+      }
+      logger.info("Removed game '" + gameId + "' after " + path + " was deleted");
+    } else {
+      Optional<Game> game = loadCatalogueEntry(path);
+      if (game.isEmpty()) {
+        return;
+      }
+      putGame(path, game.get());
+      logger.info("Reloaded game '" + game.get().getId() + "' from " + path);
+    }
+    notifyGamesChanged();
+  }
+
+  /**
+   * Checks whether a file name has the extension of a game file.
+   *
+   * @param fileName the file name or path
+   * @return true if the file is a JSON or binary game file
+   */
+  private static boolean isGameFile(String fileName) {
+    return fileName.endsWith(".json") || fileName.endsWith(BinaryGameFactory.FILE_EXTENSION);
+  }
+
+  /**
+   * Adds a game loaded from a file, replacing the game previously loaded from the same file.
+   *
+   * @param path the path to the game file
+   * @param game the game
+   */
+  private synchronized void putGame(String path, Game game) {
+    String previousId = gameIdsByPath.put(path, game.getId());
+    if (previousId != null && !previousId.equals(game.getId())) {
+      games.remove(previousId);
     }
+    games.put(game.getId(), game);
   }
 
+  /**
+   * Notifies the observers with a snapshot of the games.
+   */
+  private void notifyGamesChanged() {
+    this.notifyObservers(Map.copyOf(games));
+  }
 
-}
\ No newline at end of file
+  /**
+   * Reads the details of the game in a game file, deferring the loading of its tiles.
+   *
+   * @param path the path to the game file
+   * @return the game, or empty if the file could not be read
+   */
+  private Optional<Game> loadCatalogueEntry(String path) {
+    try {
+      if (path.endsWith(BinaryGameFactory.FILE_EXTENSION)) {
+        return Optional.of(BinaryGameFactory.createGame(fileProvider.getBuffer(path)));
+      }
+      return Optional.of(GameFactory.createGameHeader(
+          new ByteBufferReader(fileProvider.getBuffer(path)), () -> loadBoard(path)));
+    } catch (Exception e) {
+      logger.severe("Failed to load game from path: " + path + ": " + e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Loads and analyses the full board of a JSON game file.
+   *
+   * @param path the path to the game file
+   * @return the board, with its tile references resolved
+   * @throws GameLoadException if the game file could not be loaded
+   */
+  private Board loadBoard(String path) {
+    try {
+      Game game = GameFactory.createGame(new ByteBufferReader(fileProvider.getBuffer(path)));
+      validateGame(game);
+      return game.getBoard();
+    } catch (Exception e) {
+      logger.severe("Failed to load board from path: " + path);
+      throw new GameLoadException("Failed to load board from path: " + path, e);
+    }
+  }
+}
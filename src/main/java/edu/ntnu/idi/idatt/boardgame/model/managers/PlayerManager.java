@@ -1,13 +1,14 @@
 package edu.ntnu.idi.idatt.boardgame.model.managers;
 
+import edu.ntnu.idi.idatt.boardgame.core.filesystem.AsyncFileProvider;
 import edu.ntnu.idi.idatt.boardgame.core.filesystem.FileProvider;
 import edu.ntnu.idi.idatt.boardgame.core.reactivity.Observable;
 import edu.ntnu.idi.idatt.boardgame.model.entities.Color;
 import edu.ntnu.idi.idatt.boardgame.model.entities.Player;
 import edu.ntnu.idi.idatt.boardgame.model.exceptions.PlayerExistsException;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -15,12 +16,17 @@ import lombok.NonNull;
 
 /**
  * Manages players for the game, including loading and saving player data.
+ * <p>
+ * Players may be loaded on a background thread with {@link #loadPlayersAsync(String)}, so all
+ * access to the player list is synchronized and observers receive an immutable snapshot.
+ * </p>
  */
 public class PlayerManager extends Observable<PlayerManager, List<Player>> {
 
   private static PlayerManager instance;
   private static volatile Supplier<FileProvider> fileProviderSupplier;
   private final FileProvider fileProvider;
+  private final AsyncFileProvider asyncFileProvider;
   private final Logger logger = Logger.getLogger(PlayerManager.class.getName());
   private final List<Player> players = new ArrayList<>();
 
@@ -31,6 +37,7 @@ public class PlayerManager extends Observable<PlayerManager, List<Player>> {
    */
   private PlayerManager(FileProvider fileProvider) {
     this.fileProvider = fileProvider;
+    this.asyncFileProvider = new AsyncFileProvider(fileProvider);
   }
 
 
@@ -74,7 +81,7 @@ public class PlayerManager extends Observable<PlayerManager, List<Player>> {
     try {
       var playersData = new String(fileProvider.get(path));
 
-      players.clear();
+      List<Player> loaded = new ArrayList<>();
       playersData.lines().forEach(line -> {
         String[] data = line.split(";");
         if (data.length != 2) {
@@ -85,43 +92,95 @@ public class PlayerManager extends Observable<PlayerManager, List<Player>> {
         String name = data[0];
         Color color = Color.fromHex(data[1]);
 
-        players.add(new Player(name, color));
+        loaded.add(new Player(name, color));
       });
 
-      logger.info(String.format("Loaded %d players from '%s'", players.size(), path));
+      synchronized (this) {
+        players.clear();
+        players.addAll(loaded);
+      }
+      logger.info(String.format("Loaded %d players from '%s'", loaded.size(), path));
     } catch (Exception e) {
       logger.log(Level.SEVERE, "Failed to load players from path: " + path, e);
     } finally {
-      notifyObservers(Collections.unmodifiableList(players));
+      notifyPlayersChanged();
     }
   }
 
+  /**
+   * Loads players from a file without blocking the calling thread.
+   * <p>
+   * Observers are notified on the background thread once the players are loaded.
+   * </p>
+   *
+   * @param path the path to the player data file
+   * @return a future completing when the players have been loaded
+   * @since v3.1.0
+   */
+  public CompletableFuture<Void> loadPlayersAsync(String path) {
+    return asyncFileProvider.supply(() -> {
+      loadPlayers(path);
+      return null;
+    });
+  }
+
   /**
    * Saves players to a file.
    *
    * @param path the path to save to
    */
   public void savePlayers(String path) {
-    StringBuilder sb = new StringBuilder();
-    for (Player player : this.players) {
-      sb.append(String.format("%s;%s\n", player.getName(), player.getColor().toHex()));
-    }
-
+    List<Player> snapshot = getPlayers();
     try {
-      fileProvider.save(path, sb.toString().getBytes());
-      logger.info(String.format("Saved %d players to '%s'", players.size(), path));
+      fileProvider.save(path, serializePlayers(snapshot));
+      logger.info(String.format("Saved %d players to '%s'", snapshot.size(), path));
     } catch (Exception e) {
       logger.log(Level.SEVERE, "Failed to save players to path: " + path, e);
     }
   }
 
+  /**
+   * Saves players to a file without blocking the calling thread.
+   * <p>
+   * The players are serialized on the calling thread, so later changes are not included.
+   * </p>
+   *
+   * @param path the path to save to
+   * @return a future completing when the players have been saved, or exceptionally if saving fails
+   * @since v3.1.0
+   */
+  public CompletableFuture<Void> savePlayersAsync(String path) {
+    List<Player> snapshot = getPlayers();
+    return asyncFileProvider.save(path, serializePlayers(snapshot)).whenComplete((ignored, e) -> {
+      if (e != null) {
+        logger.log(Level.SEVERE, "Failed to save players to path: " + path, e);
+      } else {
+        logger.info(String.format("Saved %d players to '%s'", snapshot.size(), path));
+      }
+    });
+  }
+
+  /**
+   * Serializes players to the player data file format.
+   *
+   * @param players the players
+   * @return the player data
+   */
+  private static byte[] serializePlayers(List<Player> players) {
+    StringBuilder sb = new StringBuilder();
+    for (Player player : players) {
+      sb.append(String.format("%s;%s\n", player.getName(), player.getColor().toHex()));
+    }
+    return sb.toString().getBytes();
+  }
+
   /**
    * Adds a new player.
    *
    * @param player the player to add
    * @return true if the player was added, false otherwise
    */
-  public boolean addPlayer(Player player) {
+  public synchronized boolean addPlayer(Player player) {
     if (player == null) {
       logger.warning("Attempted to add null player");
       return false;
@@ -134,7 +193,7 @@ public class PlayerManager extends Observable<PlayerManager, List<Player>> {
     }
 
     players.add(player);
-    notifyObservers(Collections.unmodifiableList(players));
+    notifyPlayersChanged();
     logger.info("Added player: " + player.getName());
     return true;
   }
@@ -145,13 +204,13 @@ public class PlayerManager extends Observable<PlayerManager, List<Player>> {
    * @param playerId the ID of the player to remove
    * @return true if the player was removed, false if not found
    */
-  public boolean removePlayer(int playerId) {
+  public synchronized boolean removePlayer(int playerId) {
     if (playerId < 0 || playerId >= players.size()) {
       logger.warning("Invalid player ID: " + playerId);
       return false;
     }
     players.remove(playerId);
-    notifyObservers(Collections.unmodifiableList(players));
+    notifyPlayersChanged();
     return false;
   }
 
@@ -162,13 +221,13 @@ public class PlayerManager extends Observable<PlayerManager, List<Player>> {
    * @param updatedPlayer the player with updated information
    * @return true if the player was updated, false if not found
    */
-  public boolean updatePlayer(int playerId, @NonNull Player updatedPlayer) {
+  public synchronized boolean updatePlayer(int playerId, @NonNull Player updatedPlayer) {
     if (playerId < 0 || playerId >= players.size()) {
       logger.warning("Invalid player ID: " + playerId);
       return false;
     }
     players.set(playerId, updatedPlayer);
-    notifyObservers(Collections.unmodifiableList(players));
+    notifyPlayersChanged();
     logger.info("Updated player information for: " + updatedPlayer.getName());
     return true;
   }
@@ -179,7 +238,7 @@ public class PlayerManager extends Observable<PlayerManager, List<Player>> {
    * @param player the player to remove
    * @return true if the player was removed, false if not found
    */
-  public boolean removePlayer(@NonNull Player player) {
+  public synchronized boolean removePlayer(@NonNull Player player) {
     int index = players.indexOf(player);
     if (index == -1) {
       logger.warning("Player not found for removal: " + player.getName());
@@ -196,7 +255,8 @@ public class PlayerManager extends Observable<PlayerManager, List<Player>> {
    * @param newColor the new color for the player
    * @return true if the player was updated, false if not found
    */
-  public boolean updatePlayer(@NonNull Player player, String newName, Color newColor) {
+  public synchronized boolean updatePlayer(@NonNull Player player, String newName,
+      Color newColor) {
     int index = players.indexOf(player);
     if (index == -1) {
       logger.warning("Player not found for update: " + player.getName());
@@ -211,7 +271,19 @@ public class PlayerManager extends Observable<PlayerManager, List<Player>> {
     return this.updatePlayer(index, updatedPlayer);
   }
 
-  public List<Player> getPlayers() {
-    return Collections.unmodifiableList(this.players);
+  /**
+   * Returns the players.
+   *
+   * @return an immutable snapshot of the players
+   */
+  public synchronized List<Player> getPlayers() {
+    return List.copyOf(this.players);
+  }
+
+  /**
+   * Notifies the observers with a snapshot of the players.
+   */
+  private void notifyPlayersChanged() {
+    notifyObservers(getPlayers());
   }
 }
@@ -1,44 +1,128 @@
 package edu.ntnu.idi.idatt.boardgame.model.managers;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
-import edu.ntnu.idi.idatt.boardgame.Utils;
+import edu.ntnu.idi.idatt.boardgame.core.filesystem.AsyncFileProvider;
+import edu.ntnu.idi.idatt.boardgame.core.filesystem.ByteBufferReader;
+import edu.ntnu.idi.idatt.boardgame.core.filesystem.FileChange;
 import edu.ntnu.idi.idatt.boardgame.core.filesystem.FileProvider;
+import edu.ntnu.idi.idatt.boardgame.model.actions.quiz.QuizTileAction;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Board;
 import edu.ntnu.idi.idatt.boardgame.model.entities.Question;
 import edu.ntnu.idi.idatt.boardgame.model.entities.QuestionCategory;
+import edu.ntnu.idi.idatt.boardgame.model.entities.QuestionDeck;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Tile;
 import edu.ntnu.idi.idatt.boardgame.model.factories.QuestionFactory;
-import java.nio.charset.StandardCharsets;
+import edu.ntnu.idi.idatt.boardgame.model.factories.StringPool;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
 import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
 
 /**
  * The QuizManager class is responsible for managing quiz questions and their categories. It
  * provides functionality to load questions from a file, retrieve random questions, and retrieve
  * random questions from specific categories.
+ * <p>
+ * The loaded questions are kept in an immutable snapshot which is replaced as a whole when a
+ * question file is loaded or reloaded, so questions can be drawn while another thread reloads.
+ * </p>
+ * <p>
+ * While loading, the text and answers of each question are normalised, the answers of a file are
+ * interned so repeated answers share one instance, and duplicate questions are removed by their
+ * {@link Question#contentHash() content hash}, both within a file and across the loaded files.
+ * The memory saved is reported by {@link #getStats()}.
+ * </p>
+ * <p>
+ * Question banks are split into one shard file per category in the question directory, named by
+ * the category, such as {@code data/questions/geography.json}. Shards are loaded on demand, so
+ * opening a game with {@link #loadQuestionsForBoardAsync(Board)} only reads the categories used by
+ * its quiz tiles. {@link QuestionCategory#RANDOM} draws from a merged view of all loaded shards,
+ * and asking for it loads the remaining shards in the background.
+ * </p>
  */
 public class QuizManager {
 
+  private static final String DEFAULT_QUESTION_DIRECTORY = "data/questions";
   private static QuizManager instance;
   private static volatile Supplier<FileProvider> fileProviderSupplier;
   private final FileProvider fileProvider;
+  private final AsyncFileProvider asyncFileProvider;
   private final Logger logger = Logger.getLogger(QuizManager.class.getName());
-  private final List<Question> questions = new ArrayList<>();
-  private final Map<QuestionCategory, List<Question>> questionsByCategory =
-      new EnumMap<>(QuestionCategory.class);
+  private final Map<String, LoadedFile> questionsByPath = new LinkedHashMap<>();
+  private final Map<QuestionCategory, CompletableFuture<Void>> shardLoads =
+      new ConcurrentHashMap<>();
+  private volatile Questions questions =
+      new Questions(List.of(), Map.of(), new QuestionStats(0, 0, 0, 0, 0));
 
   /**
-   * Constructs a QuizManager instance with the specified FileProvider. Loads questions from the
-   * default file path.
+   * An immutable snapshot of the loaded questions.
+   *
+   * @param all        all questions
+   * @param byCategory the questions of each category
+   * @param stats      the statistics of the questions
+   */
+  private record Questions(List<Question> all, Map<QuestionCategory, List<Question>> byCategory,
+                           QuestionStats stats) {
+
+  }
+
+  /**
+   * The unique questions of a file with their content hashes.
+   *
+   * @param questions       the questions in file order
+   * @param hashes          the content hash of each question
+   * @param duplicates      the number of duplicate questions removed from the file
+   * @param pooledAnswers   the number of distinct answers of the file
+   * @param internedAnswers the number of answers replaced by an equal answer
+   * @param savedBytes      the estimated heap memory saved by removing duplicates and interning
+   */
+  private record LoadedFile(List<Question> questions, long[] hashes, int duplicates,
+                            int pooledAnswers, long internedAnswers, long savedBytes) {
+
+  }
+
+  /**
+   * Statistics of the deduplication and interning of the loaded questions.
+   *
+   * @param questions           the number of questions available
+   * @param duplicatesRemoved   the number of duplicate questions removed while loading files, and
+   *                            left out for being in more than one file
+   * @param pooledAnswers       the number of distinct answers of each file, summed over the files
+   * @param internedAnswers     the number of answers replaced by an equal answer of the same file
+   * @param estimatedSavedBytes the estimated heap memory saved by removing duplicates within
+   *                            files and interning answers
+   * @since v3.1.0
+   */
+  public record QuestionStats(int questions, long duplicatesRemoved, int pooledAnswers,
+                              long internedAnswers, long estimatedSavedBytes) {
+
+  }
+
+  /**
+   * Constructs a QuizManager instance with the specified FileProvider. No questions are loaded
+   * until they are requested.
    *
    * @param fileProvider The FileProvider used to access the question file.
    */
   private QuizManager(FileProvider fileProvider) {
     this.fileProvider = fileProvider;
+    this.asyncFileProvider = new AsyncFileProvider(fileProvider);
   }
 
   /**
@@ -79,11 +163,21 @@ public class QuizManager {
    * @return A random Question, or null if no questions are available.
    */
   public Question getRandomQuestion() {
-    if (questions.isEmpty()) {
+    return getRandomQuestion(ThreadLocalRandom.current());
+  }
+
+  /**
+   * Retrieves a random question from the list of loaded questions.
+   *
+   * @param random The random generator used to pick the question.
+   * @return A random Question, or null if no questions are available.
+   */
+  public Question getRandomQuestion(RandomGenerator random) {
+    List<Question> all = questions.all();
+    if (all.isEmpty()) {
       return null;
     }
-    int idx = Utils.getRandomNumber(0, questions.size() - 1);
-    return questions.get(idx);
+    return all.get(random.nextInt(all.size()));
   }
 
   /**
@@ -94,38 +188,415 @@ public class QuizManager {
    * that category.
    */
   public Question getRandomQuestionFromCategory(QuestionCategory category) {
-    List<Question> list = questionsByCategory.get(category);
+    return getRandomQuestionFromCategory(category, ThreadLocalRandom.current());
+  }
+
+  /**
+   * Retrieves a random question from a specific category.
+   *
+   * @param category The category from which to retrieve a random question.
+   * @param random   The random generator used to pick the question.
+   * @return A random Question from the specified category, or null if no questions are available in
+   * that category.
+   */
+  public Question getRandomQuestionFromCategory(QuestionCategory category,
+      RandomGenerator random) {
+    List<Question> list = questions.byCategory().get(category);
     if (list == null || list.isEmpty()) {
       return null;
     }
-    int idx = Utils.getRandomNumber(0, list.size() - 1);
-    return list.get(idx);
+    return list.get(random.nextInt(list.size()));
   }
 
   /**
-   * Loads questions from the specified file path. Parses the JSON data and populates the questions
-   * and questionsByCategory collections.
+   * Creates a deck dealing the questions of a category in random order without repetition.
+   * <p>
+   * The deck holds the questions loaded when it is created, questions loaded later are not added
+   * to it.
+   * </p>
+   *
+   * @param category The category of the questions, or {@link QuestionCategory#RANDOM} for all
+   *                 questions.
+   * @param random   The random generator used to shuffle the deck.
+   * @return The deck, which is empty if no questions are available in the category.
+   * @since v3.1.0
+   */
+  public QuestionDeck createDeck(QuestionCategory category, RandomGenerator random) {
+    return createDeck(category, random, null);
+  }
+
+  /**
+   * Creates a deck dealing the questions of a category without repetition, questions with higher
+   * weight earlier in each round.
+   *
+   * @param category The category of the questions, or {@link QuestionCategory#RANDOM} for all
+   *                 questions.
+   * @param random   The random generator used to shuffle the deck.
+   * @param weight   The weight of each question, such as one based on its difficulty, or null to
+   *                 deal in uniformly random order.
+   * @return The deck, which is empty if no questions are available in the category.
+   * @see QuestionDeck
+   * @since v3.1.0
+   */
+  public QuestionDeck createDeck(QuestionCategory category, RandomGenerator random,
+      ToDoubleFunction<Question> weight) {
+    Questions snapshot = questions;
+    List<Question> list = category == QuestionCategory.RANDOM ? snapshot.all()
+        : snapshot.byCategory().getOrDefault(category, List.of());
+    return new QuestionDeck(list, random, weight);
+  }
+
+  /**
+   * Loads questions from the specified file path. Parses the JSON data and adds the questions to
+   * the loaded questions, replacing any questions previously loaded from the same path. If the
+   * file can not be parsed, the questions previously loaded from it are kept.
+   * <p>
+   * The file is parsed as a stream, one question at a time. Entries which are not valid questions
+   * are skipped and logged, while the other questions of the file are still loaded.
+   * </p>
    *
    * @param path The file path to load questions from.
    */
   public void loadQuestions(String path) {
+    List<Question> loaded = new ArrayList<>();
+    LongHashSet hashes = new LongHashSet();
+    // answers are only interned within a file, so no strings outlive the questions of a file
+    StringPool pool = new StringPool();
+    int[] skipped = {0};
+    int[] duplicates = {0};
+    long[] savedBytes = {0};
     try {
-      String jsonData = new String(fileProvider.get(path), StandardCharsets.UTF_8);
-      JsonArray jsonArray = JsonParser.parseString(jsonData).getAsJsonArray();
-
-      for (JsonElement element : jsonArray) {
-        if (!element.isJsonObject()) {
-          continue;
-        }
-        Question q = QuestionFactory.createQuestion(element.getAsJsonObject());
-        questions.add(q);
-        questionsByCategory.computeIfAbsent(q.getCategory(), __ -> new ArrayList<>()).add(q);
+      QuestionFactory.readQuestions(new ByteBufferReader(fileProvider.getBuffer(path)), pool,
+          question -> {
+            if (hashes.add(question.contentHash())) {
+              loaded.add(question);
+            } else {
+              duplicates[0]++;
+              savedBytes[0] += estimateSize(question);
+            }
+          }, (index, e) -> {
+            skipped[0]++;
+            logger.warning(String.format("Skipped question %d in '%s': %s", index, path,
+                e.getMessage()));
+          });
+      synchronized (questionsByPath) {
+        questionsByPath.put(path, new LoadedFile(loaded, hashes.toArray(), duplicates[0],
+            pool.size(), pool.getHitCount(), savedBytes[0] + pool.getSavedBytes()));
+        rebuildQuestions();
       }
     } catch (Exception e) {
       logger.warning("Failed to load questions from path: " + path);
       logger.warning(e.getMessage());
     } finally {
-      logger.info(String.format("Loaded %d questions from '%s'", questions.size(), path));
+      logger.info(String.format(
+          "Loaded %d questions from '%s', skipped %d, removed %d duplicates, saved ~%d KiB",
+          loaded.size(), path, skipped[0], duplicates[0],
+          (savedBytes[0] + pool.getSavedBytes()) / 1024));
+    }
+  }
+
+  /**
+   * Returns statistics of the deduplication and interning of the loaded questions.
+   *
+   * @return the statistics
+   * @since v3.1.0
+   */
+  public QuestionStats getStats() {
+    return questions.stats();
+  }
+
+  /**
+   * Loads questions from the specified file path without blocking the calling thread.
+   *
+   * @param path The file path to load questions from.
+   * @return A future completing when the questions have been loaded.
+   * @see #loadQuestions(String)
+   * @since v3.1.0
+   */
+  public CompletableFuture<Void> loadQuestionsAsync(String path) {
+    return asyncFileProvider.supply(() -> {
+      loadQuestions(path);
+      return null;
+    });
+  }
+
+  /**
+   * Returns the directory holding the question shards.
+   *
+   * @return the question directory
+   * @since v3.1.0
+   */
+  public String getQuestionDirectory() {
+    return DEFAULT_QUESTION_DIRECTORY;
+  }
+
+  /**
+   * Returns the path of the question shard of a category.
+   *
+   * @param category The category, other than {@link QuestionCategory#RANDOM}.
+   * @return The path of the shard, which may not exist.
+   * @since v3.1.0
+   */
+  public String getShardPath(QuestionCategory category) {
+    return DEFAULT_QUESTION_DIRECTORY + "/" + category.name().toLowerCase(Locale.ROOT) + ".json";
+  }
+
+  /**
+   * Returns the question categories asked by the quiz tiles of a board.
+   * <p>
+   * A quiz tile without a category asks {@link QuestionCategory#RANDOM} questions.
+   * </p>
+   *
+   * @param board The board.
+   * @return The categories, empty if the board has no quiz tiles.
+   * @since v3.1.0
+   */
+  public static Set<QuestionCategory> getCategories(Board board) {
+    Set<QuestionCategory> categories = EnumSet.noneOf(QuestionCategory.class);
+    for (Tile tile : board.getTiles().values()) {
+      if (tile.getAction().orElse(null) instanceof QuizTileAction quizAction) {
+        categories.add(quizAction.getCategory() == null ? QuestionCategory.RANDOM
+            : quizAction.getCategory());
+      }
+    }
+    return categories;
+  }
+
+  /**
+   * Loads the question shards needed by the quiz tiles of a board without blocking the calling
+   * thread.
+   * <p>
+   * If the board asks {@link QuestionCategory#RANDOM} questions all shards are loaded, but the
+   * returned future only waits for the other categories of the board, unless the board has no
+   * other categories.
+   * </p>
+   *
+   * @param board The board of the game being opened.
+   * @return A future completing when the shards the board needs have been loaded.
+   * @since v3.1.0
+   */
+  public CompletableFuture<Void> loadQuestionsForBoardAsync(Board board) {
+    Set<QuestionCategory> categories = getCategories(board);
+    boolean random = categories.remove(QuestionCategory.RANDOM);
+    CompletableFuture<Void> needed = loadCategoriesAsync(categories);
+    if (!random) {
+      return needed;
+    }
+    CompletableFuture<Void> all = loadCategoriesAsync(Set.of(QuestionCategory.RANDOM));
+    return categories.isEmpty() ? all : needed;
+  }
+
+  /**
+   * Loads the question shards of categories without blocking the calling thread. Each shard is
+   * only loaded once, later requests share the first load, and categories without a shard are
+   * skipped.
+   *
+   * @param categories The categories to load, where {@link QuestionCategory#RANDOM} loads all.
+   * @return A future completing when the shards have been loaded.
+   * @since v3.1.0
+   */
+  public CompletableFuture<Void> loadCategoriesAsync(Collection<QuestionCategory> categories) {
+    Set<QuestionCategory> shards = EnumSet.noneOf(QuestionCategory.class);
+    for (QuestionCategory category : categories) {
+      if (category == QuestionCategory.RANDOM) {
+        shards.addAll(EnumSet.complementOf(EnumSet.of(QuestionCategory.RANDOM)));
+      } else {
+        shards.add(category);
+      }
+    }
+    return CompletableFuture.allOf(shards.stream()
+        .map(this::loadShardAsync)
+        .toArray(CompletableFuture[]::new));
+  }
+
+  /**
+   * Loads the shard of a category unless it is loaded or being loaded.
+   *
+   * @param category The category.
+   * @return A future completing when the shard has been loaded.
+   */
+  private CompletableFuture<Void> loadShardAsync(QuestionCategory category) {
+    return shardLoads.computeIfAbsent(category, c -> asyncFileProvider.supply(() -> {
+      String path = getShardPath(c);
+      if (fileProvider.exists(path)) {
+        loadQuestions(path);
+      } else {
+        logger.info(String.format("No questions for %s at '%s'", c, path));
+      }
+      return null;
+    }));
+  }
+
+  /**
+   * Reloads a question file after it has changed on disk.
+   * <p>
+   * Only files that have been loaded with {@link #loadQuestions(String)} are reloaded, and the
+   * questions of a deleted file are removed. A created shard is loaded if its category has been
+   * requested. Other files are ignored.
+   * </p>
+   *
+   * @param path   The path of the changed file.
+   * @param change The kind of change to the file.
+   * @see edu.ntnu.idi.idatt.boardgame.core.filesystem.FileWatcher
+   * @since v3.1.0
+   */
+  public void reloadQuestions(String path, FileChange change) {
+    synchronized (questionsByPath) {
+      if (!questionsByPath.containsKey(path)) {
+        boolean requestedShard = shardLoads.keySet().stream()
+            .anyMatch(category -> getShardPath(category).equals(path));
+        if (!requestedShard || change == FileChange.DELETED) {
+          return;
+        }
+      } else if (change == FileChange.DELETED) {
+        questionsByPath.remove(path);
+        rebuildQuestions();
+        logger.info(String.format("Removed questions from '%s'", path));
+        return;
+      }
+    }
+    loadQuestions(path);
+  }
+
+  /**
+   * Replaces the question snapshot with the questions of all loaded files. Must be called while
+   * holding the lock on questionsByPath.
+   */
+  private void rebuildQuestions() {
+    Map<QuestionCategory, List<Question>> byCategory = new EnumMap<>(QuestionCategory.class);
+    LongHashSet hashes = new LongHashSet();
+    long duplicates = 0;
+    int pooledAnswers = 0;
+    long internedAnswers = 0;
+    long savedBytes = 0;
+    for (LoadedFile loaded : questionsByPath.values()) {
+      duplicates += loaded.duplicates();
+      pooledAnswers += loaded.pooledAnswers();
+      internedAnswers += loaded.internedAnswers();
+      savedBytes += loaded.savedBytes();
+      for (int i = 0; i < loaded.hashes().length; i++) {
+        // the files are already free of duplicates, so only a second file can repeat a hash
+        if (questionsByPath.size() > 1 && !hashes.add(loaded.hashes()[i])) {
+          duplicates++;
+          continue;
+        }
+        Question question = loaded.questions().get(i);
+        byCategory.computeIfAbsent(question.getCategory(), __ -> new ArrayList<>()).add(question);
+      }
+    }
+    byCategory.replaceAll((category, list) -> List.copyOf(list));
+    List<Question> all = new MergedList(byCategory.values());
+    questions = new Questions(all, Collections.unmodifiableMap(byCategory),
+        new QuestionStats(all.size(), duplicates, pooledAnswers, internedAnswers, savedBytes));
+  }
+
+  /**
+   * An immutable view of the questions of all categories, one after the other, which avoids
+   * copying every question into one more list each time a shard is loaded.
+   */
+  private static final class MergedList extends AbstractList<Question> implements RandomAccess {
+
+    private final List<List<Question>> lists;
+    /// The index in the view of the first question of each list, and the size of the view
+    private final int[] offsets;
+
+    MergedList(Collection<List<Question>> lists) {
+      this.lists = List.copyOf(lists);
+      this.offsets = new int[this.lists.size() + 1];
+      for (int i = 0; i < this.lists.size(); i++) {
+        offsets[i + 1] = offsets[i] + this.lists.get(i).size();
+      }
+    }
+
+    @Override
+    public Question get(int index) {
+      Objects.checkIndex(index, size());
+      int list = Arrays.binarySearch(offsets, index);
+      // an exact match may be the offset of empty lists, use the last list starting at the index
+      if (list >= 0) {
+        while (offsets[list + 1] == index) {
+          list++;
+        }
+      } else {
+        list = -list - 2;
+      }
+      return lists.get(list).get(index - offsets[list]);
+    }
+
+    @Override
+    public int size() {
+      return offsets[offsets.length - 1];
+    }
+  }
+
+  /**
+   * Estimates the heap size of a question and its text, not counting its interned answers.
+   *
+   * @param question the question
+   * @return the estimated size in bytes
+   */
+  private static long estimateSize(Question question) {
+    // the question object with seven fields, and the answer array with compressed references
+    long answers = (16 + 4L * question.getAnswers().size() + 7) & ~7L;
+    return 40 + answers + StringPool.estimateSize(question.getQuestion());
+  }
+
+  /**
+   * A set of longs with open addressing, which unlike a set of boxed longs takes 8 to 16 bytes per
+   * element, and remembers the insertion order.
+   */
+  private static final class LongHashSet {
+
+    private long[] table = new long[16];
+    private long[] inserted = new long[16];
+    private int size;
+    private boolean containsZero;
+
+    boolean add(long value) {
+      if (value == 0) {
+        if (containsZero) {
+          return false;
+        }
+        containsZero = true;
+        append(value);
+        return true;
+      }
+      int mask = table.length - 1;
+      int slot = (int) (value ^ (value >>> 32)) * 0x9E3779B9 & mask;
+      while (table[slot] != 0) {
+        if (table[slot] == value) {
+          return false;
+        }
+        slot = (slot + 1) & mask;
+      }
+      table[slot] = value;
+      append(value);
+      if (size * 2 > table.length) {
+        long[] old = table;
+        table = new long[old.length * 2];
+        mask = table.length - 1;
+        for (long entry : old) {
+          if (entry != 0) {
+            int index = (int) (entry ^ (entry >>> 32)) * 0x9E3779B9 & mask;
+            while (table[index] != 0) {
+              index = (index + 1) & mask;
+            }
+            table[index] = entry;
+          }
+        }
+      }
+      return true;
+    }
+
+    long[] toArray() {
+      return Arrays.copyOf(inserted, size);
+    }
+
+    private void append(long value) {
+      if (size == inserted.length) {
+        inserted = Arrays.copyOf(inserted, size * 2);
+      }
+      inserted[size++] = value;
     }
   }
 }
\ No newline at end of file
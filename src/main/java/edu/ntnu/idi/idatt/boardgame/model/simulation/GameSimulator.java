@@ -0,0 +1,379 @@
+package edu.ntnu.idi.idatt.boardgame.model.simulation;
+
+import edu.ntnu.idi.idatt.boardgame.model.GameSnapshot;
+import edu.ntnu.idi.idatt.boardgame.model.dice.DiceRoller;
+import edu.ntnu.idi.idatt.boardgame.model.entities.CompiledBoard;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Game;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Question;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Headless runner that plays complete games of a {@link Game} without any UI attached.
+ * <p>
+ * The simulator follows the same turn rules as the
+ * {@link edu.ntnu.idi.idatt.boardgame.model.GameEngine}, but keeps the player state in primitive
+ * arrays owned by the simulator. No {@link edu.ntnu.idi.idatt.boardgame.model.entities.Player}
+ * objects are mutated, no events are published and the dice are rolled into a reusable array,
+ * which keeps the hot path free of observers and boxed dice lists.
+ * </p>
+ * <p>
+ * The board is played on its {@link CompiledBoard} form, so a move is a single array lookup and
+ * tile actions are dispatched on a byte instead of walking {@code Optional} tile links.
+ * </p>
+ * <p>
+ * A simulator can also play a game on from a {@link GameSnapshot} of a running engine, which is how
+ * the {@link RolloutEvaluator} estimates the chances of a player.
+ * </p>
+ * <p>
+ * A simulator instance reuses its state arrays between games and is therefore not thread-safe.
+ * </p>
+ *
+ * @see SimulationResult
+ * @see QuizAnswerPolicy
+ * @since v3.1.0
+ */
+public class GameSimulator {
+
+  @Getter
+  private final Game game;
+  @Getter
+  private final int playerCount;
+  @Getter
+  private final int maxRounds;
+  private final QuizAnswerPolicy quizAnswerPolicy;
+  private final DiceRoller diceRoller;
+  private final int[] dice;
+  private final CompiledBoard board;
+
+  private final int[] positions;
+  private final int[] frozenTurns;
+  private final int[] immunityTurns;
+
+  /**
+   * Private constructor used by the Builder.
+   *
+   * @param builder the builder with configuration
+   */
+  private GameSimulator(Builder builder) {
+    this.game = builder.game;
+    this.playerCount = builder.playerCount;
+    this.maxRounds = builder.maxRounds;
+    this.quizAnswerPolicy = builder.quizAnswerPolicy;
+    this.diceRoller = builder.diceRoller;
+    this.dice = new int[game.getNumberOfDice()];
+
+    if (playerCount < game.getMinPlayers() || playerCount > game.getMaxPlayers()) {
+      throw new IllegalStateException(
+          "Invalid number of players. Required: " + game.getMinPlayers() + "-"
+              + game.getMaxPlayers() + ", got: " + playerCount);
+    }
+    if (maxRounds <= 0) {
+      throw new IllegalArgumentException("Max rounds must be greater than 0");
+    }
+
+    this.board = builder.board != null ? builder.board : CompiledBoard.compile(game.getBoard());
+    if (!board.contains(0)) {
+      throw new IllegalStateException("Game board doesn't have a start tile (ID: 0)");
+    }
+
+    this.positions = new int[playerCount];
+    this.frozenTurns = new int[playerCount];
+    this.immunityTurns = new int[playerCount];
+  }
+
+  /**
+   * Creates a new simulator with the same configuration but its own player state and a random
+   * generator seeded with the given seed.
+   * <p>
+   * The compiled board is immutable, so the copy shares it with this simulator instead of compiling
+   * the board again. This allows copies to run on separate threads.
+   * </p>
+   *
+   * @param seed the seed of the copy's random generator
+   * @return a new, independent simulator
+   */
+  public GameSimulator withSeed(long seed) {
+    Builder builder = new Builder(game);
+    builder.board = board;
+    return builder
+        .playerCount(playerCount)
+        .maxRounds(maxRounds)
+        .quizAnswerPolicy(quizAnswerPolicy)
+        .seed(seed)
+        .build();
+  }
+
+  /**
+   * Draws a seed from this simulator's random generator, used to seed independent copies.
+   *
+   * @return the next seed
+   */
+  long nextSeed() {
+    return diceRoller.getRandom().nextLong();
+  }
+
+  /**
+   * Creates an empty result sized for this simulator's games.
+   *
+   * @return an empty result
+   */
+  SimulationResult createResult() {
+    return new SimulationResult(playerCount, maxRounds, board.getTileCount());
+  }
+
+  /**
+   * Plays the given number of complete games.
+   *
+   * @param games the number of games to play
+   * @return the aggregated statistics of the played games
+   * @throws IllegalArgumentException if the number of games is negative
+   */
+  public SimulationResult run(int games) {
+    if (games < 0) {
+      throw new IllegalArgumentException("Number of games cannot be negative");
+    }
+    SimulationResult result = createResult();
+    for (int i = 0; i < games; i++) {
+      playGame(result);
+    }
+    return result;
+  }
+
+  /**
+   * Plays a game on from the state of a snapshot until a player reaches a goal tile or the round
+   * limit of this simulator has been played from the round of the snapshot.
+   * <p>
+   * A question being asked in the snapshot is answered by the quiz answer policy first. The
+   * snapshot must be of a started game with the player count of this simulator, and refer to the
+   * tiles of its board.
+   * </p>
+   *
+   * @param snapshot the snapshot to play from
+   * @return the index of the winning player, or -1 if the round limit is reached first
+   * @throws IllegalArgumentException if the snapshot has another number of players
+   * @since v3.1.0
+   */
+  public int playFrom(GameSnapshot snapshot) {
+    if (snapshot.playerCount() != playerCount) {
+      throw new IllegalArgumentException("Snapshot has " + snapshot.playerCount()
+          + " players, the simulator has " + playerCount);
+    }
+    int current = snapshot.currentPlayerIndex();
+    if (snapshot.gameEnded()) {
+      // the engine does not pass the turn on when a player reaches the goal
+      return current;
+    }
+    for (int i = 0; i < playerCount; i++) {
+      positions[i] = snapshot.playerTileId(i);
+      frozenTurns[i] = snapshot.playerFrozenTurns(i);
+      immunityTurns[i] = snapshot.playerImmunityTurns(i);
+    }
+    Question question = snapshot.currentQuestion();
+    if (question != null) {
+      boolean correct =
+          quizAnswerPolicy.answer(current, question.getCategory(), diceRoller.getRandom());
+      if (!correct && immunityTurns[current] == 0) {
+        positions[current] = snapshot.checkpointTileId();
+      }
+    }
+    int rounds = snapshot.roundCount();
+    return play(current, rounds, rounds + maxRounds - 1, question != null, null);
+  }
+
+  /**
+   * Plays a single game from the start tile until a player reaches a goal tile or the round limit
+   * is reached.
+   *
+   * @param result the result to record the game in
+   */
+  private void playGame(SimulationResult result) {
+    for (int i = 0; i < playerCount; i++) {
+      positions[i] = 0;
+      frozenTurns[i] = 0;
+      immunityTurns[i] = 0;
+    }
+    if (play(0, 1, maxRounds, false, result) < 0) {
+      result.recordUnfinished();
+    }
+  }
+
+  /**
+   * Plays turns from the current state of the players until a player reaches a goal tile or the
+   * last round has been played.
+   *
+   * @param current   the index of the player whose turn it is
+   * @param rounds    the current round
+   * @param lastRound the last round to play
+   * @param turnTaken whether the current player has already taken their turn
+   * @param result    the result to record the visits and win in, or null
+   * @return the index of the winning player, or -1 if the last round was played without a winner
+   */
+  private int play(int current, int rounds, int lastRound, boolean turnTaken,
+      SimulationResult result) {
+    while (rounds <= lastRound) {
+      if (turnTaken) {
+        turnTaken = false;
+      } else if (takeTurn(current, rounds, result)) {
+        return current;
+      }
+
+      // advance to the next player that is not frozen, same as GameEngine#advanceToNextPlayer
+      while (true) {
+        int next = (current + 1) % playerCount;
+        if (next <= current) {
+          rounds++;
+        }
+        current = next;
+        if (frozenTurns[current] == 0) {
+          break;
+        }
+        frozenTurns[current]--;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Rolls the dice for a player and moves them, performing the action of the tile they land on.
+   *
+   * @param current the index of the player
+   * @param rounds  the current round
+   * @param result  the result to record the visits and win in, or null
+   * @return true if the player reached a goal tile
+   */
+  private boolean takeTurn(int current, int rounds, SimulationResult result) {
+    int fromTile = positions[current];
+    int endTile = board.move(fromTile, diceRoller.roll(dice));
+    positions[current] = endTile;
+
+    switch (board.getActionKind(endTile)) {
+      case CompiledBoard.GOAL -> {
+        if (result != null) {
+          result.recordVisit(endTile);
+          result.recordWin(current, rounds);
+        }
+        return true;
+      }
+      case CompiledBoard.QUIZ -> {
+        boolean correct = quizAnswerPolicy.answer(current, board.getQuizCategory(endTile),
+            diceRoller.getRandom());
+        if (!correct && immunityTurns[current] == 0) {
+          positions[current] = fromTile;
+        }
+      }
+      case CompiledBoard.LADDER -> {
+        int destination = board.getLadderDestination(endTile);
+        if (endTile > destination && immunityTurns[current] > 0) {
+          immunityTurns[current]--;
+        } else {
+          positions[current] = destination;
+        }
+      }
+      case CompiledBoard.FREEZE -> {
+        if (immunityTurns[current] > 0) {
+          immunityTurns[current]--;
+        } else if (frozenTurns[current] == 0) {
+          frozenTurns[current]++;
+        }
+      }
+      case CompiledBoard.IMMUNITY -> immunityTurns[current]++;
+      default -> {
+      }
+    }
+    if (result != null) {
+      result.recordVisit(positions[current]);
+    }
+    return false;
+  }
+
+  /**
+   * Builder class for constructing GameSimulator objects.
+   */
+  public static class Builder {
+
+    private final Game game;
+    private int playerCount;
+    private int maxRounds = 1000;
+    private QuizAnswerPolicy quizAnswerPolicy = QuizAnswerPolicy.correctWithProbability(0.5);
+    private DiceRoller diceRoller = DiceRoller.random();
+    private CompiledBoard board;
+
+    /**
+     * Constructor with the required game.
+     *
+     * @param game the game to simulate (required)
+     */
+    public Builder(@NonNull Game game) {
+      this.game = game;
+      this.playerCount = game.getMinPlayers();
+    }
+
+    /**
+     * Sets the number of players in each game.
+     *
+     * @param playerCount the number of players, defaults to the game's minimum
+     * @return this builder for method chaining
+     */
+    public Builder playerCount(int playerCount) {
+      this.playerCount = playerCount;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of rounds before a game is counted as unfinished.
+     *
+     * @param maxRounds the round limit, defaults to 1000
+     * @return this builder for method chaining
+     */
+    public Builder maxRounds(int maxRounds) {
+      this.maxRounds = maxRounds;
+      return this;
+    }
+
+    /**
+     * Sets the policy used to answer quiz questions.
+     *
+     * @param quizAnswerPolicy the policy, defaults to a 50% chance of a correct answer
+     * @return this builder for method chaining
+     */
+    public Builder quizAnswerPolicy(@NonNull QuizAnswerPolicy quizAnswerPolicy) {
+      this.quizAnswerPolicy = quizAnswerPolicy;
+      return this;
+    }
+
+    /**
+     * Seeds the random generator, making the simulation reproducible.
+     *
+     * @param seed the seed
+     * @return this builder for method chaining
+     */
+    public Builder seed(long seed) {
+      this.diceRoller = DiceRoller.seeded(seed);
+      return this;
+    }
+
+    /**
+     * Sets the dice roller used for all randomness in the simulation.
+     *
+     * @param diceRoller the dice roller, defaults to a randomly seeded roller
+     * @return this builder for method chaining
+     */
+    public Builder diceRoller(@NonNull DiceRoller diceRoller) {
+      this.diceRoller = diceRoller;
+      return this;
+    }
+
+    /**
+     * Builds and returns a new GameSimulator instance with the configured properties.
+     *
+     * @return a new GameSimulator instance
+     * @throws IllegalStateException    if the player count is not valid for the game
+     * @throws IllegalArgumentException if the round limit is not positive or the board cannot be
+     *                                  compiled
+     */
+    public GameSimulator build() {
+      return new GameSimulator(this);
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package edu.ntnu.idi.idatt.boardgame.model.simulation;
+
+import lombok.Getter;
+
+/**
+ * The result of analysing a board with a {@link MarkovAnalyzer}.
+ * <p>
+ * All values describe a single player starting on tile 0. The turn distribution is cut off once
+ * the probability of not having finished is below the analyzer's tolerance.
+ * </p>
+ *
+ * @see MarkovAnalyzer
+ * @since v3.1.0
+ */
+public class MarkovAnalysis {
+
+  @Getter
+  private final String gameId;
+  @Getter
+  private final int stateCount;
+  @Getter
+  private final boolean goalReachable;
+  @Getter
+  private final double expectedTurns;
+  @Getter
+  private final int solverIterations;
+  private final double[] turnDistribution;
+  private final double[] expectedVisits;
+
+  /**
+   * Constructs an analysis.
+   *
+   * @param gameId           the ID of the analysed game
+   * @param stateCount       the number of transient states in the chain
+   * @param goalReachable    whether a goal tile can be reached from the start tile
+   * @param expectedTurns    the expected number of turns to reach a goal tile
+   * @param solverIterations the number of iterations used to solve the expected turns
+   * @param turnDistribution the probability of finishing on each turn, indexed by the turn
+   * @param expectedVisits   the expected number of turns ending on each tile, indexed by tile ID
+   */
+  MarkovAnalysis(String gameId, int stateCount, boolean goalReachable, double expectedTurns,
+      int solverIterations, double[] turnDistribution, double[] expectedVisits) {
+    this.gameId = gameId;
+    this.stateCount = stateCount;
+    this.goalReachable = goalReachable;
+    this.expectedTurns = expectedTurns;
+    this.solverIterations = solverIterations;
+    this.turnDistribution = turnDistribution;
+    this.expectedVisits = expectedVisits;
+  }
+
+  /**
+   * Returns whether every game is certain to finish, meaning no reachable state is cut off from
+   * the goal.
+   *
+   * @return true if the expected number of turns is finite, false otherwise
+   */
+  public boolean isAlwaysFinishing() {
+    return Double.isFinite(expectedTurns);
+  }
+
+  /**
+   * Returns the probability of reaching a goal tile on each turn.
+   *
+   * @return a copy of the distribution, where index {@code t} is the probability of finishing on
+   *     turn {@code t}
+   */
+  public double[] getTurnDistribution() {
+    return turnDistribution.clone();
+  }
+
+  /**
+   * Returns the probability of having reached a goal tile within the given number of turns.
+   *
+   * @param turns the number of turns
+   * @return the cumulative probability
+   */
+  public double getFinishProbability(int turns) {
+    double probability = 0;
+    for (int turn = 1; turn <= Math.min(turns, turnDistribution.length - 1); turn++) {
+      probability += turnDistribution[turn];
+    }
+    return probability;
+  }
+
+  /**
+   * Returns the expected number of turns ending on each tile during a game.
+   *
+   * @return a copy of the expected visits, indexed by tile ID
+   */
+  public double[] getExpectedVisits() {
+    return expectedVisits.clone();
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "MarkovAnalysis{game=%s, states=%d, goalReachable=%b, expectedTurns=%.2f, iterations=%d}",
+        gameId, stateCount, goalReachable, expectedTurns, solverIterations);
+  }
+}
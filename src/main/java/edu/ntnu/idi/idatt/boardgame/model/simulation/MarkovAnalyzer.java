@@ -0,0 +1,521 @@
+package edu.ntnu.idi.idatt.boardgame.model.simulation;
+
+import edu.ntnu.idi.idatt.boardgame.model.dice.DiceRoller;
+import edu.ntnu.idi.idatt.boardgame.model.entities.CompiledBoard;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Game;
+import java.util.Arrays;
+import lombok.NonNull;
+
+/**
+ * Exact analysis of a board as an absorbing Markov chain.
+ * <p>
+ * A state is a tile together with the player's immunity turns and whether the next turn is
+ * skipped. The transitions follow the same rules as the
+ * {@link edu.ntnu.idi.idatt.boardgame.model.GameEngine}: the dice sum distribution of the game's
+ * number of dice, ladders, freezes, immunity and quiz tiles answered correctly with a fixed
+ * probability. Reaching a goal tile moves the player into a single absorbing state.
+ * </p>
+ * <p>
+ * Only the states reachable from the start tile are created, and the transitions are stored as a
+ * sparse matrix in compressed row form, so boards with thousands of tiles stay small. The expected
+ * number of turns is solved with Gauss-Seidel iteration, and the turn distribution and tile visits
+ * are found by propagating the state distribution one turn at a time.
+ * </p>
+ * <p>
+ * The chain describes a single player. With several players every player follows the same chain,
+ * so the expected number of turns equals the expected game length in rounds when playing alone.
+ * An analyzer keeps the matrix of its last analysis and is therefore not thread-safe.
+ * </p>
+ *
+ * @see MarkovAnalysis
+ * @see GameSimulator
+ * @since v3.1.0
+ */
+public class MarkovAnalyzer {
+
+  /// Column of the absorbing state while the matrix is built, replaced by the state count after
+  private static final int FINISHED = -1;
+
+  private final Game game;
+  private final double quizCorrectProbability;
+  private final int maxImmunity;
+  private final double tolerance;
+  private final int maxTurns;
+  private final int maxIterations;
+
+  private CompiledBoard board;
+  private double[] diceSums;
+  private int[] stateIndex;
+  private int[] stateKeys;
+  private int stateCount;
+  private int startState;
+  private int[] rowStart;
+  private int[] columns;
+  private double[] probabilities;
+  private int[] restingTiles;
+  private int entryCount;
+
+  /**
+   * Private constructor used by the Builder.
+   *
+   * @param builder the builder with configuration
+   */
+  private MarkovAnalyzer(Builder builder) {
+    this.game = builder.game;
+    this.quizCorrectProbability = builder.quizCorrectProbability;
+    this.maxImmunity = builder.maxImmunity;
+    this.tolerance = builder.tolerance;
+    this.maxTurns = builder.maxTurns;
+    this.maxIterations = builder.maxIterations;
+
+    if (quizCorrectProbability < 0 || quizCorrectProbability > 1) {
+      throw new IllegalArgumentException("Probability must be between 0 and 1");
+    }
+    if (maxImmunity < 0) {
+      throw new IllegalArgumentException("Max immunity cannot be negative");
+    }
+    if (tolerance <= 0 || maxTurns <= 0 || maxIterations <= 0) {
+      throw new IllegalArgumentException("Tolerance and limits must be greater than 0");
+    }
+  }
+
+  /**
+   * Builds the transition matrix of the game's board and analyses it.
+   *
+   * @return the analysis
+   * @throws IllegalArgumentException if the board cannot be compiled
+   * @throws IllegalStateException    if the board doesn't have a start tile
+   */
+  public MarkovAnalysis analyze() {
+    board = CompiledBoard.compile(game.getBoard());
+    if (!board.contains(0)) {
+      throw new IllegalStateException("Game board doesn't have a start tile (ID: 0)");
+    }
+    diceSums = diceSumDistribution(game.getNumberOfDice());
+    buildMatrix();
+
+    boolean[] canFinish = findFinishingStates();
+    boolean goalReachable = canFinish[startState];
+    boolean finishesSurely = true;
+    for (int state = 0; state < stateCount; state++) {
+      finishesSurely &= canFinish[state];
+    }
+
+    double expectedTurns = Double.POSITIVE_INFINITY;
+    int iterations = 0;
+    if (finishesSurely) {
+      double[] expected = new double[stateCount + 1];
+      iterations = solveExpectedTurns(expected);
+      expectedTurns = expected[startState];
+    }
+
+    double[] turnDistribution = new double[0];
+    double[] expectedVisits = new double[board.getTileCount()];
+    if (goalReachable) {
+      turnDistribution = propagate(expectedVisits);
+    }
+    return new MarkovAnalysis(game.getId(), stateCount, goalReachable, expectedTurns, iterations,
+        turnDistribution, expectedVisits);
+  }
+
+  /**
+   * Computes the probability of every sum of the given number of six sided dice.
+   *
+   * @param numberOfDice the number of dice
+   * @return the probabilities indexed by the sum
+   */
+  static double[] diceSumDistribution(int numberOfDice) {
+    double[] distribution = {1.0};
+    for (int die = 0; die < numberOfDice; die++) {
+      double[] next = new double[distribution.length + DiceRoller.SIDES];
+      for (int sum = 0; sum < distribution.length; sum++) {
+        for (int face = 1; face <= DiceRoller.SIDES; face++) {
+          next[sum + face] += distribution[sum] / DiceRoller.SIDES;
+        }
+      }
+      distribution = next;
+    }
+    return distribution;
+  }
+
+  /**
+   * Creates the states reachable from the start tile in breadth first order and their transitions.
+   * Since states are numbered in the order they are expanded, the rows are appended in order.
+   * The states are then renumbered by tile, see {@link #renumberByTile()}.
+   */
+  private void buildMatrix() {
+    stateIndex = new int[board.getTileCount() * (maxImmunity + 1) * 2];
+    Arrays.fill(stateIndex, -1);
+    stateKeys = new int[16];
+    rowStart = new int[17];
+    columns = new int[64];
+    probabilities = new double[64];
+    restingTiles = new int[64];
+    stateCount = 0;
+    entryCount = 0;
+
+    stateOf(0, 0, false);
+    for (int state = 0; state < stateCount; state++) {
+      int key = stateKeys[state];
+      boolean frozen = (key & 1) == 1;
+      int immunity = (key >> 1) % (maxImmunity + 1);
+      int tile = (key >> 1) / (maxImmunity + 1);
+
+      if (frozen) {
+        addEntry(stateOf(tile, immunity, false), 1.0, tile);
+      } else {
+        for (int sum = 0; sum < diceSums.length; sum++) {
+          if (diceSums[sum] > 0) {
+            addTurn(tile, immunity, board.move(tile, sum), diceSums[sum]);
+          }
+        }
+      }
+      if (rowStart.length < stateCount + 2) {
+        rowStart = Arrays.copyOf(rowStart, rowStart.length * 2);
+      }
+      rowStart[state + 1] = entryCount;
+    }
+    renumberByTile();
+  }
+
+  /**
+   * Renumbers the states in the order of their tile, immunity and frozen flag, and gives the
+   * absorbing state the column after the last transient state. Most transitions lead further along
+   * the board, so a solver sweeping from the last state to the first mostly reads values that were
+   * already updated in the same sweep.
+   */
+  private void renumberByTile() {
+    int[] oldIndex = new int[stateCount];
+    int[] newIndex = new int[stateCount];
+    int state = 0;
+    for (int key = 0; key < stateIndex.length; key++) {
+      if (stateIndex[key] >= 0) {
+        oldIndex[state] = stateIndex[key];
+        newIndex[stateIndex[key]] = state;
+        stateKeys[state] = key;
+        stateIndex[key] = state++;
+      }
+    }
+
+    int[] newRowStart = new int[stateCount + 1];
+    int[] newColumns = new int[entryCount];
+    double[] newProbabilities = new double[entryCount];
+    int[] newRestingTiles = new int[entryCount];
+    int entry = 0;
+    for (state = 0; state < stateCount; state++) {
+      for (int old = rowStart[oldIndex[state]]; old < rowStart[oldIndex[state] + 1]; old++) {
+        newColumns[entry] = columns[old] == FINISHED ? stateCount : newIndex[columns[old]];
+        newProbabilities[entry] = probabilities[old];
+        newRestingTiles[entry] = restingTiles[old];
+        entry++;
+      }
+      newRowStart[state + 1] = entry;
+    }
+    rowStart = newRowStart;
+    columns = newColumns;
+    probabilities = newProbabilities;
+    restingTiles = newRestingTiles;
+    startState = newIndex[0];
+  }
+
+  /**
+   * Adds the transitions of a turn ending on the given tile before its action is applied.
+   *
+   * @param fromTile    the tile the turn started on
+   * @param immunity    the immunity turns at the start of the turn
+   * @param endTile     the tile reached by the dice
+   * @param probability the probability of the dice sum
+   */
+  private void addTurn(int fromTile, int immunity, int endTile, double probability) {
+    switch (board.getActionKind(endTile)) {
+      case CompiledBoard.GOAL -> addEntry(FINISHED, probability, endTile);
+      case CompiledBoard.QUIZ -> {
+        if (immunity > 0) {
+          addEntry(stateOf(endTile, immunity, false), probability, endTile);
+        } else {
+          addEntry(stateOf(endTile, immunity, false), probability * quizCorrectProbability,
+              endTile);
+          addEntry(stateOf(fromTile, immunity, false), probability * (1 - quizCorrectProbability),
+              fromTile);
+        }
+      }
+      case CompiledBoard.LADDER -> {
+        int destination = board.getLadderDestination(endTile);
+        if (endTile > destination && immunity > 0) {
+          addEntry(stateOf(endTile, immunity - 1, false), probability, endTile);
+        } else {
+          addEntry(stateOf(destination, immunity, false), probability, destination);
+        }
+      }
+      case CompiledBoard.FREEZE -> {
+        if (immunity > 0) {
+          addEntry(stateOf(endTile, immunity - 1, false), probability, endTile);
+        } else {
+          addEntry(stateOf(endTile, immunity, true), probability, endTile);
+        }
+      }
+      case CompiledBoard.IMMUNITY -> addEntry(
+          stateOf(endTile, Math.min(immunity + 1, maxImmunity), false), probability, endTile);
+      default -> addEntry(stateOf(endTile, immunity, false), probability, endTile);
+    }
+  }
+
+  /**
+   * Returns the index of a state, creating it if it has not been reached before.
+   *
+   * @param tile     the tile ID
+   * @param immunity the immunity turns
+   * @param frozen   whether the next turn is skipped
+   * @return the state index
+   */
+  private int stateOf(int tile, int immunity, boolean frozen) {
+    int key = ((tile * (maxImmunity + 1) + immunity) << 1) | (frozen ? 1 : 0);
+    if (stateIndex[key] < 0) {
+      if (stateCount == stateKeys.length) {
+        stateKeys = Arrays.copyOf(stateKeys, stateCount * 2);
+      }
+      stateKeys[stateCount] = key;
+      stateIndex[key] = stateCount++;
+    }
+    return stateIndex[key];
+  }
+
+  /**
+   * Appends a transition to the current row.
+   *
+   * @param column      the target state
+   * @param probability the transition probability
+   * @param restingTile the tile the turn ends on, used for the visit counts
+   */
+  private void addEntry(int column, double probability, int restingTile) {
+    if (probability == 0) {
+      return;
+    }
+    if (entryCount == columns.length) {
+      columns = Arrays.copyOf(columns, entryCount * 2);
+      probabilities = Arrays.copyOf(probabilities, entryCount * 2);
+      restingTiles = Arrays.copyOf(restingTiles, entryCount * 2);
+    }
+    columns[entryCount] = column;
+    probabilities[entryCount] = probability;
+    restingTiles[entryCount] = restingTile;
+    entryCount++;
+  }
+
+  /**
+   * Finds the states from which the absorbing state can be reached, by walking the transitions
+   * backwards from it.
+   *
+   * @return whether each state can reach the absorbing state
+   */
+  private boolean[] findFinishingStates() {
+    int[] incomingStart = new int[stateCount + 1];
+    for (int entry = 0; entry < entryCount; entry++) {
+      if (columns[entry] != stateCount) {
+        incomingStart[columns[entry] + 1]++;
+      }
+    }
+    for (int state = 0; state < stateCount; state++) {
+      incomingStart[state + 1] += incomingStart[state];
+    }
+    int[] incoming = new int[incomingStart[stateCount]];
+    int[] fill = Arrays.copyOf(incomingStart, stateCount);
+    for (int state = 0; state < stateCount; state++) {
+      for (int entry = rowStart[state]; entry < rowStart[state + 1]; entry++) {
+        if (columns[entry] != stateCount) {
+          incoming[fill[columns[entry]]++] = state;
+        }
+      }
+    }
+
+    boolean[] canFinish = new boolean[stateCount];
+    int[] queue = new int[stateCount];
+    int tail = 0;
+    for (int state = 0; state < stateCount; state++) {
+      for (int entry = rowStart[state]; entry < rowStart[state + 1]; entry++) {
+        if (columns[entry] == stateCount && !canFinish[state]) {
+          canFinish[state] = true;
+          queue[tail++] = state;
+        }
+      }
+    }
+    for (int head = 0; head < tail; head++) {
+      int state = queue[head];
+      for (int i = incomingStart[state]; i < incomingStart[state + 1]; i++) {
+        if (!canFinish[incoming[i]]) {
+          canFinish[incoming[i]] = true;
+          queue[tail++] = incoming[i];
+        }
+      }
+    }
+    return canFinish;
+  }
+
+  /**
+   * Solves {@code E[s] = 1 + sum(P[s][t] * E[t])} with Gauss-Seidel iteration, until no value
+   * changes by more than the tolerance relative to the largest value. The states are swept from the
+   * last to the first, since most transitions lead further along the board.
+   *
+   * @param expected the array to store the solution in, with the absorbing state last
+   * @return the number of iterations used
+   */
+  private int solveExpectedTurns(double[] expected) {
+    for (int iteration = 1; iteration <= maxIterations; iteration++) {
+      double maxChange = 0;
+      double maxValue = 0;
+      for (int state = stateCount - 1; state >= 0; state--) {
+        double value = 1;
+        for (int entry = rowStart[state]; entry < rowStart[state + 1]; entry++) {
+          value += probabilities[entry] * expected[columns[entry]];
+        }
+        maxChange = Math.max(maxChange, Math.abs(value - expected[state]));
+        maxValue = Math.max(maxValue, value);
+        expected[state] = value;
+      }
+      if (maxChange < tolerance * maxValue) {
+        return iteration;
+      }
+    }
+    return maxIterations;
+  }
+
+  /**
+   * Propagates the state distribution from the start tile one turn at a time until the remaining
+   * probability is below the tolerance or the turn limit is reached.
+   *
+   * @param expectedVisits the array to add the expected number of turns ending on each tile to
+   * @return the probability of finishing on each turn, indexed by the turn
+   */
+  private double[] propagate(double[] expectedVisits) {
+    double[] current = new double[stateCount + 1];
+    double[] next = new double[stateCount + 1];
+    double[] occupancy = new double[stateCount];
+    double[] finished = new double[Math.min(maxTurns, 1024) + 1];
+    current[startState] = 1;
+    double remaining = 1;
+    int turn = 0;
+
+    while (remaining >= tolerance && turn < maxTurns) {
+      turn++;
+      for (int state = 0; state < stateCount; state++) {
+        double mass = current[state];
+        if (mass == 0) {
+          continue;
+        }
+        occupancy[state] += mass;
+        for (int entry = rowStart[state]; entry < rowStart[state + 1]; entry++) {
+          next[columns[entry]] += mass * probabilities[entry];
+        }
+      }
+      if (turn == finished.length) {
+        finished = Arrays.copyOf(finished, Math.min(maxTurns, finished.length * 2) + 1);
+      }
+      finished[turn] = next[stateCount];
+      remaining -= next[stateCount];
+
+      double[] swap = current;
+      current = next;
+      next = swap;
+      Arrays.fill(next, 0);
+    }
+
+    // a turn ends on the resting tile of every transition taken, except when it is skipped
+    for (int state = 0; state < stateCount; state++) {
+      if ((stateKeys[state] & 1) == 0) {
+        for (int entry = rowStart[state]; entry < rowStart[state + 1]; entry++) {
+          expectedVisits[restingTiles[entry]] += occupancy[state] * probabilities[entry];
+        }
+      }
+    }
+    return Arrays.copyOf(finished, turn + 1);
+  }
+
+  /**
+   * Builder class for constructing MarkovAnalyzer objects.
+   */
+  public static class Builder {
+
+    private final Game game;
+    private double quizCorrectProbability = 0.5;
+    private int maxImmunity = 4;
+    private double tolerance = 1e-9;
+    private int maxTurns = 100_000;
+    private int maxIterations = 100_000;
+
+    /**
+     * Constructor with the required game.
+     *
+     * @param game the game to analyse (required)
+     */
+    public Builder(@NonNull Game game) {
+      this.game = game;
+    }
+
+    /**
+     * Sets the probability of answering a quiz question correctly.
+     *
+     * @param quizCorrectProbability the probability, defaults to 0.5
+     * @return this builder for method chaining
+     */
+    public Builder quizCorrectProbability(double quizCorrectProbability) {
+      this.quizCorrectProbability = quizCorrectProbability;
+      return this;
+    }
+
+    /**
+     * Sets the highest number of immunity turns tracked. Immunity collected beyond this is not
+     * counted, which keeps the number of states bounded on boards with many immunity tiles.
+     *
+     * @param maxImmunity the immunity limit, defaults to 4
+     * @return this builder for method chaining
+     */
+    public Builder maxImmunity(int maxImmunity) {
+      this.maxImmunity = maxImmunity;
+      return this;
+    }
+
+    /**
+     * Sets the precision of the solver and the probability left unfinished when the turn
+     * distribution is cut off.
+     *
+     * @param tolerance the tolerance, defaults to 1e-9
+     * @return this builder for method chaining
+     */
+    public Builder tolerance(double tolerance) {
+      this.tolerance = tolerance;
+      return this;
+    }
+
+    /**
+     * Sets the highest number of turns the turn distribution is computed for.
+     *
+     * @param maxTurns the turn limit, defaults to 100 000
+     * @return this builder for method chaining
+     */
+    public Builder maxTurns(int maxTurns) {
+      this.maxTurns = maxTurns;
+      return this;
+    }
+
+    /**
+     * Sets the highest number of solver iterations.
+     *
+     * @param maxIterations the iteration limit, defaults to 100 000
+     * @return this builder for method chaining
+     */
+    public Builder maxIterations(int maxIterations) {
+      this.maxIterations = maxIterations;
+      return this;
+    }
+
+    /**
+     * Builds and returns a new MarkovAnalyzer instance with the configured properties.
+     *
+     * @return a new MarkovAnalyzer instance
+     * @throws IllegalArgumentException if a probability, limit or tolerance is out of range
+     */
+    public MarkovAnalyzer build() {
+      return new MarkovAnalyzer(this);
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package edu.ntnu.idi.idatt.boardgame.model.simulation;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Runs a batch of simulated games across the cores of a {@link ForkJoinPool}.
+ * <p>
+ * The batch is split into fixed size chunks. Every chunk is played by its own copy of the template
+ * {@link GameSimulator}, so each worker owns its player state and random generator and no state is
+ * shared between threads while playing. The chunk results are combined pairwise when the fork/join
+ * tasks are joined, which needs no locks or atomic counters on the hot path.
+ * </p>
+ * <p>
+ * The chunk seeds are drawn from the template simulator before any work is forked, so a seeded
+ * template gives the same result regardless of the pool size or scheduling order.
+ * </p>
+ *
+ * @see GameSimulator
+ * @see SimulationResult
+ * @since v3.1.0
+ */
+public class ParallelGameSimulator {
+
+  private static final int DEFAULT_CHUNK_SIZE = 10_000;
+
+  private final GameSimulator template;
+  private final ForkJoinPool pool;
+  @Getter
+  private final int chunkSize;
+
+  /**
+   * Constructs a parallel simulator running on the common fork/join pool.
+   *
+   * @param template the simulator whose configuration every worker copies
+   */
+  public ParallelGameSimulator(@NonNull GameSimulator template) {
+    this(template, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Constructs a parallel simulator running on the given pool.
+   *
+   * @param template  the simulator whose configuration every worker copies
+   * @param pool      the pool to run the games on
+   * @param chunkSize the number of games played by a single task
+   * @throws IllegalArgumentException if the chunk size is not positive
+   */
+  public ParallelGameSimulator(@NonNull GameSimulator template, @NonNull ForkJoinPool pool,
+      int chunkSize) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("Chunk size must be greater than 0");
+    }
+    this.template = template;
+    this.pool = pool;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Plays the given number of complete games in parallel.
+   *
+   * @param games the number of games to play
+   * @return the aggregated statistics of all played games
+   * @throws IllegalArgumentException if the number of games is negative
+   */
+  public SimulationResult run(int games) {
+    if (games < 0) {
+      throw new IllegalArgumentException("Number of games cannot be negative");
+    }
+    int chunks = (games + chunkSize - 1) / chunkSize;
+    long[] seeds = new long[chunks];
+    synchronized (template) {
+      for (int i = 0; i < chunks; i++) {
+        seeds[i] = template.nextSeed();
+      }
+    }
+    if (chunks == 0) {
+      return template.createResult();
+    }
+    return pool.invoke(new SimulationTask(seeds, games, 0, chunks));
+  }
+
+  /**
+   * Fork/join task playing the chunks in the range {@code [fromChunk, toChunk)}.
+   */
+  private class SimulationTask extends RecursiveTask<SimulationResult> {
+
+    private final long[] seeds;
+    private final int games;
+    private final int fromChunk;
+    private final int toChunk;
+
+    SimulationTask(long[] seeds, int games, int fromChunk, int toChunk) {
+      this.seeds = seeds;
+      this.games = games;
+      this.fromChunk = fromChunk;
+      this.toChunk = toChunk;
+    }
+
+    @Override
+    protected SimulationResult compute() {
+      if (toChunk - fromChunk == 1) {
+        int chunkGames = Math.min(chunkSize, games - fromChunk * chunkSize);
+        return template.withSeed(seeds[fromChunk]).run(chunkGames);
+      }
+      int middle = (fromChunk + toChunk) >>> 1;
+      SimulationTask left = new SimulationTask(seeds, games, fromChunk, middle);
+      SimulationTask right = new SimulationTask(seeds, games, middle, toChunk);
+      left.fork();
+      SimulationResult rightResult = right.compute();
+      return left.join().merge(rightResult);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package edu.ntnu.idi.idatt.boardgame.model.simulation;
+
+import edu.ntnu.idi.idatt.boardgame.model.entities.QuestionCategory;
+import java.util.random.RandomGenerator;
+
+/**
+ * Decides whether a simulated player answers a quiz question correctly.
+ * <p>
+ * The headless simulator never asks real questions, it only needs to know if the answer was
+ * correct so it can apply the same rules as the {@link edu.ntnu.idi.idatt.boardgame.model.GameEngine}
+ * (a wrong answer sends the player back to where the turn started).
+ * </p>
+ *
+ * @see GameSimulator
+ * @since v3.1.0
+ */
+@FunctionalInterface
+public interface QuizAnswerPolicy {
+
+  /**
+   * Decides if the given player answers a question from the given category correctly.
+   *
+   * @param playerIndex the index of the player answering
+   * @param category    the category of the question
+   * @param random      the random generator of the running simulation
+   * @return true if the answer is correct, false otherwise
+   */
+  boolean answer(int playerIndex, QuestionCategory category, RandomGenerator random);
+
+  /**
+   * Returns a policy where every question is answered correctly.
+   *
+   * @return the policy
+   */
+  static QuizAnswerPolicy alwaysCorrect() {
+    return (playerIndex, category, random) -> true;
+  }
+
+  /**
+   * Returns a policy where every question is answered wrong.
+   *
+   * @return the policy
+   */
+  static QuizAnswerPolicy alwaysWrong() {
+    return (playerIndex, category, random) -> false;
+  }
+
+  /**
+   * Returns a policy where questions are answered correctly with the given probability.
+   *
+   * @param probability the probability of a correct answer (0.0 - 1.0)
+   * @return the policy
+   * @throws IllegalArgumentException if the probability is outside the range 0.0 - 1.0
+   */
+  static QuizAnswerPolicy correctWithProbability(double probability) {
+    if (probability < 0.0 || probability > 1.0) {
+      throw new IllegalArgumentException("Probability must be between 0.0 and 1.0");
+    }
+    return (playerIndex, category, random) -> random.nextDouble() < probability;
+  }
+}
@@ -0,0 +1,120 @@
+package edu.ntnu.idi.idatt.boardgame.model.simulation;
+
+import edu.ntnu.idi.idatt.boardgame.model.GameSnapshot;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Estimates the chances of a player winning from each of a number of game states by playing
+ * random games on from them, known as Monte Carlo rollouts, within a time budget.
+ * <p>
+ * The options are {@link GameSnapshot snapshots} of a game, such as the states following each move
+ * a player can make. Each worker of the pool plays rollouts with its own copy of the template
+ * {@link GameSimulator}, one from every option in turn, until the time budget has been spent, so
+ * all options get about the same number of rollouts and the results of the workers are combined
+ * once they are done. A rollout of a board of a hundred tiles takes a few microseconds, so a budget
+ * of 50 ms gives thousands of rollouts per option on a few cores.
+ * </p>
+ * <p>
+ * {@link #evaluate(List, int, Duration)} returns at once, so it may be called from the JavaFX
+ * thread, which is never blocked by the rollouts.
+ * </p>
+ *
+ * @see RolloutResult
+ * @see GameSimulator#playFrom(GameSnapshot)
+ * @since v3.1.0
+ */
+public class RolloutEvaluator {
+
+  /// The number of rounds of rollouts played between two looks at the clock
+  private static final int CLOCK_INTERVAL = 16;
+
+  private final GameSimulator template;
+  @Getter
+  private final ForkJoinPool pool;
+
+  /**
+   * Constructs an evaluator running on the common fork/join pool.
+   *
+   * @param template the simulator whose configuration every worker copies
+   */
+  public RolloutEvaluator(@NonNull GameSimulator template) {
+    this(template, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Constructs an evaluator running on the given pool.
+   *
+   * @param template the simulator whose configuration every worker copies
+   * @param pool     the pool to play the rollouts on, with one task per thread of the pool
+   */
+  public RolloutEvaluator(@NonNull GameSimulator template, @NonNull ForkJoinPool pool) {
+    this.template = template;
+    this.pool = pool;
+  }
+
+  /**
+   * Estimates the chances of a player winning from each option, playing rollouts until the time
+   * budget has been spent and at least one rollout of every option has been played by every worker.
+   *
+   * @param options     the snapshots of the options, of started games with the player count of the
+   *                    template simulator
+   * @param playerIndex the index of the player whose chances are estimated
+   * @param budget      the time to spend
+   * @return the result, completed once the workers are done
+   * @throws IllegalArgumentException if there are no options or the player index is out of range
+   */
+  public CompletableFuture<RolloutResult> evaluate(@NonNull List<GameSnapshot> options,
+      int playerIndex, @NonNull Duration budget) {
+    if (options.isEmpty()) {
+      throw new IllegalArgumentException("There must be at least one option");
+    }
+    if (playerIndex < 0 || playerIndex >= template.getPlayerCount()) {
+      throw new IllegalArgumentException("Player index out of range: " + playerIndex);
+    }
+    GameSnapshot[] snapshots = options.toArray(GameSnapshot[]::new);
+    long deadline = System.nanoTime() + budget.toNanos();
+    long[] seeds = new long[pool.getParallelism()];
+    synchronized (template) {
+      for (int i = 0; i < seeds.length; i++) {
+        seeds[i] = template.nextSeed();
+      }
+    }
+
+    CompletableFuture<RolloutResult> result = null;
+    for (long seed : seeds) {
+      CompletableFuture<RolloutResult> worker = CompletableFuture.supplyAsync(
+          () -> playRollouts(template.withSeed(seed), snapshots, playerIndex, deadline), pool);
+      result = result == null ? worker : result.thenCombine(worker, RolloutResult::merge);
+    }
+    return result;
+  }
+
+  /**
+   * Plays rounds of one rollout from every option until the deadline has passed.
+   *
+   * @param simulator   the simulator of the worker
+   * @param options     the options
+   * @param playerIndex the index of the player whose chances are estimated
+   * @param deadline    the {@link System#nanoTime()} to stop at
+   * @return the result of the worker
+   */
+  private static RolloutResult playRollouts(GameSimulator simulator, GameSnapshot[] options,
+      int playerIndex, long deadline) {
+    RolloutResult result = new RolloutResult(options.length);
+    double drawScore = 1.0 / simulator.getPlayerCount();
+    do {
+      for (int round = 0; round < CLOCK_INTERVAL; round++) {
+        for (int option = 0; option < options.length; option++) {
+          int winner = simulator.playFrom(options[option]);
+          result.record(option, winner == playerIndex ? 1.0 : winner < 0 ? drawScore : 0.0);
+        }
+      }
+    } while (System.nanoTime() - deadline < 0);
+    return result;
+  }
+}
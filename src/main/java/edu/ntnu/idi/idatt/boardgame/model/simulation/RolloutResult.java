@@ -0,0 +1,126 @@
+package edu.ntnu.idi.idatt.boardgame.model.simulation;
+
+/**
+ * The estimated chances of a player winning from each of a number of options, found by a
+ * {@link RolloutEvaluator}.
+ * <p>
+ * Every rollout scores 1 if the player won, 0 if another player won, and an equal share of the win
+ * if the round limit was reached first. The win rate of an option is the average score of its
+ * rollouts.
+ * </p>
+ *
+ * @see RolloutEvaluator
+ * @since v3.1.0
+ */
+public final class RolloutResult {
+
+  private final int[] rollouts;
+  private final double[] scores;
+
+  /**
+   * Constructs an empty result.
+   *
+   * @param optionCount the number of options
+   */
+  RolloutResult(int optionCount) {
+    this.rollouts = new int[optionCount];
+    this.scores = new double[optionCount];
+  }
+
+  /**
+   * Records a rollout of an option.
+   *
+   * @param option the index of the option
+   * @param score  the score of the rollout
+   */
+  void record(int option, double score) {
+    rollouts[option]++;
+    scores[option] += score;
+  }
+
+  /**
+   * Adds the rollouts of another result of the same options to this result.
+   *
+   * @param other the other result
+   * @return this result
+   */
+  RolloutResult merge(RolloutResult other) {
+    for (int i = 0; i < rollouts.length; i++) {
+      rollouts[i] += other.rollouts[i];
+      scores[i] += other.scores[i];
+    }
+    return this;
+  }
+
+  /**
+   * Returns the number of options.
+   *
+   * @return the number of options
+   */
+  public int getOptionCount() {
+    return rollouts.length;
+  }
+
+  /**
+   * Returns the number of rollouts played from an option.
+   *
+   * @param option the index of the option
+   * @return the number of rollouts
+   */
+  public int getRollouts(int option) {
+    return rollouts[option];
+  }
+
+  /**
+   * Returns the number of rollouts played from all options.
+   *
+   * @return the number of rollouts
+   */
+  public long getTotalRollouts() {
+    long total = 0;
+    for (int count : rollouts) {
+      total += count;
+    }
+    return total;
+  }
+
+  /**
+   * Returns the estimated chance of the player winning from an option.
+   *
+   * @param option the index of the option
+   * @return the win rate between 0.0 and 1.0, or 0.0 if no rollouts were played
+   */
+  public double getWinRate(int option) {
+    return rollouts[option] == 0 ? 0.0 : scores[option] / rollouts[option];
+  }
+
+  /**
+   * Returns the standard error of the win rate of an option, which shrinks with the square root of
+   * the number of rollouts.
+   *
+   * @param option the index of the option
+   * @return the standard error, or 1.0 if no rollouts were played
+   */
+  public double getStandardError(int option) {
+    if (rollouts[option] == 0) {
+      return 1.0;
+    }
+    double winRate = getWinRate(option);
+    return Math.sqrt(winRate * (1.0 - winRate) / rollouts[option]);
+  }
+
+  /**
+   * Returns the option with the highest win rate.
+   *
+   * @return the index of the best option, the first of them if several are equally good
+   */
+  public int getBestOption() {
+    int best = 0;
+    for (int i = 1; i < rollouts.length; i++) {
+      if (getWinRate(i) > getWinRate(best)) {
+        best = i;
+      }
+    }
+    return best;
+  }
+}
@@ -0,0 +1,168 @@
+package edu.ntnu.idi.idatt.boardgame.model.simulation;
+
+import java.util.Arrays;
+import lombok.Getter;
+
+/**
+ * The aggregated statistics of a batch of simulated games.
+ * <p>
+ * Contains the number of wins for each player seat, the distribution of game lengths (in rounds)
+ * and a heatmap of how many times a turn ended on each tile.
+ * </p>
+ *
+ * @see GameSimulator
+ * @since v3.1.0
+ */
+public class SimulationResult {
+
+  private final long[] wins;
+  private final long[] gameLengths;
+  private final long[] tileVisits;
+  @Getter
+  private long gamesPlayed;
+  @Getter
+  private long unfinishedGames;
+
+  /**
+   * Constructs an empty result.
+   *
+   * @param playerCount the number of player seats in the simulated games
+   * @param maxRounds   the maximum number of rounds a single game can last
+   * @param tileCount   the number of tile IDs to track visits for
+   */
+  SimulationResult(int playerCount, int maxRounds, int tileCount) {
+    this.wins = new long[playerCount];
+    this.gameLengths = new long[maxRounds + 1];
+    this.tileVisits = new long[tileCount];
+  }
+
+  /**
+   * Records a finished game.
+   *
+   * @param winner the index of the winning player
+   * @param rounds the number of rounds the game lasted
+   */
+  void recordWin(int winner, int rounds) {
+    gamesPlayed++;
+    wins[winner]++;
+    gameLengths[rounds]++;
+  }
+
+  /**
+   * Records a game that was stopped after reaching the round limit.
+   */
+  void recordUnfinished() {
+    gamesPlayed++;
+    unfinishedGames++;
+  }
+
+  /**
+   * Records that a turn ended on the given tile.
+   *
+   * @param tileId the tile ID
+   */
+  void recordVisit(int tileId) {
+    tileVisits[tileId]++;
+  }
+
+  /**
+   * Adds the statistics of another result of the same shape to this result.
+   *
+   * @param other the result to add
+   * @return this result
+   * @throws IllegalArgumentException if the results were not created for the same game setup
+   */
+  SimulationResult merge(SimulationResult other) {
+    if (other.wins.length != wins.length || other.gameLengths.length != gameLengths.length
+        || other.tileVisits.length != tileVisits.length) {
+      throw new IllegalArgumentException("Cannot merge results of different simulations");
+    }
+    gamesPlayed += other.gamesPlayed;
+    unfinishedGames += other.unfinishedGames;
+    for (int i = 0; i < wins.length; i++) {
+      wins[i] += other.wins[i];
+    }
+    for (int i = 0; i < gameLengths.length; i++) {
+      gameLengths[i] += other.gameLengths[i];
+    }
+    for (int i = 0; i < tileVisits.length; i++) {
+      tileVisits[i] += other.tileVisits[i];
+    }
+    return this;
+  }
+
+  /**
+   * Returns the number of player seats in the simulated games.
+   *
+   * @return the number of players
+   */
+  public int getPlayerCount() {
+    return wins.length;
+  }
+
+  /**
+   * Returns the number of games won by the player at the given seat.
+   *
+   * @param playerIndex the index of the player in turn order
+   * @return the number of wins
+   */
+  public long getWins(int playerIndex) {
+    return wins[playerIndex];
+  }
+
+  /**
+   * Returns the share of all simulated games won by the player at the given seat.
+   *
+   * @param playerIndex the index of the player in turn order
+   * @return the win rate between 0.0 and 1.0
+   */
+  public double getWinRate(int playerIndex) {
+    return gamesPlayed == 0 ? 0.0 : (double) wins[playerIndex] / gamesPlayed;
+  }
+
+  /**
+   * Returns the average number of rounds of the finished games.
+   *
+   * @return the average game length, or 0 if no game finished
+   */
+  public double getAverageGameLength() {
+    long finished = 0;
+    long totalRounds = 0;
+    for (int rounds = 0; rounds < gameLengths.length; rounds++) {
+      finished += gameLengths[rounds];
+      totalRounds += gameLengths[rounds] * rounds;
+    }
+    return finished == 0 ? 0.0 : (double) totalRounds / finished;
+  }
+
+  /**
+   * Returns the game length distribution, where index {@code i} holds the number of finished games
+   * that lasted {@code i} rounds.
+   *
+   * @return a copy of the game length histogram
+   */
+  public long[] getGameLengthDistribution() {
+    return Arrays.copyOf(gameLengths, gameLengths.length);
+  }
+
+  /**
+   * Returns the tile visit heatmap, where index {@code i} holds the number of turns that ended on
+   * the tile with ID {@code i}.
+   *
+   * @return a copy of the tile visit counts
+   */
+  public long[] getTileVisits() {
+    return Arrays.copyOf(tileVisits, tileVisits.length);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append(String.format("SimulationResult{games=%d, unfinished=%d, averageRounds=%.2f",
+        gamesPlayed, unfinishedGames, getAverageGameLength()));
+    for (int i = 0; i < wins.length; i++) {
+      sb.append(String.format(", player%d=%.2f%%", i, getWinRate(i) * 100));
+    }
+    return sb.append('}').toString();
+  }
+}
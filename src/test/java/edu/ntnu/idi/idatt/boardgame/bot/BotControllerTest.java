@@ -0,0 +1,147 @@
+package edu.ntnu.idi.idatt.boardgame.bot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.idi.idatt.boardgame.core.reactivity.Observer;
+import edu.ntnu.idi.idatt.boardgame.game.QuizGameFixture;
+import edu.ntnu.idi.idatt.boardgame.model.GameEngine;
+import edu.ntnu.idi.idatt.boardgame.model.GameSnapshot;
+import edu.ntnu.idi.idatt.boardgame.model.PlayerController;
+import edu.ntnu.idi.idatt.boardgame.model.bot.BotController;
+import edu.ntnu.idi.idatt.boardgame.model.bot.SkillModel;
+import edu.ntnu.idi.idatt.boardgame.model.dice.DiceRoller;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Color;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Game;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Player;
+import edu.ntnu.idi.idatt.boardgame.model.events.GameEvent;
+import edu.ntnu.idi.idatt.boardgame.model.events.QuestionAnsweredEvent;
+import edu.ntnu.idi.idatt.boardgame.model.managers.QuizManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BotControllerTest {
+
+  private Game game;
+  private QuizManager quizManager;
+  private List<Player> players;
+  private ForkJoinPool pool;
+  /// The moves of the bots, run by the test as the thread driving the engine
+  private BlockingQueue<Runnable> moves;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    pool = new ForkJoinPool(2);
+    moves = new LinkedBlockingQueue<>();
+    quizManager = QuizGameFixture.initQuizManager();
+    game = QuizGameFixture.quizGame("Bots", 1);
+    players = QuizGameFixture.players();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    pool.shutdownNow();
+    QuizGameFixture.resetQuizManager();
+  }
+
+  private BotController bot(GameEngine engine, double skill, long seed) {
+    return new BotController.Builder(engine, moves::add)
+        .skill(SkillModel.withSkill(skill))
+        .timeBudget(Duration.ofMillis(2))
+        .pool(pool)
+        .seed(seed)
+        .build();
+  }
+
+  /**
+   * Runs the moves of the bots until the game ends.
+   */
+  private void runMoves(GameEngine engine) throws InterruptedException {
+    while (!engine.isGameEnded()) {
+      Runnable move = moves.poll(10, TimeUnit.SECONDS);
+      assertNotNull(move, "The bots stopped playing");
+      move.run();
+    }
+  }
+
+  @Test
+  @DisplayName("bots play a game to the end")
+  void botsPlayGame() throws InterruptedException {
+    GameEngine engine = new GameEngine(game, quizManager, players, DiceRoller.seeded(6));
+    List<Player> enginePlayers = engine.getPlayers();
+    for (int i = 0; i < enginePlayers.size(); i++) {
+      engine.setController(enginePlayers.get(i), bot(engine, 0.5, i));
+    }
+    engine.startGame();
+    runMoves(engine);
+
+    assertTrue(engine.isGameEnded());
+    assertTrue(moves.isEmpty());
+  }
+
+  @Test
+  @DisplayName("a bot of full skill answers every question correctly")
+  void skilledBotAnswersCorrectly() throws InterruptedException {
+    GameEngine engine = new GameEngine(game, quizManager, players, DiceRoller.seeded(3));
+    engine.getPlayers().forEach(player -> engine.setController(player, bot(engine, 1.0, 1)));
+    List<QuestionAnsweredEvent> answers = new ArrayList<>();
+    Observer<GameEngine, GameEvent> observer = event -> {
+      if (event instanceof QuestionAnsweredEvent answered) {
+        answers.add(answered);
+      }
+    };
+    engine.addListener(observer);
+    engine.startGame();
+    runMoves(engine);
+    engine.removeListener(observer);
+
+    assertFalse(answers.isEmpty());
+    assertTrue(answers.stream().allMatch(QuestionAnsweredEvent::correct));
+  }
+
+  @Test
+  @DisplayName("a bot drops its move when the game has changed since it was prompted")
+  void staleMoveIsDropped() throws InterruptedException {
+    GameEngine engine = new GameEngine(game, quizManager, players, DiceRoller.seeded(8));
+    Player first = engine.getPlayers().getFirst();
+    engine.setController(first, bot(engine, 0.5, 2));
+    engine.startGame();
+    Runnable move = moves.poll(10, TimeUnit.SECONDS);
+    assertNotNull(move);
+
+    // the player rolls at the table before the bot gets to move
+    engine.rollDiceAndMoveCurrentPlayer();
+    engine.getCurrentQuestion()
+        .ifPresent(question -> engine.answerQuestion(question.getCorrectAnswer()));
+    GameSnapshot snapshot = engine.snapshot();
+    move.run();
+    assertEquals(snapshot, engine.snapshot());
+  }
+
+  @Test
+  @DisplayName("players are played at the table unless given another controller")
+  void defaultController() {
+    GameEngine engine = new GameEngine(game, quizManager, players, DiceRoller.seeded(1));
+
+    assertSame(PlayerController.HUMAN, engine.getController(engine.getCurrentPlayer()));
+    assertTrue(PlayerController.HUMAN.isHuman());
+    assertFalse(bot(engine, 0.5, 1).isHuman());
+    assertThrows(IllegalArgumentException.class,
+        () -> engine.setController(new Player("Dee", new Color(1, 2, 3)),
+            PlayerController.HUMAN));
+    assertThrows(IllegalArgumentException.class, () -> SkillModel.withSkill(1.5));
+  }
+}
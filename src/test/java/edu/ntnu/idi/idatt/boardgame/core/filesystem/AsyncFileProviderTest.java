@@ -0,0 +1,68 @@
+package edu.ntnu.idi.idatt.boardgame.core.filesystem;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncFileProviderTest {
+
+  private Path directory;
+  private AsyncFileProvider fileProvider;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    directory = Files.createTempDirectory("async-file-provider-test");
+    fileProvider = new AsyncFileProvider(new LocalFileProvider());
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    try (var files = Files.list(directory)) {
+      for (Path file : files.toList()) {
+        Files.deleteIfExists(file);
+      }
+    }
+    Files.deleteIfExists(directory);
+  }
+
+  @Test
+  void savedDataIsReadBack() throws Exception {
+    String path = directory.resolve("data.txt").toString();
+    byte[] data = "Hello, World!".getBytes();
+
+    fileProvider.save(path, data).get(5, TimeUnit.SECONDS);
+
+    assertTrue(fileProvider.exists(path).get(5, TimeUnit.SECONDS));
+    assertArrayEquals(data, fileProvider.get(path).get(5, TimeUnit.SECONDS));
+    assertEquals(List.of("data.txt"),
+        fileProvider.listFiles(directory.toString()).get(5, TimeUnit.SECONDS));
+    assertTrue(fileProvider.delete(path).get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void callsRunOnVirtualThreads() throws Exception {
+    assertTrue(fileProvider.supply(() -> Thread.currentThread().isVirtual())
+        .get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void failuresCompleteExceptionally() {
+    String path = directory.resolve("missing.txt").toString();
+
+    ExecutionException exception = assertThrows(ExecutionException.class,
+        () -> fileProvider.get(path).get(5, TimeUnit.SECONDS));
+    assertInstanceOf(FileReadException.class, exception.getCause());
+  }
+}
@@ -0,0 +1,60 @@
+package edu.ntnu.idi.idatt.boardgame.core.filesystem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class ByteBufferReaderTest {
+
+  private static String readAll(Reader reader, int chunkSize) throws IOException {
+    StringBuilder text = new StringBuilder();
+    char[] chunk = new char[chunkSize];
+    int read;
+    while ((read = reader.read(chunk, 0, chunkSize)) != -1) {
+      text.append(chunk, 0, read);
+    }
+    return text.toString();
+  }
+
+  @Test
+  void decodesWholeBuffer() throws IOException {
+    String text = "{\"name\": \"Stigespill\", \"description\": \"Blåbær og ærfugl\"}";
+    ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+
+    assertEquals(text, readAll(new ByteBufferReader(buffer), 1024));
+    assertEquals(0, buffer.position());
+  }
+
+  @Test
+  void decodesCharactersOutsideBasicPlaneOneCharAtATime() throws IOException {
+    String text = "a🎲b🪜";
+    ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+
+    assertEquals(text, readAll(new ByteBufferReader(buffer), 1));
+  }
+
+  @Test
+  void replacesMalformedInput() throws IOException {
+    ByteBuffer buffer = ByteBuffer.wrap(new byte[]{'a', (byte) 0xC3, 'b'});
+
+    assertEquals("a�b", readAll(new ByteBufferReader(buffer), 8));
+  }
+
+  @Test
+  void emptyBufferEndsImmediately() throws IOException {
+    assertEquals(-1, new ByteBufferReader(ByteBuffer.allocate(0)).read());
+  }
+
+  @Test
+  void closedReaderCanNotBeRead() {
+    ByteBufferReader reader = new ByteBufferReader(ByteBuffer.wrap("abc".getBytes()));
+    reader.close();
+
+    assertThrows(IOException.class, reader::read);
+  }
+}
@@ -0,0 +1,150 @@
+package edu.ntnu.idi.idatt.boardgame.core.filesystem;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingFileProviderTest {
+
+  private Path directory;
+  private AtomicInteger reads;
+  private CachingFileProvider fileProvider;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    directory = Files.createTempDirectory("caching-file-provider-test");
+    reads = new AtomicInteger();
+    fileProvider = new CachingFileProvider(new LocalFileProvider() {
+      @Override
+      public byte[] get(String path) {
+        reads.incrementAndGet();
+        return super.get(path);
+      }
+    }, 16);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    try (var files = Files.list(directory)) {
+      for (Path file : files.toList()) {
+        Files.deleteIfExists(file);
+      }
+    }
+    Files.deleteIfExists(directory);
+  }
+
+  private String write(String name, String content) throws IOException {
+    Path file = directory.resolve(name);
+    Files.writeString(file, content);
+    return file.toString();
+  }
+
+  @Test
+  void repeatedReadsAreServedFromCache() throws IOException {
+    String path = write("game.json", "{}");
+
+    fileProvider.get(path);
+    byte[] data = fileProvider.get(path);
+
+    assertArrayEquals("{}".getBytes(), data);
+    assertEquals(1, reads.get());
+    assertEquals(new CachingFileProvider.CacheStats(1, 1, 0, 2), fileProvider.getStats());
+  }
+
+  @Test
+  void returnedDataCanBeModifiedWithoutChangingCache() throws IOException {
+    String path = write("game.json", "{}");
+
+    fileProvider.get(path)[0] = 'x';
+
+    assertArrayEquals("{}".getBytes(), fileProvider.get(path));
+  }
+
+  @Test
+  void fileChangedOnDiskIsReadAgain() throws IOException {
+    String path = write("game.json", "{}");
+    fileProvider.get(path);
+
+    write("game.json", "{\"a\": 1}");
+
+    assertArrayEquals("{\"a\": 1}".getBytes(), fileProvider.get(path));
+    assertEquals(2, reads.get());
+  }
+
+  @Test
+  void savedFileIsReadAgain() throws IOException {
+    String path = write("game.json", "{}");
+    fileProvider.get(path);
+
+    fileProvider.save(path, "[]".getBytes());
+
+    assertArrayEquals("[]".getBytes(), fileProvider.get(path));
+    assertEquals(2, reads.get());
+  }
+
+  @Test
+  void deletedFileIsNotServed() throws IOException {
+    String path = write("game.json", "{}");
+    fileProvider.get(path);
+
+    Files.delete(Path.of(path));
+
+    assertThrows(FileReadException.class, () -> fileProvider.get(path));
+  }
+
+  @Test
+  void leastRecentlyUsedFileIsEvicted() throws IOException {
+    String first = write("first.json", "0123456");
+    String second = write("second.json", "0123456");
+    String third = write("third.json", "0123456");
+    fileProvider.get(first);
+    fileProvider.get(second);
+    fileProvider.get(first);
+
+    fileProvider.get(third);
+    fileProvider.get(first);
+    fileProvider.get(second);
+
+    assertEquals(4, reads.get());
+    CachingFileProvider.CacheStats stats = fileProvider.getStats();
+    assertEquals(2, stats.hits());
+    assertEquals(2, stats.evictions());
+    assertEquals(14, stats.cachedBytes());
+  }
+
+  @Test
+  void filesLargerThanCacheAreNotCached() throws IOException {
+    String path = write("large.json", "01234567890123456789");
+
+    fileProvider.get(path);
+    fileProvider.get(path);
+
+    assertEquals(2, reads.get());
+    assertEquals(0, fileProvider.getStats().cachedBytes());
+  }
+
+  @Test
+  void buffersFromThresholdAreReadThroughWrappedProvider() throws IOException {
+    CachingFileProvider mapping = new CachingFileProvider(new LocalFileProvider.Builder()
+        .mmapThreshold(8)
+        .build(), 16, 8);
+    String small = write("small.json", "{}");
+    String large = write("large.json", "{\"a\": 1}");
+
+    mapping.getBuffer(small);
+    ByteBuffer buffer = mapping.getBuffer(large);
+
+    assertTrue(buffer.isDirect());
+    assertEquals(2, mapping.getStats().cachedBytes());
+  }
+}
@@ -0,0 +1,89 @@
+package edu.ntnu.idi.idatt.boardgame.core.filesystem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FileWatcherTest {
+
+  private Path directory;
+  private FileWatcher watcher;
+  private BlockingQueue<String> changes;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    directory = Files.createTempDirectory("file-watcher-test");
+    watcher = new FileWatcher(Duration.ofMillis(150));
+    changes = new LinkedBlockingQueue<>();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    watcher.close();
+    try (Stream<Path> files = Files.walk(directory)) {
+      for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.deleteIfExists(file);
+      }
+    }
+  }
+
+  @Test
+  void burstOfWritesIsReportedOnce() throws Exception {
+    watcher.watch(directory.toString(), (path, change) -> changes.add(path + " " + change));
+    Path file = directory.resolve("game.json");
+
+    for (int i = 0; i < 5; i++) {
+      Files.writeString(file, "{\"version\": " + i + "}");
+      Thread.sleep(20);
+    }
+
+    assertEquals(directory + "/game.json CREATED", changes.poll(5, TimeUnit.SECONDS));
+    assertNull(changes.poll(500, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  void modificationAndDeletionAreReported() throws Exception {
+    Path file = directory.resolve("questions.json");
+    Files.writeString(file, "[]");
+    watcher.watch(directory.toString(), (path, change) -> changes.add(path + " " + change));
+
+    Files.writeString(file, "[{}]");
+    assertEquals(directory + "/questions.json MODIFIED", changes.poll(5, TimeUnit.SECONDS));
+
+    Files.delete(file);
+    assertEquals(directory + "/questions.json DELETED", changes.poll(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void failingListenerDoesNotStopWatching() throws Exception {
+    watcher.watch(directory.toString(), (path, change) -> {
+      changes.add(path);
+      throw new IllegalStateException("Listener failed");
+    });
+
+    Files.writeString(directory.resolve("a.json"), "{}");
+    assertEquals(directory + "/a.json", changes.poll(5, TimeUnit.SECONDS));
+    Files.writeString(directory.resolve("b.json"), "{}");
+    assertEquals(directory + "/b.json", changes.poll(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void missingDirectoryCannotBeWatched() {
+    assertThrows(FileWatchException.class,
+        () -> watcher.watch(directory.resolve("missing").toString(), (path, change) -> {
+        }));
+  }
+}
@@ -0,0 +1,76 @@
+package edu.ntnu.idi.idatt.boardgame.core.filesystem;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InMemoryFileProviderTest {
+
+  private InMemoryFileProvider fileProvider;
+
+  @BeforeEach
+  void setUp() {
+    fileProvider = new InMemoryFileProvider(Map.of(
+        "data/games/ladder.json", "{}".getBytes(),
+        "data/games/custom/quiz.json", "[]".getBytes(),
+        "data/players.csv", "Alice".getBytes()));
+  }
+
+  @Test
+  void savedDataIsReadBack() {
+    fileProvider.save("data/new.txt", "Hello".getBytes());
+
+    assertArrayEquals("Hello".getBytes(), fileProvider.get("./data/new.txt"));
+    assertTrue(fileProvider.exists("/data/new.txt"));
+  }
+
+  @Test
+  void storedDataCanNotBeChangedByCaller() {
+    byte[] data = "Hello".getBytes();
+    fileProvider.save("data/new.txt", data);
+
+    data[0] = 'J';
+    fileProvider.get("data/new.txt")[1] = 'a';
+
+    assertArrayEquals("Hello".getBytes(), fileProvider.get("data/new.txt"));
+  }
+
+  @Test
+  void listFilesReturnsDirectChildren() {
+    assertEquals(List.of("custom", "ladder.json"), fileProvider.listFiles("data/games"));
+    assertEquals(List.of("games", "players.csv"), fileProvider.listFiles("data/"));
+  }
+
+  @Test
+  void directoriesExistWhileTheyContainFiles() {
+    assertTrue(fileProvider.exists("data/games/custom"));
+
+    assertTrue(fileProvider.delete("data/games/custom/quiz.json"));
+
+    assertFalse(fileProvider.exists("data/games/custom"));
+    assertFalse(fileProvider.delete("data/games/custom/quiz.json"));
+    assertThrows(DirectoryListException.class, () -> fileProvider.listFiles("data/games/custom"));
+  }
+
+  @Test
+  void missingFileCanNotBeRead() {
+    assertThrows(FileReadException.class, () -> fileProvider.get("data/missing.json"));
+    assertThrows(DirectoryListException.class, () -> fileProvider.listFiles("data/players.csv"));
+  }
+
+  @Test
+  void concurrentSavesAreAllStored() {
+    IntStream.range(0, 1000).parallel()
+        .forEach(i -> fileProvider.save("data/many/" + i + ".txt", new byte[]{(byte) i}));
+
+    assertEquals(1000, fileProvider.listFiles("data/many").size());
+  }
+}
@@ -6,10 +6,21 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,8 +38,13 @@ class LocalFileProviderTest {
 
   @AfterEach
   void tearDown() throws IOException {
-    Files.deleteIfExists(Path.of(testFilePath));
-    Files.deleteIfExists(Path.of(testDirPath));
+    if (Files.exists(Path.of(testDirPath))) {
+      try (Stream<Path> files = Files.walk(Path.of(testDirPath))) {
+        for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+          Files.deleteIfExists(file);
+        }
+      }
+    }
   }
 
   @Test
@@ -50,6 +66,110 @@ class LocalFileProviderTest {
     }
   }
 
+  @Test
+  void save_shorterContent_shouldReplaceWholeFile() throws IOException {
+    // Arrange
+    fileProvider.save(testFilePath, "Hello, World!".getBytes());
+
+    // Act
+    fileProvider.save(testFilePath, "Hi".getBytes());
+
+    // Assert
+    assertEquals("Hi", Files.readString(Path.of(testFilePath)));
+  }
+
+  @Test
+  void save_atomic_shouldReplaceFileWithoutLeavingTemporaryFiles() throws IOException {
+    // Arrange
+    LocalFileProvider atomicProvider = new LocalFileProvider.Builder()
+        .atomic(true)
+        .syncMode(LocalFileProvider.SyncMode.ALWAYS)
+        .build();
+    atomicProvider.save(testFilePath, "Hello, World!".getBytes());
+
+    // Act
+    atomicProvider.save(testFilePath, "Hi".getBytes());
+
+    // Assert
+    assertEquals("Hi", Files.readString(Path.of(testFilePath)));
+    try (Stream<Path> files = Files.list(Path.of(testDirPath))) {
+      assertEquals(List.of(Path.of(testFilePath)), files.toList());
+    }
+    WriteMetrics metrics = atomicProvider.getWriteMetrics();
+    assertEquals(2, metrics.getWriteCount());
+    assertEquals(15, metrics.getByteCount());
+    assertTrue(metrics.getSyncCount() >= 2);
+  }
+
+  @Test
+  void save_atomic_shouldKeepFilePermissions() throws IOException {
+    // Arrange
+    Path path = Path.of(testFilePath);
+    assumeTrue(path.getFileSystem().supportedFileAttributeViews().contains("posix"));
+    LocalFileProvider atomicProvider = new LocalFileProvider.Builder().atomic(true).build();
+    atomicProvider.save(testFilePath, "Hello, World!".getBytes());
+    Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r--r--");
+    Files.setPosixFilePermissions(path, permissions);
+
+    // Act
+    atomicProvider.save(testFilePath, "Hi".getBytes());
+
+    // Assert
+    assertEquals(permissions, Files.getPosixFilePermissions(path));
+  }
+
+  @Test
+  void save_batched_shouldShareSyncsBetweenConcurrentSaves() throws IOException {
+    // Arrange
+    LocalFileProvider batchedProvider = new LocalFileProvider.Builder()
+        .atomic(true)
+        .syncMode(LocalFileProvider.SyncMode.BATCHED)
+        .batchWindow(Duration.ofMillis(100))
+        .build();
+    List<CompletableFuture<Void>> saves = new ArrayList<>();
+
+    // Act
+    for (int i = 0; i < 10; i++) {
+      String path = testDirPath + "/file" + (i % 2) + ".txt";
+      byte[] data = ("save " + i).getBytes();
+      saves.add(CompletableFuture.runAsync(() -> batchedProvider.save(path, data)));
+    }
+    saves.forEach(CompletableFuture::join);
+
+    // Assert
+    try (Stream<Path> files = Files.list(Path.of(testDirPath))) {
+      assertEquals(2, files.count());
+    }
+    assertTrue(Files.readString(Path.of(testDirPath, "file0.txt")).startsWith("save "));
+    WriteMetrics metrics = batchedProvider.getWriteMetrics();
+    assertEquals(10, metrics.getWriteCount());
+    assertTrue(metrics.getSyncCount() < 10);
+  }
+
+  @Test
+  void getBuffer_shouldMapOnlyFilesFromThreshold() throws IOException {
+    // Arrange
+    LocalFileProvider thresholdProvider = new LocalFileProvider.Builder()
+        .mmapThreshold(8)
+        .build();
+    String smallPath = testDirPath + "/small.txt";
+    Files.createDirectories(Path.of(testDirPath));
+    Files.writeString(Path.of(smallPath), "Hello");
+    Files.writeString(Path.of(testFilePath), "Hello, World!");
+
+    // Act
+    ByteBuffer small = thresholdProvider.getBuffer(smallPath);
+    ByteBuffer large = thresholdProvider.getBuffer(testFilePath);
+
+    // Assert
+    assertFalse(small.isDirect());
+    assertTrue(large.isDirect());
+    assertTrue(small.isReadOnly());
+    assertTrue(large.isReadOnly());
+    assertEquals(ByteBuffer.wrap("Hello".getBytes()), small);
+    assertEquals(ByteBuffer.wrap("Hello, World!".getBytes()), large);
+  }
+
   @Test
   void delete() throws IOException {
     // Arrange
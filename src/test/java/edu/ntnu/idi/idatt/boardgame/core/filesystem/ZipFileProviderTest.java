@@ -0,0 +1,82 @@
+package edu.ntnu.idi.idatt.boardgame.core.filesystem;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ZipFileProviderTest {
+
+  private Path archive;
+  private ZipFileProvider fileProvider;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    archive = Files.createTempFile("zip-file-provider-test", ".zip");
+    try (OutputStream out = Files.newOutputStream(archive);
+        ZipOutputStream zip = new ZipOutputStream(out)) {
+      zip.putNextEntry(new ZipEntry("data/"));
+      zip.putNextEntry(new ZipEntry("data/games/"));
+      zip.putNextEntry(new ZipEntry("data/games/ladder.json"));
+      zip.write("{\"id\": \"ladder\"}".getBytes());
+      zip.putNextEntry(new ZipEntry("data/questions.json"));
+      zip.write("[]".getBytes());
+      zip.closeEntry();
+    }
+    fileProvider = new ZipFileProvider(archive);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    fileProvider.close();
+    Files.deleteIfExists(archive);
+  }
+
+  @Test
+  void filesAreReadFromArchive() {
+    assertArrayEquals("{\"id\": \"ladder\"}".getBytes(),
+        fileProvider.get("data/games/ladder.json"));
+    assertEquals(ByteBuffer.wrap("[]".getBytes()), fileProvider.getBuffer("./data/questions.json"));
+  }
+
+  @Test
+  void existsChecksFilesAndDirectories() {
+    assertTrue(fileProvider.exists("data/games"));
+    assertTrue(fileProvider.exists("/data/questions.json"));
+    assertFalse(fileProvider.exists("data/missing.json"));
+  }
+
+  @Test
+  void listFilesReturnsEntryNames() {
+    assertEquals(List.of("games", "questions.json"),
+        fileProvider.listFiles("data").stream().sorted().toList());
+    assertEquals(List.of("ladder.json"), fileProvider.listFiles("data/games"));
+  }
+
+  @Test
+  void missingEntriesCanNotBeRead() {
+    assertThrows(FileReadException.class, () -> fileProvider.get("data/missing.json"));
+    assertThrows(DirectoryListException.class, () -> fileProvider.listFiles("data/missing"));
+  }
+
+  @Test
+  void archiveIsReadOnly() {
+    assertThrows(FileSaveException.class,
+        () -> fileProvider.save("data/players.csv", new byte[0]));
+    assertThrows(FileDeleteException.class,
+        () -> fileProvider.delete("data/questions.json"));
+  }
+}
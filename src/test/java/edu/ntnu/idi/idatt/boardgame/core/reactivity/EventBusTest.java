@@ -0,0 +1,144 @@
+package edu.ntnu.idi.idatt.boardgame.core.reactivity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.idi.idatt.boardgame.core.reactivity.EventBus.BackpressurePolicy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EventBusTest {
+
+  private EventBus<ObservableEntity, Integer> bus;
+  private List<Integer> received;
+  private Queue<Runnable> tasks;
+
+  @BeforeEach
+  void setUp() {
+    bus = new EventBus<>();
+    received = Collections.synchronizedList(new ArrayList<>());
+    tasks = new ArrayDeque<>();
+  }
+
+  @Test
+  void testDirectSubscriberIsCalledBeforePublishReturns() {
+    bus.subscribe(received::add);
+    bus.publish(1);
+    bus.publish(2);
+
+    assertEquals(List.of(1, 2), received);
+  }
+
+  @Test
+  void testDirectSubscriberMustNotBlock() {
+    assertThrows(IllegalArgumentException.class, () -> bus.subscribe(received::add,
+        EventBus.DIRECT, EventBus.DEFAULT_CAPACITY, BackpressurePolicy.BLOCK));
+  }
+
+  @Test
+  void testBusForwardsEventsOfObservable() {
+    ObservableEntity observable = new ObservableEntity(0);
+    observable.addListener(bus);
+    bus.subscribe(received::add);
+    observable.setValue(7);
+
+    assertEquals(List.of(7), received);
+  }
+
+  @Test
+  void testExecutorSubscriberReceivesEventsInOneBatch() {
+    bus.subscribe(received::add, tasks::add, 16, BackpressurePolicy.BLOCK);
+    IntStream.range(0, 10).forEach(bus::publish);
+
+    assertEquals(1, tasks.size());
+    assertTrue(received.isEmpty());
+    tasks.poll().run();
+    assertEquals(IntStream.range(0, 10).boxed().toList(), received);
+    assertTrue(tasks.isEmpty());
+  }
+
+  @Test
+  void testLargeBatchIsSplit() {
+    bus.subscribe(received::add, tasks::add, 1024, BackpressurePolicy.BLOCK);
+    IntStream.range(0, EventBus.MAX_BATCH + 10).forEach(bus::publish);
+
+    tasks.poll().run();
+    assertEquals(EventBus.MAX_BATCH, received.size());
+    assertEquals(1, tasks.size());
+    tasks.poll().run();
+    assertEquals(EventBus.MAX_BATCH + 10, received.size());
+  }
+
+  @Test
+  void testDropNewestKeepsFirstEvents() {
+    EventBus.Subscription<ObservableEntity, Integer> subscription =
+        bus.subscribe(received::add, tasks::add, 4, BackpressurePolicy.DROP_NEWEST);
+    IntStream.range(0, 10).forEach(bus::publish);
+    tasks.poll().run();
+
+    assertEquals(List.of(0, 1, 2, 3), received);
+    assertEquals(6, subscription.getDroppedCount());
+  }
+
+  @Test
+  void testDropOldestKeepsLatestEvents() {
+    EventBus.Subscription<ObservableEntity, Integer> subscription =
+        bus.subscribe(received::add, tasks::add, 4, BackpressurePolicy.DROP_OLDEST);
+    IntStream.range(0, 10).forEach(bus::publish);
+    tasks.poll().run();
+
+    assertEquals(List.of(6, 7, 8, 9), received);
+    assertEquals(6, subscription.getDroppedCount());
+  }
+
+  @Test
+  void testClosedSubscriptionReceivesNothing() {
+    EventBus.Subscription<ObservableEntity, Integer> subscription =
+        bus.subscribe(received::add, tasks::add, 4, BackpressurePolicy.BLOCK);
+    bus.publish(1);
+    subscription.close();
+    bus.publish(2);
+    tasks.forEach(Runnable::run);
+
+    assertTrue(received.isEmpty());
+    assertEquals(0, bus.getSubscriberCount());
+  }
+
+  @Test
+  void testBlockingPublishersDeliverEveryEventInOrder() throws InterruptedException {
+    int producers = 4;
+    int events = 10_000;
+    ExecutorService consumer = Executors.newSingleThreadExecutor();
+    List<List<Integer>> byProducer = new ArrayList<>();
+    IntStream.range(0, producers).forEach(i -> byProducer.add(new ArrayList<>()));
+    bus.subscribe(event -> byProducer.get(event / events).add(event % events), consumer, 64,
+        BackpressurePolicy.BLOCK);
+
+    List<Thread> threads = IntStream.range(0, producers)
+        .mapToObj(producer -> Thread.ofPlatform().start(() -> {
+          for (int i = 0; i < events; i++) {
+            bus.publish(producer * events + i);
+          }
+        }))
+        .toList();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    consumer.shutdown();
+    assertTrue(consumer.awaitTermination(10, TimeUnit.SECONDS));
+
+    for (List<Integer> received : byProducer) {
+      assertEquals(IntStream.range(0, events).boxed().toList(), received);
+    }
+  }
+}
@@ -1,5 +1,8 @@
 package edu.ntnu.idi.idatt.boardgame.core.reactivity;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -71,4 +74,55 @@ class ObservableTest {
 
         assertEquals(2, observable.getObservers().size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testNotifiesByPriorityThenInOrderAdded() {
+        List<String> calls = new ArrayList<>();
+        observable.addListener(value -> calls.add("first"));
+        observable.addListener(value -> calls.add("high"), 10);
+        observable.addListener(value -> calls.add("second"));
+        observable.addListener(value -> calls.add("low"), -10);
+        observable.setValue(1);
+
+        assertEquals(List.of("high", "first", "second", "low"), calls);
+    }
+
+    @Test
+    void testAddingTwiceNotifiesOnce() {
+        observable.addListener(observerA);
+        observable.addListener(observerA);
+
+        assertEquals(1, observable.getObserverCount());
+    }
+
+    @Test
+    void testRemoveDuringNotification() {
+        List<String> calls = new ArrayList<>();
+        Observer<ObservableEntity, Integer> second = value -> calls.add("second");
+        observable.addListener(value -> {
+            calls.add("first");
+            observable.removeListener(second);
+            observable.addListener(v -> calls.add("added"));
+        });
+        observable.addListener(second);
+        observable.setValue(1);
+
+        assertEquals(List.of("first"), calls);
+        assertEquals(2, observable.getObserverCount());
+    }
+
+    @Test
+    void testCollectedWeakListenerIsRemoved() {
+        WeakReference<Observer<ObservableEntity, Integer>> collected =
+                new WeakReference<>(observerB);
+        collected.clear();
+        observable.addWeakReference(collected, Observable.DEFAULT_PRIORITY);
+        observable.addWeakListener(observerA);
+        observable.setValue(5);
+        observable.removeListener(observerA);
+
+        assertEquals(5, observerA.counter);
+        assertEquals(0, observerB.counter);
+        assertFalse(observable.hasObservers());
+    }
+}
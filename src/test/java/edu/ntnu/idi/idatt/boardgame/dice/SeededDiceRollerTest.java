@@ -0,0 +1,98 @@
+package edu.ntnu.idi.idatt.boardgame.dice;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.idi.idatt.boardgame.model.dice.DiceRoller;
+import edu.ntnu.idi.idatt.boardgame.model.dice.SeededDiceRoller;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SeededDiceRollerTest {
+
+  @Test
+  @DisplayName("roll fills the array with die values and returns their sum")
+  void rollFillsArray() {
+    DiceRoller roller = new SeededDiceRoller(1);
+    int[] dice = new int[3];
+
+    for (int i = 0; i < 1000; i++) {
+      int sum = roller.roll(dice);
+      int expected = 0;
+      for (int value : dice) {
+        assertTrue(value >= 1 && value <= DiceRoller.SIDES);
+        expected += value;
+      }
+      assertEquals(expected, sum);
+    }
+  }
+
+  @Test
+  @DisplayName("rollers with the same seed roll the same values")
+  void sameSeedSameRolls() {
+    DiceRoller first = DiceRoller.seeded(1234);
+    DiceRoller second = DiceRoller.seeded(1234);
+    int[] firstDice = new int[2];
+    int[] secondDice = new int[2];
+
+    for (int i = 0; i < 100; i++) {
+      first.roll(firstDice);
+      second.roll(secondDice);
+      assertArrayEquals(firstDice, secondDice);
+    }
+    assertEquals(first.getRandom().nextLong(), second.getRandom().nextLong());
+  }
+
+  @Test
+  @DisplayName("the seed of a random roller can be used to replay it")
+  void randomRollerIsReplayable() {
+    DiceRoller original = DiceRoller.random();
+    DiceRoller replay = DiceRoller.seeded(original.getSeed());
+    int[] originalDice = new int[1];
+    int[] replayDice = new int[1];
+
+    for (int i = 0; i < 100; i++) {
+      assertEquals(original.roll(originalDice), replay.roll(replayDice));
+    }
+  }
+
+  @Test
+  @DisplayName("rolls the same values as a SplittableRandom with the same seed")
+  void matchesSplittableRandom() {
+    DiceRoller roller = DiceRoller.seeded(99);
+    SplittableRandom random = new SplittableRandom(99);
+    int[] dice = new int[1];
+
+    for (int i = 0; i < 1000; i++) {
+      roller.roll(dice);
+      assertEquals(random.nextInt(DiceRoller.SIDES) + 1, dice[0]);
+      assertEquals(random.nextDouble(), roller.getRandom().nextDouble());
+    }
+  }
+
+  @Test
+  @DisplayName("a restored state continues with the same rolls")
+  void restoredStateRollsSameValues() {
+    DiceRoller roller = DiceRoller.seeded(8);
+    int[] dice = new int[2];
+    roller.roll(dice);
+    long state = roller.getState();
+    int[] expected = IntStream.range(0, 50).map(i -> roller.roll(dice)).toArray();
+
+    roller.setState(state);
+    assertArrayEquals(expected, IntStream.range(0, 50).map(i -> roller.roll(dice)).toArray());
+  }
+
+  @Test
+  @DisplayName("zero dice sum to zero and null is rejected")
+  void edgeCases() {
+    DiceRoller roller = new SeededDiceRoller(5);
+
+    assertEquals(0, roller.roll(new int[0]));
+    assertThrows(IllegalArgumentException.class, () -> roller.roll(null));
+  }
+}
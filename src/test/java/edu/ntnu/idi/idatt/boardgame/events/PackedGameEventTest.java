@@ -0,0 +1,64 @@
+package edu.ntnu.idi.idatt.boardgame.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import edu.ntnu.idi.idatt.boardgame.model.events.GameEventKind;
+import edu.ntnu.idi.idatt.boardgame.model.events.PackedGameEvent;
+import org.junit.jupiter.api.Test;
+
+class PackedGameEventTest {
+
+  @Test
+  void testPackedEventRoundTrips() {
+    long event = PackedGameEvent.pack(GameEventKind.PLAYER_MOVED, 3, 17, 42, 9);
+
+    assertEquals(GameEventKind.PLAYER_MOVED, PackedGameEvent.kind(event));
+    assertEquals(3, PackedGameEvent.playerIndex(event));
+    assertEquals(17, PackedGameEvent.fromTileId(event));
+    assertEquals(42, PackedGameEvent.toTileId(event));
+    assertEquals(9, PackedGameEvent.value(event));
+  }
+
+  @Test
+  void testEveryKindAndExtremeValuesRoundTrip() {
+    for (GameEventKind kind : GameEventKind.values()) {
+      long event = PackedGameEvent.pack(kind, 254, PackedGameEvent.MAX_TILE_ID, 0, -32768);
+
+      assertEquals(kind, PackedGameEvent.kind(event));
+      assertEquals(254, PackedGameEvent.playerIndex(event));
+      assertEquals(PackedGameEvent.MAX_TILE_ID, PackedGameEvent.fromTileId(event));
+      assertEquals(0, PackedGameEvent.toTileId(event));
+      assertEquals(-32768, PackedGameEvent.value(event));
+    }
+  }
+
+  @Test
+  void testMissingPlayerAndTilesAreDecodedAsNone() {
+    long event = PackedGameEvent.pack(GameEventKind.GAME_STARTED, PackedGameEvent.NONE,
+        PackedGameEvent.NONE, PackedGameEvent.NONE, -1);
+
+    assertEquals(PackedGameEvent.NONE, PackedGameEvent.playerIndex(event));
+    assertEquals(PackedGameEvent.NONE, PackedGameEvent.fromTileId(event));
+    assertEquals(PackedGameEvent.NONE, PackedGameEvent.toTileId(event));
+    assertEquals(-1, PackedGameEvent.value(event));
+  }
+
+  @Test
+  void testValuesOutOfRangeAreRejected() {
+    assertThrows(IllegalArgumentException.class,
+        () -> PackedGameEvent.pack(GameEventKind.DICE_ROLLED, 255, 0, 0, 0));
+    assertThrows(IllegalArgumentException.class,
+        () -> PackedGameEvent.pack(GameEventKind.DICE_ROLLED, 0, 0xFFFF, 0, 0));
+    assertThrows(IllegalArgumentException.class,
+        () -> PackedGameEvent.pack(GameEventKind.DICE_ROLLED, 0, 0, -2, 0));
+  }
+
+  @Test
+  void testValuesOutOfRangeAreSaturated() {
+    assertEquals(Short.MAX_VALUE, PackedGameEvent.value(
+        PackedGameEvent.pack(GameEventKind.PLAYER_TURN_CHANGED, 0, 0, 0, 40_000)));
+    assertEquals(Short.MIN_VALUE, PackedGameEvent.value(
+        PackedGameEvent.pack(GameEventKind.PLAYER_MOVED, 0, 0, 0, -40_000)));
+  }
+}
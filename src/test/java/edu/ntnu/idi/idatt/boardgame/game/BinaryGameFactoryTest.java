@@ -0,0 +1,128 @@
+package edu.ntnu.idi.idatt.boardgame.game;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.idi.idatt.boardgame.model.actions.ladder.LadderAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.quiz.QuizTileAction;
+import edu.ntnu.idi.idatt.boardgame.model.entities.CompiledBoard;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Game;
+import edu.ntnu.idi.idatt.boardgame.model.entities.MappedBoard;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Tile;
+import edu.ntnu.idi.idatt.boardgame.model.factories.BinaryGameFactory;
+import edu.ntnu.idi.idatt.boardgame.model.factories.GameFactory;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BinaryGameFactoryTest {
+
+  private Game game;
+  private byte[] binary;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    game = GameFactory.createGame(Files.readString(Path.of("data/games/ladder_hard_core.json")));
+    binary = BinaryGameFactory.toBinary(game);
+  }
+
+  @Test
+  @DisplayName("a game written to the binary format reads back the same")
+  void roundTrip() {
+    Game copy = BinaryGameFactory.createGame(ByteBuffer.wrap(binary));
+
+    assertEquals(game.getId(), copy.getId());
+    assertEquals(game.getName(), copy.getName());
+    assertEquals(game.getDescription(), copy.getDescription());
+    assertEquals(game.getImagePath(), copy.getImagePath());
+    assertEquals(game.getNumberOfDice(), copy.getNumberOfDice());
+    assertEquals(game.getBoard().getRowCount(), copy.getBoard().getRowCount());
+    assertEquals(game.getBoard().getTiles().size(), copy.getBoard().getTiles().size());
+    for (Tile tile : game.getBoard().getTiles().values()) {
+      Tile other = copy.getBoard().getTile(tile.getTileId());
+      assertEquals(tile.getNextTileId(), other.getNextTileId());
+      assertEquals(tile.getPreviousTileId(), other.getPreviousTileId());
+      assertEquals(tile.getRow(), other.getRow());
+      assertEquals(tile.getCol(), other.getCol());
+      assertEquals(tile.getNextTile().map(Tile::getTileId),
+          other.getNextTile().map(Tile::getTileId));
+      assertEquals(tile.getAction().map(Object::getClass), other.getAction().map(Object::getClass));
+      if (tile.getAction().orElse(null) instanceof LadderAction ladder) {
+        LadderAction otherLadder = (LadderAction) other.getAction().orElseThrow();
+        assertEquals(ladder.getDestinationTileId(), otherLadder.getDestinationTile().getTileId());
+      }
+      if (tile.getAction().orElse(null) instanceof QuizTileAction quiz) {
+        assertEquals(quiz.getCategory(),
+            ((QuizTileAction) other.getAction().orElseThrow()).getCategory());
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("tiles are only created when the board's tiles are accessed")
+  void tilesAreCreatedLazily() {
+    Game copy = BinaryGameFactory.createGame(ByteBuffer.wrap(binary));
+    MappedBoard board = assertInstanceOf(MappedBoard.class, copy.getBoard());
+
+    assertFalse(board.isMaterialized());
+    assertEquals(game.getBoard().getTiles().size(), board.getTileCount());
+    CompiledBoard.compile(board);
+    assertFalse(board.isMaterialized());
+
+    board.getTile(0);
+    assertTrue(board.isMaterialized());
+  }
+
+  @Test
+  @DisplayName("a board compiled from the tables matches one compiled from the tiles")
+  void compilesFromTables() {
+    CompiledBoard expected = CompiledBoard.compile(game.getBoard());
+    CompiledBoard actual = CompiledBoard.compile(
+        BinaryGameFactory.createGame(ByteBuffer.wrap(binary)).getBoard());
+
+    assertEquals(expected.getTileCount(), actual.getTileCount());
+    int[] expectedMoves = new int[expected.getTileCount()];
+    int[] actualMoves = new int[actual.getTileCount()];
+    for (Tile tile : game.getBoard().getTiles().values()) {
+      int tileId = tile.getTileId();
+      assertEquals(expected.getActionKind(tileId), actual.getActionKind(tileId));
+      assertEquals(expected.getLadderDestination(tileId), actual.getLadderDestination(tileId));
+      assertEquals(expected.getQuizCategory(tileId), actual.getQuizCategory(tileId));
+      assertEquals(expected.getNext(tileId), actual.getNext(tileId));
+      assertEquals(expected.getPrevious(tileId), actual.getPrevious(tileId));
+      expectedMoves[tileId] = expected.move(tileId, 5);
+      actualMoves[tileId] = actual.move(tileId, 5);
+    }
+    assertArrayEquals(expectedMoves, actualMoves);
+  }
+
+  @Test
+  @DisplayName("data that is not a supported binary game is rejected")
+  void invalidData() {
+    assertThrows(IllegalArgumentException.class,
+        () -> BinaryGameFactory.createGame(ByteBuffer.wrap(new byte[8])));
+
+    byte[] badMagic = binary.clone();
+    badMagic[0] = 'X';
+    assertThrows(IllegalArgumentException.class,
+        () -> BinaryGameFactory.createGame(ByteBuffer.wrap(badMagic)));
+
+    byte[] badVersion = binary.clone();
+    badVersion[4] = 99;
+    assertThrows(IllegalArgumentException.class,
+        () -> BinaryGameFactory.createGame(ByteBuffer.wrap(badVersion)));
+
+    byte[] truncated = Arrays.copyOf(binary, binary.length / 2);
+    assertThrows(IllegalArgumentException.class,
+        () -> BinaryGameFactory.createGame(ByteBuffer.wrap(truncated)));
+  }
+}
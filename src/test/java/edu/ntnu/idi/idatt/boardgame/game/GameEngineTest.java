@@ -6,26 +6,32 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 
-import edu.ntnu.idi.idatt.boardgame.Utils;
 import edu.ntnu.idi.idatt.boardgame.model.GameEngine;
 import edu.ntnu.idi.idatt.boardgame.model.actions.goal.GoalTileAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.quiz.QuizTileAction;
+import edu.ntnu.idi.idatt.boardgame.model.dice.DiceRoller;
 import edu.ntnu.idi.idatt.boardgame.model.entities.Board;
 import edu.ntnu.idi.idatt.boardgame.model.entities.Color;
 import edu.ntnu.idi.idatt.boardgame.model.entities.Game;
 import edu.ntnu.idi.idatt.boardgame.model.entities.Player;
 import edu.ntnu.idi.idatt.boardgame.model.entities.Question;
+import edu.ntnu.idi.idatt.boardgame.model.entities.QuestionCategory;
 import edu.ntnu.idi.idatt.boardgame.model.entities.Tile;
+import edu.ntnu.idi.idatt.boardgame.model.events.DiceRolledEvent;
+import edu.ntnu.idi.idatt.boardgame.model.events.GameEvent;
+import edu.ntnu.idi.idatt.boardgame.model.events.GameEventKind;
+import edu.ntnu.idi.idatt.boardgame.model.events.PackedGameEvent;
 import edu.ntnu.idi.idatt.boardgame.model.managers.QuizManager;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.random.RandomGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.MockedStatic;
 
 class GameEngineTest {
 
@@ -35,6 +41,7 @@ class GameEngineTest {
   private Tile tile1;
   private QuizManager quizManager;
   private GameEngine controller;
+  private int[] nextRoll;
 
   @BeforeEach
   void setUp() {
@@ -63,7 +70,36 @@ class GameEngineTest {
       return tile1;
     });
 
-    controller = new GameEngine(game, quizManager, List.of(newPlayer("a"), newPlayer("b")));
+    nextRoll = new int[]{1, 1};
+    controller = new GameEngine(game, quizManager, List.of(newPlayer("a"), newPlayer("b")),
+        fixedDiceRoller());
+  }
+
+  /**
+   * Creates a dice roller that always rolls the values in {@code nextRoll}.
+   */
+  private DiceRoller fixedDiceRoller() {
+    return new DiceRoller() {
+      @Override
+      public int roll(int[] dice) {
+        int sum = 0;
+        for (int i = 0; i < dice.length; i++) {
+          dice[i] = nextRoll[i];
+          sum += dice[i];
+        }
+        return sum;
+      }
+
+      @Override
+      public RandomGenerator getRandom() {
+        return RandomGenerator.getDefault();
+      }
+
+      @Override
+      public long getSeed() {
+        return 0;
+      }
+    };
   }
 
   private Player newPlayer(String name) {
@@ -92,23 +128,41 @@ class GameEngineTest {
   @Test
   @DisplayName("rollDice normal move records dice")
   void rollDiceRecordsDice() {
+    List<GameEvent> events = new ArrayList<>();
+    controller.addListener(events::add);
     controller.startGame();
-    try (MockedStatic<Utils> st = mockStatic(Utils.class)) {
-      st.when(() -> Utils.throwDice(2)).thenReturn(List.of(1, 1));
-      controller.rollDiceAndMoveCurrentPlayer();
-    }
+    controller.rollDiceAndMoveCurrentPlayer();
+
+    DiceRolledEvent diceEvent = events.stream().filter(DiceRolledEvent.class::isInstance)
+        .map(DiceRolledEvent.class::cast).findFirst().orElseThrow();
+    assertEquals(2, diceEvent.totalValue());
+    assertEquals(List.of(1, 1), diceEvent.individualRolls());
+  }
+
+  @Test
+  @DisplayName("packed listener receives every event of a turn")
+  void packedListenerReceivesTurn() {
+    List<Long> events = new ArrayList<>();
+    controller.addPackedListener(events::add);
+    controller.startGame();
+    controller.rollDiceAndMoveCurrentPlayer();
+
+    assertEquals(List.of(GameEventKind.GAME_STARTED, GameEventKind.DICE_ROLLED,
+            GameEventKind.PLAYER_MOVED, GameEventKind.PLAYER_TURN_CHANGED),
+        events.stream().map(PackedGameEvent::kind).toList());
+    long dice = events.get(1);
+    assertEquals(0, PackedGameEvent.playerIndex(dice));
+    assertEquals(2, PackedGameEvent.value(dice));
+    assertEquals(1, PackedGameEvent.playerIndex(events.get(3)));
   }
 
   @Test
   @DisplayName("round count increments after a full cycle")
   void roundCountIncrements() {
     controller.startGame();
-    try (MockedStatic<Utils> st = mockStatic(Utils.class)) {
-      st.when(() -> Utils.throwDice(2)).thenReturn(List.of(1, 1));
-      controller.rollDiceAndMoveCurrentPlayer();
-      controller.rollDiceAndMoveCurrentPlayer();
-      assertEquals(2, controller.getRoundCount());
-    }
+    controller.rollDiceAndMoveCurrentPlayer();
+    controller.rollDiceAndMoveCurrentPlayer();
+    assertEquals(2, controller.getRoundCount());
   }
 
 
@@ -121,11 +175,9 @@ class GameEngineTest {
     when(board.getTile(anyInt())).thenReturn(goalTile);
 
     controller.startGame();
-    try (MockedStatic<Utils> st = mockStatic(Utils.class)) {
-      st.when(() -> Utils.throwDice(2)).thenReturn(List.of(2, 0));
-      controller.rollDiceAndMoveCurrentPlayer();
-      assertTrue(controller.isGameEnded());
-    }
+    nextRoll = new int[]{2, 0};
+    controller.rollDiceAndMoveCurrentPlayer();
+    assertTrue(controller.isGameEnded());
   }
 
   @Test
@@ -170,4 +222,31 @@ class GameEngineTest {
     assertFalse(res);
     assertEquals(startTile, internal.getCurrentTile());
   }
+
+  @Test
+  @DisplayName("a quiz tile without a category asks a question of any category")
+  void quizTileWithoutCategory() throws Exception {
+    QuizManager quizManager = QuizGameFixture.initQuizManager();
+    try {
+      Board quizBoard = new Board(1, 3);
+      quizBoard.addTile(new Tile.Builder(0).position(0, 0).nextTileId(1).build());
+      quizBoard.addTile(new Tile.Builder(1).position(0, 1).previousTileId(0).nextTileId(2)
+          .action(new QuizTileAction()).build());
+      quizBoard.addTile(new Tile.Builder(2).position(0, 2).previousTileId(1)
+          .action(new GoalTileAction()).build());
+      Game quizGame = new Game(quizBoard, "Quiz", "Quiz test game", "quiz", 2, 4, 1, null);
+      quizGame.resolveReferences(quizBoard);
+      GameEngine engine = new GameEngine(quizGame, quizManager,
+          List.of(new Player("a", Color.RED), new Player("b", Color.BLUE)), fixedDiceRoller());
+
+      engine.startGame();
+      engine.rollDiceAndMoveCurrentPlayer();
+
+      assertTrue(engine.isQuestionBeingAsked());
+      assertEquals(QuestionCategory.SCIENCE,
+          engine.getCurrentQuestion().orElseThrow().getCategory());
+    } finally {
+      QuizGameFixture.resetQuizManager();
+    }
+  }
 }
@@ -0,0 +1,170 @@
+package edu.ntnu.idi.idatt.boardgame.game;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.typeadapters.RuntimeTypeAdapterFactory;
+import edu.ntnu.idi.idatt.boardgame.model.actions.TileAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.freeze.FreezeAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.goal.GoalTileAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.immunity.ImmunityAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.ladder.LadderAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.quiz.QuizTileAction;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Board;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Game;
+import edu.ntnu.idi.idatt.boardgame.model.factories.GameFactory;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Compares the streaming {@link GameFactory} against the previous tree based, reflective parsing of
+ * game definitions.
+ * <p>
+ * This is not a unit test and is not run by the test suite. Run it from the project root with the
+ * number of tiles to generate as an optional argument, for example
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=edu.ntnu.idi.idatt.boardgame.game.GameFactoryBenchmark -Dexec.args=200000}.
+ * It prints the median parse time, the bytes allocated per parse and the peak heap in use while
+ * parsing.
+ * </p>
+ */
+public class GameFactoryBenchmark {
+
+  private static final int WARMUP_RUNS = 5;
+  private static final int MEASURED_RUNS = 10;
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param args the number of tiles of the generated board, defaults to 200 000
+   */
+  public static void main(String[] args) {
+    int tileCount = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+    String json = generateGame(tileCount);
+    System.out.printf("Generated board with %d tiles, %.1f MB of JSON%n", tileCount,
+        json.length() / 1e6);
+
+    measure("tree + reflection", json, GameFactoryBenchmark::parseLegacy);
+    measure("streaming adapters", json, GameFactory::createGame);
+  }
+
+  /**
+   * Parses the JSON repeatedly and prints the measurements.
+   *
+   * @param label  the name of the parser
+   * @param json   the game definition
+   * @param parser the parser to measure
+   */
+  private static void measure(String label, String json, Function<String, Game> parser) {
+    for (int i = 0; i < WARMUP_RUNS; i++) {
+      parser.apply(json);
+    }
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+        .filter(pool -> pool.getType() == MemoryType.HEAP)
+        .toList();
+
+    long[] times = new long[MEASURED_RUNS];
+    long allocated = 0;
+    long peak = 0;
+    for (int i = 0; i < MEASURED_RUNS; i++) {
+      System.gc();
+      long baseline = heapPools.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+      heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+      long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+      long start = System.nanoTime();
+
+      Game game = parser.apply(json);
+
+      times[i] = System.nanoTime() - start;
+      allocated += threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+      long used = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+      peak = Math.max(peak, used - baseline);
+      if (game.getBoard().getTiles().isEmpty()) {
+        throw new IllegalStateException("Parsed an empty board");
+      }
+    }
+    Arrays.sort(times);
+    System.out.printf("%-20s median %6.1f ms, allocated %7.1f MB/parse, peak heap %7.1f MB%n",
+        label, times[MEASURED_RUNS / 2] / 1e6, allocated / 1e6 / MEASURED_RUNS, peak / 1e6);
+  }
+
+  /**
+   * Generates a game with a linear board and a mix of all tile actions.
+   *
+   * @param tileCount the number of tiles
+   * @return the game definition as JSON
+   */
+  private static String generateGame(int tileCount) {
+    int colCount = 100;
+    StringBuilder json = new StringBuilder(tileCount * 140);
+    json.append("{\"id\":\"benchmark\",\"name\":\"Benchmark\",\"description\":\"Generated\",")
+        .append("\"minPlayers\":2,\"maxPlayers\":4,\"numberOfDice\":2,\"board\":{")
+        .append("\"rowCount\":").append(tileCount / colCount + 1)
+        .append(",\"colCount\":").append(colCount).append(",\"tiles\":{");
+    for (int i = 0; i < tileCount; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append('"').append(i).append("\":{\"tileId\":").append(i)
+          .append(",\"row\":").append(i / colCount)
+          .append(",\"col\":").append(i % colCount)
+          .append(",\"nextTileId\":").append(i == tileCount - 1 ? -1 : i + 1)
+          .append(",\"previousTileId\":").append(i == 0 ? "null" : String.valueOf(i - 1));
+      if (i == tileCount - 1) {
+        json.append(",\"action\":{\"type\":\"GOAL\"}");
+      } else if (i > 0 && i % 7 == 0) {
+        json.append(",\"action\":{\"type\":\"LADDER\",\"destinationTileId\":")
+            .append(Math.max(0, i - 5)).append('}');
+      } else if (i % 11 == 0 && i > 0) {
+        json.append(",\"action\":{\"type\":\"QUIZ\",\"category\":\"SCIENCE\"}");
+      } else if (i % 13 == 0 && i > 0) {
+        json.append(",\"action\":{\"type\":\"FREEZE\"}");
+      } else if (i % 17 == 0 && i > 0) {
+        json.append(",\"action\":{\"type\":\"IMMUNITY\"}");
+      }
+      json.append('}');
+    }
+    return json.append("}}}").toString();
+  }
+
+  /**
+   * Parses a game the way GameFactory did before the streaming adapters: a new Gson per call, a
+   * JSON tree for the game object and reflection with a runtime type adapter for the board.
+   *
+   * @param json the game definition
+   * @return the game
+   */
+  private static Game parseLegacy(String json) {
+    JsonDeserializer<Game> gameDeserializer = (element, type, context) -> {
+      JsonObject object = element.getAsJsonObject();
+      Board board = context.deserialize(object.get("board"), Board.class);
+      JsonElement imagePath = object.get("imagePath");
+      return new Game(board, object.get("name").getAsString(),
+          object.get("description").getAsString(), object.get("id").getAsString(),
+          object.get("minPlayers").getAsInt(), object.get("maxPlayers").getAsInt(),
+          object.get("numberOfDice").getAsInt(),
+          imagePath == null ? null : imagePath.getAsString());
+    };
+    Gson gson = new GsonBuilder()
+        .registerTypeAdapter(Game.class, gameDeserializer)
+        .registerTypeAdapterFactory(RuntimeTypeAdapterFactory
+            .of(TileAction.class, "type")
+            .registerSubtype(LadderAction.class, "LADDER")
+            .registerSubtype(FreezeAction.class, "FREEZE")
+            .registerSubtype(QuizTileAction.class, "QUIZ")
+            .registerSubtype(GoalTileAction.class, "GOAL")
+            .registerSubtype(ImmunityAction.class, "IMMUNITY"))
+        .create();
+    Game game = gson.fromJson(json, Game.class);
+    game.resolveReferences(game.getBoard());
+    return game;
+  }
+}
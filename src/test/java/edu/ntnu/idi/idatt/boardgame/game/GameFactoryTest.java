@@ -0,0 +1,154 @@
+package edu.ntnu.idi.idatt.boardgame.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.JsonParseException;
+import edu.ntnu.idi.idatt.boardgame.model.actions.freeze.FreezeAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.goal.GoalTileAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.immunity.ImmunityAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.ladder.LadderAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.quiz.QuizTileAction;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Game;
+import edu.ntnu.idi.idatt.boardgame.model.entities.LazyBoard;
+import edu.ntnu.idi.idatt.boardgame.model.entities.QuestionCategory;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Tile;
+import edu.ntnu.idi.idatt.boardgame.model.factories.GameFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GameFactoryTest {
+
+  private static final String GAME_JSON = """
+      {
+        "board": {
+          "tiles": {
+            "0": { "tileId": 0, "nextTileId": 1, "previousTileId": null, "row": 1, "col": 0 },
+            "1": {
+              "action": { "destinationTileId": 0, "type": "LADDER" },
+              "tileId": 1, "nextTileId": 2, "previousTileId": 0, "row": 1, "col": 1
+            },
+            "2": {
+              "tileId": 2, "previousTileId": 1, "row": 0, "col": 1,
+              "action": { "type": "QUIZ", "category": "SCIENCE" },
+              "unknownProperty": [1, 2, 3]
+            }
+          },
+          "rowCount": 2,
+          "colCount": 2
+        },
+        "id": "tiny",
+        "name": "Tiny",
+        "description": "Properties in any order",
+        "minPlayers": 1,
+        "maxPlayers": 2,
+        "numberOfDice": 1
+      }
+      """;
+
+  @Test
+  @DisplayName("properties are read in any order and tile references are resolved")
+  void readsPropertiesInAnyOrder() {
+    Game game = GameFactory.createGame(GAME_JSON);
+
+    assertEquals("tiny", game.getId());
+    assertEquals(2, game.getBoard().getRowCount());
+    assertEquals(3, game.getBoard().getTiles().size());
+    assertTrue(game.getImagePath().isEmpty());
+
+    Tile start = game.getBoard().getTile(0);
+    assertTrue(start.getPreviousTile().isEmpty());
+    assertEquals(1, start.getNextTile().orElseThrow().getTileId());
+    assertTrue(game.getBoard().getTile(2).getNextTile().isEmpty());
+
+    LadderAction ladder = assertInstanceOf(LadderAction.class,
+        game.getBoard().getTile(1).getAction().orElseThrow());
+    assertEquals(start, ladder.getDestinationTile());
+    QuizTileAction quiz = assertInstanceOf(QuizTileAction.class,
+        game.getBoard().getTile(2).getAction().orElseThrow());
+    assertEquals(QuestionCategory.SCIENCE, quiz.getCategory());
+  }
+
+  @Test
+  @DisplayName("all action types of the bundled games are read")
+  void readsBundledGame() throws IOException {
+    Game game = GameFactory.createGame(
+        Files.readString(Path.of("data/games/ladder_hard_core.json")));
+
+    assertTrue(game.getImagePath().isPresent());
+    var actions = game.getBoard().getTiles().values().stream()
+        .flatMap(tile -> tile.getAction().stream())
+        .toList();
+    assertTrue(actions.stream().anyMatch(LadderAction.class::isInstance));
+    assertTrue(actions.stream().anyMatch(FreezeAction.class::isInstance));
+    assertTrue(actions.stream().anyMatch(ImmunityAction.class::isInstance));
+    assertTrue(actions.stream().anyMatch(QuizTileAction.class::isInstance));
+    assertTrue(actions.stream().anyMatch(GoalTileAction.class::isInstance));
+  }
+
+  @Test
+  @DisplayName("a game written to JSON reads back the same")
+  void roundTrip() throws IOException {
+    Game game = GameFactory.createGame(
+        Files.readString(Path.of("data/games/ladder_hard_core.json")));
+
+    Game copy = GameFactory.createGame(GameFactory.toJson(game));
+
+    assertEquals(game.getId(), copy.getId());
+    assertEquals(game.getImagePath(), copy.getImagePath());
+    assertEquals(game.getBoard().getTiles().size(), copy.getBoard().getTiles().size());
+    for (Tile tile : game.getBoard().getTiles().values()) {
+      Tile other = copy.getBoard().getTile(tile.getTileId());
+      assertEquals(tile.getNextTileId(), other.getNextTileId());
+      assertEquals(tile.getPreviousTileId(), other.getPreviousTileId());
+      assertEquals(tile.getRow(), other.getRow());
+      assertEquals(tile.getCol(), other.getCol());
+      assertEquals(tile.getAction().map(Object::getClass), other.getAction().map(Object::getClass));
+    }
+  }
+
+  @Test
+  @DisplayName("a game header is read without its tiles, which are loaded once when needed")
+  void readsHeaderWithoutTiles() {
+    AtomicInteger loads = new AtomicInteger();
+    Game game = GameFactory.createGameHeader(GAME_JSON, () -> {
+      loads.incrementAndGet();
+      return GameFactory.createGame(GAME_JSON).getBoard();
+    });
+
+    assertEquals("tiny", game.getId());
+    assertEquals("Tiny", game.getName());
+    assertEquals(2, game.getMaxPlayers());
+    assertEquals(2, game.getBoard().getColCount());
+    LazyBoard board = assertInstanceOf(LazyBoard.class, game.getBoard());
+    assertFalse(board.isLoaded());
+    assertEquals(0, loads.get());
+
+    assertEquals(3, board.getTiles().size());
+    assertEquals(1, board.getTile(0).getNextTile().orElseThrow().getTileId());
+    assertTrue(board.isLoaded());
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  @DisplayName("invalid game definitions are rejected")
+  void invalidJson() {
+    assertThrows(JsonParseException.class,
+        () -> GameFactory.createGame(GAME_JSON.replace("\"id\": \"tiny\",", "")));
+    assertThrows(JsonParseException.class,
+        () -> GameFactory.createGame(GAME_JSON.replace("LADDER", "TELEPORT")));
+    assertThrows(JsonParseException.class,
+        () -> GameFactory.createGame(GAME_JSON.replace("SCIENCE", "COOKING")));
+    assertThrows(JsonParseException.class,
+        () -> GameFactory.createGame(GAME_JSON.replace("\"destinationTileId\": 0, ", "")));
+    assertThrows(JsonParseException.class, () -> GameFactory.createGameHeader(
+        GAME_JSON.replace("\"id\": \"tiny\",", ""), () -> null));
+  }
+}
@@ -0,0 +1,149 @@
+package edu.ntnu.idi.idatt.boardgame.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.idi.idatt.boardgame.core.reactivity.Observer;
+import edu.ntnu.idi.idatt.boardgame.model.GameEngine;
+import edu.ntnu.idi.idatt.boardgame.model.GameHistory;
+import edu.ntnu.idi.idatt.boardgame.model.GameSnapshot;
+import edu.ntnu.idi.idatt.boardgame.model.dice.DiceRoller;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Game;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Player;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Tile;
+import edu.ntnu.idi.idatt.boardgame.model.events.GameEvent;
+import edu.ntnu.idi.idatt.boardgame.model.events.PlayerMovedEvent;
+import edu.ntnu.idi.idatt.boardgame.model.events.PlayerTurnChangedEvent;
+import edu.ntnu.idi.idatt.boardgame.model.managers.QuizManager;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GameHistoryTest {
+
+  private Game game;
+  private QuizManager quizManager;
+  private List<Player> players;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    quizManager = QuizGameFixture.initQuizManager();
+    game = QuizGameFixture.quizGame("History", 1);
+    players = QuizGameFixture.players();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    QuizGameFixture.resetQuizManager();
+  }
+
+  /**
+   * Plays turns until the game ends, answering every question correctly.
+   */
+  private static void play(GameEngine engine, int turns) {
+    for (int i = 0; i < turns && !engine.isGameEnded(); i++) {
+      engine.rollDiceAndMoveCurrentPlayer();
+      engine.getCurrentQuestion()
+          .ifPresent(question -> engine.answerQuestion(question.getCorrectAnswer()));
+    }
+  }
+
+  private GameEngine startedEngine(long seed, int capacity) {
+    GameEngine engine = new GameEngine(game, quizManager, players, DiceRoller.seeded(seed));
+    engine.getHistory().setCapacity(capacity);
+    engine.startGame();
+    return engine;
+  }
+
+  @Test
+  @DisplayName("the history keeps no turns until given a capacity")
+  void noCapacityKeepsNothing() {
+    GameEngine engine = startedEngine(3, 0);
+    play(engine, 3);
+
+    assertFalse(engine.getHistory().canUndo());
+    assertEquals(0, engine.getHistory().getUndoCount());
+    assertThrows(IllegalStateException.class, () -> engine.getHistory().undo());
+  }
+
+  @Test
+  @DisplayName("undo and redo return to the states before and after a turn")
+  void undoAndRedo() {
+    GameEngine engine = startedEngine(5, 10);
+    GameHistory history = engine.getHistory();
+    play(engine, 2);
+    GameSnapshot before = engine.snapshot();
+    play(engine, 1);
+    GameSnapshot after = engine.snapshot();
+
+    history.undo();
+    assertEquals(before, engine.snapshot());
+    assertTrue(history.canRedo());
+    history.redo();
+    assertEquals(after, engine.snapshot());
+    assertFalse(history.canRedo());
+  }
+
+  @Test
+  @DisplayName("undo moves the player back and notifies whose turn it is")
+  void undoNotifiesObservers() {
+    GameEngine engine = startedEngine(8, 10);
+    Player player = engine.getCurrentPlayer();
+    Tile start = player.getCurrentTile();
+    engine.rollDiceAndMoveCurrentPlayer();
+    Tile moved = player.getCurrentTile();
+
+    List<GameEvent> events = new ArrayList<>();
+    Observer<GameEngine, GameEvent> observer = events::add;
+    engine.addListener(observer);
+    engine.getHistory().undo();
+    engine.removeListener(observer);
+
+    PlayerMovedEvent movedEvent = assertInstanceOf(PlayerMovedEvent.class, events.getFirst());
+    assertSame(player, movedEvent.player());
+    assertSame(moved, movedEvent.fromTile());
+    assertSame(start, movedEvent.toTile());
+    PlayerTurnChangedEvent turnEvent =
+        assertInstanceOf(PlayerTurnChangedEvent.class, events.getLast());
+    assertSame(player, turnEvent.currentPlayer());
+    assertEquals(2, events.size());
+  }
+
+  @Test
+  @DisplayName("the history keeps the latest turns and a new turn forgets the undone turns")
+  void capacityAndNewTurn() {
+    GameEngine engine = startedEngine(13, 3);
+    GameHistory history = engine.getHistory();
+    play(engine, 6);
+    assertEquals(3, history.getUndoCount());
+
+    history.undo();
+    history.undo();
+    assertEquals(1, history.getUndoCount());
+    assertEquals(2, history.getRedoCount());
+    play(engine, 1);
+    assertEquals(2, history.getUndoCount());
+    assertEquals(0, history.getRedoCount());
+  }
+
+  @Test
+  @DisplayName("turns cannot be undone while a question is asked")
+  void noUndoDuringQuestion() {
+    GameEngine engine = startedEngine(2, 100);
+    while (!engine.isQuestionBeingAsked() && !engine.isGameEnded()) {
+      engine.rollDiceAndMoveCurrentPlayer();
+    }
+    assertTrue(engine.isQuestionBeingAsked());
+
+    assertFalse(engine.getHistory().canUndo());
+    engine.answerQuestion("wrong");
+    assertTrue(engine.getHistory().canUndo());
+  }
+}
@@ -1,19 +1,28 @@
 package edu.ntnu.idi.idatt.boardgame.game;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import edu.ntnu.idi.idatt.boardgame.core.filesystem.FileChange;
 import edu.ntnu.idi.idatt.boardgame.core.filesystem.LocalFileProvider;
 import edu.ntnu.idi.idatt.boardgame.model.entities.Game;
+import edu.ntnu.idi.idatt.boardgame.model.entities.LazyBoard;
 import edu.ntnu.idi.idatt.boardgame.model.managers.GameManager;
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -75,12 +84,12 @@ class GameManagerTest {
     when(mockFileProvider.listFiles("data/games"))
         .thenReturn(List.of("game1.json", "game2.json", "README.txt"));
 
-    when(mockFileProvider.get("data/games/game1.json"))
-        .thenReturn(testGameJson.getBytes());
+    when(mockFileProvider.getBuffer("data/games/game1.json"))
+        .thenReturn(ByteBuffer.wrap(testGameJson.getBytes()));
 
-    when(mockFileProvider.get("data/games/game2.json"))
-        .thenReturn(
-            testGameJson.replace("\"id\": \"simple-game\"", "\"id\": \"other-game\"").getBytes());
+    when(mockFileProvider.getBuffer("data/games/game2.json"))
+        .thenReturn(ByteBuffer.wrap(
+            testGameJson.replace("\"id\": \"simple-game\"", "\"id\": \"other-game\"").getBytes()));
 
     // Initialize with mock
     GameManager.init(() -> mockFileProvider);
@@ -91,9 +100,9 @@ class GameManagerTest {
   @Test
   void loadGame_shouldLoadGameFromJson() {
     String customGamePath = "custom/path/game3.json";
-    when(mockFileProvider.get(customGamePath))
-        .thenReturn(
-            testGameJson.replace("\"id\": \"simple-game\"", "\"id\": \"custom-game\"").getBytes());
+    when(mockFileProvider.getBuffer(customGamePath))
+        .thenReturn(ByteBuffer.wrap(
+            testGameJson.replace("\"id\": \"simple-game\"", "\"id\": \"custom-game\"").getBytes()));
 
     gameManager.loadGame(customGamePath);
 
@@ -102,6 +111,19 @@ class GameManagerTest {
     assertEquals("custom-game", loadedGame.getId());
   }
 
+  @Test
+  void loadGameAsync_shouldLoadGameOffCallingThread() {
+    String customGamePath = "custom/path/game3.json";
+    when(mockFileProvider.getBuffer(customGamePath))
+        .thenReturn(ByteBuffer.wrap(
+            testGameJson.replace("\"id\": \"simple-game\"", "\"id\": \"custom-game\"").getBytes()));
+
+    Game loadedGame = gameManager.loadGameAsync(customGamePath).join();
+
+    assertEquals("custom-game", loadedGame.getId());
+    assertSame(loadedGame, gameManager.getGame("custom-game"));
+  }
+
   @Test
   void getGame_withValidId_shouldReturnGame() {
     Game game = gameManager.getGame("simple-game");
@@ -130,6 +152,69 @@ class GameManagerTest {
     assertEquals(2, gameIds.size());
   }
 
+  @Test
+  void loadGamesFromDefaultPath_shouldLoadBoardOnlyWhenOpened() {
+    Game game = gameManager.getGame("simple-game");
+    LazyBoard board = (LazyBoard) game.getBoard();
+
+    assertFalse(board.isLoaded());
+    verify(mockFileProvider, times(1)).getBuffer("data/games/game1.json");
+
+    assertEquals(3, board.getTiles().size());
+    assertTrue(board.isLoaded());
+    verify(mockFileProvider, times(2)).getBuffer("data/games/game1.json");
+  }
+
+  @Test
+  void loadGamesFromDefaultPath_shouldNotifyObserversOnce() {
+    List<Map<String, Game>> notifications = new ArrayList<>();
+    gameManager.addListener(notifications::add);
+    when(mockFileProvider.exists("custom-games")).thenReturn(true);
+    when(mockFileProvider.listFiles("custom-games")).thenReturn(List.of("broken.json"));
+    when(mockFileProvider.getBuffer("custom-games/broken.json"))
+        .thenReturn(ByteBuffer.wrap("{".getBytes()));
+
+    gameManager.loadGamesFromDefaultPath();
+
+    assertEquals(1, notifications.size());
+    assertEquals(Set.of("simple-game", "other-game"), notifications.get(0).keySet());
+    verify(mockFileProvider, never()).getBuffer("data/games/README.txt");
+  }
+
+  @Test
+  void reloadGame_shouldReplaceChangedGameAndNotify() {
+    List<Map<String, Game>> notifications = new ArrayList<>();
+    gameManager.addListener(notifications::add);
+    when(mockFileProvider.getBuffer("data/games/game2.json")).thenReturn(ByteBuffer.wrap(
+        testGameJson.replace("\"id\": \"simple-game\"", "\"id\": \"renamed-game\"").getBytes()));
+
+    gameManager.reloadGame("data/games/game2.json", FileChange.MODIFIED);
+
+    assertEquals(Set.of("simple-game", "renamed-game"), gameManager.getAvailableGameIds());
+    assertEquals(1, notifications.size());
+    assertEquals(Set.of("simple-game", "renamed-game"), notifications.get(0).keySet());
+  }
+
+  @Test
+  void reloadGame_shouldKeepGameWhenChangedFileIsInvalid() {
+    Game before = gameManager.getGame("other-game");
+    when(mockFileProvider.getBuffer("data/games/game2.json"))
+        .thenReturn(ByteBuffer.wrap("{\"id\":".getBytes()));
+
+    gameManager.reloadGame("data/games/game2.json", FileChange.MODIFIED);
+
+    assertSame(before, gameManager.getGame("other-game"));
+  }
+
+  @Test
+  void reloadGame_shouldRemoveDeletedGameAndIgnoreOtherFiles() {
+    gameManager.reloadGame("data/games/README.txt", FileChange.DELETED);
+    gameManager.reloadGame("data/games/game1.json", FileChange.DELETED);
+
+    assertNull(gameManager.getGame("simple-game"));
+    assertEquals(Set.of("other-game"), gameManager.getAvailableGameIds());
+  }
+
   @Test
   void getInstance_shouldReturnSingletonInstance() {
     try (MockedStatic<GameManager> mockedStatic = mockStatic(GameManager.class,
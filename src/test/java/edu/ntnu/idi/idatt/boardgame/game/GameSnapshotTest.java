@@ -0,0 +1,119 @@
+package edu.ntnu.idi.idatt.boardgame.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.idi.idatt.boardgame.model.GameEngine;
+import edu.ntnu.idi.idatt.boardgame.model.GameSnapshot;
+import edu.ntnu.idi.idatt.boardgame.model.dice.DiceRoller;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Game;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Player;
+import edu.ntnu.idi.idatt.boardgame.model.events.PackedGameEventListener;
+import edu.ntnu.idi.idatt.boardgame.model.managers.QuizManager;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GameSnapshotTest {
+
+  private Game game;
+  private QuizManager quizManager;
+  private List<Player> players;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    quizManager = QuizGameFixture.initQuizManager();
+    game = QuizGameFixture.quizGame("Snapshot", 1);
+    players = QuizGameFixture.players();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    QuizGameFixture.resetQuizManager();
+  }
+
+  /**
+   * Plays actions, answering questions with a wrong answer for every other question text length,
+   * and returns the events fired.
+   */
+  private static List<Long> play(GameEngine engine, int actions) {
+    List<Long> events = new ArrayList<>();
+    PackedGameEventListener listener = events::add;
+    engine.addPackedListener(listener);
+    for (int i = 0; i < actions && !engine.isGameEnded(); i++) {
+      engine.getCurrentQuestion().ifPresentOrElse(question -> engine.answerQuestion(
+              question.getQuestion().length() % 2 == 0 ? question.getCorrectAnswer() : "wrong"),
+          engine::rollDiceAndMoveCurrentPlayer);
+    }
+    engine.removePackedListener(listener);
+    return events;
+  }
+
+  @Test
+  @DisplayName("restoring a snapshot replays the same future")
+  void restoreReplaysSameFuture() {
+    GameEngine engine = new GameEngine(game, quizManager, players, DiceRoller.seeded(21));
+    engine.startGame();
+    play(engine, 12);
+    GameSnapshot snapshot = engine.snapshot();
+    List<Long> future = play(engine, 40);
+
+    engine.restore(snapshot);
+    assertEquals(snapshot, engine.snapshot());
+    assertEquals(future, play(engine, 40));
+  }
+
+  @Test
+  @DisplayName("a snapshot can be restored by another engine of the same game")
+  void restoreInOtherEngine() {
+    GameEngine engine = new GameEngine(game, quizManager, players, DiceRoller.seeded(4));
+    engine.startGame();
+    play(engine, 25);
+    GameSnapshot snapshot = engine.snapshot();
+
+    GameEngine branch = new GameEngine(game, quizManager, players, DiceRoller.seeded(99));
+    branch.restore(snapshot);
+    assertEquals(engine.getCurrentPlayer().getName(), branch.getCurrentPlayer().getName());
+    assertEquals(engine.getRoundCount(), branch.getRoundCount());
+    assertEquals(play(engine, 60), play(branch, 60));
+  }
+
+  @Test
+  @DisplayName("a snapshot taken while a question is asked restores the question")
+  void restoreDuringQuestion() {
+    GameEngine engine = new GameEngine(game, quizManager, players, DiceRoller.seeded(2));
+    engine.startGame();
+    while (!engine.isQuestionBeingAsked() && !engine.isGameEnded()) {
+      engine.rollDiceAndMoveCurrentPlayer();
+    }
+    assertTrue(engine.isQuestionBeingAsked());
+    GameSnapshot snapshot = engine.snapshot();
+    engine.answerQuestion("wrong");
+    assertFalse(engine.isQuestionBeingAsked());
+
+    engine.restore(snapshot);
+    assertSame(snapshot.currentQuestion(), engine.getCurrentQuestion().orElseThrow());
+    assertTrue(snapshot.checkpointTileId() >= 0);
+  }
+
+  @Test
+  @DisplayName("snapshots are immutable and reject another number of players")
+  void snapshotValidation() {
+    GameEngine engine = new GameEngine(game, quizManager, players, DiceRoller.seeded(1));
+    engine.startGame();
+    GameSnapshot snapshot = engine.snapshot();
+    snapshot.playerStates()[0] = 50;
+
+    assertEquals(0, snapshot.playerTileId(0));
+    assertEquals(3, snapshot.playerCount());
+    GameEngine twoPlayers = new GameEngine(game, quizManager, players.subList(0, 2),
+        DiceRoller.seeded(1));
+    assertThrows(IllegalArgumentException.class, () -> twoPlayers.restore(snapshot));
+  }
+}
@@ -4,18 +4,23 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import edu.ntnu.idi.idatt.boardgame.core.filesystem.FileSaveException;
 import edu.ntnu.idi.idatt.boardgame.core.filesystem.LocalFileProvider;
 import edu.ntnu.idi.idatt.boardgame.model.entities.Color;
 import edu.ntnu.idi.idatt.boardgame.model.entities.Player;
 import edu.ntnu.idi.idatt.boardgame.model.managers.PlayerManager;
 import java.lang.reflect.Field;
 import java.util.List;
+import java.util.concurrent.CompletionException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -70,6 +75,37 @@ class PlayerManagerTest {
     }
   }
 
+  @Test
+  void savePlayersAsync_shouldWritePlayersSnapshot() {
+    ArgumentCaptor<byte[]> dataCaptor = ArgumentCaptor.forClass(byte[].class);
+
+    var saved = playerManager.savePlayersAsync("data/players.csv");
+    playerManager.addPlayer(new Player("Alice", Color.fromHex("#0000FF")));
+    saved.join();
+
+    verify(mockFileProvider).save(eq("data/players.csv"), dataCaptor.capture());
+    assertEquals("John;#FF0000\nJane;#00FF00\n", new String(dataCaptor.getValue()));
+  }
+
+  @Test
+  void savePlayersAsync_shouldCompleteExceptionallyWhenSaveFails() {
+    doThrow(new FileSaveException("Disk full"))
+        .when(mockFileProvider).save(eq("data/players.csv"), any());
+
+    assertThrows(CompletionException.class,
+        () -> playerManager.savePlayersAsync("data/players.csv").join());
+  }
+
+  @Test
+  void loadPlayersAsync_shouldLoadPlayers() {
+    when(mockFileProvider.get("other.csv")).thenReturn("Alice;#0000FF".getBytes());
+
+    playerManager.loadPlayersAsync("other.csv").join();
+
+    assertEquals(1, playerManager.getPlayers().size());
+    assertEquals("Alice", playerManager.getPlayers().getFirst().getName());
+  }
+
   @Test
   void addPlayer_shouldAddPlayerToList() {
     int initialCount = playerManager.getPlayers().size();
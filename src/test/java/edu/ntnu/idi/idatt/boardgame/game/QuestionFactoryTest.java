@@ -2,12 +2,16 @@ package edu.ntnu.idi.idatt.boardgame.game;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
 import edu.ntnu.idi.idatt.boardgame.model.entities.Question;
 import edu.ntnu.idi.idatt.boardgame.model.entities.QuestionCategory;
 import edu.ntnu.idi.idatt.boardgame.model.factories.QuestionFactory;
+import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
@@ -46,6 +50,24 @@ class QuestionFactoryTest {
     assertEquals(2, question.getCorrectAnswerIndex());
   }
 
+  @Test
+  void createQuestion_shouldReadOptionalDifficulty() {
+    String json = """
+        {
+          "question": "What is the speed of light?",
+          "category": "SCIENCE",
+          "answers": { "0": "299 792 km/s", "1": "150 000 km/s" },
+          "correctAnswerIndex": 0,
+          "difficulty": 3
+        }
+        """;
+
+    Question question = QuestionFactory.createQuestion(JsonParser.parseString(json)
+        .getAsJsonObject());
+
+    assertEquals(3, question.getDifficulty());
+  }
+
   @Test
   void createQuestion_shouldHandleMinimalJson() {
     // Create minimal JSON with only required fields
@@ -70,4 +92,67 @@ class QuestionFactoryTest {
     assertEquals(1, question.getAnswers().size());
     assertEquals("Answer", question.getCorrectAnswer());
   }
+
+  @Test
+  void readQuestions_shouldSkipInvalidEntriesAndKeepTheRest() {
+    String json = """
+        [
+          {"question": "A?", "category": "SCIENCE", "answers": {"0": "x", "1": "y"},
+           "correctAnswerIndex": 1},
+          {"question": "B?", "category": "NOT_A_CATEGORY", "answers": {"0": "x"},
+           "correctAnswerIndex": 0},
+          "not a question",
+          {"question": "C?", "category": "ART", "answers": {"0": "x"}, "correctAnswerIndex": 3},
+          {"question": "D?", "category": "ART", "answers": {"1": "x", "2": {"nested": true}},
+           "correctAnswerIndex": 1, "extra": [1, 2, 3]}
+        ]
+        """;
+    List<Question> questions = new ArrayList<>();
+    List<Integer> skipped = new ArrayList<>();
+
+    QuestionFactory.readQuestions(new StringReader(json), questions::add,
+        (index, e) -> skipped.add(index));
+
+    assertEquals(List.of("A?", "D?"), questions.stream().map(Question::getQuestion).toList());
+    assertEquals("y", questions.get(0).getCorrectAnswer());
+    assertEquals(List.of("x"), questions.get(1).getAnswers());
+    assertEquals(List.of(1, 2, 3), skipped);
+  }
+
+  @Test
+  void readQuestions_shouldSkipEntriesWithHugeOrNegativeAnswerIndexes() {
+    String json = """
+        [
+          {"question": "A?", "category": "SCIENCE", "answers": {"0": "x", "1000000000": "y"},
+           "correctAnswerIndex": 0},
+          {"question": "B?", "category": "SCIENCE", "answers": {"-2000000000": "x",
+           "2000000000": "y"}, "correctAnswerIndex": 2000000000},
+          {"question": "C?", "category": "SCIENCE", "answers": {"0": "x", "1": "y"},
+           "correctAnswerIndex": 1}
+        ]
+        """;
+    List<Question> questions = new ArrayList<>();
+    List<Integer> skipped = new ArrayList<>();
+
+    QuestionFactory.readQuestions(new StringReader(json), questions::add,
+        (index, e) -> skipped.add(index));
+
+    assertEquals(List.of("C?"), questions.stream().map(Question::getQuestion).toList());
+    assertEquals(List.of(0, 1), skipped);
+  }
+
+  @Test
+  void readQuestions_shouldFailOnMalformedJsonAfterEarlierQuestions() {
+    String json = """
+        [
+          {"question": "A?", "category": "SCIENCE", "answers": {"0": "x"}, "correctAnswerIndex": 0},
+          {"question": "B?", "category":
+        """;
+    List<Question> questions = new ArrayList<>();
+
+    assertThrows(JsonParseException.class, () -> QuestionFactory.readQuestions(
+        new StringReader(json), questions::add, (index, e) -> {
+        }));
+    assertEquals(1, questions.size());
+  }
 }
@@ -0,0 +1,100 @@
+package edu.ntnu.idi.idatt.boardgame.game;
+
+import edu.ntnu.idi.idatt.boardgame.core.filesystem.InMemoryFileProvider;
+import edu.ntnu.idi.idatt.boardgame.model.actions.freeze.FreezeAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.goal.GoalTileAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.immunity.ImmunityAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.ladder.LadderAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.quiz.QuizTileAction;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Board;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Color;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Game;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Player;
+import edu.ntnu.idi.idatt.boardgame.model.entities.QuestionCategory;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Tile;
+import edu.ntnu.idi.idatt.boardgame.model.managers.QuizManager;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A game played by a real {@link QuizManager}, shared by the tests driving whole games through the
+ * engine.
+ */
+public final class QuizGameFixture {
+
+  private static final String QUESTIONS = """
+      [
+        {"question": "2 + 2?", "category": "SCIENCE",
+         "answers": {"0": "3", "1": "4"}, "correctAnswerIndex": 1},
+        {"question": "H2O?", "category": "SCIENCE",
+         "answers": {"0": "Water", "1": "Salt"}, "correctAnswerIndex": 0},
+        {"question": "Speed of light?", "category": "SCIENCE",
+         "answers": {"0": "Fast", "1": "Slow"}, "correctAnswerIndex": 0}
+      ]
+      """;
+
+  private QuizGameFixture() {
+  }
+
+  /**
+   * Initializes the quiz manager with three science questions, replacing the instance of any
+   * earlier test.
+   */
+  public static QuizManager initQuizManager() throws Exception {
+    resetQuizManager();
+    QuizManager.init(() -> new InMemoryFileProvider(
+        Map.of("questions.json", QUESTIONS.getBytes(StandardCharsets.UTF_8))));
+    QuizManager quizManager = QuizManager.getInstance();
+    quizManager.loadQuestions("questions.json");
+    return quizManager;
+  }
+
+  /**
+   * Removes the quiz manager instance, so the next test can initialize its own.
+   */
+  public static void resetQuizManager() throws Exception {
+    Field instanceField = QuizManager.class.getDeclaredField("instance");
+    instanceField.setAccessible(true);
+    instanceField.set(null, null);
+  }
+
+  /**
+   * Creates a game on a linear board of 80 tiles with science quizzes, ladders back, freezes and
+   * immunities, where the last tile is the goal.
+   */
+  public static Game quizGame(String name, int numberOfDice) {
+    int tileCount = 80;
+    Board board = new Board(1, tileCount);
+    for (int i = 0; i < tileCount; i++) {
+      Tile.Builder builder = new Tile.Builder(i).position(0, i)
+          .previousTileId(i - 1)
+          .nextTileId(i == tileCount - 1 ? -1 : i + 1);
+      if (i == tileCount - 1) {
+        builder.action(new GoalTileAction());
+      } else if (i % 10 == 6) {
+        builder.action(new QuizTileAction(QuestionCategory.SCIENCE));
+      } else if (i % 13 == 9) {
+        builder.action(new LadderAction(i - 7));
+      } else if (i % 11 == 3) {
+        builder.action(new FreezeAction());
+      } else if (i % 17 == 5) {
+        builder.action(new ImmunityAction());
+      }
+      board.addTile(builder.build());
+    }
+    Game game = new Game(board, name, name + " test game", name.toLowerCase(), 2, 4,
+        numberOfDice, null);
+    game.resolveReferences(board);
+    return game;
+  }
+
+  /**
+   * Returns three new players.
+   */
+  public static List<Player> players() {
+    return List.of(new Player("Ada", new Color(255, 0, 0)),
+        new Player("Bo", new Color(0, 255, 0)), new Player("Cy", new Color(0, 0, 255)));
+  }
+}
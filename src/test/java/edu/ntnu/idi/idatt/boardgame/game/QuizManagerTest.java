@@ -3,15 +3,29 @@ package edu.ntnu.idi.idatt.boardgame.game;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import edu.ntnu.idi.idatt.boardgame.core.filesystem.FileChange;
 import edu.ntnu.idi.idatt.boardgame.core.filesystem.FileProvider;
+import edu.ntnu.idi.idatt.boardgame.model.actions.quiz.QuizTileAction;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Board;
 import edu.ntnu.idi.idatt.boardgame.model.entities.Question;
 import edu.ntnu.idi.idatt.boardgame.model.entities.QuestionCategory;
+import edu.ntnu.idi.idatt.boardgame.model.entities.QuestionDeck;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Tile;
 import edu.ntnu.idi.idatt.boardgame.model.managers.QuizManager;
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -49,8 +63,8 @@ class QuizManagerTest {
   void setup() throws Exception {
     mocks = MockitoAnnotations.openMocks(this);
     fileProvider = mock(FileProvider.class);
-    when(fileProvider.get("data/questions.json"))
-        .thenReturn(SAMPLE_JSON.getBytes(StandardCharsets.UTF_8));
+    when(fileProvider.getBuffer("data/questions.json"))
+        .thenReturn(ByteBuffer.wrap(SAMPLE_JSON.getBytes(StandardCharsets.UTF_8)));
     resetQuizManagerSingleton();
     QuizManager.init(() -> fileProvider);
   }
@@ -90,6 +104,23 @@ class QuizManagerTest {
     assertEquals(QuestionCategory.GEOGRAPHY, q.getCategory());
   }
 
+  @Test
+  @DisplayName("createDeck deals each question of a category once per round")
+  void deckDealsWithoutRepetition() {
+    QuizManager quizManager = QuizManager.getInstance();
+    quizManager.loadQuestions("data/questions.json");
+
+    QuestionDeck deck = quizManager.createDeck(QuestionCategory.GEOGRAPHY, new Random(1));
+    Set<Question> dealt = new HashSet<>();
+    for (int i = 0; i < 3; i++) {
+      dealt.add(deck.draw());
+    }
+
+    assertEquals(3, dealt.size());
+    assertEquals(0, quizManager.createDeck(QuestionCategory.SCIENCE, new Random(1)).size());
+    assertEquals(3, quizManager.createDeck(QuestionCategory.RANDOM, new Random(1)).size());
+  }
+
   @Test
   @DisplayName("absent category returns null")
   void categoryAbsentReturnsNull() {
@@ -102,8 +133,8 @@ class QuizManagerTest {
   @DisplayName("empty data file results in null responses")
   void emptyJsonFile() throws Exception {
     FileProvider empty = mock(FileProvider.class);
-    when(empty.get("data/questions.json"))
-        .thenReturn("[]".getBytes(StandardCharsets.UTF_8));
+    when(empty.getBuffer("data/questions.json"))
+        .thenReturn(ByteBuffer.wrap("[]".getBytes(StandardCharsets.UTF_8)));
     resetQuizManagerSingleton();
     QuizManager.init(() -> empty);
     QuizManager quizManager = QuizManager.getInstance();
@@ -116,8 +147,8 @@ class QuizManagerTest {
   @DisplayName("malformed JSON results in null responses")
   void malformedJson() throws Exception {
     FileProvider bad = mock(FileProvider.class);
-    when(bad.get("data/questions.json"))
-        .thenReturn("not json".getBytes(StandardCharsets.UTF_8));
+    when(bad.getBuffer("data/questions.json"))
+        .thenReturn(ByteBuffer.wrap("not json".getBytes(StandardCharsets.UTF_8)));
     resetQuizManagerSingleton();
     QuizManager.init(() -> bad);
     QuizManager quizManager = QuizManager.getInstance();
@@ -125,4 +156,115 @@ class QuizManagerTest {
     assertNull(quizManager.getRandomQuestion());
     assertNull(quizManager.getRandomQuestionFromCategory(QuestionCategory.GEOGRAPHY));
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("reloading a question file replaces its questions")
+  void reloadReplacesQuestions() {
+    QuizManager quizManager = QuizManager.getInstance();
+    quizManager.loadQuestions("data/questions.json");
+    when(fileProvider.getBuffer("data/questions.json")).thenReturn(ByteBuffer.wrap(SAMPLE_JSON
+        .replace("GEOGRAPHY", "SCIENCE").getBytes(StandardCharsets.UTF_8)));
+
+    quizManager.reloadQuestions("data/questions.json", FileChange.MODIFIED);
+
+    assertNull(quizManager.getRandomQuestionFromCategory(QuestionCategory.GEOGRAPHY));
+    assertEquals(QuestionCategory.SCIENCE,
+        quizManager.getRandomQuestionFromCategory(QuestionCategory.SCIENCE).getCategory());
+  }
+
+  @Test
+  @DisplayName("a broken reload keeps the questions and a deleted file removes them")
+  void reloadKeepsQuestionsOnErrorAndRemovesOnDelete() {
+    QuizManager quizManager = QuizManager.getInstance();
+    quizManager.loadQuestions("data/questions.json");
+    when(fileProvider.getBuffer("data/questions.json"))
+        .thenReturn(ByteBuffer.wrap("[{".getBytes(StandardCharsets.UTF_8)));
+
+    quizManager.reloadQuestions("data/questions.json", FileChange.MODIFIED);
+    assertNotNull(quizManager.getRandomQuestionFromCategory(QuestionCategory.GEOGRAPHY));
+
+    quizManager.reloadQuestions("data/other.json", FileChange.DELETED);
+    assertNotNull(quizManager.getRandomQuestion());
+
+    quizManager.reloadQuestions("data/questions.json", FileChange.DELETED);
+    assertNull(quizManager.getRandomQuestion());
+  }
+
+  @Test
+  @DisplayName("duplicate questions are removed and repeated answers share one instance")
+  void duplicatesRemovedAndAnswersInterned() {
+    when(fileProvider.getBuffer("data/more.json")).thenReturn(ByteBuffer.wrap(SAMPLE_JSON
+        .replace("[", "[{\"question\": \" what is the CAPITAL of Italy?\", \"category\": "
+            + "\"GEOGRAPHY\", \"answers\": {\"0\": \"Rome\", \"1\": \"Ottawa\", \"2\": "
+            + "\"New  Delhi\", \"3\": \"Cairo\"}, \"correctAnswerIndex\": 0},")
+        .getBytes(StandardCharsets.UTF_8)));
+    QuizManager quizManager = QuizManager.getInstance();
+    quizManager.loadQuestions("data/questions.json");
+    quizManager.loadQuestions("data/more.json");
+
+    QuestionDeck deck = quizManager.createDeck(QuestionCategory.RANDOM, new Random(1));
+    assertEquals(3, deck.size());
+    String paris = null;
+    for (int i = 0; i < deck.size(); i++) {
+      for (String answer : deck.draw().getAnswers()) {
+        if (answer.equals("Paris")) {
+          if (paris != null) {
+            assertSame(paris, answer);
+          }
+          paris = answer;
+        }
+      }
+    }
+
+    QuizManager.QuestionStats stats = quizManager.getStats();
+    assertEquals(3, stats.questions());
+    assertEquals(4, stats.duplicatesRemoved());
+    assertEquals(20, stats.pooledAnswers());
+    assertTrue(stats.estimatedSavedBytes() > 0);
+  }
+
+  @Test
+  @DisplayName("opening a board only loads the shards of its quiz categories, once")
+  void boardLoadsOnlyItsShards() {
+    when(fileProvider.exists("data/questions/geography.json")).thenReturn(true);
+    when(fileProvider.exists("data/questions/science.json")).thenReturn(true);
+    when(fileProvider.getBuffer("data/questions/geography.json"))
+        .thenReturn(ByteBuffer.wrap(SAMPLE_JSON.getBytes(StandardCharsets.UTF_8)));
+    QuizManager quizManager = QuizManager.getInstance();
+    Board board = boardWithQuizTiles(QuestionCategory.GEOGRAPHY, QuestionCategory.GEOGRAPHY);
+
+    quizManager.loadQuestionsForBoardAsync(board).join();
+    quizManager.loadQuestionsForBoardAsync(board).join();
+
+    assertEquals(Set.of(QuestionCategory.GEOGRAPHY), QuizManager.getCategories(board));
+    assertNotNull(quizManager.getRandomQuestionFromCategory(QuestionCategory.GEOGRAPHY));
+    verify(fileProvider, times(1)).getBuffer("data/questions/geography.json");
+    verify(fileProvider, never()).getBuffer("data/questions/science.json");
+  }
+
+  @Test
+  @DisplayName("a board asking random questions loads every shard into one merged view")
+  void randomBoardLoadsAllShards() {
+    when(fileProvider.exists("data/questions/geography.json")).thenReturn(true);
+    when(fileProvider.exists("data/questions/science.json")).thenReturn(true);
+    when(fileProvider.getBuffer("data/questions/geography.json"))
+        .thenReturn(ByteBuffer.wrap(SAMPLE_JSON.getBytes(StandardCharsets.UTF_8)));
+    when(fileProvider.getBuffer("data/questions/science.json")).thenReturn(ByteBuffer.wrap(
+        SAMPLE_JSON.replace("GEOGRAPHY", "SCIENCE").getBytes(StandardCharsets.UTF_8)));
+    QuizManager quizManager = QuizManager.getInstance();
+
+    quizManager.loadQuestionsForBoardAsync(boardWithQuizTiles(QuestionCategory.RANDOM)).join();
+
+    assertEquals(6, quizManager.createDeck(QuestionCategory.RANDOM, new Random(1)).size());
+    verify(fileProvider, never()).getBuffer("data/questions/history.json");
+  }
+
+  private static Board boardWithQuizTiles(QuestionCategory... categories) {
+    Board board = new Board(1, categories.length);
+    for (int i = 0; i < categories.length; i++) {
+      board.addTile(new Tile.Builder(i + 1).position(0, i)
+          .action(new QuizTileAction(categories[i])).build());
+    }
+    return board;
+  }
+}
@@ -0,0 +1,182 @@
+package edu.ntnu.idi.idatt.boardgame.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.idi.idatt.boardgame.game.QuizGameFixture;
+import edu.ntnu.idi.idatt.boardgame.model.GameEngine;
+import edu.ntnu.idi.idatt.boardgame.model.dice.DiceRoller;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Board;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Color;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Game;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Player;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Tile;
+import edu.ntnu.idi.idatt.boardgame.model.journal.GameJournal;
+import edu.ntnu.idi.idatt.boardgame.model.journal.GameReplay;
+import edu.ntnu.idi.idatt.boardgame.model.managers.QuizManager;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GameJournalTest {
+
+  @TempDir
+  Path directory;
+
+  private Game game;
+  private QuizManager quizManager;
+  private List<Player> players;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    quizManager = QuizGameFixture.initQuizManager();
+    game = QuizGameFixture.quizGame("Journal", 2);
+    players = List.of(new Player("Ada", new Color(255, 0, 0)),
+        new Player("Bjørn", new Color(0, 0, 255)));
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    QuizGameFixture.resetQuizManager();
+  }
+
+  /**
+   * Plays a game, answering every other question wrong, until it ends or has played the turns.
+   */
+  private static void play(GameEngine engine, int turns) {
+    engine.startGame();
+    int played = 0;
+    int questions = 0;
+    while (!engine.isGameEnded() && played < turns) {
+      if (engine.isQuestionBeingAsked()) {
+        List<String> answers = engine.getCurrentQuestion().orElseThrow().getAnswers();
+        String correct = engine.getCurrentQuestion().orElseThrow().getCorrectAnswer();
+        engine.answerQuestion(questions++ % 2 == 0 ? correct
+            : answers.stream().filter(answer -> !answer.equals(correct)).findFirst().orElseThrow());
+      } else {
+        engine.rollDiceAndMoveCurrentPlayer();
+        played++;
+      }
+    }
+  }
+
+  private Path record(long seed, int turns) throws IOException {
+    Path path = directory.resolve("game" + GameJournal.FILE_EXTENSION);
+    GameEngine engine = new GameEngine(game, quizManager, players, DiceRoller.seeded(seed));
+    try (GameJournal journal = GameJournal.record(engine, path)) {
+      play(engine, turns);
+    }
+    return path;
+  }
+
+  private static List<Integer> tiles(GameEngine engine) {
+    return engine.getPlayers().stream().map(player -> player.getCurrentTile().getTileId())
+        .toList();
+  }
+
+  @Test
+  @DisplayName("a recorded game replays to the same end state")
+  void replayMatchesRecordedGame() throws IOException {
+    GameEngine expected = new GameEngine(game, quizManager, players, DiceRoller.seeded(7));
+    play(expected, Integer.MAX_VALUE);
+    GameReplay replay = GameReplay.read(record(7, Integer.MAX_VALUE));
+
+    assertEquals(7, replay.getSeed());
+    assertEquals("journal", replay.getGameId());
+    assertEquals(List.of("Ada", "Bjørn"),
+        replay.getPlayers().stream().map(Player::getName).toList());
+    assertEquals(new Color(0, 0, 255).toHex(), replay.getPlayers().get(1).getColor().toHex());
+
+    GameEngine replayed = replay.replay(game, quizManager);
+    assertTrue(replayed.isGameEnded());
+    assertEquals(tiles(expected), tiles(replayed));
+    assertEquals(expected.getRoundCount(), replayed.getRoundCount());
+  }
+
+  @Test
+  @DisplayName("replaying to a turn gives the state after that many turns")
+  void replayToTurn() throws IOException {
+    GameReplay replay = GameReplay.read(record(3, Integer.MAX_VALUE));
+    assertTrue(replay.getTurnCount() > 10);
+
+    for (int turn : new int[]{0, 1, 5, 10}) {
+      GameEngine expected = new GameEngine(game, quizManager, players, DiceRoller.seeded(3));
+      play(expected, turn);
+      GameEngine replayed = replay.replay(game, quizManager, turn);
+
+      assertEquals(tiles(expected), tiles(replayed));
+      assertEquals(expected.getCurrentPlayer().getName(), replayed.getCurrentPlayer().getName());
+      assertEquals(expected.isQuestionBeingAsked(), replayed.isQuestionBeingAsked());
+    }
+  }
+
+  @Test
+  @DisplayName("a journal cut off within an event reads up to the last complete event")
+  void truncatedJournal() throws IOException {
+    Path path = record(11, 20);
+    GameReplay complete = GameReplay.read(path);
+    byte[] bytes = Files.readAllBytes(path);
+    Files.write(path, Arrays.copyOf(bytes, bytes.length - 2));
+    GameReplay truncated = GameReplay.read(path);
+
+    assertEquals(complete.getEventCount() - 1, truncated.getEventCount());
+    assertEquals(tiles(complete.replay(game, quizManager)),
+        tiles(truncated.replay(game, quizManager)));
+  }
+
+  @Test
+  @DisplayName("a journal which does not play out as recorded fails to replay")
+  void tamperedJournal() throws IOException {
+    Path path = record(5, 20);
+    byte[] bytes = Files.readAllBytes(path);
+    // the last byte is the value of the last event
+    bytes[bytes.length - 1] += 2;
+    Files.write(path, bytes);
+
+    GameReplay replay = GameReplay.read(path);
+    assertThrows(IllegalStateException.class, () -> replay.replay(game, quizManager));
+  }
+
+  @Test
+  @DisplayName("a journal of another game is rejected")
+  void otherGame() throws IOException {
+    GameReplay replay = GameReplay.read(record(5, 5));
+    Game other = new Game(game.getBoard(), "Other", "Other game", "other", 2, 4, 2, null);
+
+    assertThrows(IllegalArgumentException.class, () -> replay.replay(other, quizManager));
+  }
+
+  @Test
+  @DisplayName("data which is not a journal is rejected")
+  void notAJournal() {
+    assertThrows(IllegalArgumentException.class,
+        () -> GameReplay.read(ByteBuffer.wrap("BGBD....".getBytes(StandardCharsets.UTF_8))));
+    assertThrows(IllegalArgumentException.class, () -> GameReplay.read(ByteBuffer.allocate(2)));
+  }
+
+  @Test
+  @DisplayName("a game on a board with tile ids too large to record is rejected before it starts")
+  void tileIdsTooLarge() {
+    Board board = new Board(1, 2);
+    board.addTile(new Tile.Builder(0).position(0, 0).nextTileId(70_000).build());
+    board.addTile(new Tile.Builder(70_000).position(0, 1).previousTileId(0).build());
+    Game large = new Game(board, "Large", "Large game", "large", 2, 4, 1, null);
+    large.resolveReferences(board);
+    GameEngine engine = new GameEngine(large, quizManager, players, DiceRoller.seeded(1));
+    Path path = directory.resolve("large" + GameJournal.FILE_EXTENSION);
+
+    assertThrows(IllegalArgumentException.class, () -> GameJournal.record(engine, path));
+    assertFalse(engine.isGameStarted());
+  }
+}
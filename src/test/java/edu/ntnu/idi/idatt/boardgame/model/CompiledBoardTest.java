@@ -0,0 +1,106 @@
+package edu.ntnu.idi.idatt.boardgame.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.idi.idatt.boardgame.model.actions.freeze.FreezeAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.goal.GoalTileAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.ladder.LadderAction;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Board;
+import edu.ntnu.idi.idatt.boardgame.model.entities.CompiledBoard;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Tile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the CompiledBoard class.
+ */
+class CompiledBoardTest {
+
+  private Board board;
+
+  @BeforeEach
+  void setUp() {
+    board = new Board(1, 10);
+    for (int i = 0; i < 10; i++) {
+      Tile.Builder builder = new Tile.Builder(i).position(0, i)
+          .previousTileId(i - 1)
+          .nextTileId(i == 9 ? -1 : i + 1);
+      if (i == 2) {
+        builder.action(new LadderAction(7));
+      } else if (i == 5) {
+        builder.action(new FreezeAction());
+      } else if (i == 9) {
+        builder.action(new GoalTileAction());
+      }
+      board.addTile(builder.build());
+    }
+    board.resolveReferences(board);
+  }
+
+  @Test
+  void moveStopsAtLastTile() {
+    CompiledBoard compiled = CompiledBoard.compile(board);
+
+    assertEquals(10, compiled.getTileCount());
+    assertEquals(0, compiled.move(0, 0));
+    assertEquals(6, compiled.move(0, 6));
+    assertEquals(9, compiled.move(4, 5));
+    assertEquals(9, compiled.move(4, 12));
+    assertEquals(3, compiled.stepsToEnd(6));
+  }
+
+  @Test
+  void linksAndActions() {
+    CompiledBoard compiled = CompiledBoard.compile(board);
+
+    assertEquals(1, compiled.getNext(0));
+    assertEquals(-1, compiled.getNext(9));
+    assertEquals(-1, compiled.getPrevious(0));
+    assertEquals(4, compiled.getPrevious(5));
+    assertEquals(CompiledBoard.LADDER, compiled.getActionKind(2));
+    assertEquals(7, compiled.getLadderDestination(2));
+    assertEquals(-1, compiled.getLadderDestination(3));
+    assertEquals(CompiledBoard.FREEZE, compiled.getActionKind(5));
+    assertEquals(CompiledBoard.GOAL, compiled.getActionKind(9));
+    assertEquals(CompiledBoard.NONE, compiled.getActionKind(1));
+  }
+
+  @Test
+  void sparseTileIds() {
+    Board sparse = new Board(1, 3);
+    sparse.addTile(new Tile.Builder(0).nextTileId(4).build());
+    sparse.addTile(new Tile.Builder(4).previousTileId(0).nextTileId(8).build());
+    sparse.addTile(new Tile.Builder(8).previousTileId(4).build());
+    sparse.resolveReferences(sparse);
+
+    CompiledBoard compiled = CompiledBoard.compile(sparse);
+
+    assertEquals(9, compiled.getTileCount());
+    assertTrue(compiled.contains(4));
+    assertFalse(compiled.contains(3));
+    assertFalse(compiled.contains(9));
+    assertEquals(8, compiled.move(0, 2));
+  }
+
+  @Test
+  void invalidBoardsAreRejected() {
+    Board merging = new Board(1, 3);
+    merging.addTile(new Tile.Builder(0).nextTileId(2).build());
+    merging.addTile(new Tile.Builder(1).nextTileId(2).build());
+    merging.addTile(new Tile.Builder(2).build());
+    merging.resolveReferences(merging);
+
+    Board cyclic = new Board(1, 3);
+    cyclic.addTile(new Tile.Builder(0).build());
+    cyclic.addTile(new Tile.Builder(1).nextTileId(2).build());
+    cyclic.addTile(new Tile.Builder(2).nextTileId(1).build());
+    cyclic.resolveReferences(cyclic);
+
+    assertThrows(IllegalArgumentException.class, () -> CompiledBoard.compile(merging));
+    assertThrows(IllegalArgumentException.class, () -> CompiledBoard.compile(cyclic));
+    assertThrows(IllegalArgumentException.class, () -> CompiledBoard.compile(null));
+  }
+}
@@ -0,0 +1,146 @@
+package edu.ntnu.idi.idatt.boardgame.model.quiz;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.idi.idatt.boardgame.model.entities.Question;
+import edu.ntnu.idi.idatt.boardgame.model.entities.QuestionCategory;
+import edu.ntnu.idi.idatt.boardgame.model.entities.QuestionDeck;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the QuestionDeck class.
+ */
+public class QuestionDeckTest {
+
+  private static List<Question> questions(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> new Question("Question " + i, QuestionCategory.SCIENCE, new HashMap<>(), 0,
+            1 + i % 3))
+        .toList();
+  }
+
+  @Test
+  public void testEveryQuestionIsDealtOncePerRound() {
+    QuestionDeck deck = new QuestionDeck(questions(50), new Random(1));
+
+    for (int round = 0; round < 3; round++) {
+      Set<Question> dealt = new HashSet<>();
+      for (int i = 0; i < 50; i++) {
+        dealt.add(deck.draw());
+      }
+      assertEquals(50, dealt.size());
+      assertEquals(0, deck.remaining());
+    }
+  }
+
+  @Test
+  public void testQuestionEndingRoundDoesNotStartNextRound() {
+    for (int seed = 0; seed < 100; seed++) {
+      QuestionDeck deck = new QuestionDeck(questions(3), new Random(seed));
+      deck.draw();
+      deck.draw();
+      Question last = deck.draw();
+
+      assertNotEquals(last, deck.draw());
+    }
+  }
+
+  @Test
+  public void testSameSeedDealsSameOrder() {
+    QuestionDeck first = new QuestionDeck(questions(20), new Random(42));
+    QuestionDeck second = new QuestionDeck(questions(20), new Random(42));
+
+    for (int i = 0; i < 40; i++) {
+      assertEquals(first.draw().getQuestion(), second.draw().getQuestion());
+    }
+  }
+
+  @Test
+  public void testWeightedDeckDealsHeavierQuestionsEarlier() {
+    Random random = new Random(7);
+    double easyPosition = 0;
+    double hardPosition = 0;
+    for (int trial = 0; trial < 200; trial++) {
+      QuestionDeck deck = new QuestionDeck(questions(30), random,
+          question -> 1.0 / question.getDifficulty());
+      Set<Question> dealt = new HashSet<>();
+      for (int position = 0; position < 30; position++) {
+        Question question = deck.draw();
+        dealt.add(question);
+        if (question.getDifficulty() == 1) {
+          easyPosition += position;
+        } else if (question.getDifficulty() == 3) {
+          hardPosition += position;
+        }
+      }
+      assertEquals(30, dealt.size());
+    }
+
+    assertTrue(easyPosition < hardPosition);
+  }
+
+  @Test
+  public void testEmptyDeckDealsNothing() {
+    QuestionDeck deck = new QuestionDeck(List.of(), new Random());
+
+    assertNull(deck.draw());
+    assertEquals(0, deck.size());
+  }
+
+  @Test
+  public void testNonPositiveWeightIsRejected() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new QuestionDeck(questions(2), new Random(), question -> 0));
+  }
+
+  @Test
+  public void testDeckFromSavedStateDealsSameQuestions() {
+    QuestionDeck deck = new QuestionDeck(questions(20), new Random(3), Question::getDifficulty);
+    for (int i = 0; i < 25; i++) {
+      deck.draw();
+    }
+    QuestionDeck.State state = deck.saveState();
+    QuestionDeck copy = new QuestionDeck(state, new Random(9));
+
+    assertSame(state, deck.saveState());
+    assertTrue(copy.isInState(state));
+    assertEquals(deck.remaining(), copy.remaining());
+    for (int i = 0; i < 15; i++) {
+      assertEquals(deck.draw(), copy.draw());
+    }
+    assertFalse(deck.isInState(state));
+    assertNotSame(state, deck.saveState());
+  }
+
+  @Test
+  public void testSavedStateIsNotChangedByLaterDraws() {
+    QuestionDeck deck = new QuestionDeck(questions(3000), new Random(5));
+    for (int i = 0; i < 100; i++) {
+      deck.draw();
+    }
+    QuestionDeck.State state = deck.saveState();
+    QuestionDeck first = new QuestionDeck(state, new Random(8));
+    List<Question> expected = IntStream.range(0, 3000).mapToObj(i -> first.draw()).toList();
+    for (int i = 0; i < 3000; i++) {
+      deck.draw();
+    }
+
+    QuestionDeck second = new QuestionDeck(state, new Random(8));
+    for (Question question : expected) {
+      assertSame(question, second.draw());
+    }
+  }
+}
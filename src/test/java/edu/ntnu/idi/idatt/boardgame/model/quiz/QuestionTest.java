@@ -1,6 +1,9 @@
 package edu.ntnu.idi.idatt.boardgame.model.quiz;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import edu.ntnu.idi.idatt.boardgame.model.entities.Question;
@@ -67,4 +70,24 @@ public class QuestionTest {
   public void testGetCorrectAnswer() {
     assertEquals("Paris", question.getCorrectAnswer());
   }
+
+  @Test
+  public void testGetAnswersReturnsCachedImmutableList() {
+    List<String> answerList = question.getAnswers();
+    assertSame(answerList, question.getAnswers());
+    assertThrows(UnsupportedOperationException.class, () -> answerList.set(0, "Oslo"));
+  }
+
+  @Test
+  public void testContentHashIgnoresCaseAndWhitespace() {
+    HashMap<Integer, String> other = new HashMap<>(answers);
+    other.put(2, "  LONDON ");
+    Question similar = new Question("what is the  capital of\nFrance? ", QuestionCategory.GEOGRAPHY,
+        other, 1);
+    Question differentAnswer = new Question("What is the capital of France?",
+        QuestionCategory.GEOGRAPHY, answers, 2);
+
+    assertEquals(question.contentHash(), similar.contentHash());
+    assertNotEquals(question.contentHash(), differentAnswer.contentHash());
+  }
 }
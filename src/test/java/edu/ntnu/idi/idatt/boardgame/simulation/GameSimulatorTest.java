@@ -0,0 +1,159 @@
+package edu.ntnu.idi.idatt.boardgame.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.idi.idatt.boardgame.model.GameSnapshot;
+import edu.ntnu.idi.idatt.boardgame.model.actions.TileAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.goal.GoalTileAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.ladder.LadderAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.quiz.QuizTileAction;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Board;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Game;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Question;
+import edu.ntnu.idi.idatt.boardgame.model.entities.QuestionCategory;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Tile;
+import edu.ntnu.idi.idatt.boardgame.model.simulation.GameSimulator;
+import edu.ntnu.idi.idatt.boardgame.model.simulation.QuizAnswerPolicy;
+import edu.ntnu.idi.idatt.boardgame.model.simulation.SimulationResult;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GameSimulatorTest {
+
+  /**
+   * Creates a game with a linear board where the last tile is the goal.
+   */
+  static Game linearGame(int tileCount, Map<Integer, TileAction> actions) {
+    Board board = new Board(1, tileCount);
+    for (int i = 0; i < tileCount; i++) {
+      Tile.Builder builder = new Tile.Builder(i).position(0, i)
+          .previousTileId(i - 1)
+          .nextTileId(i == tileCount - 1 ? -1 : i + 1);
+      if (i == tileCount - 1) {
+        builder.action(new GoalTileAction());
+      } else if (actions.containsKey(i)) {
+        builder.action(actions.get(i));
+      }
+      board.addTile(builder.build());
+    }
+    Game game = new Game(board, "Test", "Test game", "test", 1, 4, 1, null);
+    game.resolveReferences(board);
+    return game;
+  }
+
+  @Test
+  @DisplayName("every simulated game finishes with a winner")
+  void allGamesFinish() {
+    Game game = linearGame(20, Map.of());
+    GameSimulator simulator = new GameSimulator.Builder(game).playerCount(3).seed(1).build();
+
+    SimulationResult result = simulator.run(1000);
+
+    assertEquals(1000, result.getGamesPlayed());
+    assertEquals(0, result.getUnfinishedGames());
+    assertEquals(1000, result.getWins(0) + result.getWins(1) + result.getWins(2));
+    assertEquals(1000, result.getTileVisits()[19]);
+  }
+
+  @Test
+  @DisplayName("the same seed produces the same result")
+  void seededRunsAreReproducible() {
+    Game game = linearGame(30, Map.of(5, new LadderAction(25), 27, new LadderAction(2)));
+
+    SimulationResult first = new GameSimulator.Builder(game).playerCount(2).seed(42).build()
+        .run(500);
+    SimulationResult second = new GameSimulator.Builder(game).playerCount(2).seed(42).build()
+        .run(500);
+
+    assertEquals(first.getWins(0), second.getWins(0));
+    assertArrayEquals(first.getGameLengthDistribution(), second.getGameLengthDistribution());
+    assertArrayEquals(first.getTileVisits(), second.getTileVisits());
+  }
+
+  @Test
+  @DisplayName("a ladder to the goal tile ends the game on the next turn")
+  void ladderShortensGames() {
+    Game game = linearGame(50, Map.of(1, new LadderAction(49), 2, new LadderAction(49),
+        3, new LadderAction(49), 4, new LadderAction(49), 5, new LadderAction(49),
+        6, new LadderAction(49)));
+
+    SimulationResult result = new GameSimulator.Builder(game).playerCount(1).seed(7).build()
+        .run(100);
+
+    assertEquals(2.0, result.getAverageGameLength(), 0.0001);
+  }
+
+  @Test
+  @DisplayName("games exceeding the round limit are counted as unfinished")
+  void roundLimit() {
+    Game game = linearGame(100, Map.of());
+
+    SimulationResult result = new GameSimulator.Builder(game).playerCount(2).maxRounds(2)
+        .seed(3).build().run(10);
+
+    assertEquals(10, result.getUnfinishedGames());
+    assertEquals(0.0, result.getWinRate(0), 0.0001);
+  }
+
+  @Test
+  @DisplayName("invalid configuration is rejected")
+  void invalidConfiguration() {
+    Game game = linearGame(10, Map.of());
+
+    assertThrows(IllegalStateException.class,
+        () -> new GameSimulator.Builder(game).playerCount(5).build());
+    assertThrows(IllegalArgumentException.class,
+        () -> new GameSimulator.Builder(game).maxRounds(0).build());
+    assertThrows(IllegalArgumentException.class,
+        () -> QuizAnswerPolicy.correctWithProbability(1.5));
+    assertEquals(0, new GameSimulator.Builder(game).build().run(0).getGamesPlayed());
+  }
+
+  @Test
+  @DisplayName("a game played from a snapshot continues from the state of the snapshot")
+  void playFromSnapshot() {
+    Game game = linearGame(40, Map.of());
+    GameSimulator simulator = new GameSimulator.Builder(game).playerCount(2).seed(5).build();
+    // the second player is one step from the goal, and the first is frozen for a turn
+    GameSnapshot snapshot = new GameSnapshot(true, false, 1, 3, 0, new int[] {0, 1, 0, 38, 0, 0},
+        null, -1, Map.of());
+
+    for (int i = 0; i < 100; i++) {
+      assertEquals(1, simulator.playFrom(snapshot));
+    }
+    GameSnapshot ended = new GameSnapshot(true, true, 0, 3, 0, new int[] {39, 0, 0, 0, 0, 0},
+        null, -1, Map.of());
+    assertEquals(0, simulator.playFrom(ended));
+  }
+
+  @Test
+  @DisplayName("a question asked in a snapshot is answered before the turn passes on")
+  void playFromSnapshotWithQuestion() {
+    Game game = linearGame(12, Map.of(10, new QuizTileAction(QuestionCategory.SCIENCE)));
+    HashMap<Integer, String> answers = new HashMap<>(Map.of(0, "Yes", 1, "No"));
+    Question question = new Question("Sure?", QuestionCategory.SCIENCE, answers, 0);
+    // the first player waits on the quiz tile one step from the goal, with a checkpoint at 0
+    GameSnapshot snapshot = new GameSnapshot(true, false, 0, 2, 0, new int[] {10, 0, 0, 0, 0, 0},
+        question, 0, Map.of());
+
+    GameSimulator correct = new GameSimulator.Builder(game).playerCount(2)
+        .quizAnswerPolicy(QuizAnswerPolicy.alwaysCorrect()).seed(9).build();
+    GameSimulator wrong = new GameSimulator.Builder(game).playerCount(2)
+        .quizAnswerPolicy(QuizAnswerPolicy.alwaysWrong()).seed(9).build();
+    int correctWins = 0;
+    int wrongWins = 0;
+    for (int i = 0; i < 200; i++) {
+      correctWins += correct.playFrom(snapshot) == 0 ? 1 : 0;
+      wrongWins += wrong.playFrom(snapshot) == 0 ? 1 : 0;
+    }
+    assertEquals(200, correctWins);
+    assertTrue(wrongWins < 200);
+    assertThrows(IllegalArgumentException.class, () -> new GameSimulator.Builder(game)
+        .playerCount(3).build().playFrom(snapshot));
+  }
+}
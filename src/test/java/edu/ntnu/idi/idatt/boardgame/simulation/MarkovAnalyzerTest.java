@@ -0,0 +1,111 @@
+package edu.ntnu.idi.idatt.boardgame.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.idi.idatt.boardgame.model.actions.TileAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.freeze.FreezeAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.immunity.ImmunityAction;
+import edu.ntnu.idi.idatt.boardgame.model.actions.ladder.LadderAction;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Board;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Game;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Tile;
+import edu.ntnu.idi.idatt.boardgame.model.simulation.GameSimulator;
+import edu.ntnu.idi.idatt.boardgame.model.simulation.MarkovAnalysis;
+import edu.ntnu.idi.idatt.boardgame.model.simulation.MarkovAnalyzer;
+import edu.ntnu.idi.idatt.boardgame.model.simulation.SimulationResult;
+import java.util.Arrays;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MarkovAnalyzerTest {
+
+  private static MarkovAnalysis analyze(Game game) {
+    return new MarkovAnalyzer.Builder(game).build().analyze();
+  }
+
+  @Test
+  @DisplayName("expected turns match the closed form on small boards")
+  void expectedTurnsOnSmallBoards() {
+    // a roll of 1 needs one more turn, every other roll reaches the goal
+    MarkovAnalysis plain = analyze(GameSimulatorTest.linearGame(3, Map.of()));
+    // landing on the freeze tile also skips a turn
+    MarkovAnalysis frozen = analyze(
+        GameSimulatorTest.linearGame(3, Map.<Integer, TileAction>of(1, new FreezeAction())));
+
+    assertTrue(plain.isGoalReachable());
+    assertEquals(7.0 / 6, plain.getExpectedTurns(), 1e-9);
+    assertEquals(5.0 / 6, plain.getTurnDistribution()[1], 1e-12);
+    assertEquals(1.0 / 6, plain.getTurnDistribution()[2], 1e-12);
+    assertEquals(4.0 / 3, frozen.getExpectedTurns(), 1e-9);
+  }
+
+  @Test
+  @DisplayName("the turn distribution sums to one and its mean is the expected number of turns")
+  void turnDistributionIsConsistent() {
+    Game game = GameSimulatorTest.linearGame(60, Map.of(3, new LadderAction(30),
+        45, new LadderAction(12), 20, new FreezeAction(), 8, new ImmunityAction()));
+
+    MarkovAnalysis analysis = analyze(game);
+    double[] distribution = analysis.getTurnDistribution();
+    double mean = 0;
+    for (int turn = 1; turn < distribution.length; turn++) {
+      mean += turn * distribution[turn];
+    }
+
+    assertTrue(analysis.isAlwaysFinishing());
+    assertEquals(1.0, Arrays.stream(distribution).sum(), 1e-8);
+    assertEquals(1.0, analysis.getFinishProbability(distribution.length), 1e-8);
+    assertEquals(analysis.getExpectedTurns(), mean, 1e-6);
+    assertEquals(1.0, analysis.getExpectedVisits()[59], 1e-8);
+  }
+
+  @Test
+  @DisplayName("the analysis agrees with a single player simulation")
+  void agreesWithSimulation() {
+    Game game = GameSimulatorTest.linearGame(50, Map.of(4, new LadderAction(26),
+        40, new LadderAction(9), 15, new FreezeAction(), 22, new ImmunityAction()));
+
+    MarkovAnalysis analysis = analyze(game);
+    SimulationResult result = new GameSimulator.Builder(game).playerCount(1).seed(5).build()
+        .run(200_000);
+
+    assertEquals(analysis.getExpectedTurns(), result.getAverageGameLength(),
+        analysis.getExpectedTurns() * 0.01);
+    double expectedVisits = analysis.getExpectedVisits()[26] * result.getGamesPlayed();
+    assertEquals(expectedVisits, result.getTileVisits()[26], expectedVisits * 0.02);
+  }
+
+  @Test
+  @DisplayName("a board without a goal tile is reported as unreachable")
+  void unreachableGoal() {
+    Board board = new Board(1, 3);
+    for (int i = 0; i < 3; i++) {
+      board.addTile(new Tile.Builder(i).nextTileId(i == 2 ? -1 : i + 1).build());
+    }
+    Game game = new Game(board, "Test", "No goal", "no-goal", 1, 4, 1, null);
+    game.resolveReferences(board);
+
+    MarkovAnalysis analysis = analyze(game);
+
+    assertFalse(analysis.isGoalReachable());
+    assertFalse(analysis.isAlwaysFinishing());
+    assertEquals(0, analysis.getTurnDistribution().length);
+  }
+
+  @Test
+  @DisplayName("invalid arguments are rejected")
+  void invalidArguments() {
+    Game game = GameSimulatorTest.linearGame(5, Map.of());
+
+    assertThrows(IllegalArgumentException.class,
+        () -> new MarkovAnalyzer.Builder(game).quizCorrectProbability(1.5).build());
+    assertThrows(IllegalArgumentException.class,
+        () -> new MarkovAnalyzer.Builder(game).maxImmunity(-1).build());
+    assertThrows(IllegalArgumentException.class,
+        () -> new MarkovAnalyzer.Builder(game).tolerance(0).build());
+  }
+}
@@ -0,0 +1,67 @@
+package edu.ntnu.idi.idatt.boardgame.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import edu.ntnu.idi.idatt.boardgame.model.actions.ladder.LadderAction;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Game;
+import edu.ntnu.idi.idatt.boardgame.model.simulation.GameSimulator;
+import edu.ntnu.idi.idatt.boardgame.model.simulation.ParallelGameSimulator;
+import edu.ntnu.idi.idatt.boardgame.model.simulation.SimulationResult;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ParallelGameSimulatorTest {
+
+  private final Game game = GameSimulatorTest.linearGame(40,
+      Map.of(4, new LadderAction(20), 33, new LadderAction(8)));
+
+  @Test
+  @DisplayName("all games of the batch are played, including a partial last chunk")
+  void playsAllGames() {
+    GameSimulator template = new GameSimulator.Builder(game).playerCount(2).seed(1).build();
+    ParallelGameSimulator simulator =
+        new ParallelGameSimulator(template, ForkJoinPool.commonPool(), 300);
+
+    SimulationResult result = simulator.run(1000);
+
+    assertEquals(1000, result.getGamesPlayed());
+    assertEquals(1000, result.getWins(0) + result.getWins(1) + result.getUnfinishedGames());
+  }
+
+  @Test
+  @DisplayName("a seeded batch gives the same result on pools of different sizes")
+  void deterministicAcrossPoolSizes() {
+    ForkJoinPool single = new ForkJoinPool(1);
+    ForkJoinPool quad = new ForkJoinPool(4);
+    try {
+      SimulationResult first = new ParallelGameSimulator(
+          new GameSimulator.Builder(game).playerCount(3).seed(99).build(), single, 100).run(2000);
+      SimulationResult second = new ParallelGameSimulator(
+          new GameSimulator.Builder(game).playerCount(3).seed(99).build(), quad, 100).run(2000);
+
+      assertEquals(first.getWins(0), second.getWins(0));
+      assertEquals(first.getWins(1), second.getWins(1));
+      assertArrayEquals(first.getGameLengthDistribution(), second.getGameLengthDistribution());
+      assertArrayEquals(first.getTileVisits(), second.getTileVisits());
+    } finally {
+      single.shutdown();
+      quad.shutdown();
+    }
+  }
+
+  @Test
+  @DisplayName("invalid arguments are rejected")
+  void invalidArguments() {
+    GameSimulator template = new GameSimulator.Builder(game).build();
+
+    assertThrows(IllegalArgumentException.class,
+        () -> new ParallelGameSimulator(template, ForkJoinPool.commonPool(), 0));
+    assertThrows(IllegalArgumentException.class,
+        () -> new ParallelGameSimulator(template).run(-1));
+    assertEquals(0, new ParallelGameSimulator(template).run(0).getGamesPlayed());
+  }
+}
@@ -0,0 +1,76 @@
+package edu.ntnu.idi.idatt.boardgame.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.idi.idatt.boardgame.model.GameSnapshot;
+import edu.ntnu.idi.idatt.boardgame.model.entities.Game;
+import edu.ntnu.idi.idatt.boardgame.model.simulation.GameSimulator;
+import edu.ntnu.idi.idatt.boardgame.model.simulation.RolloutEvaluator;
+import edu.ntnu.idi.idatt.boardgame.model.simulation.RolloutResult;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RolloutEvaluatorTest {
+
+  private ForkJoinPool pool;
+  private RolloutEvaluator evaluator;
+
+  @BeforeEach
+  void setUp() {
+    Game game = GameSimulatorTest.linearGame(60, Map.of());
+    pool = new ForkJoinPool(2);
+    evaluator = new RolloutEvaluator(
+        new GameSimulator.Builder(game).playerCount(2).seed(17).build(), pool);
+  }
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdownNow();
+  }
+
+  private static GameSnapshot positions(int first, int second) {
+    return new GameSnapshot(true, false, 0, 1, 0, new int[] {first, 0, 0, second, 0, 0}, null, -1,
+        Map.of());
+  }
+
+  @Test
+  @DisplayName("the option closer to the goal has the better win rate")
+  void betterOptionWins() {
+    RolloutResult result = evaluator.evaluate(List.of(positions(0, 30), positions(50, 30)), 0,
+        Duration.ofMillis(20)).join();
+
+    assertEquals(2, result.getOptionCount());
+    assertEquals(1, result.getBestOption());
+    assertTrue(result.getWinRate(1) > result.getWinRate(0));
+    assertTrue(result.getRollouts(0) > 0);
+    assertEquals(result.getRollouts(0), result.getRollouts(1));
+    assertEquals(2L * result.getRollouts(0), result.getTotalRollouts());
+  }
+
+  @Test
+  @DisplayName("the win rates of the players of an option add up to one")
+  void winRatesAddUp() {
+    List<GameSnapshot> options = List.of(positions(10, 20));
+    double first = evaluator.evaluate(options, 0, Duration.ofMillis(10)).join().getWinRate(0);
+    double second = evaluator.evaluate(options, 1, Duration.ofMillis(10)).join().getWinRate(0);
+
+    assertEquals(1.0, first + second, 0.1);
+  }
+
+  @Test
+  @DisplayName("invalid evaluations are rejected")
+  void invalidEvaluation() {
+    assertThrows(IllegalArgumentException.class,
+        () -> evaluator.evaluate(List.of(), 0, Duration.ofMillis(1)));
+    assertThrows(IllegalArgumentException.class,
+        () -> evaluator.evaluate(List.of(positions(0, 0)), 2, Duration.ofMillis(1)));
+  }
+}